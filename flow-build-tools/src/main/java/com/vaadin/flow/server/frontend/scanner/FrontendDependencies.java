@@ -17,6 +17,7 @@ package com.vaadin.flow.server.frontend.scanner;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -34,6 +35,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -81,6 +87,13 @@ import static com.vaadin.flow.server.frontend.scanner.FrontendClassVisitor.VERSI
  */
 public class FrontendDependencies extends AbstractDependenciesScanner {
 
+    /**
+     * System property for the number of threads used for visiting classes.
+     * Defaults to the number of available processors. With one thread,
+     * classes are visited in the calling thread.
+     */
+    public static final String SCANNER_THREADS_PROPERTY = "vaadin.frontend.scanner.threads";
+
     //@formatter:off
     private static final Pattern NOT_VISITABLE_CLASS_PATTERN = Pattern.compile("(^$|"
             + ".*(slf4j).*|"
@@ -104,7 +117,8 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
     private final HashMap<String, String> devPackages = new HashMap<>();
     private final HashMap<String, List<String>> assets = new HashMap<>();
     private final HashMap<String, List<String>> devAssets = new HashMap<>();
-    private final Map<String, ClassInfo> visitedClasses = new HashMap<>();
+    private final Map<String, ClassInfo> visitedClasses = new ConcurrentHashMap<>();
+    private transient ExecutorService executor;
 
     private PwaConfiguration pwaConfiguration;
     private Class<? extends Annotation> routeClass;
@@ -117,6 +131,11 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
         log().info(
                 "Scanning classes to find frontend configurations and dependencies...");
         long start = System.nanoTime();
+        int threads = Integer.getInteger(SCANNER_THREADS_PROPERTY,
+                Runtime.getRuntime().availableProcessors());
+        if (threads > 1) {
+            executor = Executors.newFixedThreadPool(threads);
+        }
         try {
             routeClass = getFinder().loadClass(Route.class.getName());
             computeEagerRouteConfiguration();
@@ -154,6 +173,11 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
                 | InvocationTargetException e) {
             throw new IllegalStateException(
                     "Unable to compute frontend dependencies", e);
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
         }
     }
 
@@ -242,15 +266,22 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
     }
 
     private void visitEntryPoints() throws IOException {
+        // The classes of all entry points are visited concurrently, but the
+        // reachable classes are collected in the entry point order, which
+        // keeps the result independent of the order classes are visited in
+        visitClasses(entryPoints.keySet());
         for (Entry<String, EntryPointData> entry : entryPoints.entrySet()) {
-            visitEntryPoint(entry.getValue());
+            setReachableClasses(entry.getValue());
         }
 
     }
 
     private void visitEntryPoint(EntryPointData entryPoint) throws IOException {
-        visitClass(entryPoint.getName(), entryPoint);
+        visitClasses(List.of(entryPoint.getName()));
+        setReachableClasses(entryPoint);
+    }
 
+    private void setReachableClasses(EntryPointData entryPoint) {
         entryPoint.reachableClasses = collectReachableClasses(entryPoint);
         if (log().isDebugEnabled()) {
             log().debug("Classes reachable from {}: {}", entryPoint.getName(),
@@ -867,20 +898,95 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
     }
 
     /**
-     * Recursive method for visiting class names using bytecode inspection.
+     * Visits the given classes and all classes reachable from them using
+     * bytecode inspection.
+     * <p>
+     * The classes are visited level by level, the classes of each level
+     * concurrently if there is more than one thread available.
      *
-     * @param className
-     * @param entryPoint
-     * @return
+     * @param classNames
+     *            the names of the classes to start from
      * @throws IOException
+     *             if reading a class fails
      */
-    void visitClass(String className, EntryPointData entryPoint)
-            throws IOException {
+    void visitClasses(Collection<String> classNames) throws IOException {
+        Collection<String> toVisit = classNames;
+        while (!toVisit.isEmpty()) {
+            Set<String> children = new LinkedHashSet<>();
+            for (ClassInfo info : visitClassesConcurrently(toVisit)) {
+                children.addAll(info.children);
+            }
+            children.removeIf(visitedClasses::containsKey);
+            toVisit = children;
+        }
+    }
 
-        if (visitedClasses.containsKey(className) || !shouldVisit(className)) {
-            return;
+    private List<ClassInfo> visitClassesConcurrently(
+            Collection<String> classNames) throws IOException {
+        List<ClassInfo> visited = new ArrayList<>();
+        if (executor == null || classNames.size() == 1) {
+            for (String className : classNames) {
+                ClassInfo info = visitClass(className);
+                if (info != null) {
+                    visited.add(info);
+                }
+            }
+            return visited;
+        }
+
+        List<CompletableFuture<ClassInfo>> tasks = classNames.stream()
+                .map(className -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return visitClass(className);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor)).toList();
+        try {
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        for (CompletableFuture<ClassInfo> task : tasks) {
+            ClassInfo info = task.join();
+            if (info != null) {
+                visited.add(info);
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Visits a single class using bytecode inspection, unless it has already
+     * been visited or should not be visited.
+     *
+     * @param className
+     *            the name of the class to visit
+     * @return the info of the class, or {@code null} if it was not visited
+     * @throws IOException
+     *             if reading the class fails
+     */
+    private ClassInfo visitClass(String className) throws IOException {
+        if (className == null || visitedClasses.containsKey(className)
+                || !shouldVisit(className)) {
+            return null;
         }
         ClassInfo info = new ClassInfo(className);
+        if (visitedClasses.putIfAbsent(className, info) != null) {
+            // Visited concurrently by another thread
+            return null;
+        }
         try {
             if (AbstractTheme.class
                     .isAssignableFrom(getFinder().loadClass(className))) {
@@ -890,11 +996,9 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
             // NO-OP
         }
 
-        visitedClasses.put(className, info);
-
         URL url = getUrl(className);
         if (url == null) {
-            return;
+            return info;
         }
 
         FrontendClassVisitor visitor = new FrontendClassVisitor(info);
@@ -907,10 +1011,7 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
                     className, e.getMessage());
             throw e;
         }
-
-        for (String clazz : info.children) {
-            visitClass(clazz, entryPoint);
-        }
+        return info;
     }
 
     protected boolean shouldVisit(String className) {
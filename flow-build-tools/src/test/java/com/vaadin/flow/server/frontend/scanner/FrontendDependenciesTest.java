@@ -15,15 +15,28 @@
  */
 package com.vaadin.flow.server.frontend.scanner;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.HasComponents;
@@ -503,6 +516,87 @@ class FrontendDependenciesTest {
 
     }
 
+    @Test
+    void manyClasses_visitedConcurrently_sameResultAsInOneThread(
+            @TempDir Path classes) throws Exception {
+        Random random = new Random(42);
+        int components = 3000;
+        for (int i = 0; i < components; i++) {
+            writeGeneratedClass(classes, "Component" + i, null,
+                    random.ints(3, 0, components).mapToObj(c -> "Component" + c)
+                            .toList());
+        }
+        for (int i = 0; i < 100; i++) {
+            writeGeneratedClass(classes, "View" + i, "view-" + i,
+                    random.ints(10, 0, components)
+                            .mapToObj(c -> "Component" + c).toList());
+        }
+
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[] { classes.toUri().toURL() },
+                getClass().getClassLoader())) {
+            Set<Class<?>> routes = new LinkedHashSet<>();
+            for (int i = 0; i < 100; i++) {
+                routes.add(loader.loadClass("generated.View" + i));
+            }
+            Mockito.when(classFinder.getAnnotatedClasses(Route.class))
+                    .thenReturn(routes);
+            Mockito.doAnswer(invocation -> loader
+                    .getResource(invocation.getArgument(0))).when(classFinder)
+                    .getResource(Mockito.anyString());
+
+            FrontendDependencies sequential = createWithThreads(1);
+            FrontendDependencies concurrent = createWithThreads(8);
+
+            assertTrue(concurrent.getClasses().size() > components / 2);
+            assertEquals(sequential.getClasses(), concurrent.getClasses());
+            assertEquals(sequential.getModules(), concurrent.getModules());
+            assertEquals(sequential.getEntryPoints().stream()
+                    .map(entryPoint -> entryPoint.reachableClasses).toList(),
+                    concurrent.getEntryPoints().stream()
+                            .map(entryPoint -> entryPoint.reachableClasses)
+                            .toList());
+        }
+    }
+
+    private FrontendDependencies createWithThreads(int threads) {
+        System.setProperty(FrontendDependencies.SCANNER_THREADS_PROPERTY,
+                String.valueOf(threads));
+        try {
+            return new FrontendDependencies(classFinder, false, null, true);
+        } finally {
+            System.clearProperty(
+                    FrontendDependencies.SCANNER_THREADS_PROPERTY);
+        }
+    }
+
+    private static void writeGeneratedClass(Path folder, String name,
+            String route, List<String> references) throws IOException {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, "generated/" + name,
+                null, "java/lang/Object", null);
+        if (route != null) {
+            AnnotationVisitor routeAnnotation = writer
+                    .visitAnnotation(Type.getDescriptor(Route.class), true);
+            routeAnnotation.visit("value", route);
+            routeAnnotation.visitEnd();
+        }
+        AnnotationVisitor jsModule = writer
+                .visitAnnotation(Type.getDescriptor(JsModule.class), true);
+        jsModule.visit("value", "./" + name + ".js");
+        jsModule.visitEnd();
+        for (int i = 0; i < references.size(); i++) {
+            writer.visitField(Opcodes.ACC_PRIVATE, "field" + i,
+                    "Lgenerated/" + references.get(i) + ";", null, null)
+                    .visitEnd();
+        }
+        writer.visitEnd();
+
+        Path file = folder.resolve("generated").resolve(name + ".class");
+        Files.createDirectories(file.getParent());
+        Files.write(file, writer.toByteArray());
+    }
+
     private static EntryPointData getEntryPointByClass(
             FrontendDependencies dependencies, Class<?> entryPointClass) {
         Optional<EntryPointData> childEntryPoint = dependencies.getEntryPoints()
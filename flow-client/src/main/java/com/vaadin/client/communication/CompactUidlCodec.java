@@ -0,0 +1,98 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import com.vaadin.flow.shared.CompactUidlKeys;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
+import elemental.json.JsonValue;
+
+/**
+ * Converts state changes and RPC invocations between the regular and the
+ * compact UIDL encoding.
+ *
+ * @see CompactUidlKeys
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public final class CompactUidlCodec {
+
+    private CompactUidlCodec() {
+        // No instance should ever be created
+    }
+
+    /**
+     * Converts compact state changes to the regular encoding. The change
+     * objects are updated in place, since none of the aliases is used as a
+     * regular key.
+     *
+     * @param changes
+     *            the state changes in the compact encoding
+     */
+    public static void expandChanges(JsonArray changes) {
+        for (int i = 0; i < changes.length(); i++) {
+            JsonObject change = changes.getObject(i);
+            for (String alias : change.keys()) {
+                String key = CompactUidlKeys.expandChangeKey(alias);
+                JsonValue value = change.get(alias);
+                if (!key.equals(alias)) {
+                    change.remove(alias);
+                }
+                if (JsonConstants.CHANGE_TYPE.equals(key)
+                        && value.getType() == JsonType.STRING) {
+                    value = Json.create(
+                            CompactUidlKeys.expandChangeType(value.asString()));
+                }
+                change.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Creates a copy of RPC invocations in the compact encoding.
+     *
+     * @param invocations
+     *            the RPC invocations in the regular encoding
+     * @return the RPC invocations in the compact encoding
+     */
+    public static JsonArray compactInvocations(JsonArray invocations) {
+        JsonArray compacted = Json.createArray();
+        for (int i = 0; i < invocations.length(); i++) {
+            JsonValue invocation = invocations.get(i);
+            if (invocation.getType() != JsonType.OBJECT) {
+                compacted.set(i, invocation);
+                continue;
+            }
+            JsonObject source = (JsonObject) invocation;
+            JsonObject target = Json.createObject();
+            for (String key : source.keys()) {
+                JsonValue value = source.get(key);
+                if (JsonConstants.RPC_TYPE.equals(key)
+                        && value.getType() == JsonType.STRING) {
+                    value = Json.create(
+                            CompactUidlKeys.compactRpcType(value.asString()));
+                }
+                target.put(CompactUidlKeys.compactRpcKey(key), value);
+            }
+            compacted.set(i, target);
+        }
+        return compacted;
+    }
+}
@@ -416,6 +416,12 @@ public class MessageHandler {
                 constantPool.importFromJson(constants);
             }
 
+            if (json.hasKey(ApplicationConstants.COMPACT_UIDL)) {
+                // The server uses the compact encoding, so it also
+                // understands compact RPC invocations
+                registry.getMessageSender().setCompactUidl(true);
+            }
+
             if (json.hasKey("changes")) {
                 processChanges(json);
             }
@@ -541,8 +547,12 @@ public class MessageHandler {
 
     private void processChanges(JsonObject json) {
         StateTree tree = registry.getStateTree();
+        JsonArray changes = json.getArray("changes");
+        if (json.hasKey(ApplicationConstants.COMPACT_UIDL)) {
+            CompactUidlCodec.expandChanges(changes);
+        }
         JsSet<StateNode> updatedNodes = TreeChangeProcessor.processChanges(tree,
-                json.getArray("changes"));
+                changes);
 
         if (!registry.getApplicationConfiguration().isProductionMode()) {
             try {
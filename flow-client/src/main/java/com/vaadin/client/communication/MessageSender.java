@@ -74,6 +74,8 @@ public class MessageSender {
 
     private Timer resendMessageTimer;
 
+    private boolean compactUidl;
+
     /**
      * Creates a new instance connected to the given registry.
      *
@@ -178,6 +180,18 @@ public class MessageSender {
         send(reqJson, extraJson);
     }
 
+    /**
+     * Sets whether RPC invocations should be sent in the compact encoding.
+     * This is enabled once the server has sent a message in the compact
+     * encoding.
+     *
+     * @param compactUidl
+     *            {@code true} to send RPC invocations in the compact encoding
+     */
+    public void setCompactUidl(boolean compactUidl) {
+        this.compactUidl = compactUidl;
+    }
+
     /**
      * Makes an UIDL request to the server.
      *
@@ -198,7 +212,13 @@ public class MessageSender {
         if (!csrfToken.equals(ApplicationConstants.CSRF_TOKEN_DEFAULT_VALUE)) {
             payload.put(ApplicationConstants.CSRF_TOKEN, csrfToken);
         }
-        payload.put(ApplicationConstants.RPC_INVOCATIONS, reqInvocations);
+        if (compactUidl) {
+            payload.put(ApplicationConstants.COMPACT_UIDL, true);
+            payload.put(ApplicationConstants.RPC_INVOCATIONS,
+                    CompactUidlCodec.compactInvocations(reqInvocations));
+        } else {
+            payload.put(ApplicationConstants.RPC_INVOCATIONS, reqInvocations);
+        }
         if (extraJson != null) {
             for (String key : extraJson.keys()) {
                 JsonValue value = extraJson.get(key);
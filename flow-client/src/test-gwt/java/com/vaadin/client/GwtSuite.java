@@ -6,6 +6,7 @@ import junit.framework.TestSuite;
 import com.google.gwt.junit.tools.GWTTestSuite;
 
 import com.vaadin.client.communication.GwtAtmospherePushConnectionTest;
+import com.vaadin.client.communication.GwtCompactUidlCodecTest;
 import com.vaadin.client.communication.GwtDefaultConnectionStateHandlerTest;
 import com.vaadin.client.communication.GwtLoadingIndicatorStateHandlerTest;
 import com.vaadin.client.flow.GwtBasicElementBinderTest;
@@ -53,6 +54,7 @@ public class GwtSuite extends GWTTestSuite {
         suite.addTestSuite(GwtErrotHandlerTest.class);
         suite.addTestSuite(GwtAtmospherePushConnectionTest.class);
         suite.addTestSuite(GwtClientJsonCodecTest.class);
+        suite.addTestSuite(GwtCompactUidlCodecTest.class);
         return suite;
     }
 }
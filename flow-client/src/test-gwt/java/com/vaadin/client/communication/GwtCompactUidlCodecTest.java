@@ -0,0 +1,130 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import com.vaadin.client.ClientEngineTestBase;
+import com.vaadin.flow.shared.CompactUidlKeys;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
+public class GwtCompactUidlCodecTest extends ClientEngineTestBase {
+
+    public void testExpandChanges_compactedChanges_originalChangesRestored() {
+        JsonObject put = Json.createObject();
+        put.put(JsonConstants.CHANGE_NODE, 5);
+        put.put(JsonConstants.CHANGE_TYPE, JsonConstants.CHANGE_TYPE_PUT);
+        put.put(JsonConstants.CHANGE_FEATURE, 12);
+        put.put(JsonConstants.CHANGE_MAP_KEY, "title");
+        // Nested application data must not be expanded
+        JsonObject data = Json.createObject();
+        data.put("n", "t");
+        put.put(JsonConstants.CHANGE_PUT_VALUE, data);
+
+        JsonObject splice = Json.createObject();
+        splice.put(JsonConstants.CHANGE_NODE, 6);
+        splice.put(JsonConstants.CHANGE_TYPE,
+                JsonConstants.CHANGE_TYPE_SPLICE);
+        splice.put(JsonConstants.CHANGE_FEATURE, 2);
+        splice.put(JsonConstants.CHANGE_SPLICE_INDEX, 0);
+        splice.put(JsonConstants.CHANGE_SPLICE_REMOVE, 1);
+        JsonArray added = Json.createArray();
+        added.set(0, "item");
+        splice.put(JsonConstants.CHANGE_SPLICE_ADD, added);
+
+        JsonArray changes = Json.createArray();
+        changes.set(0, compactChange(put));
+        changes.set(1, compactChange(splice));
+
+        CompactUidlCodec.expandChanges(changes);
+
+        assertEquals(2, changes.length());
+        assertJsonEquals(put, changes.getObject(0));
+        assertJsonEquals(splice, changes.getObject(1));
+    }
+
+    public void testCompactInvocations_expandedByDictionary_originalInvocationsRestored() {
+        JsonObject event = Json.createObject();
+        event.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_EVENT);
+        event.put(JsonConstants.RPC_NODE, 3);
+        event.put(JsonConstants.RPC_EVENT_TYPE, "click");
+        JsonObject data = Json.createObject();
+        data.put("type", "value");
+        event.put(JsonConstants.RPC_EVENT_DATA, data);
+
+        JsonObject sync = Json.createObject();
+        sync.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_MAP_SYNC);
+        sync.put(JsonConstants.RPC_NODE, 4);
+        sync.put(JsonConstants.RPC_FEATURE, 1);
+        sync.put(JsonConstants.RPC_PROPERTY, "value");
+        sync.put(JsonConstants.RPC_PROPERTY_VALUE, "text");
+
+        JsonArray invocations = Json.createArray();
+        invocations.set(0, event);
+        invocations.set(1, sync);
+        String original = invocations.toJson();
+
+        JsonArray compacted = CompactUidlCodec
+                .compactInvocations(invocations);
+
+        assertEquals("The invocations to send should not be modified",
+                original, invocations.toJson());
+        assertEquals(2, compacted.length());
+        assertJsonEquals(event, expandInvocation(compacted.getObject(0)));
+        assertJsonEquals(sync, expandInvocation(compacted.getObject(1)));
+    }
+
+    // Compacts a change the same way as the server does
+    private static JsonObject compactChange(JsonObject change) {
+        JsonObject compacted = Json.createObject();
+        for (String key : change.keys()) {
+            JsonValue value = change.get(key);
+            if (JsonConstants.CHANGE_TYPE.equals(key)) {
+                value = Json.create(
+                        CompactUidlKeys.compactChangeType(value.asString()));
+            }
+            compacted.put(CompactUidlKeys.compactChangeKey(key), value);
+        }
+        return compacted;
+    }
+
+    // Expands an invocation the same way as the server does
+    private static JsonObject expandInvocation(JsonObject invocation) {
+        JsonObject expanded = Json.createObject();
+        for (String alias : invocation.keys()) {
+            String key = CompactUidlKeys.expandRpcKey(alias);
+            JsonValue value = invocation.get(alias);
+            if (JsonConstants.RPC_TYPE.equals(key)) {
+                value = Json.create(
+                        CompactUidlKeys.expandRpcType(value.asString()));
+            }
+            expanded.put(key, value);
+        }
+        return expanded;
+    }
+
+    private static void assertJsonEquals(JsonObject expected,
+            JsonObject actual) {
+        assertEquals(expected.keys().length, actual.keys().length);
+        for (String key : expected.keys()) {
+            assertTrue("Missing key " + key, actual.hasKey(key));
+            assertEquals(expected.get(key).toJson(), actual.get(key).toJson());
+        }
+    }
+}
@@ -40,6 +40,8 @@ public abstract class AbstractBeanPropertyDefinition<T, V>
     private final PropertyDescriptor descriptor;
     private final BeanPropertySet<T> propertySet;
     private final Class<?> propertyHolderType;
+    private final transient BeanPropertyAccessor readAccessor;
+    private final transient BeanPropertyAccessor writeAccessor;
 
     /**
      * Constructor for setting the immutable descriptor, property set and
@@ -63,6 +65,11 @@ public abstract class AbstractBeanPropertyDefinition<T, V>
                             + propertySet.getBeanType() + "."
                             + descriptor.getName());
         }
+        readAccessor = BeanPropertyAccessor
+                .getter(descriptor.getReadMethod());
+        writeAccessor = descriptor.getWriteMethod() != null
+                ? BeanPropertyAccessor.setter(descriptor.getWriteMethod())
+                : null;
     }
 
     @SuppressWarnings("unchecked")
@@ -106,4 +113,23 @@ public abstract class AbstractBeanPropertyDefinition<T, V>
     public Class<?> getPropertyHolderType() {
         return propertyHolderType;
     }
+
+    /**
+     * Gets the accessor for calling the getter of this property.
+     *
+     * @return the getter accessor
+     */
+    BeanPropertyAccessor getReadAccessor() {
+        return readAccessor;
+    }
+
+    /**
+     * Gets the accessor for calling the setter of this property.
+     *
+     * @return the setter accessor, or {@code null} if the property has no
+     *         setter
+     */
+    BeanPropertyAccessor getWriteAccessor() {
+        return writeAccessor;
+    }
 }
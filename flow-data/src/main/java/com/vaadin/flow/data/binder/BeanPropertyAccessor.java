@@ -0,0 +1,216 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.binder;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.internal.ReflectTools;
+
+/**
+ * Invokes a getter or a setter method of a bean property.
+ * <p>
+ * Instead of calling the method reflectively, the accessor generates a
+ * function that calls the method directly using {@link LambdaMetafactory}. The
+ * function is generated on first use. Reflection is used if the function
+ * cannot be generated, for example when the bean class is in a module that
+ * isn't open to this module, or if generated accessors have been disabled
+ * with the {@value #GENERATED_ACCESSORS_PROPERTY} system property. Either way,
+ * exceptions are reported in the same way as with reflection.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+final class BeanPropertyAccessor {
+
+    /**
+     * System property for disabling generated accessors, in which case getters
+     * and setters are always called using reflection.
+     */
+    static final String GENERATED_ACCESSORS_PROPERTY = "vaadin.binder.generatedAccessors";
+
+    private static final boolean GENERATED_ACCESSORS_ENABLED = Boolean
+            .parseBoolean(
+                    System.getProperty(GENERATED_ACCESSORS_PROPERTY, "true"));
+
+    private final Method method;
+
+    private final boolean setter;
+
+    private final Class<?> beanType;
+
+    private final Class<?> valueType;
+
+    private volatile boolean generated;
+
+    private Function<Object, Object> generatedGetter;
+
+    private BiConsumer<Object, Object> generatedSetter;
+
+    private BeanPropertyAccessor(Method method, boolean setter) {
+        this.method = method;
+        this.setter = setter;
+        beanType = method.getDeclaringClass();
+        valueType = setter ? method.getParameterTypes()[0]
+                : method.getReturnType();
+    }
+
+    /**
+     * Creates an accessor for the given getter method.
+     *
+     * @param readMethod
+     *            the getter method, not {@code null}
+     * @return the accessor
+     */
+    static BeanPropertyAccessor getter(Method readMethod) {
+        return new BeanPropertyAccessor(readMethod, false);
+    }
+
+    /**
+     * Creates an accessor for the given setter method.
+     *
+     * @param writeMethod
+     *            the setter method, not {@code null}
+     * @return the accessor
+     */
+    static BeanPropertyAccessor setter(Method writeMethod) {
+        return new BeanPropertyAccessor(writeMethod, true);
+    }
+
+    /**
+     * Calls the getter on the given bean.
+     *
+     * @param bean
+     *            the bean to get the value from
+     * @return the value returned by the getter
+     */
+    Object get(Object bean) {
+        ensureGenerated();
+        if (generatedGetter == null || !beanType.isInstance(bean)) {
+            return invokeWrapExceptions(method, bean);
+        }
+        try {
+            return generatedGetter.apply(bean);
+        } catch (Throwable e) {
+            // Generated functions rethrow checked exceptions of the accessor
+            // as they are
+            throw new RuntimeException(new InvocationTargetException(e));
+        }
+    }
+
+    /**
+     * Calls the setter on the given bean.
+     *
+     * @param bean
+     *            the bean to set the value to
+     * @param value
+     *            the value to pass to the setter
+     */
+    void set(Object bean, Object value) {
+        ensureGenerated();
+        if (generatedSetter == null || !beanType.isInstance(bean)
+                || !isAssignable(value)) {
+            invokeWrapExceptions(method, bean, value);
+            return;
+        }
+        try {
+            generatedSetter.accept(bean, value);
+        } catch (Throwable e) {
+            throw new RuntimeException(new InvocationTargetException(e));
+        }
+    }
+
+    private boolean isAssignable(Object value) {
+        if (value == null) {
+            return !valueType.isPrimitive();
+        }
+        return ReflectTools.convertPrimitiveType(valueType)
+                .isInstance(value);
+    }
+
+    private void ensureGenerated() {
+        if (generated) {
+            return;
+        }
+        synchronized (this) {
+            if (generated) {
+                return;
+            }
+            if (GENERATED_ACCESSORS_ENABLED) {
+                try {
+                    if (setter) {
+                        generatedSetter = generateSetter();
+                    } else {
+                        generatedGetter = generateGetter();
+                    }
+                } catch (Throwable e) {
+                    LoggerFactory.getLogger(BeanPropertyAccessor.class).debug(
+                            "Unable to generate an accessor for {}, using reflection instead",
+                            method, e);
+                }
+            }
+            generated = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> generateGetter() throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(beanType,
+                MethodHandles.lookup());
+        MethodHandle handle = lookup.unreflect(method);
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class), handle,
+                MethodType.methodType(
+                        ReflectTools.convertPrimitiveType(valueType),
+                        beanType));
+        return (Function<Object, Object>) callSite.getTarget().invoke();
+    }
+
+    @SuppressWarnings("unchecked")
+    private BiConsumer<Object, Object> generateSetter() throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(beanType,
+                MethodHandles.lookup());
+        MethodHandle handle = lookup.unreflect(method);
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(void.class, Object.class, Object.class),
+                handle,
+                MethodType.methodType(void.class, beanType,
+                        ReflectTools.convertPrimitiveType(valueType)));
+        return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+    }
+
+    private static Object invokeWrapExceptions(Method method, Object target,
+            Object... parameters) {
+        try {
+            return method.invoke(target, parameters);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
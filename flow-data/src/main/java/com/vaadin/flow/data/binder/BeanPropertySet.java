@@ -19,7 +19,6 @@ import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.io.IOException;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -122,8 +121,7 @@ public class BeanPropertySet<T> implements PropertySet<T> {
         @Override
         public ValueProvider<T, V> getGetter() {
             return bean -> {
-                Method readMethod = getDescriptor().getReadMethod();
-                Object value = invokeWrapExceptions(readMethod, bean);
+                Object value = getReadAccessor().get(bean);
                 return getType().cast(value);
             };
         }
@@ -139,8 +137,7 @@ public class BeanPropertySet<T> implements PropertySet<T> {
                 // if its done outside the code block, that will produce
                 // NotSerializableException because of some lambda compilation
                 // magic
-                Method innerSetter = getDescriptor().getWriteMethod();
-                invokeWrapExceptions(innerSetter, bean, value);
+                getWriteAccessor().set(bean, value);
             };
             return Optional.of(setter);
         }
@@ -201,9 +198,8 @@ public class BeanPropertySet<T> implements PropertySet<T> {
         @Override
         public ValueProvider<T, V> getGetter() {
             return bean -> {
-                Method readMethod = getDescriptor().getReadMethod();
-                Object value = invokeWrapExceptions(readMethod,
-                        parent.getGetter().apply(bean));
+                Object value = getReadAccessor()
+                        .get(parent.getGetter().apply(bean));
                 return getType().cast(value);
             };
         }
@@ -219,9 +215,8 @@ public class BeanPropertySet<T> implements PropertySet<T> {
                 // if its done outside the code block, that will produce
                 // NotSerializableException because of some lambda compilation
                 // magic
-                Method innerSetter = getDescriptor().getWriteMethod();
-                invokeWrapExceptions(innerSetter,
-                        parent.getGetter().apply(bean), value);
+                getWriteAccessor().set(parent.getGetter().apply(bean),
+                        value);
             };
             return Optional.of(setter);
         }
@@ -548,15 +543,6 @@ public class BeanPropertySet<T> implements PropertySet<T> {
                 && readMethod.getDeclaringClass() != Object.class;
     }
 
-    private static Object invokeWrapExceptions(Method method, Object target,
-            Object... parameters) {
-        try {
-            return method.invoke(target, parameters);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     @Override
     public String toString() {
         return "Property set for bean " + instanceKey.type.getName();
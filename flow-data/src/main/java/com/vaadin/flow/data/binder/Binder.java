@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -2181,6 +2182,10 @@ public class Binder<BEAN> implements Serializable {
 
     private final List<Validator<? super BEAN>> validators = new ArrayList<>();
 
+    private final Map<Validator<? super BEAN>, Set<Binding<BEAN, ?>>> validatorDependencies = new HashMap<>();
+
+    private final Map<Validator<? super BEAN>, ValidationResult> beanValidationResults = new HashMap<>();
+
     private final Map<HasValue<?, ?>, ConverterDelegate<?>> initialConverters = new IdentityHashMap<>(
             4);
 
@@ -2334,7 +2339,7 @@ public class Binder<BEAN> implements Serializable {
         if (getBean() == null) {
             binding.validate();
         } else {
-            doWriteIfValid(getBean(), changedBindings);
+            doWriteIfValid(getBean(), changedBindings, true);
         }
     }
 
@@ -2716,6 +2721,7 @@ public class Binder<BEAN> implements Serializable {
                 }
             });
             changedBindings.clear();
+            beanValidationResults.clear();
             var status = BinderValidationStatus.createUnresolvedStatus(this);
             getValidationStatusHandler().statusChange(status);
             signalStatusChange();
@@ -3062,6 +3068,33 @@ public class Binder<BEAN> implements Serializable {
     @SuppressWarnings("unchecked")
     private BinderValidationStatus<BEAN> doWriteIfValid(BEAN bean,
             Collection<Binding<BEAN, ?>> bindings) {
+        return doWriteIfValid(bean, bindings, false);
+    }
+
+    /**
+     * Writes the field values into the given bean if all field level validators
+     * pass. Runs bean level validators on the bean after writing.
+     * <p>
+     * When {@code incremental} is {@code true}, bean level validators that
+     * were added with dependencies are only run if any of their dependencies
+     * are among the written bindings. Otherwise their previous result is
+     * reused.
+     *
+     * @param bean
+     *            the bean to write field values into
+     * @param bindings
+     *            the set of bindings to write to the bean
+     * @param incremental
+     *            {@code true} to skip bean level validators whose dependencies
+     *            haven't changed, {@code false} to run all of them
+     * @return a list of field validation errors if such occur, otherwise a list
+     *         of bean validation errors.
+     * @throws IllegalStateException
+     *             if the Binder's model type is record
+     */
+    @SuppressWarnings("unchecked")
+    private BinderValidationStatus<BEAN> doWriteIfValid(BEAN bean,
+            Collection<Binding<BEAN, ?>> bindings, boolean incremental) {
         if (isRecord) {
             throw new IllegalStateException(
                     "writeBean methods can't be used with records, call writeRecord instead");
@@ -3095,7 +3128,8 @@ public class Binder<BEAN> implements Serializable {
             setValidatorsDisabled(validatorsDisabledStatus);
 
             // Now run bean level validation against the updated bean
-            binderResults = validateBean(bean);
+            binderResults = validateBean(bean,
+                    incremental ? currentBindings : null);
             if (binderResults.stream().anyMatch(ValidationResult::isError)) {
                 // Bean validator failed, revert values
                 restoreBeanState(bean, oldValues);
@@ -3240,6 +3274,41 @@ public class Binder<BEAN> implements Serializable {
         return this;
     }
 
+    /**
+     * Adds a bean level validator that only depends on the values of the given
+     * bindings.
+     * <p>
+     * When a field value changes and the changes are written to a bean set
+     * with {@link #setBean(Object)}, the validator is only run again if the
+     * changed bindings include any of the given dependencies. Otherwise the
+     * result of its previous run is reused. This avoids running expensive
+     * cross-field validators on each change in large forms. The validator
+     * must not read any bean properties other than the ones written by its
+     * dependencies, or it may report an outdated result. Explicit validation
+     * with methods such as {@link #validate()} and {@link #writeBean(Object)}
+     * always runs the validator.
+     *
+     * @see #withValidator(Validator)
+     *
+     * @param validator
+     *            the validator to add, not null
+     * @param dependencies
+     *            the bindings whose values the validator depends on, not null
+     * @return this binder, for chaining
+     * @throws DeniedSignalUsageException
+     *             if a {@link Signal} is used incorrectly inside the validator
+     * @since 25.3
+     */
+    @SafeVarargs
+    public final Binder<BEAN> withValidator(Validator<? super BEAN> validator,
+            Binding<BEAN, ?>... dependencies) {
+        Objects.requireNonNull(dependencies, "dependencies cannot be null");
+        withValidator(validator);
+        validatorDependencies.put(validators.get(validators.size() - 1),
+                new HashSet<>(Arrays.asList(dependencies)));
+        return this;
+    }
+
     /**
      * A convenience method to add a validator to this binder using the
      * {@link Validator#from(SerializablePredicate, String)} factory method.
@@ -3422,11 +3491,53 @@ public class Binder<BEAN> implements Serializable {
      *         succeeded
      */
     private List<ValidationResult> validateBean(BEAN bean) {
+        return validateBean(bean, null);
+    }
+
+    /**
+     * Validates the {@code bean} using validators added using
+     * {@link #withValidator(Validator)} and returns the result of the
+     * validation as a list of validation results.
+     * <p>
+     * If the changed bindings are given, validators that were added with
+     * {@link #withValidator(Validator, Binding...)} and don't depend on any of
+     * the changed bindings aren't run. Their previous result is used instead.
+     *
+     * @param bean
+     *            the bean to validate
+     * @param changedBindings
+     *            the bindings whose values have been written to the bean since
+     *            the previous validation, or {@code null} to run all validators
+     * @return a list of validation errors or an empty list if validation
+     *         succeeded
+     */
+    private List<ValidationResult> validateBean(BEAN bean,
+            Collection<Binding<BEAN, ?>> changedBindings) {
         Objects.requireNonNull(bean, "bean cannot be null");
-        return validators.stream()
-                .map(validator -> validator.apply(bean, new ValueContext(this)))
-                .collect(Collectors.collectingAndThen(Collectors.toList(),
-                        Collections::unmodifiableList));
+        // Only results for the bound bean are kept, since the results for any
+        // other bean say nothing about the next incremental validation
+        boolean boundBean = bean == getBean();
+        List<ValidationResult> results = new ArrayList<>(validators.size());
+        for (Validator<? super BEAN> validator : validators) {
+            Set<Binding<BEAN, ?>> dependencies = validatorDependencies
+                    .get(validator);
+            ValidationResult previousResult = boundBean
+                    ? beanValidationResults.get(validator)
+                    : null;
+            if (changedBindings != null && previousResult != null
+                    && Collections.disjoint(dependencies, changedBindings)) {
+                results.add(previousResult);
+                continue;
+            }
+            ValidationResult result = validator.apply(bean,
+                    new ValueContext(this));
+            if (boundBean && dependencies != null
+                    && !isValidatorsDisabled()) {
+                beanValidationResults.put(validator, result);
+            }
+            results.add(result);
+        }
+        return Collections.unmodifiableList(results);
     }
 
     /**
@@ -3885,6 +3996,7 @@ public class Binder<BEAN> implements Serializable {
 
     private void doRemoveBean(boolean fireStatusEvent) {
         changedBindings.clear();
+        beanValidationResults.clear();
         if (bean != null) {
             bean = null;
         }
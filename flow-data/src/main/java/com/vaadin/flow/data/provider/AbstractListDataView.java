@@ -79,10 +79,16 @@ public abstract class AbstractListDataView<T> extends AbstractDataView<T>
         return getDataProvider().size(DataViewUtils.getQuery(component, false));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public T getItem(int index) {
         validateItemIndex(index);
-        return getItems().skip(index).findFirst().orElse(null);
+        Query<T, SerializablePredicate<T>> query = DataViewUtils
+                .getQuery(component);
+        return getDataProvider()
+                .fetch(new Query<>(index, 1, null, query.getInMemorySorting(),
+                        query.getFilter().orElse(null)))
+                .findFirst().orElse(null);
     }
 
     @SuppressWarnings("unchecked")
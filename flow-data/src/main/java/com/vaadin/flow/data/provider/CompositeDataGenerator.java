@@ -16,6 +16,7 @@
 package com.vaadin.flow.data.provider;
 
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import tools.jackson.databind.node.ObjectNode;
@@ -41,12 +42,33 @@ public class CompositeDataGenerator<T>
 
     final Set<DataGenerator<T>> dataGenerators = new LinkedHashSet<>();
 
+    private final boolean generateDataOverridden = isGenerateDataOverridden(
+            getClass());
+
     @Override
     public void generateData(T item, ObjectNode jsonObject) {
         dataGenerators
                 .forEach(generator -> generator.generateData(item, jsonObject));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The items are passed to each of the added data generators at once. If a
+     * subclass overrides {@link #generateData(Object, ObjectNode)}, that
+     * method is called separately for each item instead, so that the
+     * overridden behavior is not bypassed.
+     */
+    @Override
+    public void generateData(List<T> items, List<ObjectNode> jsonObjects) {
+        if (generateDataOverridden) {
+            DataGenerator.super.generateData(items, jsonObjects);
+        } else {
+            dataGenerators.forEach(
+                    generator -> generator.generateData(items, jsonObjects));
+        }
+    }
+
     @Override
     public void destroyData(T item) {
         dataGenerators.forEach(generator -> generator.destroyData(item));
@@ -79,4 +101,17 @@ public class CompositeDataGenerator<T>
         generator.destroyAllData();
         dataGenerators.remove(generator);
     }
+
+    private static boolean isGenerateDataOverridden(Class<?> type) {
+        if (type == CompositeDataGenerator.class) {
+            return false;
+        }
+        try {
+            return type.getMethod("generateData", Object.class,
+                    ObjectNode.class)
+                    .getDeclaringClass() != CompositeDataGenerator.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -16,6 +16,7 @@
 package com.vaadin.flow.data.provider;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -27,6 +28,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -102,6 +104,7 @@ public class DataCommunicator<T> implements Serializable {
     // Last total size value sent to the client
     private int assumedSize;
     private int lastSent = -1;
+    private transient boolean lastSentEstimated;
 
     // Reloads the viewport range from the data provider and resends it
     private boolean reloadViewportRange = true;
@@ -117,6 +120,9 @@ public class DataCommunicator<T> implements Serializable {
     private SerializableComparator<T> inMemorySorting;
 
     private Registration dataProviderUpdateRegistration;
+
+    private Registration dataKeyCounterRegistration;
+
     private HashSet<T> updatedData = new HashSet<>();
     private FlushRequest flushRequest;
     private FlushRequest flushUpdatedDataRequest;
@@ -138,6 +144,14 @@ public class DataCommunicator<T> implements Serializable {
 
     private transient Executor executor = null;
     private transient CompletableFuture<Activation> future;
+    private int prefetchPages = 0;
+    private transient PrefetchCache<T> prefetchCache;
+    private Duration itemCountCacheDuration = Duration.ZERO;
+    private transient ItemCountCache itemCountCache;
+    private boolean asyncItemCount;
+    private transient boolean asyncItemCountPending;
+    private transient Object asyncItemCountFilter;
+    private transient Integer reconciledItemCount;
 
     /**
      * In-memory data provider with no items.
@@ -416,6 +430,154 @@ public class DataCommunicator<T> implements Serializable {
         this.executor = executor;
     }
 
+    /**
+     * Sets the number of pages to load ahead of time before and after the
+     * range sent to the client. By default no pages are loaded ahead of time.
+     * <p>
+     * After a range has been sent to the client, the given number of the
+     * following and preceding pages are fetched from the data provider in the
+     * background, using the executor set with
+     * {@link #enablePushUpdates(Executor)}. The pages are kept in a bounded
+     * cache, and ranges requested by the client are served from the cache
+     * when possible, so that scrolling doesn't need to wait for the data
+     * provider. The cache is cleared whenever the data is reset or refreshed,
+     * for example when the filter or sorting changes. Nothing is loaded ahead
+     * of time if no executor is set.
+     * <p>
+     * The data provider must support being called from a background thread,
+     * as with asynchronous push updates.
+     *
+     * @param prefetchPages
+     *            the number of pages to load ahead of time in each direction,
+     *            or <code>0</code> to disable loading ahead of time
+     * @since 25.3
+     */
+    public void setPrefetchPages(int prefetchPages) {
+        if (prefetchPages < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Prefetch pages cannot be negative, got %d",
+                    prefetchPages));
+        }
+        this.prefetchPages = prefetchPages;
+        if (prefetchCache != null) {
+            prefetchCache.setCapacity(getPrefetchCacheCapacity());
+        }
+    }
+
+    /**
+     * Gets the number of pages to load ahead of time before and after the
+     * range sent to the client.
+     *
+     * @return the number of pages to load ahead of time in each direction
+     * @since 25.3
+     * @see #setPrefetchPages(int)
+     */
+    public int getPrefetchPages() {
+        return prefetchPages;
+    }
+
+    /**
+     * Gets the number of fetches served from the pages loaded ahead of time.
+     *
+     * @return the number of prefetch cache hits
+     * @since 25.3
+     * @see #setPrefetchPages(int)
+     */
+    public long getPrefetchHitCount() {
+        return prefetchCache == null ? 0 : prefetchCache.getHitCount();
+    }
+
+    /**
+     * Gets the number of fetches that couldn't be served from the pages loaded
+     * ahead of time and were passed to the data provider.
+     *
+     * @return the number of prefetch cache misses
+     * @since 25.3
+     * @see #setPrefetchPages(int)
+     */
+    public long getPrefetchMissCount() {
+        return prefetchCache == null ? 0 : prefetchCache.getMissCount();
+    }
+
+    /**
+     * Sets the time that item counts fetched from the data provider are
+     * reused. By default the count is fetched again after every reset, for
+     * example whenever the filter changes.
+     * <p>
+     * The counts are cached by the filter used, so switching back to a
+     * recently used filter doesn't need a new count query. The sorting
+     * doesn't affect the item count and isn't part of the cache key. The
+     * cached counts are cleared when the data provider notifies about changed
+     * data, when a different data provider or count callback is set, and when
+     * the component is detached.
+     * <p>
+     * The filter objects are used as cache keys, so they must implement
+     * <code>equals</code> and <code>hashCode</code> and must not be modified
+     * once they are in use.
+     *
+     * @param duration
+     *            the time that a count is valid, or <code>null</code> or zero
+     *            to not cache counts
+     * @since 25.3
+     */
+    public void setItemCountCacheDuration(Duration duration) {
+        itemCountCacheDuration = duration == null || duration.isNegative()
+                ? Duration.ZERO
+                : duration;
+        itemCountCache = null;
+    }
+
+    /**
+     * Gets the time that item counts fetched from the data provider are
+     * reused.
+     *
+     * @return the time that a count is valid, zero if counts are not cached
+     * @since 25.3
+     * @see #setItemCountCacheDuration(Duration)
+     */
+    public Duration getItemCountCacheDuration() {
+        return itemCountCacheDuration;
+    }
+
+    /**
+     * Sets whether the item count is fetched in the background when using a
+     * defined size. This is disabled by default.
+     * <p>
+     * When enabled, a count that is not
+     * {@link #setItemCountCacheDuration(Duration) cached} is fetched using the
+     * executor set with {@link #enablePushUpdates(Executor)}, so that the first
+     * page of items can be sent without waiting for the count. Until the count
+     * is available, the item count is estimated as with undefined size,
+     * starting from the {@link #getItemCountEstimate() item count estimate},
+     * and {@link ItemCountChangeEvent#isItemCountEstimated()} is
+     * <code>true</code>. The actual count is pushed to the client once it is
+     * available. If there is no executor, the count is fetched as usual.
+     * <p>
+     * The data provider or count callback must support being called from a
+     * background thread, as with asynchronous push updates.
+     *
+     * @param asyncItemCount
+     *            <code>true</code> to fetch the item count in the background,
+     *            <code>false</code> to fetch it while serving the request
+     * @since 25.3
+     */
+    public void setAsyncItemCount(boolean asyncItemCount) {
+        this.asyncItemCount = asyncItemCount;
+    }
+
+    /**
+     * Gets whether the item count is fetched in the background when using a
+     * defined size.
+     *
+     * @return <code>true</code> if the item count is fetched in the
+     *         background, <code>false</code> otherwise
+     * @since 25.3
+     * @see #setAsyncItemCount(boolean)
+     */
+    public boolean isAsyncItemCount() {
+        return asyncItemCount;
+    }
+
     /**
      * Resets all the data.
      * <p>
@@ -427,6 +589,7 @@ public class DataCommunicator<T> implements Serializable {
         reloadViewportRange = true;
         dataGenerator.destroyAllData();
         updatedData.clear();
+        invalidatePrefetchCache();
         requestFlush();
     }
 
@@ -442,6 +605,8 @@ public class DataCommunicator<T> implements Serializable {
         getKeyMapper().refresh(data);
         dataGenerator.refreshData(data);
         updatedData.add(data);
+        // Cached pages may contain an outdated instance of the item
+        invalidatePrefetchCache();
         requestFlushUpdatedData();
     }
 
@@ -699,6 +864,7 @@ public class DataCommunicator<T> implements Serializable {
                     "Page size cannot be less than 1, got %d", pageSize));
         }
         this.pageSize = pageSize;
+        invalidatePrefetchCache();
     }
 
     /**
@@ -728,6 +894,7 @@ public class DataCommunicator<T> implements Serializable {
                             + "setDefinedSize(boolean) method instead.");
         }
         this.countCallback = countCallback;
+        clearItemCountCache();
         definedSize = true;
         skipCountIncreaseUntilReset = false;
         // there is no reset but we need to get the defined size
@@ -1002,11 +1169,118 @@ public class DataCommunicator<T> implements Serializable {
     public int getDataProviderSize() {
         assert definedSize
                 : "This method should never be called when using undefined size";
+        Object filterObject = getFilter();
+        ItemCountCache cache = getItemCountCache();
+        Integer cached = cache != null ? cache.get(filterObject) : null;
+        if (cached != null) {
+            return cached;
+        }
+        int count;
         if (countCallback != null) {
-            return countCallback.count(new Query(getFilter()));
+            count = countCallback.count(new Query(filterObject));
         } else {
-            return getDataProvider().size(new Query(getFilter()));
+            count = getDataProvider().size(new Query(filterObject));
+        }
+        if (cache != null) {
+            cache.put(filterObject, count);
         }
+        return count;
+    }
+
+    private ItemCountCache getItemCountCache() {
+        if (itemCountCache == null && !itemCountCacheDuration.isZero()) {
+            itemCountCache = new ItemCountCache(
+                    itemCountCacheDuration.toNanos(), System::nanoTime);
+        }
+        return itemCountCache;
+    }
+
+    private void clearItemCountCache() {
+        if (itemCountCache != null) {
+            itemCountCache.clear();
+        }
+        asyncItemCountPending = false;
+        asyncItemCountFilter = null;
+        reconciledItemCount = null;
+    }
+
+    /**
+     * Gets the item count for a flush. With asynchronous counting, starts
+     * fetching the count in the background and returns an estimate.
+     */
+    private int fetchDataProviderSize() {
+        if (reconciledItemCount != null) {
+            int count = reconciledItemCount;
+            reconciledItemCount = null;
+            return count;
+        }
+        UI ui = getUI();
+        if (!asyncItemCount || executor == null || ui == null) {
+            return getDataProviderSize();
+        }
+        Object filterObject = getFilter();
+        ItemCountCache cache = getItemCountCache();
+        Integer cached = cache != null ? cache.get(filterObject) : null;
+        if (cached != null) {
+            return cached;
+        }
+        if ((!asyncItemCountPending
+                || !Objects.equals(asyncItemCountFilter, filterObject))
+                && !startAsyncItemCount(ui, filterObject)) {
+            return getDataProviderSize();
+        }
+        return getItemCountEstimate();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private boolean startAsyncItemCount(UI ui, Object filterObject) {
+        CallbackDataProvider.CountCallback callback = countCallback;
+        DataProvider provider = getDataProvider();
+        Query query = new Query(filterObject);
+        CompletableFuture<Integer> count;
+        try {
+            count = CompletableFuture.supplyAsync(
+                    () -> callback != null ? callback.count(query)
+                            : provider.size(query),
+                    executor);
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        asyncItemCountPending = true;
+        asyncItemCountFilter = filterObject;
+        count.whenComplete((result, error) -> ui.access(() -> {
+            if (provider != getDataProvider() || !asyncItemCountPending
+                    || !Objects.equals(asyncItemCountFilter, filterObject)) {
+                // The data has changed since, a new count has been requested
+                return;
+            }
+            asyncItemCountPending = false;
+            asyncItemCountFilter = null;
+            if (!definedSize) {
+                return;
+            }
+            if (error != null) {
+                getLogger().debug(
+                        "Unable to fetch the item count in the background",
+                        error);
+                // Count while holding the lock to not retry endlessly
+                reconciledItemCount = getDataProviderSize();
+            } else {
+                ItemCountCache cache = getItemCountCache();
+                if (cache != null) {
+                    cache.put(filterObject, result);
+                }
+                if (result == assumedSize) {
+                    // Only the event still reports the count as estimated
+                    fireItemCountEvent(result);
+                    return;
+                }
+                reconciledItemCount = result;
+            }
+            sizeReset = true;
+            requestFlush();
+        }));
+        return true;
     }
 
     private void updateUndefinedSize() {
@@ -1017,6 +1291,10 @@ public class DataCommunicator<T> implements Serializable {
             assumedSize = getItemCountEstimate();
         }
 
+        increaseAssumedSize();
+    }
+
+    private void increaseAssumedSize() {
         // increase size estimate if the last page is being fetched,
         // or if the estimate is less than what is shown on client
         while (viewportRange.getEnd() + pageSize > assumedSize) {
@@ -1124,13 +1402,82 @@ public class DataCommunicator<T> implements Serializable {
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     private Stream<T> doFetchFromDataProvider(int offset, int limitedTo) {
-        QueryTrace query = new QueryTrace(offset, limitedTo, backEndSorting,
-                inMemorySorting, getFilter());
+        PrefetchCache<T> cache = prefetchCache;
+        if (cache != null && prefetchPages > 0) {
+            List<T> cached = cache.get(offset, limitedTo, pageSize);
+            if (cached != null) {
+                return cached.stream();
+            }
+        }
+        return doFetchFromDataProvider(new QueryTrace(offset, limitedTo,
+                backEndSorting, inMemorySorting, getFilter()));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Stream<T> doFetchFromDataProvider(QueryTrace query) {
         Stream<T> stream = getDataProvider().fetch(query);
         verifyQueryContract(query);
         return stream;
     }
 
+    private int getPrefetchCacheCapacity() {
+        // The pages around the largest possible viewport
+        return 2 * prefetchPages + MAXIMUM_ALLOWED_PAGES;
+    }
+
+    private void invalidatePrefetchCache() {
+        if (prefetchCache != null) {
+            prefetchCache.invalidate();
+        }
+    }
+
+    private void prefetch(Range active) {
+        if (prefetchPages == 0 || executor == null || active.isEmpty()) {
+            return;
+        }
+        if (prefetchCache == null) {
+            prefetchCache = new PrefetchCache<>(getPrefetchCacheCapacity());
+        }
+        int firstPage = active.getStart() / pageSize;
+        int lastPage = (active.getEnd() - 1) / pageSize;
+        for (int i = 1; i <= prefetchPages; i++) {
+            prefetchPage(lastPage + i);
+            if (firstPage - i >= 0) {
+                prefetchPage(firstPage - i);
+            }
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void prefetchPage(int page) {
+        int offset = page * pageSize;
+        if (definedSize && offset >= assumedSize
+                || !prefetchCache.startLoading(page)) {
+            return;
+        }
+        PrefetchCache<T> cache = prefetchCache;
+        int generation = cache.getGeneration();
+        // Create the query while holding the lock, the sorting and filter may
+        // change before the page is loaded
+        QueryTrace query = new QueryTrace(offset, pageSize,
+                new ArrayList<>(backEndSorting), inMemorySorting, getFilter());
+        try {
+            CompletableFuture.runAsync(() -> {
+                List<T> items = null;
+                try (Stream<T> stream = doFetchFromDataProvider(query)) {
+                    items = stream.toList();
+                } catch (RuntimeException e) {
+                    getLogger().debug("Unable to prefetch items {}-{}", offset,
+                            offset + pageSize - 1, e);
+                } finally {
+                    cache.loaded(generation, page, items);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            cache.loaded(generation, page, null);
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     private void verifyQueryContract(QueryTrace query) {
         /*
@@ -1164,10 +1511,20 @@ public class DataCommunicator<T> implements Serializable {
                     if (event instanceof DataRefreshEvent) {
                         handleDataRefreshEvent((DataRefreshEvent<T>) event);
                     } else {
+                        clearItemCountCache();
                         reset();
                     }
                 });
 
+        if (dataKeyCounterRegistration != null) {
+            dataKeyCounterRegistration.remove();
+        }
+        UI ui = getUI();
+        if (ui != null) {
+            dataKeyCounterRegistration = ui.getInternals()
+                    .addDataKeyCounter(stateNode, () -> getKeyMapper().size());
+        }
+
         // Ensure the initialize check is done
         requestFlush();
     }
@@ -1181,11 +1538,17 @@ public class DataCommunicator<T> implements Serializable {
             future.cancel(true);
             future = null;
         }
+        invalidatePrefetchCache();
+        clearItemCountCache();
         dataGenerator.destroyAllData();
         if (dataProviderUpdateRegistration != null) {
             dataProviderUpdateRegistration.remove();
             dataProviderUpdateRegistration = null;
         }
+        if (dataKeyCounterRegistration != null) {
+            dataKeyCounterRegistration.remove();
+            dataKeyCounterRegistration = null;
+        }
     }
 
     private void requestFlush() {
@@ -1256,11 +1619,19 @@ public class DataCommunicator<T> implements Serializable {
 
         // Phase 1: Find all items that the client should have
 
-        // With defined size the backend is only queried when necessary
-        if (definedSize && (reloadViewportRange || sizeReset)) {
-            assumedSize = getDataProviderSize();
-        } else if (!definedSize
-                && (!skipCountIncreaseUntilReset || sizeReset)) {
+        // With defined size the backend is only queried when necessary. A
+        // count fetched in the background is used even if an update sent in
+        // the meantime has cleared the reset flag.
+        if (definedSize) {
+            if (reloadViewportRange || sizeReset
+                    || reconciledItemCount != null) {
+                assumedSize = fetchDataProviderSize();
+            }
+            if (asyncItemCountPending) {
+                // estimated as with undefined size until the count is known
+                increaseAssumedSize();
+            }
+        } else if (!skipCountIncreaseUntilReset || sizeReset) {
             // with undefined size, size estimate is checked when scrolling down
             updateUndefinedSize();
         }
@@ -1309,6 +1680,9 @@ public class DataCommunicator<T> implements Serializable {
         if (activation.isSizeRecheckNeeded()) {
             if (definedSize) {
                 assumedSize = getDataProviderSize();
+                // the count is known, ignore any count still being fetched
+                asyncItemCountPending = false;
+                asyncItemCountFilter = null;
             } else {
                 // the end has been reached
                 assumedSize = viewportRange.getStart()
@@ -1363,8 +1737,11 @@ public class DataCommunicator<T> implements Serializable {
 
         // Phase 4: unregister passivated and updated items
         unregisterPassivatedKeys();
+        removeLeastRecentlyUsedKeys();
 
         fireItemCountEvent(assumedSize);
+
+        prefetch(effectiveRequested);
     }
 
     /**
@@ -1383,15 +1760,19 @@ public class DataCommunicator<T> implements Serializable {
      */
     private void fireItemCountEvent(int itemCount) {
         final boolean notify = filter == null || filter.isNotifyOnChange();
+        // A count fetched in the background is estimated until it completes
+        final boolean asyncEstimate = isDefinedSize() && asyncItemCountPending;
 
-        if (lastSent != itemCount && notify) {
+        if ((lastSent != itemCount || lastSentEstimated != asyncEstimate)
+                && notify) {
             final Optional<Component> component = Element.get(stateNode)
                     .getComponent();
             component.ifPresent(value -> ComponentUtil.fireEvent(value,
                     new ItemCountChangeEvent<>(value, itemCount,
-                            !(isDefinedSize()
+                            asyncEstimate || !(isDefinedSize()
                                     || skipCountIncreaseUntilReset))));
             lastSent = itemCount;
+            lastSentEstimated = asyncEstimate;
         }
     }
 
@@ -1399,7 +1780,7 @@ public class DataCommunicator<T> implements Serializable {
         if (updatedData.isEmpty()) {
             return;
         }
-        dataUpdater.accept(updatedData.stream().map(this::generateJson)
+        dataUpdater.accept(generateJson(new ArrayList<>(updatedData)).stream()
                 .collect(JacksonUtils.asArray()));
         updatedData.clear();
     }
@@ -1415,6 +1796,16 @@ public class DataCommunicator<T> implements Serializable {
         }
     }
 
+    private void removeLeastRecentlyUsedKeys() {
+        /*
+         * A bounded key mapper may not wait for the client to confirm all
+         * passivated keys. Keys that are still in the passivated sets are
+         * ignored when confirmed, since the mapper no longer has them.
+         */
+        keyMapper.removeLeastRecentlyUsed(activeKeyOrder)
+                .forEach(dataGenerator::destroyData);
+    }
+
     protected void doUnregister(Integer updateId) {
         Set<String> passivated = passivatedByUpdate.remove(updateId);
         if (passivated != null) {
@@ -1543,10 +1934,10 @@ public class DataCommunicator<T> implements Serializable {
     }
 
     private List<JsonNode> getJsonItems(Range range) {
-        return range.stream()
+        List<T> items = range.stream()
                 .mapToObj(index -> activeKeyOrder.get(index - activeStart))
-                .map(keyMapper::get).map(this::generateJson)
-                .collect(Collectors.toList());
+                .map(keyMapper::get).collect(Collectors.toList());
+        return Collections.unmodifiableList(generateJson(items));
     }
 
     private static void withMissing(Range expected, Range actual,
@@ -1588,11 +1979,15 @@ public class DataCommunicator<T> implements Serializable {
         return new Activation(activeKeys, needsSizeRecheck);
     }
 
-    private JsonNode generateJson(T item) {
-        ObjectNode json = JacksonUtils.createObjectNode();
-        json.put("key", getKeyMapper().key(item));
-        dataGenerator.generateData(item, json);
-        return json;
+    private List<ObjectNode> generateJson(List<T> items) {
+        List<ObjectNode> jsonObjects = new ArrayList<>(items.size());
+        for (T item : items) {
+            ObjectNode json = JacksonUtils.createObjectNode();
+            json.put("key", getKeyMapper().key(item));
+            jsonObjects.add(json);
+        }
+        dataGenerator.generateData(items, jsonObjects);
+        return jsonObjects;
     }
 
     private void removeFilteringAndSorting() {
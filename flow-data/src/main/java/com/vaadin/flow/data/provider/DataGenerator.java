@@ -16,6 +16,7 @@
 package com.vaadin.flow.data.provider;
 
 import java.io.Serializable;
+import java.util.List;
 
 import tools.jackson.databind.node.ObjectNode;
 
@@ -45,6 +46,30 @@ public interface DataGenerator<T> extends Serializable {
      */
     void generateData(T item, ObjectNode jsonObject);
 
+    /**
+     * Adds custom data for the given items to their serialized
+     * {@code ObjectNode} representations. This method is called with all the
+     * items that are sent to the client at the same time, for example all the
+     * items that become visible when scrolling.
+     * <p>
+     * The default implementation calls {@link #generateData(Object, ObjectNode)}
+     * for each item. Override this method to generate the data for all the
+     * items at once, for example to fetch related data for all of them with a
+     * single back end call instead of one call per item.
+     *
+     * @param items
+     *            the data items being serialized, not {@code null}
+     * @param jsonObjects
+     *            the JSON objects being sent to the client, in the same order
+     *            as the items, not {@code null}
+     * @since 25.3
+     */
+    default void generateData(List<T> items, List<ObjectNode> jsonObjects) {
+        for (int i = 0; i < items.size(); i++) {
+            generateData(items.get(i), jsonObjects.get(i));
+        }
+    }
+
     /**
      * Informs the {@code DataGenerator} that the given data item has been
      * dropped and is no longer needed. This method should clean up any unneeded
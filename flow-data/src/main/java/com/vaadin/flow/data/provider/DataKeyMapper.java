@@ -16,6 +16,9 @@
 package com.vaadin.flow.data.provider;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import com.vaadin.flow.function.ValueProvider;
 
@@ -92,4 +95,30 @@ public interface DataKeyMapper<T> extends Serializable {
      *            details.
      */
     void setIdentifierGetter(ValueProvider<T, Object> identifierGetter);
+
+    /**
+     * Gets the number of data objects that currently have a key.
+     *
+     * @return the number of mapped data objects, or a negative number if the
+     *         number is not known
+     * @since 25.3
+     */
+    default int size() {
+        return -1;
+    }
+
+    /**
+     * Removes the least recently used data objects if this mapper keeps a
+     * limited number of them. The data communicator calls this after each
+     * update sent to the client. By default nothing is removed.
+     *
+     * @param retainedKeys
+     *            the keys of data objects that must not be removed, not
+     *            <code>null</code>
+     * @return the removed data objects, not <code>null</code>
+     * @since 25.3
+     */
+    default List<T> removeLeastRecentlyUsed(Collection<String> retainedKeys) {
+        return Collections.emptyList();
+    }
 }
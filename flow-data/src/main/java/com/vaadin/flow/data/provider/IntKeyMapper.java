@@ -0,0 +1,424 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.vaadin.flow.function.ValueProvider;
+
+/**
+ * A {@link DataKeyMapper} for components with a very large number of items,
+ * such as grids that are scrolled through millions of rows.
+ * <p>
+ * The keys are consecutive integers that are only converted to strings when
+ * sent to the client. The mappings are kept in arrays indexed by open
+ * addressing hash tables of <code>int</code>s, which avoids the map entries,
+ * boxed integers and key strings that {@link KeyMapper} keeps for each item.
+ * <p>
+ * The mapper is taken into use with
+ * {@link DataCommunicator#setKeyMapper(DataKeyMapper)}. It can optionally be
+ * bounded with {@link #setMaximumSize(int)}. A data communicator using a
+ * bounded mapper removes the least recently used items outside of the range
+ * sent to the client whenever the mapper has grown over the limit, instead of
+ * keeping them until the client has confirmed that they are no longer used.
+ *
+ * @param <V>
+ *            the type of mapped objects
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class IntKeyMapper<V> implements DataKeyMapper<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private ValueProvider<V, Object> identifierGetter;
+
+    private int maximumSize = -1;
+
+    // A long so that keys are never reused, not even after billions of items
+    private long lastKey = 0;
+
+    private int clock = 0;
+
+    private int size = 0;
+
+    // Entries, indexed by the entry index. Unused entries have key 0.
+    private long[] keys;
+    private Object[] ids;
+    private Object[] values;
+    private int[] lastUsed;
+
+    // Indices of unused entries below entryLimit
+    private int[] freeEntries;
+    private int freeCount;
+    private int entryLimit;
+
+    // Hash tables of entry index + 1, 0 for empty slots. Identifier hashes
+    // may differ between JVMs, so the tables are rebuilt after
+    // deserialization.
+    private transient int[] byKey;
+    private transient int[] byId;
+
+    /**
+     * Constructs a new mapper.
+     *
+     * @param identifierGetter
+     *            has to return a unique key for every bean, and the returned
+     *            key has to follow general {@code hashCode()} and
+     *            {@code equals()} contract, see {@link Object#hashCode()} for
+     *            details.
+     */
+    public IntKeyMapper(ValueProvider<V, Object> identifierGetter) {
+        this.identifierGetter = identifierGetter;
+        clear();
+    }
+
+    /**
+     * Constructs a new mapper with trivial {@code identifierGetter}.
+     */
+    public IntKeyMapper() {
+        this(v -> v);
+    }
+
+    @Override
+    public String key(V dataObject) {
+        if (dataObject == null) {
+            return "null";
+        }
+        Object id = identifierGetter.apply(dataObject);
+        int entry = findById(id);
+        if (entry < 0) {
+            entry = add(id, dataObject);
+        }
+        touch(entry);
+        return String.valueOf(keys[entry]);
+    }
+
+    @Override
+    public boolean has(V dataObject) {
+        return findById(identifierGetter.apply(dataObject)) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(String key) {
+        int entry = findByKey(parseKey(key));
+        if (entry < 0) {
+            return null;
+        }
+        touch(entry);
+        return (V) values[entry];
+    }
+
+    @Override
+    public void remove(V dataObject) {
+        int entry = findById(identifierGetter.apply(dataObject));
+        if (entry >= 0) {
+            removeEntry(entry);
+        }
+    }
+
+    @Override
+    public void removeAll() {
+        clear();
+    }
+
+    @Override
+    public void refresh(V dataObject) {
+        int entry = findById(identifierGetter.apply(dataObject));
+        if (entry >= 0) {
+            values[entry] = dataObject;
+        }
+    }
+
+    @Override
+    public void setIdentifierGetter(ValueProvider<V, Object> identifierGetter) {
+        if (this.identifierGetter != identifierGetter) {
+            this.identifierGetter = identifierGetter;
+            Arrays.fill(byId, 0);
+            for (int entry = 0; entry < entryLimit; entry++) {
+                if (keys[entry] != 0) {
+                    @SuppressWarnings("unchecked")
+                    V value = (V) values[entry];
+                    ids[entry] = identifierGetter.apply(value);
+                    insert(byId, hashId(ids[entry]), entry);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the given key is mapped to an object.
+     *
+     * @param key
+     *            the key to check
+     * @return <code>true</code> if the key is currently mapped,
+     *         <code>false</code> otherwise
+     */
+    public boolean containsKey(String key) {
+        return findByKey(parseKey(key)) >= 0;
+    }
+
+    /**
+     * Sets the maximum number of objects that the mapper should keep. The
+     * limit is enforced by {@link #removeLeastRecentlyUsed(Collection)}, which
+     * the data communicator calls after each update sent to the client. By
+     * default the number of objects is not limited.
+     *
+     * @param maximumSize
+     *            the maximum number of mapped objects, or a negative number
+     *            for no limit
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Gets the maximum number of objects that the mapper should keep.
+     *
+     * @return the maximum number of mapped objects, or a negative number if
+     *         the number is not limited
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Removes the least recently used objects until the number of mapped
+     * objects doesn't exceed the {@link #setMaximumSize(int) maximum size}.
+     * Objects with the given keys are never removed, so the result may still
+     * exceed the maximum size.
+     *
+     * @param retainedKeys
+     *            the keys of objects that must not be removed, not
+     *            <code>null</code>
+     * @return the removed objects, not <code>null</code>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<V> removeLeastRecentlyUsed(Collection<String> retainedKeys) {
+        if (maximumSize < 0 || size <= maximumSize) {
+            return Collections.emptyList();
+        }
+        boolean[] retained = new boolean[entryLimit];
+        for (String key : retainedKeys) {
+            int entry = findByKey(parseKey(key));
+            if (entry >= 0) {
+                retained[entry] = true;
+            }
+        }
+        // Entry indices packed with their last use for a primitive sort
+        long[] candidates = new long[size];
+        int count = 0;
+        for (int entry = 0; entry < entryLimit; entry++) {
+            if (keys[entry] != 0 && !retained[entry]) {
+                candidates[count++] = ((long) lastUsed[entry] << 32) | entry;
+            }
+        }
+        Arrays.sort(candidates, 0, count);
+
+        List<V> removed = new ArrayList<>();
+        for (int i = 0; i < count && size > maximumSize; i++) {
+            int entry = (int) candidates[i];
+            removed.add((V) values[entry]);
+            removeEntry(entry);
+        }
+        return removed;
+    }
+
+    private void clear() {
+        keys = new long[INITIAL_CAPACITY];
+        ids = new Object[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+        lastUsed = new int[INITIAL_CAPACITY];
+        freeEntries = new int[INITIAL_CAPACITY];
+        freeCount = 0;
+        entryLimit = 0;
+        byKey = new int[INITIAL_CAPACITY * 2];
+        byId = new int[INITIAL_CAPACITY * 2];
+        size = 0;
+    }
+
+    private int add(Object id, V dataObject) {
+        int entry;
+        if (freeCount > 0) {
+            entry = freeEntries[--freeCount];
+        } else {
+            if (entryLimit == keys.length) {
+                grow();
+            }
+            entry = entryLimit++;
+        }
+        keys[entry] = ++lastKey;
+        ids[entry] = id;
+        values[entry] = dataObject;
+        insert(byKey, hashKey(keys[entry]), entry);
+        insert(byId, hashId(id), entry);
+        size++;
+        return entry;
+    }
+
+    private void removeEntry(int entry) {
+        delete(byKey, hashKey(keys[entry]), entry);
+        delete(byId, hashId(ids[entry]), entry);
+        keys[entry] = 0;
+        ids[entry] = null;
+        values[entry] = null;
+        lastUsed[entry] = 0;
+        freeEntries[freeCount++] = entry;
+        size--;
+    }
+
+    private void touch(int entry) {
+        if (clock == Integer.MAX_VALUE) {
+            renumberLastUsed();
+        }
+        lastUsed[entry] = ++clock;
+    }
+
+    private void renumberLastUsed() {
+        long[] order = new long[size];
+        int count = 0;
+        for (int entry = 0; entry < entryLimit; entry++) {
+            if (keys[entry] != 0) {
+                order[count++] = ((long) lastUsed[entry] << 32) | entry;
+            }
+        }
+        Arrays.sort(order, 0, count);
+        for (int i = 0; i < count; i++) {
+            lastUsed[(int) order[i]] = i + 1;
+        }
+        clock = count;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        values = Arrays.copyOf(values, capacity);
+        lastUsed = Arrays.copyOf(lastUsed, capacity);
+        freeEntries = Arrays.copyOf(freeEntries, capacity);
+        rehash();
+    }
+
+    private void rehash() {
+        // Keep the hash tables at most half full
+        byKey = new int[keys.length * 2];
+        byId = new int[keys.length * 2];
+        for (int entry = 0; entry < entryLimit; entry++) {
+            if (keys[entry] != 0) {
+                insert(byKey, hashKey(keys[entry]), entry);
+                insert(byId, hashId(ids[entry]), entry);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        rehash();
+    }
+
+    private int findByKey(long key) {
+        if (key <= 0) {
+            return -1;
+        }
+        int mask = byKey.length - 1;
+        for (int slot = hashKey(key) & mask; byKey[slot] != 0; slot = (slot
+                + 1) & mask) {
+            int entry = byKey[slot] - 1;
+            if (keys[entry] == key) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    private int findById(Object id) {
+        int mask = byId.length - 1;
+        for (int slot = hashId(id) & mask; byId[slot] != 0; slot = (slot + 1)
+                & mask) {
+            int entry = byId[slot] - 1;
+            if (Objects.equals(ids[entry], id)) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    private static void insert(int[] table, int hash, int entry) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry + 1;
+    }
+
+    private void delete(int[] table, int hash, int entry) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != entry + 1) {
+            slot = (slot + 1) & mask;
+        }
+        // Shift back the following entries of the probe sequence so that
+        // lookups never need to skip deleted slots
+        int next = (slot + 1) & mask;
+        while (table[next] != 0) {
+            int nextEntry = table[next] - 1;
+            int home = (table == byKey ? hashKey(keys[nextEntry])
+                    : hashId(ids[nextEntry])) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                table[slot] = table[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[slot] = 0;
+    }
+
+    private static int hashKey(long key) {
+        return (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+    }
+
+    private static int hashId(Object id) {
+        int hash = Objects.hashCode(id);
+        return (hash ^ (hash >>> 16)) * 0x9E3779B9;
+    }
+
+    private static long parseKey(String key) {
+        if (key == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A cache of item counts by filter, used by {@link DataCommunicator} to avoid
+ * repeating count queries. Each count is valid for a fixed time after it was
+ * stored, and only the counts of the most recently used filters are kept. The
+ * filters are used as map keys as is, so they must not be modified while in
+ * use.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+final class ItemCountCache {
+
+    private static final int MAXIMUM_ENTRIES = 16;
+
+    private record Entry(int count, long storedAt) {
+    }
+
+    private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f,
+            true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+            return size() > MAXIMUM_ENTRIES;
+        }
+    };
+
+    private final long durationNanos;
+
+    private final LongSupplier nanoTime;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param durationNanos
+     *            the time in nanoseconds that a count is valid
+     * @param nanoTime
+     *            the source of the current time in nanoseconds
+     */
+    ItemCountCache(long durationNanos, LongSupplier nanoTime) {
+        this.durationNanos = durationNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Gets the count for the given filter, if it has been stored and hasn't
+     * expired yet.
+     *
+     * @param filter
+     *            the filter, or <code>null</code> if no filter is used
+     * @return the count, or <code>null</code> if there is no valid count for
+     *         the filter
+     */
+    Integer get(Object filter) {
+        Entry entry = entries.get(filter);
+        if (entry == null) {
+            return null;
+        }
+        if (nanoTime.getAsLong() - entry.storedAt() >= durationNanos) {
+            entries.remove(filter);
+            return null;
+        }
+        return entry.count();
+    }
+
+    /**
+     * Stores the count for the given filter.
+     *
+     * @param filter
+     *            the filter, or <code>null</code> if no filter is used
+     * @param count
+     *            the count
+     */
+    void put(Object filter, int count) {
+        entries.put(filter, new Entry(count, nanoTime.getAsLong()));
+    }
+
+    /**
+     * Removes all counts.
+     */
+    void clear() {
+        entries.clear();
+    }
+}
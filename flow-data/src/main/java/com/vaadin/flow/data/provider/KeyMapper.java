@@ -142,6 +142,11 @@ public class KeyMapper<V> implements DataKeyMapper<V> {
         keyObjectMap.clear();
     }
 
+    @Override
+    public int size() {
+        return keyObjectMap.size();
+    }
+
     /**
      * Checks if the given key is mapped to an object.
      *
@@ -17,11 +17,19 @@ package com.vaadin.flow.data.provider;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import com.vaadin.flow.function.SerializableBiFunction;
 import com.vaadin.flow.function.SerializableComparator;
+import com.vaadin.flow.function.SerializableFunction;
 import com.vaadin.flow.function.SerializablePredicate;
 
 /**
@@ -41,6 +49,123 @@ public class ListDataProvider<T>
 
     private final Collection<T> backend;
 
+    private int parallelThreshold = -1;
+
+    private transient ForkJoinPool parallelPool;
+
+    private boolean queryCacheEnabled = false;
+
+    private transient volatile QueryIndex<T> queryIndex;
+
+    private final AtomicInteger refreshCount = new AtomicInteger();
+
+    /**
+     * The filtered and sorted items of the latest query, or only their count,
+     * together with the filters and comparators that produced them. Filters
+     * and comparators are compared by identity, which matches how data
+     * communicators and data views reuse the same instances until the
+     * filtering or sorting changes. Filters converted by wrapping data
+     * providers are reused by {@link FilterConversion}.
+     */
+    private static final class QueryIndex<T> {
+        private final Object filter;
+        private final Object queryFilter;
+        private final Object inMemorySorting;
+        private final Object sortOrder;
+        private final int sourceSize;
+        private final int size;
+        private final List<T> items;
+
+        private QueryIndex(Object filter, Object queryFilter,
+                Object inMemorySorting, Object sortOrder, int sourceSize,
+                List<T> items) {
+            this.filter = filter;
+            this.queryFilter = queryFilter;
+            this.inMemorySorting = inMemorySorting;
+            this.sortOrder = sortOrder;
+            this.sourceSize = sourceSize;
+            this.size = items.size();
+            this.items = items;
+        }
+
+        private QueryIndex(Object filter, Object queryFilter, int sourceSize,
+                int size) {
+            this.filter = filter;
+            this.queryFilter = queryFilter;
+            this.inMemorySorting = null;
+            this.sortOrder = null;
+            this.sourceSize = sourceSize;
+            this.size = size;
+            this.items = null;
+        }
+
+        private boolean matches(Object filter, Object queryFilter,
+                int sourceSize) {
+            // The size check catches most changes to the backing collection
+            // that were made without refreshing the data provider
+            return this.filter == filter && this.queryFilter == queryFilter
+                    && this.sourceSize == sourceSize;
+        }
+
+        private boolean isSortedBy(Object inMemorySorting, Object sortOrder) {
+            return items != null && this.inMemorySorting == inMemorySorting
+                    && this.sortOrder == sortOrder;
+        }
+    }
+
+    /**
+     * Converts the filters of a wrapping data provider into predicates for
+     * this data provider. When the query cache is enabled, the previous
+     * predicate is reused as long as the filters to convert are equal and the
+     * data provider has not been refreshed. Wrapping data providers convert
+     * the filters for every query, and reusing the predicate lets consecutive
+     * queries use the query index.
+     */
+    private final class FilterConversion<Q, C> implements
+            SerializableBiFunction<Q, C, SerializablePredicate<T>> {
+        private final SerializableBiFunction<Q, C, SerializablePredicate<T>> conversion;
+
+        private transient volatile Conversion<Q, C, T> previous;
+
+        private FilterConversion(
+                SerializableBiFunction<Q, C, SerializablePredicate<T>> conversion) {
+            this.conversion = conversion;
+        }
+
+        @Override
+        public SerializablePredicate<T> apply(Q queryFilter,
+                C configuredFilter) {
+            Conversion<Q, C, T> last = previous;
+            int refresh = refreshCount.get();
+            if (queryCacheEnabled && last != null && last.refresh == refresh
+                    && Objects.equals(last.queryFilter, queryFilter)
+                    && Objects.equals(last.configuredFilter,
+                            configuredFilter)) {
+                return last.result;
+            }
+            SerializablePredicate<T> result = conversion.apply(queryFilter,
+                    configuredFilter);
+            previous = new Conversion<>(queryFilter, configuredFilter,
+                    refresh, result);
+            return result;
+        }
+    }
+
+    private static final class Conversion<Q, C, T> {
+        private final Q queryFilter;
+        private final C configuredFilter;
+        private final int refresh;
+        private final SerializablePredicate<T> result;
+
+        private Conversion(Q queryFilter, C configuredFilter, int refresh,
+                SerializablePredicate<T> result) {
+            this.queryFilter = queryFilter;
+            this.configuredFilter = configuredFilter;
+            this.refresh = refresh;
+            this.result = result;
+        }
+    }
+
     /**
      * Constructs a new ListDataProvider.
      * <p>
@@ -68,28 +193,174 @@ public class ListDataProvider<T>
 
     @Override
     public Stream<T> fetch(Query<T, SerializablePredicate<T>> query) {
-        Stream<T> stream = getFilteredStream(query);
+        if (queryCacheEnabled) {
+            List<T> items = getIndex(query);
+            int from = Math.min(query.getOffset(), items.size());
+            int to = (int) Math.min((long) from + query.getLimit(),
+                    items.size());
+            return items.subList(from, to).stream();
+        }
+
+        Optional<Comparator<T>> comparing = getComparator(
+                query.getInMemorySorting(), sortOrder);
+        if (isParallel()) {
+            // Only the requested page is collected, since the whole pipeline
+            // has to run in the parallel pool
+            return runInParallelPool(
+                    () -> getSortedStream(query, comparing, true)
+                            .skip(query.getOffset()).limit(query.getLimit())
+                            .toList())
+                    .stream();
+        }
+        return getSortedStream(query, comparing, false)
+                .skip(query.getOffset()).limit(query.getLimit());
+    }
+
+    @Override
+    public int size(Query<T, SerializablePredicate<T>> query) {
+        SerializablePredicate<T> queryFilter = query.getFilter().orElse(null);
+        if (filter == null && queryFilter == null) {
+            return backend.size();
+        }
+
+        QueryIndex<T> index = queryCacheEnabled ? queryIndex : null;
+        if (index != null
+                && index.matches(filter, queryFilter, backend.size())) {
+            return index.size;
+        }
+
+        // Only count the items, since the page queries that follow may use a
+        // different sorting anyway
+        long size;
+        if (isParallel()) {
+            size = runInParallelPool(
+                    () -> getFilteredStream(query, true).count());
+        } else {
+            size = getFilteredStream(query, false).count();
+        }
+        if (queryCacheEnabled) {
+            queryIndex = new QueryIndex<>(filter, queryFilter, backend.size(),
+                    (int) size);
+        }
+        return (int) size;
+    }
+
+    @Override
+    public void refreshAll() {
+        queryIndex = null;
+        refreshCount.incrementAndGet();
+        super.refreshAll();
+    }
+
+    @Override
+    public <C> DataProvider<T, C> withConvertedFilter(
+            SerializableFunction<C, SerializablePredicate<T>> filterConverter) {
+        Objects.requireNonNull(filterConverter,
+                "Filter converter can't be null");
+        FilterConversion<C, Void> conversion = new FilterConversion<>(
+                (queryFilter, unused) -> filterConverter.apply(queryFilter));
+        return InMemoryDataProvider.super.withConvertedFilter(
+                queryFilter -> conversion.apply(queryFilter, null));
+    }
+
+    @Override
+    public <Q, C> ConfigurableFilterDataProvider<T, Q, C> withConfigurableFilter(
+            SerializableBiFunction<Q, C, SerializablePredicate<T>> filterCombiner) {
+        return InMemoryDataProvider.super.withConfigurableFilter(
+                new FilterConversion<>(filterCombiner));
+    }
 
-        Optional<Comparator<T>> comparing = Stream
-                .of(query.getInMemorySorting(), sortOrder)
+    @Override
+    public void refreshItem(T item) {
+        queryIndex = null;
+        super.refreshItem(item);
+    }
+
+    @Override
+    public void refreshItem(T item, boolean refreshChildren) {
+        queryIndex = null;
+        super.refreshItem(item, refreshChildren);
+    }
+
+    /**
+     * Gets the filtered and sorted items for the given query when the query
+     * cache is enabled. The result is cached, so that consecutive page and
+     * count queries with the same filters and sorting don't need to go
+     * through the whole backing collection again.
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> getIndex(Query<T, SerializablePredicate<T>> query) {
+        SerializablePredicate<T> queryFilter = query.getFilter().orElse(null);
+        Comparator<T> inMemorySorting = query.getInMemorySorting();
+        Comparator<T> providerSorting = sortOrder;
+
+        if (filter == null && queryFilter == null && inMemorySorting == null
+                && providerSorting == null && backend instanceof List) {
+            return (List<T>) backend;
+        }
+
+        QueryIndex<T> index = queryIndex;
+        if (index != null && index.matches(filter, queryFilter, backend.size())
+                && index.isSortedBy(inMemorySorting, providerSorting)) {
+            return index.items;
+        }
+
+        Optional<Comparator<T>> comparing = getComparator(inMemorySorting,
+                providerSorting);
+        List<T> items;
+        if (isParallel()) {
+            items = runInParallelPool(
+                    () -> getSortedStream(query, comparing, true).toList());
+        } else {
+            items = getSortedStream(query, comparing, false).toList();
+        }
+        queryIndex = new QueryIndex<>(filter, queryFilter, inMemorySorting,
+                providerSorting, backend.size(), items);
+        return items;
+    }
+
+    private static <T> Optional<Comparator<T>> getComparator(
+            Comparator<T> inMemorySorting, Comparator<T> providerSorting) {
+        return Stream.of(inMemorySorting, providerSorting)
                 .filter(Objects::nonNull)
                 .reduce((c1, c2) -> c1.thenComparing(c2));
+    }
 
+    private Stream<T> getSortedStream(Query<T, SerializablePredicate<T>> query,
+            Optional<Comparator<T>> comparing, boolean parallel) {
+        Stream<T> stream = getFilteredStream(query, parallel);
         if (comparing.isPresent()) {
+            // Sorting is stable also for parallel streams, so the result is the
+            // same as with sequential processing
             stream = stream.sorted(comparing.get());
         }
+        return stream;
+    }
 
-        return stream.skip(query.getOffset()).limit(query.getLimit());
+    private boolean isParallel() {
+        return parallelPool != null && parallelThreshold >= 0
+                && backend.size() >= parallelThreshold;
     }
 
-    @Override
-    public int size(Query<T, SerializablePredicate<T>> query) {
-        return (int) getFilteredStream(query).count();
+    private <R> R runInParallelPool(Supplier<R> task) {
+        // Parallel streams run in the pool of the thread that starts the
+        // terminal operation. Starting it in the parallel pool ensures that
+        // the calling thread never runs a part of the task itself, which would
+        // fall back to the common pool.
+        try {
+            return CompletableFuture.supplyAsync(task, parallelPool).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     private Stream<T> getFilteredStream(
-            Query<T, SerializablePredicate<T>> query) {
-        Stream<T> stream = backend.stream();
+            Query<T, SerializablePredicate<T>> query, boolean parallel) {
+        Stream<T> stream = parallel ? backend.parallelStream()
+                : backend.stream();
 
         // Apply our own filters first so that query filters never see the items
         // that would already have been filtered out
@@ -102,6 +373,113 @@ public class ListDataProvider<T>
         return stream;
     }
 
+    /**
+     * Sets whether the filtered and sorted items of the latest query are
+     * cached. The cache is disabled by default, and every query then goes
+     * through the backing collection.
+     * <p>
+     * When the cache is enabled, consecutive count and page queries with the
+     * same filters and sorting are answered from the items of the previous
+     * query, so the filters and comparators are applied only once instead of
+     * for every page. The cached items are only discarded when the data
+     * provider is refreshed with {@link #refreshAll()} or
+     * {@link #refreshItem(Object)}, when the filters or the sorting change,
+     * or when the size of the backing collection changes. Any other change to
+     * the backing collection or to the items, such as replacing or reordering
+     * items or changing a property that affects the filtering or sorting, is
+     * not visible until the data provider is refreshed.
+     * <p>
+     * The cache is not serialized with the data provider.
+     *
+     * @param queryCacheEnabled
+     *            {@code true} to cache the items of the latest query,
+     *            {@code false} to go through the backing collection for every
+     *            query
+     * @since 25.3
+     */
+    public void setQueryCacheEnabled(boolean queryCacheEnabled) {
+        this.queryCacheEnabled = queryCacheEnabled;
+        queryIndex = null;
+    }
+
+    /**
+     * Gets whether the filtered and sorted items of the latest query are
+     * cached.
+     *
+     * @return {@code true} if the items of the latest query are cached,
+     *         {@code false} otherwise
+     * @since 25.3
+     * @see #setQueryCacheEnabled(boolean)
+     */
+    public boolean isQueryCacheEnabled() {
+        return queryCacheEnabled;
+    }
+
+    /**
+     * Sets the number of items from which filtering and sorting is done in
+     * parallel in the given fork-join pool. Parallel processing is disabled by
+     * default.
+     * <p>
+     * When the backing collection has at least the given number of items,
+     * the filters and comparators of the data provider and of the queries are
+     * applied in the threads of the given pool. The parallelism of the pool
+     * bounds the number of threads used, so that slow filters and comparators
+     * don't compete with other parallel work in the common pool. The pool is
+     * owned by the application, which is responsible for shutting it down,
+     * and it can be shared by many data providers.
+     * <p>
+     * The results are the same as with sequential processing, but the filters
+     * and comparators must be safe to call concurrently from multiple threads.
+     * Since they run outside of the calling thread, instances such as
+     * {@link com.vaadin.flow.component.UI#getCurrent()} and
+     * {@link com.vaadin.flow.server.VaadinSession#getCurrent()} are not
+     * available to them, and the session lock is not held while they run.
+     * Parallel processing pays off only for large collections, typically from
+     * tens of thousands of items upwards.
+     * <p>
+     * The pool is not serialized with the data provider, so items are
+     * processed sequentially after deserialization until a pool is set again.
+     *
+     * @param parallelThreshold
+     *            the minimum number of items to process in parallel, or a
+     *            negative number to always process items sequentially
+     * @param parallelPool
+     *            the pool to filter and sort in, or {@code null} to always
+     *            process items sequentially
+     * @since 25.3
+     */
+    public void setParallelThreshold(int parallelThreshold,
+            ForkJoinPool parallelPool) {
+        this.parallelThreshold = parallelThreshold;
+        this.parallelPool = parallelPool;
+    }
+
+    /**
+     * Gets the fork-join pool in which filtering and sorting is done in
+     * parallel.
+     *
+     * @return the pool to filter and sort in, or {@code null} if parallel
+     *         processing is disabled
+     * @since 25.3
+     * @see #setParallelThreshold(int, ForkJoinPool)
+     */
+    public ForkJoinPool getParallelPool() {
+        return parallelPool;
+    }
+
+    /**
+     * Gets the number of items from which filtering and sorting is done in
+     * parallel.
+     *
+     * @return the minimum number of items to process in parallel, or a
+     *         negative number if parallel processing is disabled
+     * @since 25.3
+     * @see #setParallelThreshold(int, ForkJoinPool)
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
     @Override
     public SerializableComparator<T> getSortComparator() {
         return sortOrder;
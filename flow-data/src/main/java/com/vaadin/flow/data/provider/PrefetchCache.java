@@ -0,0 +1,199 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A bounded cache of pages of items loaded ahead of time by a
+ * {@link DataCommunicator}.
+ * <p>
+ * Pages are loaded by background threads and read by the thread that holds the
+ * session lock, so all methods are synchronized. Each cache content belongs to
+ * a generation, which changes whenever the cache is invalidated. Pages loaded
+ * for a previous generation are discarded, so that a page fetched with an
+ * outdated filter or sorting never ends up in the cache.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @param <T>
+ *            the item type
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+final class PrefetchCache<T> {
+
+    private final Map<Integer, List<T>> pages = new LinkedHashMap<>(16, 0.75f,
+            true) {
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<Integer, List<T>> eldest) {
+            return size() > capacity;
+        }
+    };
+
+    private final Set<Integer> pendingPages = new HashSet<>();
+
+    private int capacity;
+
+    private int generation;
+
+    private long hitCount;
+
+    private long missCount;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity
+     *            the maximum number of pages to keep
+     */
+    PrefetchCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Sets the maximum number of pages to keep, removing the least recently
+     * used pages if there are more.
+     *
+     * @param capacity
+     *            the maximum number of pages to keep
+     */
+    synchronized void setCapacity(int capacity) {
+        this.capacity = capacity;
+        var iterator = pages.keySet().iterator();
+        while (pages.size() > capacity && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Gets the current generation of the cache.
+     *
+     * @return the current generation
+     */
+    synchronized int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Removes all pages and starts a new generation.
+     */
+    synchronized void invalidate() {
+        pages.clear();
+        pendingPages.clear();
+        generation++;
+    }
+
+    /**
+     * Marks the given page as being loaded, unless it is already cached or
+     * being loaded.
+     *
+     * @param page
+     *            the index of the page
+     * @return <code>true</code> if the page should be loaded,
+     *         <code>false</code> otherwise
+     */
+    synchronized boolean startLoading(int page) {
+        return !pages.containsKey(page) && pendingPages.add(page);
+    }
+
+    /**
+     * Stores a loaded page, unless the cache has been invalidated after the
+     * loading started.
+     *
+     * @param generation
+     *            the generation of the cache when loading started
+     * @param page
+     *            the index of the page
+     * @param items
+     *            the items of the page, or <code>null</code> if loading failed
+     */
+    synchronized void loaded(int generation, int page, List<T> items) {
+        if (generation != this.generation) {
+            return;
+        }
+        pendingPages.remove(page);
+        if (items != null) {
+            pages.put(page, items);
+        }
+    }
+
+    /**
+     * Gets the items in the given range from the cached pages. The range is
+     * served only if all pages it covers are cached. A cached page with fewer
+     * items than the page size marks the end of the data, so the returned list
+     * may be shorter than the requested range.
+     *
+     * @param offset
+     *            the index of the first item
+     * @param limit
+     *            the number of items
+     * @param pageSize
+     *            the size of the cached pages
+     * @return the cached items, or <code>null</code> if some of the pages
+     *         covering the range are not cached
+     */
+    synchronized List<T> get(int offset, int limit, int pageSize) {
+        List<T> result = new ArrayList<>(limit);
+        long end = (long) offset + limit;
+        int index = offset;
+        while (index < end) {
+            int page = index / pageSize;
+            List<T> items = pages.get(page);
+            if (items == null) {
+                missCount++;
+                return null;
+            }
+            int pageStart = page * pageSize;
+            int from = index - pageStart;
+            int to = (int) Math.min(items.size(), end - pageStart);
+            if (from < to) {
+                result.addAll(items.subList(from, to));
+            }
+            if (items.size() < pageSize) {
+                break;
+            }
+            index = pageStart + pageSize;
+        }
+        hitCount++;
+        return result;
+    }
+
+    /**
+     * Gets the number of ranges served from the cache.
+     *
+     * @return the number of cache hits
+     */
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of ranges that couldn't be served from the cache.
+     *
+     * @return the number of cache misses
+     */
+    synchronized long getMissCount() {
+        return missCount;
+    }
+}
@@ -69,6 +69,13 @@ public abstract class AbstractBackEndHierarchicalDataProvider<T, F>
         return fetchChildrenFromBackEnd(mixInSortOrders(query));
     }
 
+    @Override
+    public List<List<T>> fetchChildren(List<HierarchicalQuery<T, F>> queries) {
+        Objects.requireNonNull(queries, "Queries cannot be null");
+        return fetchChildrenFromBackEnd(
+                queries.stream().map(this::mixInSortOrders).toList());
+    }
+
     @Override
     public boolean isInMemory() {
         return false;
@@ -93,4 +100,29 @@ public abstract class AbstractBackEndHierarchicalDataProvider<T, F>
      */
     protected abstract Stream<T> fetchChildrenFromBackEnd(
             HierarchicalQuery<T, F> query);
+
+    /**
+     * Fetches the children of several parent items from the back end at once.
+     * <p>
+     * The default implementation calls
+     * {@link #fetchChildrenFromBackEnd(HierarchicalQuery)} separately for each
+     * query. Override this method to load the children of all the parents in
+     * a single round trip, for example with one database query that uses an
+     * {@code IN} clause for the parents.
+     *
+     * @see #fetchChildren(List)
+     *
+     * @param queries
+     *            the queries that define sorting, filtering, paging and the
+     *            parent item to fetch children from
+     * @return a list that contains the items matching each query in the same
+     *         order as the queries
+     * @since 25.3
+     */
+    protected List<List<T>> fetchChildrenFromBackEnd(
+            List<HierarchicalQuery<T, F>> queries) {
+        return queries.stream()
+                .map(query -> fetchChildrenFromBackEnd(query).toList())
+                .toList();
+    }
 }
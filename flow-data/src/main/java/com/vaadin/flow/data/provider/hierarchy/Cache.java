@@ -19,8 +19,6 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -43,12 +41,15 @@ import com.vaadin.flow.function.SerializableSupplier;
 class Cache<T> implements Serializable {
     private final RootCache<T> rootCache;
     private final Cache<T> parentCache;
+    private final int parentIndex;
     private final T parentItem;
     private int size;
+    private int flatSize;
+    private boolean removed;
 
     private final Map<Object, T> itemIdToItem = new HashMap<>();
     private final SortedMap<Integer, Object> indexToItemId = new TreeMap<>();
-    private final SortedMap<Integer, Cache<T>> indexToCache = new TreeMap<>();
+    private final SubCacheTree<T> subCaches = new SubCacheTree<>();
 
     /**
      * Creates a new cache instance with the specified parent cache, parent
@@ -56,17 +57,23 @@ class Cache<T> implements Serializable {
      *
      * @param parentCache
      *            the parent cache, or {@code null} if this is the root cache
+     * @param parentIndex
+     *            the index of the parent item in the parent cache, or
+     *            {@code -1} if this is the root cache
      * @param parentItem
      *            the parent item, or {@code null} if this is the root cache
      * @param size
      *            the size of this cache
      */
-    protected Cache(Cache<T> parentCache, T parentItem, int size) {
+    protected Cache(Cache<T> parentCache, int parentIndex, T parentItem,
+            int size) {
         this.rootCache = parentCache != null ? parentCache.rootCache
                 : (RootCache<T>) this;
         this.parentCache = parentCache;
+        this.parentIndex = parentIndex;
         this.parentItem = parentItem;
         this.size = size;
+        this.flatSize = size;
     }
 
     /**
@@ -87,10 +94,30 @@ class Cache<T> implements Serializable {
         return parentCache != null ? parentCache.getDepth() + 1 : 0;
     }
 
+    /**
+     * Gets the index of the parent item in the parent cache.
+     *
+     * @return the index of the parent item, or {@code -1} if this is the root
+     *         cache
+     */
+    int getParentIndex() {
+        return parentIndex;
+    }
+
+    /**
+     * Gets the parent cache.
+     *
+     * @return the parent cache, or {@code null} if this is the root cache
+     */
+    Cache<T> getParentCache() {
+        return parentCache;
+    }
+
     /**
      * Sets the size of this individual cache instance.
      */
     public void setSize(int size) {
+        addToFlatSize(size - this.size);
         this.size = size;
     }
 
@@ -104,6 +131,50 @@ class Cache<T> implements Serializable {
         return size;
     }
 
+    /**
+     * Gets the total size of this cache including all descendant caches.
+     *
+     * @return the number of items in this cache and all its descendant caches
+     */
+    public int getFlatSize() {
+        return flatSize;
+    }
+
+    /**
+     * Converts a local index into its position in the flattened list of the
+     * items of this cache and its descendant caches.
+     *
+     * @param index
+     *            the index of the item in this cache
+     * @return the flat index of the item within this cache
+     */
+    int getFlatIndex(int index) {
+        return index + subCaches.getFlatSizeBefore(index);
+    }
+
+    /**
+     * Finds the item or sub-cache at the given position in the flattened list
+     * of the items of this cache and its descendant caches.
+     *
+     * @param flatIndex
+     *            the flat index within this cache, not negative
+     * @return the position of the flat index
+     */
+    SubCacheTree.Position<T> findFlatIndex(int flatIndex) {
+        return subCaches.find(flatIndex);
+    }
+
+    private void addToFlatSize(int delta) {
+        if (delta == 0) {
+            return;
+        }
+        flatSize += delta;
+        if (parentCache != null && !removed) {
+            parentCache.subCaches.addToFlatSize(parentIndex, delta);
+            parentCache.addToFlatSize(delta);
+        }
+    }
+
     /**
      * Checks if this cache contains an item at the specified index.
      *
@@ -177,8 +248,12 @@ class Cache<T> implements Serializable {
      * resources associated with them.
      */
     public void clear() {
-        indexToCache.values().forEach(Cache::clear);
-        indexToCache.clear();
+        subCaches.forEach(subCache -> {
+            subCache.removed = true;
+            subCache.clear();
+        });
+        subCaches.clear();
+        addToFlatSize(size - flatSize);
 
         indexToItemId.values().forEach(itemId -> {
             rootCache.onItemRemoved(itemIdToItem.get(itemId));
@@ -196,7 +271,7 @@ class Cache<T> implements Serializable {
      * @return {@code true} if a sub-cache is found, {@code false} otherwise
      */
     public boolean hasSubCache(int index) {
-        return indexToCache.containsKey(index);
+        return subCaches.get(index) != null;
     }
 
     /**
@@ -208,17 +283,7 @@ class Cache<T> implements Serializable {
      *         found
      */
     public Cache<T> getSubCache(int index) {
-        return indexToCache.get(index);
-    }
-
-    /**
-     * Gets all sub-caches of this cache ordered by their indexes.
-     *
-     * @return a set of entries where the key is the index of the sub-cache and
-     *         the value is the sub-cache itself
-     */
-    public Set<Entry<Integer, Cache<T>>> getSubCaches() {
-        return indexToCache.entrySet();
+        return subCaches.get(index);
     }
 
     /**
@@ -234,8 +299,13 @@ class Cache<T> implements Serializable {
      */
     public Cache<T> ensureSubCache(int index, T item,
             SerializableSupplier<Integer> sizeSupplier) {
-        return indexToCache.computeIfAbsent(index,
-                (_key) -> new Cache<>(this, item, sizeSupplier.get()));
+        var subCache = subCaches.get(index);
+        if (subCache == null) {
+            subCache = new Cache<>(this, index, item, sizeSupplier.get());
+            subCaches.put(index, subCache);
+            addToFlatSize(subCache.getFlatSize());
+        }
+        return subCache;
     }
 
     /**
@@ -246,8 +316,10 @@ class Cache<T> implements Serializable {
      *            the index of the sub-cache to remove
      */
     public void removeSubCache(int index) {
-        var subCache = indexToCache.remove(index);
+        var subCache = subCaches.remove(index);
         if (subCache != null) {
+            subCache.removed = true;
+            addToFlatSize(-subCache.getFlatSize());
             subCache.clear();
         }
     }
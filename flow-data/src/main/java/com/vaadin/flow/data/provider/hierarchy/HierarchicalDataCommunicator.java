@@ -16,18 +16,20 @@
 package com.vaadin.flow.data.provider.hierarchy;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ObjectNode;
 
 import com.vaadin.flow.data.provider.ArrayUpdater;
@@ -497,11 +499,15 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
         return !expandedItemIds.isEmpty();
     }
 
-    private JsonNode generateItemJson(T item) {
-        ObjectNode json = JacksonUtils.createObjectNode();
-        json.put("key", keyMapper.key(item));
-        dataGenerator.generateData(item, json);
-        return json;
+    private List<ObjectNode> generateItemJson(List<T> items) {
+        List<ObjectNode> jsonObjects = new ArrayList<>(items.size());
+        for (T item : items) {
+            ObjectNode json = JacksonUtils.createObjectNode();
+            json.put("key", keyMapper.key(item));
+            jsonObjects.add(json);
+        }
+        dataGenerator.generateData(items, jsonObjects);
+        return jsonObjects;
     }
 
     /**
@@ -551,11 +557,103 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
         }
     }
 
-    private void preloadRange(Cache<T> cache, int start, int length) {
+    private Range preloadRange(Cache<T> cache, int start, int length) {
         var range = Range.withLength(start, length)
                 .restrictTo(Range.withLength(0, cache.getSize()));
         var items = fetchDataProviderChildren(cache.getParentItem(), range);
         cache.setItems(range.getStart(), items);
+        return range;
+    }
+
+    /**
+     * Creates sub-caches for the expanded items in the given range and
+     * preloads their first items, continuing level by level. The children of
+     * all the expanded items on a level are counted with a single
+     * {@link HierarchicalDataProvider#getChildCount(List)} call and fetched
+     * with a single {@link HierarchicalDataProvider#fetchChildren(List)} call,
+     * so that expanding many items at once doesn't result in separate queries
+     * for each of them.
+     * <p>
+     * Only the items positioned before the given end index in the flattened
+     * hierarchy are considered, so that items outside the requested range
+     * aren't loaded. Since the children of an item move the items that follow
+     * it, an item may be counted before it turns out to be outside the range.
+     * No sub-cache is created for such an item.
+     *
+     * @param cache
+     *            the cache that contains the range
+     * @param range
+     *            the range of preloaded items in the cache
+     * @param flatEnd
+     *            the flat index where the requested range ends
+     */
+    private void preloadExpandedDescendants(Cache<T> cache, Range range,
+            int flatEnd) {
+        if (!getHierarchyFormat().equals(HierarchyFormat.NESTED)) {
+            return;
+        }
+
+        Map<Cache<T>, Range> level = Map.of(cache, range);
+        while (!level.isEmpty()) {
+            List<Cache<T>> parentCaches = new ArrayList<>();
+            List<Integer> parentIndexes = new ArrayList<>();
+            List<T> parents = new ArrayList<>();
+            level.forEach((levelCache, levelRange) -> {
+                for (int i = levelRange.getStart(); i < levelRange
+                        .getEnd(); i++) {
+                    var item = levelCache.getItem(i);
+                    if (item == null || levelCache.hasSubCache(i)
+                            || !isExpanded(item)) {
+                        continue;
+                    }
+                    if (rootCache.getFlatIndexByItem(item) >= flatEnd) {
+                        break;
+                    }
+                    parentCaches.add(levelCache);
+                    parentIndexes.add(i);
+                    parents.add(item);
+                }
+            });
+            if (parents.isEmpty()) {
+                break;
+            }
+
+            var counts = getDataProviderChildCounts(parents);
+            Map<Cache<T>, Range> nextLevel = new LinkedHashMap<>();
+            for (int i = 0; i < parents.size(); i++) {
+                var item = parents.get(i);
+                // Sub-caches created for the previous items may have moved
+                // the item outside the range
+                var flatIndex = rootCache.getFlatIndexByItem(item);
+                if (flatIndex >= flatEnd) {
+                    continue;
+                }
+                var count = counts.get(i);
+                var subCache = parentCaches.get(i)
+                        .ensureSubCache(parentIndexes.get(i), item, () -> {
+                            requestFlush().invalidateViewport();
+                            return count;
+                        });
+                var length = Math.min(subCache.getSize(),
+                        flatEnd - flatIndex - 1);
+                if (length > 0 && !subCache.hasItem(0)) {
+                    nextLevel.put(subCache, Range.withLength(0, length));
+                }
+            }
+            if (nextLevel.isEmpty()) {
+                break;
+            }
+
+            var fetchParents = nextLevel.keySet().stream()
+                    .map(Cache::getParentItem).toList();
+            var children = fetchDataProviderChildren(fetchParents,
+                    List.copyOf(nextLevel.values()));
+            var i = 0;
+            for (var subCache : nextLevel.keySet()) {
+                subCache.setItems(0, children.get(i++));
+            }
+            level = nextLevel;
+        }
     }
 
     /**
@@ -650,7 +748,10 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
             var index = context.index();
 
             if (!cache.hasItem(index)) {
-                preloadRange(cache, index, length - result.size());
+                var remainingLength = length - result.size();
+                var range = preloadRange(cache, index, remainingLength);
+                preloadExpandedDescendants(cache, range,
+                        start + remainingLength);
             }
 
             var item = cache.getItem(index);
@@ -712,6 +813,8 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
         if (end < flatSize) {
             update.clear(end, flatSize - end);
         }
+        List<Integer> updatedIndexes = new ArrayList<>();
+        List<T> updatedItems = new ArrayList<>();
         for (int i = 0; i < viewportItems.size(); i++) {
             var item = viewportItems.get(i);
             var index = start + i;
@@ -722,9 +825,16 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
             if (flushRequest.isViewportInvalidated()
                     || flushRequest.isItemInvalidated(item)
                     || flushRequest.isIndexInvalidated(index)) {
-                update.set(index, List.of(generateItemJson(item)));
+                updatedIndexes.add(index);
+                updatedItems.add(item);
             }
         }
+        // Generate the data for all the updated items at once so that data
+        // generators can process them in a batch
+        var updatedJson = generateItemJson(updatedItems);
+        for (int i = 0; i < updatedIndexes.size(); i++) {
+            update.set(updatedIndexes.get(i), List.of(updatedJson.get(i)));
+        }
         update.commit(++lastUpdateId);
     }
 
@@ -839,6 +949,34 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
 
         var items = ((HierarchicalDataProvider<T, Object>) getDataProvider())
                 .fetchChildren(query).toList();
+        validateChildren(items, range);
+        return items;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<T>> fetchDataProviderChildren(List<T> parents,
+            List<Range> ranges) {
+        List<HierarchicalQuery<T, Object>> queries = new ArrayList<>();
+        for (int i = 0; i < parents.size(); i++) {
+            var range = ranges.get(i);
+            queries.add(buildQuery(parents.get(i), range.getStart(),
+                    range.length()));
+        }
+
+        var children = ((HierarchicalDataProvider<T, Object>) getDataProvider())
+                .fetchChildren(queries);
+        if (children.size() != queries.size()) {
+            throw new IllegalStateException(
+                    "Data provider returned children for %d parents but %d were requested"
+                            .formatted(children.size(), queries.size()));
+        }
+        for (int i = 0; i < children.size(); i++) {
+            validateChildren(children.get(i), ranges.get(i));
+        }
+        return children;
+    }
+
+    private static <T> void validateChildren(List<T> items, Range range) {
         if (items.size() > range.length()) {
             throw new IllegalStateException(
                     """
@@ -851,7 +989,6 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
             throw new IllegalStateException(
                     "Data provider returned a null item. Null values are not supported");
         }
-        return items;
     }
 
     @SuppressWarnings("unchecked")
@@ -868,6 +1005,32 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
         return count;
     }
 
+    @SuppressWarnings("unchecked")
+    private List<Integer> getDataProviderChildCounts(List<T> parents) {
+        var filter = getFilter();
+        var expandedItemIds = getExpandedItemIds();
+        List<HierarchicalQuery<T, Object>> queries = new ArrayList<>();
+        for (T parent : parents) {
+            queries.add(
+                    new HierarchicalQuery<>(filter, expandedItemIds, parent));
+        }
+
+        var counts = ((HierarchicalDataProvider<T, Object>) getDataProvider())
+                .getChildCount(queries);
+        if (counts.size() != queries.size()) {
+            throw new IllegalStateException(
+                    "Data provider returned child counts for %d parents but %d were requested"
+                            .formatted(counts.size(), queries.size()));
+        }
+        for (Integer count : counts) {
+            if (count == null || count < 0) {
+                throw new IllegalStateException(
+                        "Data provider returned a negative child count. Negative values are not supported");
+            }
+        }
+        return counts;
+    }
+
     private RootCache<T> ensureRootCache() {
         if (rootCache == null) {
             rootCache = new RootCache<>(getDataProviderChildCount(null),
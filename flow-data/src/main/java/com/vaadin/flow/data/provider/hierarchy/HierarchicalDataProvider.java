@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.data.provider.hierarchy;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -295,6 +296,29 @@ public interface HierarchicalDataProvider<T, F> extends DataProvider<T, F> {
      */
     public int getChildCount(HierarchicalQuery<T, F> query);
 
+    /**
+     * Gets the number of children of several parent items at once, for example
+     * of all items on a level that were expanded at the same time.
+     * <p>
+     * The default implementation calls
+     * {@link #getChildCount(HierarchicalQuery)} separately for each query.
+     * Data providers backed by a remote service or a database can override
+     * this method to count the children of all the parents in a single round
+     * trip. Each query must be handled in accordance with the selected
+     * hierarchy type, see {@link #getHierarchyFormat()} and
+     * {@link HierarchyFormat}.
+     *
+     * @param queries
+     *            the queries to request the counts for, not {@code null}
+     * @return a list that contains the count of children for each query in
+     *         the same order as the queries
+     * @since 25.3
+     */
+    default List<Integer> getChildCount(List<HierarchicalQuery<T, F>> queries) {
+        Objects.requireNonNull(queries, "Queries cannot be null");
+        return queries.stream().map(this::getChildCount).toList();
+    }
+
     /**
      * Fetches children based on the given hierarchical query.
      * <p>
@@ -309,6 +333,29 @@ public interface HierarchicalDataProvider<T, F> extends DataProvider<T, F> {
      */
     public Stream<T> fetchChildren(HierarchicalQuery<T, F> query);
 
+    /**
+     * Fetches the children of several parent items at once, for example the
+     * children of all items on a level that were expanded at the same time.
+     * <p>
+     * The default implementation calls
+     * {@link #fetchChildren(HierarchicalQuery)} separately for each query. Data
+     * providers backed by a remote service or a database can override this
+     * method to load the children of all the parents in a single round trip.
+     * Each query must be handled in accordance with the selected hierarchy
+     * type, see {@link #getHierarchyFormat()} and {@link HierarchyFormat}.
+     *
+     * @param queries
+     *            the queries to request data with, not {@code null}
+     * @return a list that contains the children for each query in the same
+     *         order as the queries, each list must not contain null values
+     * @since 25.3
+     */
+    default List<List<T>> fetchChildren(List<HierarchicalQuery<T, F>> queries) {
+        Objects.requireNonNull(queries, "Queries cannot be null");
+        return queries.stream().map(query -> fetchChildren(query).toList())
+                .toList();
+    }
+
     /**
      * Check whether a given item has any children associated with it.
      *
@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.data.provider.hierarchy;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.data.provider.ConfigurableFilterDataProviderWrapper;
@@ -47,12 +48,26 @@ final class HierarchicalFilterUtils {
                     .getChildCount(adapt(query, getFilter(query)));
         }
 
+        @Override
+        public List<Integer> getChildCount(
+                List<HierarchicalQuery<T, Q>> queries) {
+            return getDataProvider().getChildCount(queries.stream()
+                    .map(query -> adapt(query, getFilter(query))).toList());
+        }
+
         @Override
         public Stream<T> fetchChildren(HierarchicalQuery<T, Q> query) {
             return getDataProvider()
                     .fetchChildren(adapt(query, getFilter(query)));
         }
 
+        @Override
+        public List<List<T>> fetchChildren(
+                List<HierarchicalQuery<T, Q>> queries) {
+            return getDataProvider().fetchChildren(queries.stream()
+                    .map(query -> adapt(query, getFilter(query))).toList());
+        }
+
         @Override
         public boolean hasChildren(T item) {
             return getDataProvider().hasChildren(item);
@@ -110,12 +125,26 @@ final class HierarchicalFilterUtils {
                     .getChildCount(adapt(query, getFilter(query)));
         }
 
+        @Override
+        public List<Integer> getChildCount(
+                List<HierarchicalQuery<T, F>> queries) {
+            return getDataProvider().getChildCount(queries.stream()
+                    .map(query -> adapt(query, getFilter(query))).toList());
+        }
+
         @Override
         public Stream<T> fetchChildren(HierarchicalQuery<T, F> query) {
             return getDataProvider()
                     .fetchChildren(adapt(query, getFilter(query)));
         }
 
+        @Override
+        public List<List<T>> fetchChildren(
+                List<HierarchicalQuery<T, F>> queries) {
+            return getDataProvider().fetchChildren(queries.stream()
+                    .map(query -> adapt(query, getFilter(query))).toList());
+        }
+
         @Override
         public boolean hasChildren(T item) {
             return getDataProvider().hasChildren(item);
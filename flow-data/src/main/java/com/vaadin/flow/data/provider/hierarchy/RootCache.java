@@ -19,7 +19,6 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import com.vaadin.flow.function.ValueProvider;
 
@@ -50,24 +49,10 @@ class RootCache<T> extends Cache<T> {
      *            the item ID provider
      */
     public RootCache(int size, ValueProvider<T, Object> itemIdProvider) {
-        super(null, null, size);
+        super(null, -1, null, size);
         this.itemIdProvider = itemIdProvider;
     }
 
-    /**
-     * Gets the total size of the hierarchy (including all descendant caches).
-     *
-     * @return the total number of items in this cache and all its descendant
-     */
-    public int getFlatSize() {
-        return getFlatSize(this);
-    }
-
-    private int getFlatSize(Cache<T> cache) {
-        return cache.getSize() + cache.getSubCaches().stream()
-                .mapToInt((entry) -> getFlatSize(entry.getValue())).sum();
-    }
-
     /**
      * Retrieves the hierarchical context for an item by its position in the
      * flattened view of the entire hierarchy. The result includes a reference
@@ -79,26 +64,19 @@ class RootCache<T> extends Cache<T> {
      * @return an {@link ItemContext} record, or {@code null} if not found
      */
     public ItemContext<T> getContextByFlatIndex(int flatIndex) {
-        return getContextByFlatIndex(this, flatIndex);
-    }
-
-    private ItemContext<T> getContextByFlatIndex(Cache<T> cache,
-            int localFlatIndex) {
-        int index = localFlatIndex;
-
-        for (Entry<Integer, Cache<T>> entry : cache.getSubCaches()) {
-            var subCache = entry.getValue();
-            var subCacheIndex = entry.getKey();
-            var subCacheFlatSize = getFlatSize(subCache);
-
-            if (index <= subCacheIndex) {
+        if (flatIndex < 0) {
+            return null;
+        }
+        Cache<T> cache = this;
+        int index = flatIndex;
+        while (true) {
+            var position = cache.findFlatIndex(index);
+            if (position.subCache() == null) {
+                index = position.index();
                 break;
             }
-            if (index <= subCacheIndex + subCacheFlatSize) {
-                return getContextByFlatIndex(subCache,
-                        index - subCacheIndex - 1);
-            }
-            index -= subCacheFlatSize;
+            cache = position.subCache();
+            index = position.subCacheFlatIndex();
         }
 
         if (index >= cache.getSize() || index < 0) {
@@ -135,9 +113,9 @@ class RootCache<T> extends Cache<T> {
             index = Math.max(cache.getSize() + index, 0);
         }
 
-        var flatIndex = flattenIndex(cache, index);
+        var flatIndex = cache.getFlatIndex(index);
         var subCache = cache.getSubCache(index);
-        if (subCache != null && getFlatSize(subCache) > 0
+        if (subCache != null && subCache.getFlatSize() > 0
                 && restPath.length > 0) {
             return flatIndex + 1 + getFlatIndexByPath(subCache, restPath);
         }
@@ -146,34 +124,27 @@ class RootCache<T> extends Cache<T> {
     }
 
     /**
-     * Converts a local cache index into its corresponding position in the
-     * flattened list that includes all items from this cache and its
-     * descendants.
-     * <p>
-     * For example:
-     *
-     * <pre>
-     * Cache A (current cache)
-     * ├── Item 0
-     * │   └── Cache B (sub cache)
-     * │       ├── Item 0-0
-     * │       └── Item 0-1
-     * └── Item 1
-     * </pre>
-     *
-     * In this example, the local index {@code 1} (referring to {@code Item 1}
-     * in Cache A) will correspond to flat index {@code 3}.
+     * Retrieves the position of an item in the flattened view of the entire
+     * hierarchy.
      *
-     * @param index
-     *            the index of the item in this cache
-     * @return the flat index of the item
+     * @param item
+     *            the item to get the flat index for
+     * @return the flat index of the item, or -1 if the item is not in the
+     *         cache
      */
-    private int flattenIndex(Cache<T> cache, int index) {
-        return cache.getSubCaches().stream().reduce(index, (prev, entry) -> {
-            var subCacheIndex = entry.getKey();
-            var subCache = entry.getValue();
-            return index > subCacheIndex ? prev + getFlatSize(subCache) : prev;
-        }, Integer::sum);
+    public int getFlatIndexByItem(T item) {
+        var context = getContextByItem(item);
+        if (context == null) {
+            return -1;
+        }
+        Cache<T> cache = context.cache();
+        int flatIndex = cache.getFlatIndex(context.index());
+        while (cache.getParentCache() != null) {
+            flatIndex += cache.getParentCache()
+                    .getFlatIndex(cache.getParentIndex()) + 1;
+            cache = cache.getParentCache();
+        }
+        return flatIndex;
     }
 
     /**
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider.hierarchy;
+
+import java.io.Serializable;
+import java.util.function.Consumer;
+
+/**
+ * The sub-caches of a {@link Cache} level, ordered by the index of their parent
+ * item and augmented with the flat sizes of the sub-caches.
+ * <p>
+ * The sub-caches are stored in a treap, a binary search tree balanced by
+ * pseudo-random priorities, where each node also holds the total flat size of
+ * the sub-caches in its subtree. This makes it possible to convert between
+ * local and flat indexes in logarithmic time regardless of how many items of
+ * the level are expanded.
+ * <p>
+ * The tree doesn't observe the sub-caches. When the flat size of a sub-cache
+ * changes, the change must be reported with
+ * {@link #addToFlatSize(int, int)}.
+ * <p>
+ * WARNING: This class is intended for internal use only and may change at any
+ * time without notice. It is not part of the public API and should not be used
+ * directly in your applications.
+ *
+ * @since 25.3
+ *
+ * @param <T>
+ *            the type of items in the cache
+ */
+class SubCacheTree<T> implements Serializable {
+
+    private static final class Node<T> implements Serializable {
+        private final int index;
+        private final int priority;
+        private final Cache<T> cache;
+        private int flatSize;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(int index, Cache<T> cache) {
+            this.index = index;
+            this.priority = priority(index);
+            this.cache = cache;
+            this.flatSize = cache.getFlatSize();
+        }
+
+        private void update() {
+            flatSize = flatSize(left) + cache.getFlatSize() + flatSize(right);
+        }
+    }
+
+    /**
+     * The position of a flat index among the items and sub-caches of a level.
+     *
+     * @param <T>
+     *            the type of items in the cache
+     * @param index
+     *            the local index of the item, or of the parent item of the
+     *            sub-cache
+     * @param subCache
+     *            the sub-cache that contains the flat index, or {@code null}
+     *            if the flat index refers to the item itself
+     * @param subCacheFlatIndex
+     *            the flat index within the sub-cache, or {@code -1} if the
+     *            flat index refers to the item itself
+     */
+    record Position<T>(int index, Cache<T> subCache,
+            int subCacheFlatIndex) implements Serializable {
+    }
+
+    private Node<T> root;
+
+    private int size;
+
+    /**
+     * Gets the number of sub-caches.
+     *
+     * @return the number of sub-caches
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the sub-cache of the item at the given local index.
+     *
+     * @param index
+     *            the local index of the parent item
+     * @return the sub-cache, or {@code null} if there is none
+     */
+    Cache<T> get(int index) {
+        Node<T> node = root;
+        while (node != null) {
+            if (index < node.index) {
+                node = node.left;
+            } else if (index > node.index) {
+                node = node.right;
+            } else {
+                return node.cache;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a sub-cache for the item at the given local index, which must not
+     * have a sub-cache yet.
+     *
+     * @param index
+     *            the local index of the parent item
+     * @param cache
+     *            the sub-cache to add
+     */
+    void put(int index, Cache<T> cache) {
+        root = insert(root, new Node<>(index, cache));
+        size++;
+    }
+
+    /**
+     * Removes the sub-cache of the item at the given local index.
+     *
+     * @param index
+     *            the local index of the parent item
+     * @return the removed sub-cache, or {@code null} if there was none
+     */
+    Cache<T> remove(int index) {
+        Cache<T> cache = get(index);
+        if (cache != null) {
+            root = delete(root, index);
+            size--;
+        }
+        return cache;
+    }
+
+    /**
+     * Removes all sub-caches.
+     */
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Calls the given action for each sub-cache in the order of their local
+     * indexes.
+     *
+     * @param action
+     *            the action to call
+     */
+    void forEach(Consumer<Cache<T>> action) {
+        forEach(root, action);
+    }
+
+    /**
+     * Updates the tree after the flat size of a sub-cache has changed.
+     *
+     * @param index
+     *            the local index of the parent item of the sub-cache
+     * @param delta
+     *            the change in the flat size of the sub-cache
+     */
+    void addToFlatSize(int index, int delta) {
+        Node<T> node = root;
+        while (node != null) {
+            node.flatSize += delta;
+            if (index < node.index) {
+                node = node.left;
+            } else if (index > node.index) {
+                node = node.right;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the total flat size of the sub-caches of the items before the given
+     * local index.
+     *
+     * @param index
+     *            the local index
+     * @return the flat size of the preceding sub-caches
+     */
+    int getFlatSizeBefore(int index) {
+        int flatSize = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (index <= node.index) {
+                node = node.left;
+            } else {
+                flatSize += flatSize(node.left) + node.cache.getFlatSize();
+                node = node.right;
+            }
+        }
+        return flatSize;
+    }
+
+    /**
+     * Finds the item or sub-cache at the given flat index within the level,
+     * where the items of the level are each followed by the items of their
+     * sub-cache.
+     *
+     * @param flatIndex
+     *            the flat index within the level, not negative
+     * @return the position of the flat index
+     */
+    Position<T> find(int flatIndex) {
+        // The flat size of the sub-caches before the current subtree
+        int before = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int itemFlatIndex = node.index + before + flatSize(node.left);
+            if (flatIndex <= itemFlatIndex) {
+                node = node.left;
+            } else if (flatIndex <= itemFlatIndex
+                    + node.cache.getFlatSize()) {
+                return new Position<>(node.index, node.cache,
+                        flatIndex - itemFlatIndex - 1);
+            } else {
+                before += flatSize(node.left) + node.cache.getFlatSize();
+                node = node.right;
+            }
+        }
+        return new Position<>(flatIndex - before, null, -1);
+    }
+
+    private static <T> int flatSize(Node<T> node) {
+        return node != null ? node.flatSize : 0;
+    }
+
+    private static int priority(int index) {
+        // A fixed pseudo-random priority keeps the tree balanced on average
+        // also when items are expanded in order
+        int hash = index * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static <T> Node<T> insert(Node<T> node, Node<T> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (newNode.index < node.index) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static <T> Node<T> delete(Node<T> node, int index) {
+        if (index < node.index) {
+            node.left = delete(node.left, index);
+        } else if (index > node.index) {
+            node.right = delete(node.right, index);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        return left;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        return right;
+    }
+
+    private static <T> void forEach(Node<T> node, Consumer<Cache<T>> action) {
+        if (node != null) {
+            forEach(node.left, action);
+            action.accept(node.cache);
+            forEach(node.right, action);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.binder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BeanPropertyAccessorTest {
+
+    static class Bean {
+        private String name;
+        private int age;
+        private StackTraceElement[] getterStackTrace;
+
+        public String getName() {
+            getterStackTrace = new Throwable().getStackTrace();
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public String getFailing() {
+            throw new IllegalStateException("failed");
+        }
+
+        public String getChecked() throws Exception {
+            throw new Exception("failed");
+        }
+
+        public void setChecked(String value) throws Exception {
+            throw new Exception("failed");
+        }
+    }
+
+    @Test
+    void get_generatedAccessor_methodCalledWithoutReflection()
+            throws Exception {
+        Bean bean = new Bean();
+        bean.name = "foo";
+        BeanPropertyAccessor accessor = BeanPropertyAccessor
+                .getter(Bean.class.getMethod("getName"));
+
+        assertEquals("foo", accessor.get(bean));
+        assertFalse(Arrays.stream(bean.getterStackTrace)
+                .anyMatch(element -> element.getClassName()
+                        .startsWith("java.lang.reflect.")
+                        || element.getClassName()
+                                .startsWith("jdk.internal.reflect.")));
+    }
+
+    @Test
+    void getAndSet_primitiveProperty_valueBoxed() throws Exception {
+        Bean bean = new Bean();
+        BeanPropertyAccessor getter = BeanPropertyAccessor
+                .getter(Bean.class.getMethod("getAge"));
+        BeanPropertyAccessor setter = BeanPropertyAccessor
+                .setter(Bean.class.getMethod("setAge", int.class));
+
+        setter.set(bean, 42);
+
+        assertEquals(42, bean.age);
+        assertEquals(42, getter.get(bean));
+    }
+
+    @Test
+    void set_nullToPrimitiveProperty_failsLikeReflection() throws Exception {
+        BeanPropertyAccessor setter = BeanPropertyAccessor
+                .setter(Bean.class.getMethod("setAge", int.class));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> setter.set(new Bean(), null));
+    }
+
+    @Test
+    void set_incompatibleValue_failsLikeReflection() throws Exception {
+        BeanPropertyAccessor setter = BeanPropertyAccessor
+                .setter(Bean.class.getMethod("setName", String.class));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> setter.set(new Bean(), 42));
+    }
+
+    @Test
+    void get_getterThrows_exceptionWrappedLikeReflection() throws Exception {
+        BeanPropertyAccessor getter = BeanPropertyAccessor
+                .getter(Bean.class.getMethod("getFailing"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> getter.get(new Bean()));
+        InvocationTargetException cause = assertInstanceOf(
+                InvocationTargetException.class, exception.getCause());
+        assertInstanceOf(IllegalStateException.class,
+                cause.getTargetException());
+    }
+
+    @Test
+    void getAndSet_checkedException_wrappedLikeReflection()
+            throws Exception {
+        BeanPropertyAccessor getter = BeanPropertyAccessor
+                .getter(Bean.class.getMethod("getChecked"));
+        BeanPropertyAccessor setter = BeanPropertyAccessor
+                .setter(Bean.class.getMethod("setChecked", String.class));
+
+        for (Executable call : List.<Executable> of(
+                () -> getter.get(new Bean()),
+                () -> setter.set(new Bean(), "foo"))) {
+            RuntimeException exception = assertThrows(RuntimeException.class,
+                    call);
+            InvocationTargetException cause = assertInstanceOf(
+                    InvocationTargetException.class, exception.getCause());
+            assertEquals(Exception.class,
+                    cause.getTargetException().getClass());
+        }
+    }
+
+    @Test
+    void get_nestedPropertyDefinition_valueReturned() {
+        var definition = BeanPropertySet
+                .get(com.vaadin.flow.tests.data.bean.Person.class, true,
+                        PropertyFilterDefinition.getDefaultFilter())
+                .getProperty("address.postalCode").orElseThrow();
+        var person = new com.vaadin.flow.tests.data.bean.Person();
+        person.setAddress(new com.vaadin.flow.tests.data.bean.Address());
+        person.getAddress().setPostalCode(12345);
+
+        assertSame(person.getAddress().getPostalCode(),
+                definition.getGetter().apply(person));
+    }
+}
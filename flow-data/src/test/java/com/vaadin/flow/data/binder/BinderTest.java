@@ -1473,6 +1473,108 @@ class BinderTest extends BinderTestBase<Binder<Person>, Person> {
         assertTrue(binder.isValid());
     }
 
+    @Test
+    void beanValidatorWithDependencies_unrelatedFieldChanged_validatorNotRun() {
+        binder.forField(nameField).bind(Person::getFirstName,
+                Person::setFirstName);
+        Binding<Person, Integer> ageBinding = binder.forField(ageField)
+                .withConverter(new StringToIntegerConverter(""))
+                .bind(Person::getAge, Person::setAge);
+        AtomicInteger validatorRuns = new AtomicInteger();
+        binder.withValidator((person, context) -> {
+            validatorRuns.incrementAndGet();
+            return person.getAge() >= 0 ? ValidationResult.ok()
+                    : ValidationResult.error("negative age");
+        }, ageBinding);
+        binder.setBean(item);
+
+        nameField.setValue("foo");
+        assertEquals(1, validatorRuns.get());
+
+        nameField.setValue("bar");
+        assertEquals(1, validatorRuns.get());
+        assertEquals("bar", item.getFirstName());
+
+        ageField.setValue("10");
+        assertEquals(2, validatorRuns.get());
+
+        nameField.setValue("baz");
+        assertEquals(2, validatorRuns.get());
+
+        assertTrue(binder.validate().isOk());
+        assertEquals(3, validatorRuns.get());
+    }
+
+    @Test
+    void beanValidatorWithDependencies_failedValidation_errorKeptAndRevalidated() {
+        binder.forField(nameField).bind(Person::getFirstName,
+                Person::setFirstName);
+        Binding<Person, Integer> ageBinding = binder.forField(ageField)
+                .withConverter(new StringToIntegerConverter(""))
+                .bind(Person::getAge, Person::setAge);
+        AtomicInteger validatorRuns = new AtomicInteger();
+        binder.withValidator((person, context) -> {
+            validatorRuns.incrementAndGet();
+            return person.getAge() >= 0 ? ValidationResult.ok()
+                    : ValidationResult.error("negative age");
+        }, ageBinding);
+        AtomicReference<BinderValidationStatus<Person>> status = new AtomicReference<>();
+        binder.setValidationStatusHandler(status::set);
+        binder.setBean(item);
+
+        ageField.setValue("-1");
+        assertEquals(1, status.get().getBeanValidationErrors().size());
+        assertEquals(32, item.getAge());
+
+        // The failed age binding is still pending, so the validator runs again
+        nameField.setValue("foo");
+        assertEquals(2, validatorRuns.get());
+        assertEquals(1, status.get().getBeanValidationErrors().size());
+        assertEquals("Johannes", item.getFirstName());
+
+        ageField.setValue("1");
+        assertTrue(status.get().getBeanValidationErrors().isEmpty());
+        assertEquals(1, item.getAge());
+        assertEquals("foo", item.getFirstName());
+
+        binder.setBean(new Person());
+        nameField.setValue("bar");
+        assertEquals(4, validatorRuns.get());
+    }
+
+    @Test
+    void beanValidatorWithDependencies_otherBeanWritten_boundBeanResultKept() {
+        binder.forField(nameField).bind(Person::getFirstName,
+                Person::setFirstName);
+        Binding<Person, Integer> ageBinding = binder.forField(ageField)
+                .withConverter(new StringToIntegerConverter(""))
+                .bind(Person::getAge, Person::setAge);
+        AtomicInteger validatorRuns = new AtomicInteger();
+        binder.withValidator((person, context) -> {
+            validatorRuns.incrementAndGet();
+            return "invalid".equals(person.getLastName())
+                    ? ValidationResult.error("invalid last name")
+                    : ValidationResult.ok();
+        }, ageBinding);
+        AtomicReference<BinderValidationStatus<Person>> status = new AtomicReference<>();
+        binder.setValidationStatusHandler(status::set);
+        binder.setBean(item);
+
+        nameField.setValue("foo");
+        assertEquals(1, validatorRuns.get());
+
+        Person other = new Person();
+        other.setLastName("invalid");
+        assertFalse(binder.writeBeanIfValid(other));
+        assertEquals(2, validatorRuns.get());
+
+        // The result for the other bean must not be reused for the bound bean
+        nameField.setValue("bar");
+        assertEquals(2, validatorRuns.get());
+        assertTrue(status.get().getBeanValidationErrors().isEmpty());
+        assertEquals("bar", item.getFirstName());
+    }
+
     @Test
     void getFields_returnsFields() {
         assertEquals(0, binder.getFields().count());
@@ -105,6 +105,64 @@ class CompositeDataGeneratorTest {
         assertThat(mock3.getProcessed(), CoreMatchers.hasItem("item1"));
     }
 
+    @Test
+    void generateDataForItems_innerGeneratorsAreInvokedOnceForAllItems() {
+        CompositeDataGenerator<String> composite = new CompositeDataGenerator<>();
+
+        List<List<String>> batches = new ArrayList<>();
+        MockDataGenerator mock1 = new MockDataGenerator("mock1", "value1");
+        DataGenerator<String> batchGenerator = new DataGenerator<>() {
+            @Override
+            public void generateData(String item, ObjectNode jsonObject) {
+                throw new AssertionError("Items should be processed in batch");
+            }
+
+            @Override
+            public void generateData(List<String> items,
+                    List<ObjectNode> jsonObjects) {
+                batches.add(items);
+                for (int i = 0; i < items.size(); i++) {
+                    jsonObjects.get(i).put("batch", items.get(i));
+                }
+            }
+        };
+
+        composite.addDataGenerator(mock1);
+        composite.addDataGenerator(batchGenerator);
+
+        List<ObjectNode> jsonObjects = List.of(JacksonUtils.createObjectNode(),
+                JacksonUtils.createObjectNode());
+        composite.generateData(List.of("item1", "item2"), jsonObjects);
+
+        assertEquals(List.of(List.of("item1", "item2")), batches);
+        assertEquals(List.of("item1", "item2"), mock1.getProcessed());
+        assertEquals("value1", jsonObjects.get(1).get("mock1").asString());
+        assertEquals("item1", jsonObjects.get(0).get("batch").asString());
+        assertEquals("item2", jsonObjects.get(1).get("batch").asString());
+    }
+
+    @Test
+    void generateDataForItems_singleItemMethodOverridden_overrideInvokedForEachItem() {
+        List<String> overridden = new ArrayList<>();
+        CompositeDataGenerator<String> composite = new CompositeDataGenerator<>() {
+            @Override
+            public void generateData(String item, ObjectNode jsonObject) {
+                overridden.add(item);
+                super.generateData(item, jsonObject);
+            }
+        };
+        MockDataGenerator mock1 = new MockDataGenerator("mock1", "value1");
+        composite.addDataGenerator(mock1);
+
+        List<ObjectNode> jsonObjects = List.of(JacksonUtils.createObjectNode(),
+                JacksonUtils.createObjectNode());
+        composite.generateData(List.of("item1", "item2"), jsonObjects);
+
+        assertEquals(List.of("item1", "item2"), overridden);
+        assertEquals(List.of("item1", "item2"), mock1.getProcessed());
+        assertEquals("value1", jsonObjects.get(1).get("mock1").asString());
+    }
+
     @Test
     void refreshData_innerGeneratorsAreInvoked() {
         CompositeDataGenerator<String> composite = new CompositeDataGenerator<>();
@@ -15,8 +15,11 @@
  */
 package com.vaadin.flow.data.provider;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -39,6 +42,7 @@ import tools.jackson.databind.node.ObjectNode;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEventListener;
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.PushConfiguration;
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.dom.Element;
@@ -46,11 +50,13 @@ import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.function.SerializablePredicate;
 import com.vaadin.flow.internal.Range;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.RouteRegistry;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinServletService;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.communication.PushMode;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -120,6 +126,8 @@ public class DataCommunicatorTest {
 
     private boolean dataProviderWithParallelStream;
 
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
     @BeforeEach
     void init() {
         MockitoAnnotations.initMocks(this);
@@ -276,6 +284,39 @@ public class DataCommunicatorTest {
         assertEquals(Range.withLength(0, 6), lastSet);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void setViewportRange_dataGeneratedForAllItemsInOneBatch(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        var compositeDataGenerator = new CompositeDataGenerator<Item>();
+        dataCommunicator = new DataCommunicator<>(compositeDataGenerator,
+                arrayUpdater, data -> {
+                }, element.getNode());
+        dataCommunicator.setDataProvider(createDataProvider(), null);
+        dataCommunicator.setViewportRange(0, 6);
+
+        List<List<Item>> batches = new ArrayList<>();
+        compositeDataGenerator.addDataGenerator(new DataGenerator<Item>() {
+            @Override
+            public void generateData(Item item, ObjectNode json) {
+                fail("Items should be generated in a batch");
+            }
+
+            @Override
+            public void generateData(List<Item> items,
+                    List<ObjectNode> jsonObjects) {
+                batches.add(new ArrayList<>(items));
+            }
+        });
+
+        fakeClientCommunication();
+
+        assertEquals(1, batches.size());
+        assertEquals(IntStream.range(0, 6).mapToObj(Item::new).toList(),
+                batches.get(0));
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = { true, false })
     void refreshViewport_dataProviderNotQueried(
@@ -579,6 +620,177 @@ public class DataCommunicatorTest {
                 "SizeCallback called when should not have");
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void itemCountCacheDuration_filterUsedBefore_countNotFetchedAgain(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        SerializableConsumer<Object> filterSlot = dataCommunicator
+                .setDataProvider(createDataProvider(), "foo");
+        AtomicInteger countCalls = new AtomicInteger();
+        dataCommunicator.setCountCallback(query -> {
+            countCalls.incrementAndGet();
+            return query.getFilter().orElse("").equals("foo") ? 100 : 60;
+        });
+        dataCommunicator.setItemCountCacheDuration(Duration.ofMinutes(1));
+        dataCommunicator.setViewportRange(0, 50);
+        fakeClientCommunication();
+        assertEquals(1, countCalls.get());
+
+        filterSlot.accept("bar");
+        fakeClientCommunication();
+        assertEquals(2, countCalls.get());
+        assertEquals(60, dataCommunicator.getItemCount());
+
+        filterSlot.accept("foo");
+        fakeClientCommunication();
+        assertEquals(2, countCalls.get());
+        assertEquals(100, dataCommunicator.getItemCount());
+
+        dataCommunicator.getDataProvider().refreshAll();
+        fakeClientCommunication();
+        assertEquals(3, countCalls.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void itemCountCacheDuration_notSet_countFetchedAfterEachReset(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        dataCommunicator.setDataProvider(createDataProvider(), null);
+        AtomicInteger countCalls = new AtomicInteger();
+        dataCommunicator.setCountCallback(query -> {
+            countCalls.incrementAndGet();
+            return 100;
+        });
+        dataCommunicator.setViewportRange(0, 50);
+        fakeClientCommunication();
+
+        dataCommunicator.reset();
+        fakeClientCommunication();
+
+        assertEquals(2, countCalls.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void asyncItemCount_countCompletesAfterFlush_countSentInNextFlush(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        enableQueuedPushUpdates();
+        dataCommunicator.setAsyncItemCount(true);
+        dataCommunicator.setDataProvider(createDataProvider(), null);
+        AtomicInteger countCalls = new AtomicInteger();
+        dataCommunicator.setCountCallback(query -> {
+            countCalls.incrementAndGet();
+            return 100;
+        });
+        dataCommunicator.setViewportRange(0, 50);
+
+        fakeClientCommunication();
+        assertEquals(0, countCalls.get(),
+                "Count should not be fetched during the flush");
+
+        runPendingTasks();
+        assertEquals(1, countCalls.get());
+        fakeClientCommunication();
+        runPendingTasks();
+
+        assertEquals(100, dataCommunicator.getItemCount());
+        assertEquals(1, countCalls.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void asyncItemCount_countPending_countEstimatedUntilCompleted(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        ui = new QueuedAccessUI(pendingTasks);
+        final TestComponent component = new TestComponent();
+        ui.add(component);
+        dataCommunicator = new DataCommunicator<>(dataGenerator, arrayUpdater,
+                data -> {
+                }, component.getElement().getNode());
+        dataCommunicator.enablePushUpdates(pendingTasks::add);
+        dataCommunicator.setAsyncItemCount(true);
+        List<ItemCountChangeEvent<?>> events = new ArrayList<>();
+        ComponentUtil.addListener(component, ItemCountChangeEvent.class,
+                ((ComponentEventListener) event -> events
+                        .add((ItemCountChangeEvent<?>) event)));
+        dataCommunicator.setDataProvider(createDataProvider(500), null);
+        dataCommunicator.setViewportRange(0, 50);
+
+        fakeClientCommunication();
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).isItemCountEstimated());
+        int estimate = events.get(0).getItemCount();
+        assertTrue(estimate >= 50 + dataCommunicator.getPageSize());
+
+        runPendingTasks();
+        fakeClientCommunication();
+        runPendingTasks();
+
+        assertEquals(500, dataCommunicator.getItemCount());
+        ItemCountChangeEvent<?> last = events.get(events.size() - 1);
+        assertEquals(500, last.getItemCount());
+        assertFalse(last.isItemCountEstimated());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void asyncItemCount_filterChangedBeforeCountCompletes_staleCountDiscarded(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        enableQueuedPushUpdates();
+        dataCommunicator.setAsyncItemCount(true);
+        SerializableConsumer<Object> filterSlot = dataCommunicator
+                .setDataProvider(createDataProvider(), "foo");
+        AtomicInteger countCalls = new AtomicInteger();
+        dataCommunicator.setCountCallback(query -> {
+            countCalls.incrementAndGet();
+            return query.getFilter().orElse("").equals("foo") ? 100 : 60;
+        });
+        dataCommunicator.setViewportRange(0, 50);
+        fakeClientCommunication();
+
+        filterSlot.accept("bar");
+        fakeClientCommunication();
+        // The count for "foo" completes first, but is no longer relevant
+        runPendingTasks();
+        fakeClientCommunication();
+        runPendingTasks();
+
+        assertEquals(2, countCalls.get());
+        assertEquals(60, dataCommunicator.getItemCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void asyncItemCount_countFails_countFetchedWhileServingRequest(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        enableQueuedPushUpdates();
+        dataCommunicator.setAsyncItemCount(true);
+        dataCommunicator.setDataProvider(createDataProvider(), null);
+        AtomicInteger countCalls = new AtomicInteger();
+        dataCommunicator.setCountCallback(query -> {
+            if (countCalls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Backend not available");
+            }
+            return 100;
+        });
+        dataCommunicator.setViewportRange(0, 50);
+
+        fakeClientCommunication();
+        runPendingTasks();
+        fakeClientCommunication();
+        runPendingTasks();
+
+        assertEquals(2, countCalls.get());
+        assertEquals(100, dataCommunicator.getItemCount());
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = { true, false })
     void setSizeCallback_null_throws(boolean dataProviderWithParallelStream) {
@@ -1433,6 +1645,121 @@ public class DataCommunicatorTest {
                 .fetch(Mockito.any(Query.class));
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void setPrefetchPages_nextPageServedWithoutQuery(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        enableQueuedPushUpdates();
+        List<Query<Item, Object>> queries = new ArrayList<>();
+        dataCommunicator.setPrefetchPages(1);
+        dataCommunicator.setDataProvider(createRecordingDataProvider(queries),
+                null);
+        dataCommunicator.setViewportRange(0, pageSize);
+        fakeClientCommunication();
+        runPendingTasks();
+        assertEquals(List.of(0, pageSize), getOffsets(queries),
+                "The next page should be loaded ahead of time");
+
+        dataCommunicator.setViewportRange(pageSize, pageSize);
+        fakeClientCommunication();
+        runPendingTasks();
+
+        assertEquals(Range.withLength(pageSize, pageSize), lastSet);
+        assertEquals(1, getOffsets(queries).stream()
+                .filter(offset -> offset == pageSize).count());
+        assertEquals(1, dataCommunicator.getPrefetchHitCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void setPrefetchPages_filterChanged_prefetchedPageNotUsed(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        enableQueuedPushUpdates();
+        List<Query<Item, Object>> queries = new ArrayList<>();
+        dataCommunicator.setPrefetchPages(1);
+        SerializableConsumer<Object> filterSlot = dataCommunicator
+                .setDataProvider(createRecordingDataProvider(queries), "foo");
+        dataCommunicator.setViewportRange(0, pageSize);
+        fakeClientCommunication();
+        runPendingTasks();
+
+        filterSlot.accept("bar");
+        dataCommunicator.setViewportRange(pageSize, pageSize);
+        fakeClientCommunication();
+        runPendingTasks();
+
+        Query<Item, Object> query = getLastQuery(queries, pageSize);
+        assertEquals("bar", query.getFilter().orElse(null));
+        assertEquals(0, dataCommunicator.getPrefetchHitCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void setPrefetchPages_sortingChanged_prefetchedPageNotUsed(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        enableQueuedPushUpdates();
+        List<Query<Item, Object>> queries = new ArrayList<>();
+        dataCommunicator.setPrefetchPages(1);
+        dataCommunicator.setDataProvider(createRecordingDataProvider(queries),
+                null);
+        dataCommunicator.setViewportRange(0, pageSize);
+        fakeClientCommunication();
+        runPendingTasks();
+
+        List<QuerySortOrder> sortOrder = QuerySortOrder.desc("id").build();
+        dataCommunicator.setBackEndSorting(sortOrder);
+        dataCommunicator.setViewportRange(pageSize, pageSize);
+        fakeClientCommunication();
+        runPendingTasks();
+
+        Query<Item, Object> query = getLastQuery(queries, pageSize);
+        assertEquals(sortOrder, query.getSortOrders());
+        assertEquals(0, dataCommunicator.getPrefetchHitCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void boundedKeyMapper_leastRecentlyUsedKeysRemoved_keysRecreatedWhenScrolledBack(
+            boolean dataProviderWithParallelStream) {
+        this.dataProviderWithParallelStream = dataProviderWithParallelStream;
+        IntKeyMapper<Item> keyMapper = new IntKeyMapper<>();
+        keyMapper.setMaximumSize(60);
+        dataCommunicator.setKeyMapper(keyMapper);
+        dataCommunicator.setDataProvider(createDataProvider(), null);
+        dataCommunicator.setViewportRange(0, 50);
+        fakeClientCommunication();
+
+        dataCommunicator.setViewportRange(50, 50);
+        fakeClientCommunication();
+        int scrolledDownUpdate = lastUpdateId;
+
+        assertEquals(60, keyMapper.size());
+        for (int i = 0; i < 40; i++) {
+            assertFalse(keyMapper.has(new Item(i)),
+                    "Least recently used item " + i + " should be removed");
+            Mockito.verify(dataGenerator).destroyData(new Item(i));
+        }
+        for (int i = 40; i < 100; i++) {
+            assertTrue(keyMapper.has(new Item(i)));
+        }
+
+        dataCommunicator.setViewportRange(0, 50);
+        fakeClientCommunication();
+        // Confirming the update that passivated the items must not remove
+        // the keys of the items that are active again
+        dataCommunicator.confirmUpdate(scrolledDownUpdate);
+
+        for (int i = 0; i < 50; i++) {
+            Item item = new Item(i);
+            assertTrue(keyMapper.has(item));
+            assertEquals(item, keyMapper.get(keyMapper.key(item)));
+            assertEquals(item, dataCommunicator.getItem(i));
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = { true, false })
     void fetchFromProvider_limitEqualsPageSize_singleQuery(
@@ -2032,6 +2359,59 @@ public class DataCommunicatorTest {
         });
     }
 
+    /*
+     * Moves the component to a UI that queues access tasks, and enables push
+     * updates with an executor that queues background tasks, so that the
+     * tasks can be run in a controlled order with runPendingTasks().
+     */
+    private void enableQueuedPushUpdates() {
+        ui = new QueuedAccessUI(pendingTasks);
+        element.removeFromParent();
+        element.getNode().removeFromTree();
+        ui.getElement().appendChild(element);
+        dataCommunicator.enablePushUpdates(pendingTasks::add);
+    }
+
+    private void runPendingTasks() {
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+    }
+
+    private static List<Integer> getOffsets(
+            List<Query<Item, Object>> queries) {
+        return queries.stream().map(Query::getOffset).toList();
+    }
+
+    private static Query<Item, Object> getLastQuery(
+            List<Query<Item, Object>> queries, int offset) {
+        return queries.stream().filter(query -> query.getOffset() == offset)
+                .reduce((first, second) -> second).orElseThrow();
+    }
+
+    private AbstractDataProvider<Item, Object> createRecordingDataProvider(
+            List<Query<Item, Object>> queries) {
+        return new AbstractDataProvider<Item, Object>() {
+            @Override
+            public boolean isInMemory() {
+                return true;
+            }
+
+            @Override
+            public int size(Query<Item, Object> query) {
+                return 200;
+            }
+
+            @Override
+            public Stream<Item> fetch(Query<Item, Object> query) {
+                queries.add(query);
+                return asParallelIfRequired(IntStream.range(query.getOffset(),
+                        query.getLimit() + query.getOffset()))
+                        .mapToObj(Item::new);
+            }
+        };
+    }
+
     private AbstractDataProvider<Item, Object> createDataProviderThatChangesSize(
             final int size, final int delta) {
         return new AbstractDataProvider<Item, Object>() {
@@ -2149,6 +2529,31 @@ public class DataCommunicatorTest {
         }
     }
 
+    private static class QueuedAccessUI extends MockUI {
+
+        private final List<Runnable> tasks;
+
+        private final PushConfiguration pushConfiguration = Mockito
+                .mock(PushConfiguration.class);
+
+        QueuedAccessUI(List<Runnable> tasks) {
+            this.tasks = tasks;
+            Mockito.when(pushConfiguration.getPushMode())
+                    .thenReturn(PushMode.AUTOMATIC);
+        }
+
+        @Override
+        public PushConfiguration getPushConfiguration() {
+            return pushConfiguration;
+        }
+
+        @Override
+        public Future<Void> access(Command command) {
+            tasks.add(command::execute);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
     public static class MockService extends VaadinServletService {
 
         @Override
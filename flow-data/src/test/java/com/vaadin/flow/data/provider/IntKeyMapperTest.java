@@ -0,0 +1,205 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static com.vaadin.flow.tests.server.ClassesSerializableUtils.serializeAndDeserialize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntKeyMapperTest {
+
+    private final IntKeyMapper<String> mapper = new IntKeyMapper<>();
+
+    @Test
+    void key_sameObject_sameKey() {
+        String key = mapper.key("foo");
+
+        assertEquals(key, mapper.key("foo"));
+        assertNotEquals(key, mapper.key("bar"));
+        assertEquals("foo", mapper.get(key));
+        assertTrue(mapper.has("foo"));
+        assertTrue(mapper.containsKey(key));
+        assertEquals(2, mapper.size());
+    }
+
+    @Test
+    void get_unknownOrInvalidKey_null() {
+        mapper.key("foo");
+
+        assertNull(mapper.get("42"));
+        assertNull(mapper.get("foo"));
+        assertNull(mapper.get(null));
+        assertFalse(mapper.containsKey("-1"));
+    }
+
+    @Test
+    void remove_keyNotReused() {
+        String key = mapper.key("foo");
+
+        mapper.remove("foo");
+
+        assertFalse(mapper.has("foo"));
+        assertNull(mapper.get(key));
+        assertEquals(0, mapper.size());
+        assertNotEquals(key, mapper.key("foo"));
+    }
+
+    @Test
+    void keysBeyondIntegerRange_keysFoundAndNotReused() throws Exception {
+        String first = mapper.key("foo");
+        Field lastKey = IntKeyMapper.class.getDeclaredField("lastKey");
+        lastKey.setAccessible(true);
+        lastKey.set(mapper, (long) Integer.MAX_VALUE);
+
+        String key = mapper.key("bar");
+
+        assertEquals(String.valueOf(Integer.MAX_VALUE + 1L), key);
+        assertNotEquals(first, key);
+        assertEquals("bar", mapper.get(key));
+        assertEquals("foo", mapper.get(first));
+    }
+
+    @Test
+    void refresh_sameIdentifier_newInstanceReturned() {
+        IntKeyMapper<StrBean> beanMapper = new IntKeyMapper<>(
+                StrBean::getId);
+        String key = beanMapper.key(new StrBean("foo", 1, 1));
+        StrBean updated = new StrBean("bar", 1, 1);
+
+        beanMapper.refresh(updated);
+
+        assertSame(updated, beanMapper.get(key));
+        assertEquals(key, beanMapper.key(new StrBean("baz", 1, 1)));
+    }
+
+    @Test
+    void setIdentifierGetter_existingKeysKept() {
+        String key = mapper.key("foo");
+
+        mapper.setIdentifierGetter(String::length);
+
+        assertEquals(key, mapper.key("bar"));
+        assertEquals("foo", mapper.get(key));
+    }
+
+    @Test
+    void manyAddsAndRemoves_consistentWithMap() {
+        Map<String, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            String item = "item" + random.nextInt(2000);
+            if (random.nextInt(3) == 0) {
+                mapper.remove(item);
+                expected.remove(item);
+            } else {
+                String key = mapper.key(item);
+                String previous = expected.put(item, key);
+                if (previous != null) {
+                    assertEquals(previous, key);
+                }
+            }
+        }
+
+        assertEquals(expected.size(), mapper.size());
+        expected.forEach((item, key) -> assertEquals(item, mapper.get(key)));
+    }
+
+    @Test
+    void removeLeastRecentlyUsed_overMaximumSize_oldestRemoved() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            keys.add(mapper.key("item" + i));
+        }
+        mapper.setMaximumSize(5);
+        // Use the first item again
+        mapper.key("item0");
+
+        List<String> removed = mapper
+                .removeLeastRecentlyUsed(List.of(keys.get(1)));
+
+        assertEquals(List.of("item2", "item3", "item4", "item5", "item6"),
+                removed);
+        assertEquals(5, mapper.size());
+        assertTrue(mapper.has("item0"));
+        assertTrue(mapper.has("item1"));
+    }
+
+    @Test
+    void removeLeastRecentlyUsed_allRetained_nothingRemoved() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            keys.add(mapper.key("item" + i));
+        }
+        mapper.setMaximumSize(1);
+
+        assertTrue(mapper.removeLeastRecentlyUsed(keys).isEmpty());
+        assertEquals(3, mapper.size());
+    }
+
+    @Test
+    void removeLeastRecentlyUsed_unbounded_nothingRemoved() {
+        for (int i = 0; i < 3; i++) {
+            mapper.key("item" + i);
+        }
+
+        assertTrue(mapper.removeLeastRecentlyUsed(List.of()).isEmpty());
+        assertEquals(3, mapper.size());
+    }
+
+    @Test
+    void serializeAndDeserialize_identityHashedItems_foundByNewHashes()
+            throws IOException, ClassNotFoundException {
+        IntKeyMapper<Item> itemMapper = new IntKeyMapper<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(itemMapper.key(new Item()));
+        }
+
+        IntKeyMapper<Item> deserialized = serializeAndDeserialize(itemMapper);
+
+        assertEquals(100, deserialized.size());
+        for (String key : keys) {
+            Item item = deserialized.get(key);
+            assertTrue(deserialized.has(item));
+            assertEquals(key, deserialized.key(item));
+        }
+        assertEquals(100, deserialized.size());
+
+        Item removed = deserialized.get(keys.get(0));
+        deserialized.remove(removed);
+        assertFalse(deserialized.has(removed));
+        assertEquals(99, deserialized.size());
+    }
+
+    // Uses the identity hash code, which differs after deserialization
+    private static class Item implements Serializable {
+    }
+}
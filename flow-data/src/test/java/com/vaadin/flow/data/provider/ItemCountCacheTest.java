@@ -0,0 +1,74 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ItemCountCacheTest {
+
+    private final AtomicLong time = new AtomicLong();
+
+    private final ItemCountCache cache = new ItemCountCache(100, time::get);
+
+    @Test
+    void get_storedCount_returnedUntilExpired() {
+        cache.put("foo", 42);
+        cache.put(null, 7);
+
+        time.set(99);
+        assertEquals(42, cache.get("foo"));
+        assertEquals(7, cache.get(null));
+
+        time.set(100);
+        assertNull(cache.get("foo"));
+        assertNull(cache.get(null));
+    }
+
+    @Test
+    void get_unknownFilter_null() {
+        cache.put("foo", 42);
+
+        assertNull(cache.get("bar"));
+    }
+
+    @Test
+    void put_manyFilters_leastRecentlyUsedRemoved() {
+        for (int i = 0; i < 16; i++) {
+            cache.put(i, i);
+        }
+        cache.get(0);
+
+        cache.put(16, 16);
+
+        assertEquals(0, cache.get(0));
+        assertNull(cache.get(1));
+        assertEquals(16, cache.get(16));
+    }
+
+    @Test
+    void clear_allCountsRemoved() {
+        cache.put("foo", 42);
+
+        cache.clear();
+
+        assertNull(cache.get("foo"));
+    }
+}
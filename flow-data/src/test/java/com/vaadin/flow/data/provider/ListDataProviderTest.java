@@ -15,23 +15,41 @@
  */
 package com.vaadin.flow.data.provider;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import com.vaadin.flow.function.SerializableComparator;
+import com.vaadin.flow.function.SerializablePredicate;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class ListDataProviderTest
         extends DataProviderTestBase<ListDataProvider<StrBean>> {
 
+    private final ForkJoinPool parallelPool = new ForkJoinPool(2);
+
+    @AfterEach
+    void shutDownParallelPool() {
+        parallelPool.shutdownNow();
+    }
+
     @Override
     protected ListDataProvider<StrBean> createDataProvider() {
         return DataProvider.ofCollection(data);
@@ -239,6 +257,262 @@ class ListDataProviderTest
         getDataProvider().setSortComparator(serializableComp);
     }
 
+    @Test
+    void fetchAndSize_sameQuery_filterEvaluatedOnce() {
+        AtomicInteger evaluations = new AtomicInteger();
+        SerializablePredicate<StrBean> filter = bean -> {
+            evaluations.incrementAndGet();
+            return bean.getValue().equals("Foo");
+        };
+        ListDataProvider<StrBean> provider = getDataProvider();
+        provider.setQueryCacheEnabled(true);
+
+        List<StrBean> firstPage = provider
+                .fetch(new Query<>(0, 10, null, null, filter)).toList();
+        List<StrBean> secondPage = provider
+                .fetch(new Query<>(10, 10, null, null, filter)).toList();
+        int size = provider.size(new Query<>(filter));
+
+        assertEquals(data.size(), evaluations.get());
+        assertEquals(10, firstPage.size());
+        assertEquals(Math.min(10, size - 10), secondPage.size());
+        assertEquals(data.stream().filter(filter).skip(10).limit(10).toList(),
+                secondPage);
+    }
+
+    @Test
+    void fetch_queryCacheDisabled_onlyItemsUpToPageFiltered() {
+        AtomicInteger evaluations = new AtomicInteger();
+        SerializablePredicate<StrBean> filter = bean -> {
+            evaluations.incrementAndGet();
+            return true;
+        };
+        ListDataProvider<StrBean> provider = new ListDataProvider<>(
+                new LinkedHashSet<>(data));
+
+        List<StrBean> page = provider
+                .fetch(new Query<>(5, 10, null, null, filter)).toList();
+
+        assertEquals(data.subList(5, 15), page);
+        assertEquals(15, evaluations.get());
+    }
+
+    @Test
+    void size_sameQuery_filterEvaluatedOnce() {
+        AtomicInteger evaluations = new AtomicInteger();
+        SerializablePredicate<StrBean> filter = bean -> {
+            evaluations.incrementAndGet();
+            return bean.getValue().equals("Foo");
+        };
+        ListDataProvider<StrBean> provider = getDataProvider();
+        provider.setQueryCacheEnabled(true);
+
+        int size = provider.size(new Query<>(filter));
+        int sizeAgain = provider.size(new Query<>(filter));
+
+        assertEquals(data.size(), evaluations.get());
+        assertEquals(size, sizeAgain);
+        assertEquals(data.stream()
+                .filter(bean -> bean.getValue().equals("Foo")).count(), size);
+    }
+
+    @Test
+    void convertedFilter_sameFilterValue_filterEvaluatedOnce() {
+        AtomicInteger evaluations = new AtomicInteger();
+        getDataProvider().setQueryCacheEnabled(true);
+        DataProvider<StrBean, String> provider = getDataProvider()
+                .withConvertedFilter(value -> bean -> {
+                    evaluations.incrementAndGet();
+                    return bean.getValue().equals(value);
+                });
+
+        List<StrBean> firstPage = provider
+                .fetch(new Query<>(0, 10, null, null, "Foo")).toList();
+        provider.fetch(new Query<>(10, 10, null, null, "Foo")).toList();
+        int size = provider.size(new Query<>("Foo"));
+
+        assertEquals(data.size(), evaluations.get());
+        assertEquals(10, firstPage.size());
+        assertEquals(data.stream()
+                .filter(bean -> bean.getValue().equals("Foo")).count(), size);
+
+        provider.size(new Query<>("Bar"));
+        assertEquals(2 * data.size(), evaluations.get());
+    }
+
+    @Test
+    void configurableFilter_sameFilterValue_filterEvaluatedOnce() {
+        AtomicInteger evaluations = new AtomicInteger();
+        getDataProvider().setQueryCacheEnabled(true);
+        ConfigurableFilterDataProvider<StrBean, Void, String> provider = getDataProvider()
+                .withConfigurableFilter((Void queryFilter,
+                        String value) -> bean -> {
+                    evaluations.incrementAndGet();
+                    return bean.getValue().equals(value);
+                });
+        provider.setFilter("Foo");
+
+        provider.fetch(new Query<>(0, 10, null, null, null)).toList();
+        provider.fetch(new Query<>(10, 10, null, null, null)).toList();
+        assertEquals(data.size(), evaluations.get());
+
+        provider.setFilter("Bar");
+        provider.fetch(new Query<>(0, 10, null, null, null)).toList();
+        assertEquals(2 * data.size(), evaluations.get());
+    }
+
+    @Test
+    void fetch_pagesOfSortedQuery_matchFullFetch() {
+        ListDataProvider<StrBean> provider = getDataProvider();
+        provider.setSortOrder(StrBean::getRandomNumber,
+                SortDirection.DESCENDING);
+        List<StrBean> all = provider.fetch(new Query<>()).toList();
+
+        List<StrBean> pages = new ArrayList<>();
+        for (int offset = 0; offset < all.size(); offset += 30) {
+            pages.addAll(provider
+                    .fetch(new Query<>(offset, 30, null, null, null))
+                    .toList());
+        }
+
+        assertEquals(all, pages);
+        assertEquals(0, provider
+                .fetch(new Query<>(all.size() + 5, 30, null, null, null))
+                .count());
+    }
+
+    @Test
+    void fetch_itemChangedAndRefreshed_newSortOrderUsed() {
+        List<StrBean> items = new ArrayList<>(
+                List.of(new StrBean("a", 1, 1), new StrBean("b", 2, 2)));
+        ListDataProvider<StrBean> provider = new ListDataProvider<>(items);
+        provider.setSortOrder(StrBean::getValue, SortDirection.ASCENDING);
+        assertEquals("a", provider.fetch(new Query<>()).findFirst()
+                .map(StrBean::getValue).orElse(null));
+
+        items.set(0, new StrBean("c", 1, 1));
+        provider.refreshAll();
+
+        assertEquals("b", provider.fetch(new Query<>()).findFirst()
+                .map(StrBean::getValue).orElse(null));
+    }
+
+    @Test
+    void fetch_itemReplacedWithoutRefresh_newSortOrderUsed() {
+        List<StrBean> items = new ArrayList<>(
+                List.of(new StrBean("a", 1, 1), new StrBean("b", 2, 2)));
+        ListDataProvider<StrBean> provider = new ListDataProvider<>(items);
+        provider.setSortOrder(StrBean::getValue, SortDirection.ASCENDING);
+        assertEquals("a", provider.fetch(new Query<>()).findFirst()
+                .map(StrBean::getValue).orElse(null));
+
+        items.set(0, new StrBean("c", 1, 1));
+
+        assertEquals("b", provider.fetch(new Query<>()).findFirst()
+                .map(StrBean::getValue).orElse(null));
+    }
+
+    @Test
+    void fetch_queryCacheEnabled_itemReplacedVisibleAfterRefresh() {
+        List<StrBean> items = new ArrayList<>(
+                List.of(new StrBean("a", 1, 1), new StrBean("b", 2, 2)));
+        ListDataProvider<StrBean> provider = new ListDataProvider<>(items);
+        provider.setQueryCacheEnabled(true);
+        provider.setSortOrder(StrBean::getValue, SortDirection.ASCENDING);
+        assertEquals("a", provider.fetch(new Query<>()).findFirst()
+                .map(StrBean::getValue).orElse(null));
+
+        items.set(0, new StrBean("c", 1, 1));
+
+        // Changes that keep the size are not visible until refreshed
+        assertEquals("a", provider.fetch(new Query<>()).findFirst()
+                .map(StrBean::getValue).orElse(null));
+
+        provider.refreshAll();
+
+        assertEquals("b", provider.fetch(new Query<>()).findFirst()
+                .map(StrBean::getValue).orElse(null));
+    }
+
+    @Test
+    void size_backingCollectionChangedWithoutRefresh_newSizeReturned() {
+        List<StrBean> items = new ArrayList<>(data);
+        ListDataProvider<StrBean> provider = new ListDataProvider<>(items);
+        provider.setQueryCacheEnabled(true);
+        provider.setFilter(fooFilter);
+        int size = provider.size(new Query<>());
+
+        items.add(new StrBean("Foo", 1000, 1));
+
+        assertEquals(size + 1, provider.size(new Query<>()));
+    }
+
+    @Test
+    void fetch_parallelThreshold_sameResultAsSequential() {
+        List<StrBean> items = StrBean.generateRandomBeans(5000);
+        ListDataProvider<StrBean> sequential = new ListDataProvider<>(items);
+        ListDataProvider<StrBean> parallel = new ListDataProvider<>(items);
+        parallel.setParallelThreshold(1000, parallelPool);
+        for (ListDataProvider<StrBean> provider : List.of(sequential,
+                parallel)) {
+            provider.setFilter(gt5Filter);
+            // Sorting by value only keeps many equal items, which must keep
+            // their original order
+            provider.setSortOrder(StrBean::getValue, SortDirection.ASCENDING);
+        }
+
+        assertEquals(sequential.size(new Query<>()),
+                parallel.size(new Query<>()));
+        assertEquals(sequential.fetch(new Query<>()).toList(),
+                parallel.fetch(new Query<>()).toList());
+    }
+
+    @Test
+    void fetch_parallelThreshold_processedInGivenPool() {
+        List<StrBean> items = StrBean.generateRandomBeans(5000);
+        ListDataProvider<StrBean> provider = new ListDataProvider<>(items);
+        provider.setParallelThreshold(0, parallelPool);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        provider.setFilter(bean -> threads.add(Thread.currentThread())
+                || true);
+
+        provider.fetch(new Query<>()).count();
+
+        assertFalse(threads.isEmpty());
+        for (Thread thread : threads) {
+            assertTrue(thread instanceof ForkJoinWorkerThread worker
+                    && worker.getPool() == parallelPool,
+                    "Filter should only run in the given pool, but ran in "
+                            + thread);
+        }
+    }
+
+    @Test
+    void fetch_parallelThresholdWithoutPool_processedInCallingThread() {
+        ListDataProvider<StrBean> provider = getDataProvider();
+        provider.setParallelThreshold(0, null);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        provider.setFilter(bean -> threads.add(Thread.currentThread())
+                || true);
+
+        provider.fetch(new Query<>()).count();
+
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void fetch_belowParallelThreshold_processedInCallingThread() {
+        ListDataProvider<StrBean> provider = getDataProvider();
+        provider.setParallelThreshold(data.size() + 1, parallelPool);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        provider.setFilter(bean -> threads.add(Thread.currentThread())
+                || true);
+
+        provider.fetch(new Query<>()).count();
+
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
     @Test
     void serializableWithListeners() {
         ListDataProvider<StrBean> provider = getDataProvider();
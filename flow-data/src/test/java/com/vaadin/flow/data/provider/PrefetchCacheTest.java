@@ -0,0 +1,115 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefetchCacheTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final PrefetchCache<Integer> cache = new PrefetchCache<>(3);
+
+    @Test
+    void get_rangeWithinCachedPages_servedFromCache() {
+        load(1, 10);
+        load(2, 10);
+
+        assertEquals(items(15, 10), cache.get(15, 10, PAGE_SIZE));
+        assertEquals(items(10, 10), cache.get(10, 10, PAGE_SIZE));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void get_pageMissing_miss() {
+        load(1, 10);
+
+        assertNull(cache.get(15, 10, PAGE_SIZE));
+        assertNull(cache.get(0, 10, PAGE_SIZE));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void get_partialLastPage_endOfDataServed() {
+        load(1, 10);
+        load(2, 4);
+
+        assertEquals(items(15, 9), cache.get(15, 20, PAGE_SIZE));
+        assertEquals(List.of(), cache.get(25, 10, PAGE_SIZE));
+    }
+
+    @Test
+    void loaded_afterInvalidate_pageDiscarded() {
+        assertTrue(cache.startLoading(1));
+        int generation = cache.getGeneration();
+
+        cache.invalidate();
+        cache.loaded(generation, 1, items(10, 10));
+
+        assertNull(cache.get(10, 10, PAGE_SIZE));
+        assertTrue(cache.startLoading(1));
+    }
+
+    @Test
+    void startLoading_pendingOrCachedPage_notLoadedAgain() {
+        assertTrue(cache.startLoading(1));
+        assertFalse(cache.startLoading(1));
+
+        cache.loaded(cache.getGeneration(), 1, items(10, 10));
+        assertFalse(cache.startLoading(1));
+
+        assertTrue(cache.startLoading(2));
+        cache.loaded(cache.getGeneration(), 2, null);
+        assertTrue(cache.startLoading(2));
+    }
+
+    @Test
+    void loaded_overCapacity_leastRecentlyUsedPageRemoved() {
+        load(0, 10);
+        load(1, 10);
+        load(2, 10);
+        cache.get(0, 10, PAGE_SIZE);
+
+        load(3, 10);
+
+        assertEquals(items(0, 10), cache.get(0, 10, PAGE_SIZE));
+        assertNull(cache.get(10, 10, PAGE_SIZE));
+
+        cache.setCapacity(1);
+        assertNull(cache.get(20, 10, PAGE_SIZE));
+        assertEquals(items(0, 10), cache.get(0, 10, PAGE_SIZE));
+    }
+
+    private void load(int page, int size) {
+        assertTrue(cache.startLoading(page));
+        cache.loaded(cache.getGeneration(), page,
+                items(page * PAGE_SIZE, size));
+    }
+
+    private static List<Integer> items(int start, int count) {
+        return IntStream.range(start, start + count).boxed().toList();
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
@@ -35,7 +36,7 @@ class HierarchicalDataCommunicatorDataGenerationTest
 
     private HierarchicalDataCommunicator<Item> dataCommunicator;
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private DataGenerator<Item> dataGenerator;
 
     @BeforeEach
@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.data.provider.hierarchy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.vaadin.flow.data.provider.CompositeDataGenerator;
+import com.vaadin.flow.function.SerializablePredicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -30,11 +32,13 @@ class HierarchicalDataCommunicatorDataPreloadingTest
         extends AbstractHierarchicalDataCommunicatorTest {
     private HierarchicalDataCommunicator<Item> dataCommunicator;
 
+    private TreeData<Item> treeData;
+
     @BeforeEach
     void init() {
         super.init();
 
-        var treeData = new TreeData<Item>();
+        treeData = new TreeData<Item>();
         populateTreeData(treeData, 20, 2, 2);
 
         dataCommunicator = new HierarchicalDataCommunicator<>(
@@ -106,6 +110,71 @@ class HierarchicalDataCommunicatorDataPreloadingTest
         assertEquals(20, dataCommunicator.rootCache.getFlatSize());
     }
 
+    @Test
+    void preloadFlatRangeForward_manyExpandedItems_childrenFetchedInBatchPerLevel() {
+        List<List<String>> fetchedParents = new ArrayList<>();
+        dataCommunicator.setDataProvider(new TreeDataProvider<>(treeData) {
+            @Override
+            public List<List<Item>> fetchChildren(
+                    List<HierarchicalQuery<Item, SerializablePredicate<Item>>> queries) {
+                fetchedParents.add(queries.stream()
+                        .map(query -> query.getParent().getName()).toList());
+                return super.fetchChildren(queries);
+            }
+        }, null);
+        dataCommunicator.expand(Arrays.asList(new Item("Item 0"),
+                new Item("Item 1"), new Item("Item 2"), new Item("Item 3"),
+                new Item("Item 4"), new Item("Item 0-0"), new Item("Item 1-1"),
+                new Item("Item 15")));
+
+        var items = dataCommunicator.preloadFlatRangeForward(0, 20);
+        assertPreloadedRange(
+                "Item 0, Item 0-0, Item 0-0-0, Item 0-0-1, Item 0-1, Item 1, Item 1-0, Item 1-1, Item 1-1-0, Item 1-1-1, Item 2, Item 2-0, Item 2-1, Item 3, Item 3-0, Item 3-1, Item 4, Item 4-0, Item 4-1, Item 5",
+                items);
+
+        assertEquals(List.of(
+                List.of("Item 0", "Item 1", "Item 2", "Item 3", "Item 4"),
+                List.of("Item 0-0", "Item 1-1")), fetchedParents);
+        assertEquals(34, dataCommunicator.rootCache.getFlatSize());
+    }
+
+    @Test
+    void preloadFlatRangeForward_manyExpandedItems_childrenCountedInBatchPerLevel() {
+        List<List<String>> countedParents = new ArrayList<>();
+        dataCommunicator.setDataProvider(new TreeDataProvider<>(treeData) {
+            @Override
+            public int getChildCount(
+                    HierarchicalQuery<Item, SerializablePredicate<Item>> query) {
+                if (query.getParent() != null) {
+                    countedParents.add(List.of(query.getParent().getName()));
+                }
+                return super.getChildCount(query);
+            }
+
+            @Override
+            public List<Integer> getChildCount(
+                    List<HierarchicalQuery<Item, SerializablePredicate<Item>>> queries) {
+                countedParents.add(queries.stream()
+                        .map(query -> query.getParent().getName()).toList());
+                return queries.stream().map(super::getChildCount).toList();
+            }
+        }, null);
+        dataCommunicator.expand(Arrays.asList(new Item("Item 0"),
+                new Item("Item 1"), new Item("Item 2"), new Item("Item 3"),
+                new Item("Item 4"), new Item("Item 0-0"), new Item("Item 1-1"),
+                new Item("Item 15")));
+
+        dataCommunicator.preloadFlatRangeForward(0, 20);
+
+        // Item 15 is counted before the children of the items above it move
+        // it outside the range, but no sub-cache is created for it
+        assertEquals(List.of(
+                List.of("Item 0", "Item 1", "Item 2", "Item 3", "Item 4",
+                        "Item 15"),
+                List.of("Item 0-0", "Item 1-1")), countedParents);
+        assertEquals(34, dataCommunicator.rootCache.getFlatSize());
+    }
+
     @Test
     void preloadFlatRangeBackward_nearEnd_requestedRangeReturned() {
         dataCommunicator
@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.data.provider.hierarchy;
 
+import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -104,6 +105,36 @@ class HierarchicalDataProviderTest {
         assertEquals(-1, itemIndex);
     }
 
+    @Test
+    void fetchChildrenForManyQueries_childrenReturnedInQueryOrder() {
+        var dataProvider = new TestDataProvider();
+        var rootItem = new TestBean(null, 0, 3);
+        var queries = List.of(
+                new HierarchicalQuery<TestBean, Object>(null, rootItem),
+                new HierarchicalQuery<TestBean, Object>(null, null));
+
+        var children = dataProvider.fetchChildren(queries);
+
+        assertEquals(2, children.size());
+        assertEquals(10, children.get(0).size());
+        assertEquals(new TestBean(rootItem.getId(), 1, 0),
+                children.get(0).get(0));
+        assertEquals(50, children.get(1).size());
+        assertEquals(rootItem, children.get(1).get(3));
+    }
+
+    @Test
+    void getChildCountForManyQueries_countsReturnedInQueryOrder() {
+        var dataProvider = new TestDataProvider();
+        var rootItem = new TestBean(null, 0, 3);
+        var leafItem = new TestBean(null, 2, 0);
+        var queries = List.of(
+                new HierarchicalQuery<TestBean, Object>(null, leafItem),
+                new HierarchicalQuery<TestBean, Object>(null, rootItem));
+
+        assertEquals(List.of(0, 50), dataProvider.getChildCount(queries));
+    }
+
     private static class TestDataProvider
             implements HierarchicalDataProvider<TestBean, Object> {
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider.hierarchy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.data.provider.hierarchy.RootCache.ItemContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RootCacheTest {
+
+    private RootCache<String> rootCache;
+
+    @BeforeEach
+    void setup() {
+        rootCache = new RootCache<>(100, item -> item);
+        rootCache.setItems(0, items("", 100));
+    }
+
+    @Test
+    void noSubCaches_flatIndexesMatchLocalIndexes() {
+        assertEquals(100, rootCache.getFlatSize());
+        assertContext(rootCache, 42, rootCache.getContextByFlatIndex(42));
+        assertEquals(42, rootCache.getFlatIndexByItem("42"));
+        assertNull(rootCache.getContextByFlatIndex(100));
+        assertNull(rootCache.getContextByFlatIndex(-1));
+    }
+
+    @Test
+    void nestedSubCaches_flatIndexesMatchFlattenedHierarchy() {
+        var subCache = expand(rootCache, 1, 3);
+        expand(subCache, 0, 2);
+        expand(rootCache, 5, 4);
+
+        assertEquals(109, rootCache.getFlatSize());
+        assertContext(rootCache, 1, rootCache.getContextByFlatIndex(1));
+        assertContext(subCache, 0, rootCache.getContextByFlatIndex(2));
+        assertContext(subCache.getSubCache(0), 1,
+                rootCache.getContextByFlatIndex(4));
+        assertContext(subCache, 2, rootCache.getContextByFlatIndex(6));
+        assertContext(rootCache, 2, rootCache.getContextByFlatIndex(7));
+        assertEquals(4, rootCache.getFlatIndexByItem("1-0-1"));
+        assertEquals(7, rootCache.getFlatIndexByItem("2"));
+        assertEquals(5, rootCache.getFlatIndexByPath(1, 1));
+    }
+
+    @Test
+    void randomExpandAndCollapse_consistentWithFlattenedHierarchy() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            var context = rootCache.getContextByFlatIndex(
+                    random.nextInt(rootCache.getFlatSize()));
+            var cache = context.cache();
+            int index = context.index();
+            int action = random.nextInt(4);
+            if (action == 0 && cache.hasSubCache(index)) {
+                cache.removeSubCache(index);
+            } else if (action == 1 && cache.hasSubCache(index)) {
+                var subCache = cache.getSubCache(index);
+                subCache.clear();
+                subCache.setSize(random.nextInt(5));
+                subCache.setItems(0, items(cache.getItem(index) + "-",
+                        subCache.getSize()));
+            } else if (!cache.hasSubCache(index)) {
+                expand(cache, index, random.nextInt(6));
+            }
+            if (round % 20 == 0) {
+                assertConsistent();
+            }
+        }
+        assertConsistent();
+    }
+
+    @Test
+    void manyExpandedItems_flatIndexesResolved() {
+        rootCache = new RootCache<>(10000, item -> item);
+        rootCache.setItems(0, items("", 10000));
+        // Expand in reverse order to also cover inserts before existing
+        // sub-caches
+        for (int i = 9999; i >= 0; i--) {
+            expand(rootCache, i, 2);
+        }
+
+        assertEquals(30000, rootCache.getFlatSize());
+        assertEquals(15000, rootCache.getFlatIndexByItem("5000"));
+        assertEquals(29999, rootCache.getFlatIndexByItem("9999-1"));
+        assertContext(rootCache.getSubCache(5000), 0,
+                rootCache.getContextByFlatIndex(15001));
+
+        rootCache.removeSubCache(0);
+        rootCache.getSubCache(1).setSize(1);
+
+        assertEquals(29997, rootCache.getFlatSize());
+        assertEquals(14997, rootCache.getFlatIndexByItem("5000"));
+        assertContext(rootCache, 2, rootCache.getContextByFlatIndex(3));
+    }
+
+    private void assertConsistent() {
+        List<ItemContext<String>> flattened = new ArrayList<>();
+        flatten(rootCache, flattened);
+
+        assertEquals(flattened.size(), rootCache.getFlatSize());
+        for (int i = 0; i < flattened.size(); i++) {
+            var expected = flattened.get(i);
+            assertContext(expected.cache(), expected.index(),
+                    rootCache.getContextByFlatIndex(i));
+            assertEquals(i, rootCache.getFlatIndexByItem(
+                    expected.cache().getItem(expected.index())));
+        }
+        assertNull(rootCache.getContextByFlatIndex(flattened.size()));
+    }
+
+    private static void flatten(Cache<String> cache,
+            List<ItemContext<String>> result) {
+        for (int index = 0; index < cache.getSize(); index++) {
+            result.add(new ItemContext<>(cache, index));
+            var subCache = cache.getSubCache(index);
+            if (subCache != null) {
+                flatten(subCache, result);
+            }
+        }
+    }
+
+    private static Cache<String> expand(Cache<String> cache, int index,
+            int size) {
+        var item = cache.getItem(index);
+        var subCache = cache.ensureSubCache(index, item, () -> size);
+        subCache.setItems(0, items(item + "-", size));
+        return subCache;
+    }
+
+    private static List<String> items(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + i).toList();
+    }
+
+    private static void assertContext(Cache<String> expectedCache,
+            int expectedIndex, ItemContext<String> context) {
+        assertSame(expectedCache, context.cache());
+        assertEquals(expectedIndex, context.index());
+    }
+}
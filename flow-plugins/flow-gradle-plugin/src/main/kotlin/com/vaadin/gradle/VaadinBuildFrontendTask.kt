@@ -278,6 +278,7 @@ public abstract class VaadinBuildFrontendTask : DefaultTask() {
 
             BuildFrontendUtil.updateBuildFile(adapter.get(), licenseRequired, commercialBannerRequired
             )
+            BuildFrontendUtil.writeStartupClassIndex(adapter.get())
 
             // Cache the production token file and delete the original so
             // that IDE runs default to development mode.  Jar/War tasks
@@ -234,6 +234,7 @@ public class BuildFrontendMojo extends FlowModeAbstractMojo
 
         BuildFrontendUtil.updateBuildFile(this, licenseRequired,
                 commercialBannerRequired);
+        BuildFrontendUtil.writeStartupClassIndex(this);
 
         // Schedule the token file for deletion when the JVM exits so
         // that running the application from an IDE after a production
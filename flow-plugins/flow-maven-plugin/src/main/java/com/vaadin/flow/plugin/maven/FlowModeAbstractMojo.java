@@ -57,7 +57,6 @@ import com.vaadin.flow.server.InitParameters;
 import com.vaadin.flow.server.frontend.FrontendTools;
 import com.vaadin.flow.server.frontend.installer.NodeInstaller;
 import com.vaadin.flow.server.frontend.scanner.ClassFinder;
-import com.vaadin.flow.server.scanner.ReflectionsClassFinder;
 
 import static com.vaadin.flow.server.Constants.VAADIN_SERVLET_RESOURCES;
 import static com.vaadin.flow.server.Constants.VAADIN_WEBAPP_RESOURCES;
@@ -526,7 +525,7 @@ public abstract class FlowModeAbstractMojo extends AbstractMojo
         if (classFinder == null) {
             URLClassLoader classLoader = getOrCreateReflector()
                     .getIsolatedClassLoader();
-            classFinder = new ReflectionsClassFinder(classLoader,
+            classFinder = BuildFrontendUtil.getClassFinder(classLoader,
                     classLoader.getURLs());
         }
         return classFinder;
@@ -57,6 +57,7 @@ import com.vaadin.flow.internal.JsonDecodingException;
 import com.vaadin.flow.internal.JsonEncodingException;
 import com.vaadin.flow.internal.ReflectTools;
 import com.vaadin.flow.server.frontend.scanner.ClassFinder;
+import com.vaadin.flow.server.scanner.JandexClassFinder;
 import com.vaadin.flow.server.scanner.ReflectionsClassFinder;
 import com.vaadin.flow.utils.FlowFileUtils;
 
@@ -70,8 +71,8 @@ public final class Reflector implements Closeable {
             "org.apache.maven", "org.codehaus.plexus", "org.slf4j",
             "org.eclipse.sisu");
     // Dependency required by the plugin but not provided by Flow at runtime
-    private static final Set<String> REQUIRED_PLUGIN_DEPENDENCIES = Set
-            .of("io.github.classgraph:classgraph:jar");
+    private static final Set<String> REQUIRED_PLUGIN_DEPENDENCIES = Set.of(
+            "io.github.classgraph:classgraph:jar", "io.smallrye:jandex:jar");
     private static final ScopeArtifactFilter PRODUCTION_SCOPE_FILTER = new ScopeArtifactFilter(
             Artifact.SCOPE_COMPILE_PLUS_RUNTIME);
     private static final Cleaner CLEANER = Cleaner.create();
@@ -281,8 +282,10 @@ public final class Reflector implements Closeable {
 
     private synchronized Object getOrCreateClassFinder() throws Exception {
         if (classFinder == null) {
-            Class<?> classFinderImplClass = loadClass(
-                    ReflectionsClassFinder.class.getName());
+            Class<?> classFinderImplClass = loadClass(Boolean
+                    .getBoolean(JandexClassFinder.DISABLE_JANDEX_CLASS_FINDER)
+                            ? ReflectionsClassFinder.class.getName()
+                            : JandexClassFinder.class.getName());
             URL[] scanURLs = ReflectTools
                     .getGetter(isolatedClassLoader.getClass(), "urlsToScan")
                     .map(m -> {
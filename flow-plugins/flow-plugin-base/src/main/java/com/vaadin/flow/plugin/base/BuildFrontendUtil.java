@@ -19,14 +19,18 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -57,7 +61,9 @@ import com.vaadin.flow.server.frontend.Options;
 import com.vaadin.flow.server.frontend.ProdBundleUtils;
 import com.vaadin.flow.server.frontend.scanner.ClassFinder;
 import com.vaadin.flow.server.frontend.scanner.FrontendDependenciesScanner;
+import com.vaadin.flow.server.scanner.JandexClassFinder;
 import com.vaadin.flow.server.scanner.ReflectionsClassFinder;
+import com.vaadin.flow.server.startup.StartupClassIndex;
 import com.vaadin.flow.utils.FlowFileUtils;
 import com.vaadin.pro.licensechecker.BuildType;
 import com.vaadin.pro.licensechecker.LicenseChecker;
@@ -108,7 +114,29 @@ public class BuildFrontendUtil {
         URL[] urls = classpathElements.stream().distinct().map(File::new)
                 .map(FlowFileUtils::convertToUrl).toArray(URL[]::new);
 
-        return new ReflectionsClassFinder(urls);
+        return getClassFinder(new URLClassLoader(urls,
+                Thread.currentThread().getContextClassLoader()), urls);
+    }
+
+    /**
+     * Creates a {@link ClassFinder} for finding classes from the given urls.
+     * <p>
+     * A {@link JandexClassFinder} is used unless disabled with the
+     * {@value JandexClassFinder#DISABLE_JANDEX_CLASS_FINDER} system property,
+     * in which case a {@link ReflectionsClassFinder} is used.
+     *
+     * @param classLoader
+     *            the class loader to use for loading classes
+     * @param urls
+     *            the urls to find classes from
+     * @return the {@link ClassFinder} that uses the urls
+     */
+    public static ClassFinder getClassFinder(ClassLoader classLoader,
+            URL... urls) {
+        if (Boolean.getBoolean(JandexClassFinder.DISABLE_JANDEX_CLASS_FINDER)) {
+            return new ReflectionsClassFinder(classLoader, urls);
+        }
+        return new JandexClassFinder(classLoader, urls);
     }
 
     /**
@@ -1057,6 +1085,76 @@ public class BuildFrontendUtil {
         }
     }
 
+    /**
+     * Writes an index of the classes that the startup initializers look for,
+     * so that they can be found at runtime without scanning the class path.
+     *
+     * @param adapter
+     *            - the PluginAdapterBuild.
+     * @see StartupClassIndex
+     */
+    public static void writeStartupClassIndex(PluginAdapterBuild adapter) {
+        ClassFinder classFinder = adapter.getClassFinder();
+        if (classFinder == null) {
+            return;
+        }
+        Set<String> types = new HashSet<>();
+        Set<String> classNames = new HashSet<>();
+        for (Class<?> type : StartupClassIndex.getIndexedTypes()) {
+            Set<Class<?>> classes;
+            try {
+                classes = findIndexedClasses(classFinder,
+                        classFinder.loadClass(type.getName()));
+            } catch (ClassNotFoundException e) {
+                // Type is not available for the project, leave it out so
+                // that it is still scanned for at runtime
+                continue;
+            }
+            types.add(type.getName());
+            classes.forEach(clazz -> classNames.add(clazz.getName()));
+        }
+
+        File indexFile = new File(adapter.servletResourceOutputDirectory(),
+                StartupClassIndex.INDEX_FILE);
+        try {
+            FileUtils.write(indexFile,
+                    new StartupClassIndex(types, classNames).toJson(),
+                    StandardCharsets.UTF_8);
+            adapter.logInfo("Indexed " + classNames.size()
+                    + " classes for application startup");
+        } catch (IOException e) {
+            adapter.logWarn("Unable to write startup class index", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Class<?>> findIndexedClasses(ClassFinder classFinder,
+            Class<?> type) {
+        if (!type.isAnnotation()) {
+            return new HashSet<>(classFinder.getSubTypesOf(type));
+        }
+        // Classes may also get the annotation through meta-annotations at any
+        // depth, or by inheriting it from an annotated class
+        Set<Class<?>> classes = new HashSet<>();
+        Set<Class<?>> annotations = new HashSet<>();
+        Deque<Class<? extends Annotation>> pending = new ArrayDeque<>();
+        annotations.add(type);
+        pending.add((Class<? extends Annotation>) type);
+        while (!pending.isEmpty()) {
+            for (Class<?> annotated : classFinder
+                    .getAnnotatedClasses(pending.poll())) {
+                if (annotated.isAnnotation()) {
+                    if (annotations.add(annotated)) {
+                        pending.add((Class<? extends Annotation>) annotated);
+                    }
+                } else if (classes.add(annotated)) {
+                    classes.addAll(classFinder.getSubTypesOf(annotated));
+                }
+            }
+        }
+        return classes;
+    }
+
     private static boolean isControlCenterAvailable(ClassFinder classFinder) {
         if (classFinder == null) {
             return false;
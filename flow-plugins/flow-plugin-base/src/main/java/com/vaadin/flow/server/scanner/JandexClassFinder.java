@@ -0,0 +1,437 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.internal.FrontendUtils;
+import com.vaadin.flow.internal.MessageDigestUtil;
+import com.vaadin.flow.server.frontend.scanner.ClassFinder;
+
+/**
+ * A class finder using Jandex indexes.
+ * <p>
+ * Annotation and subtype lookups are done from a Jandex index of each scanned
+ * jar and directory. Jars that ship an index in {@value #JAR_INDEX} use it as
+ * is. For other jars, an index is built on first use and stored in a cache
+ * folder under a name derived from the path, size and modification time of the
+ * jar, so that unchanged dependencies are not parsed again on later builds.
+ * Cached indexes that have not been used for {@value #CACHE_EXPIRY_DAYS} days
+ * are removed from the cache folder. Directories, which usually contain the
+ * classes of the project itself, are always indexed.
+ * <p>
+ * Annotations marked with {@link Inherited} are also reported for the
+ * subclasses of the annotated classes, as with {@link ReflectionsClassFinder}.
+ * <p>
+ * The same package filtering as in {@link ReflectionsClassFinder} is applied
+ * to the results.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class JandexClassFinder implements ClassFinder, AutoCloseable {
+
+    /**
+     * System property name to be used to disable this class finder, in which
+     * case {@link ReflectionsClassFinder} is used instead.
+     */
+    public static final String DISABLE_JANDEX_CLASS_FINDER = "vaadin.classfinder.disableJandex";
+
+    /**
+     * Location of the Jandex index in a jar.
+     */
+    static final String JAR_INDEX = "META-INF/jandex.idx";
+
+    /**
+     * Number of days after which an unused cached jar index is removed.
+     */
+    static final int CACHE_EXPIRY_DAYS = 30;
+
+    private static final String CLASS_EXTENSION = ".class";
+
+    private static final String INDEX_EXTENSION = ".idx";
+
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(JandexClassFinder.class);
+
+    private final transient ClassLoader classLoader;
+
+    private final transient IndexView index;
+
+    private final transient Set<String> scannedPackages;
+
+    /**
+     * Creates a new class finder caching jar indexes in the Vaadin home folder.
+     *
+     * @param classLoader
+     *            the class loader to use for loading classes
+     * @param urls
+     *            the list of urls for finding classes
+     */
+    public JandexClassFinder(ClassLoader classLoader, URL... urls) {
+        this(classLoader,
+                new File(FrontendUtils.getVaadinHomeDirectory(),
+                        "class-index"),
+                urls);
+    }
+
+    /**
+     * Creates a new class finder caching jar indexes in the given folder.
+     *
+     * @param classLoader
+     *            the class loader to use for loading classes
+     * @param indexCacheFolder
+     *            the folder to store the indexes of jars in, not {@code null}
+     * @param urls
+     *            the list of urls for finding classes
+     */
+    public JandexClassFinder(ClassLoader classLoader, File indexCacheFolder,
+            URL... urls) {
+        this.classLoader = classLoader;
+        long startTime = System.currentTimeMillis();
+
+        List<IndexView> indexes = new ArrayList<>();
+        if (urls != null) {
+            for (URL url : urls) {
+                IndexView urlIndex = getIndex(url, indexCacheFolder);
+                if (urlIndex != null) {
+                    indexes.add(urlIndex);
+                }
+            }
+        }
+        index = CompositeIndex.create(indexes);
+        pruneIndexCache(indexCacheFolder);
+
+        scannedPackages = index.getKnownClasses().stream()
+                .map(classInfo -> ReflectionsClassFinder
+                        .extractPackageName(classInfo.name().toString()))
+                .filter(pkg -> !pkg.isEmpty()
+                        && !ReflectionsClassFinder.isRejectedPackage(pkg))
+                .collect(Collectors.toSet());
+
+        LOGGER.info(
+                "ClassFinder initialized: {} urls, {} classes indexed, took {}ms",
+                urls == null ? 0 : urls.length,
+                index.getKnownClasses().size(),
+                System.currentTimeMillis() - startTime);
+    }
+
+    @Override
+    public Set<Class<?>> getAnnotatedClasses(
+            Class<? extends Annotation> clazz) {
+        Set<String> classNames = new TreeSet<>();
+        collectAnnotatedClassNames(clazz, classNames);
+
+        // Repeated annotations are wrapped in their container annotation
+        Repeatable repeatable = clazz.getAnnotation(Repeatable.class);
+        if (repeatable != null) {
+            collectAnnotatedClassNames(repeatable.value(), classNames);
+        }
+        return loadClasses(classNames);
+    }
+
+    private void collectAnnotatedClassNames(
+            Class<? extends Annotation> annotation, Set<String> classNames) {
+        boolean inherited = annotation.isAnnotationPresent(Inherited.class);
+        for (AnnotationInstance instance : index
+                .getAnnotations(DotName.createSimple(annotation.getName()))) {
+            if (instance.target() != null && instance.target()
+                    .kind() == AnnotationTarget.Kind.CLASS) {
+                ClassInfo annotated = instance.target().asClass();
+                classNames.add(annotated.name().toString());
+                // Inherited annotations apply to subclasses but not to the
+                // implementors of an annotated interface
+                if (inherited && !annotated.isInterface()) {
+                    index.getAllKnownSubclasses(annotated.name()).stream()
+                            .map(subclass -> subclass.name().toString())
+                            .forEach(classNames::add);
+                }
+            }
+        }
+    }
+
+    @Override
+    public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+        Set<String> classNames = new TreeSet<>();
+        Set<DotName> visited = new HashSet<>();
+        Deque<DotName> queue = new ArrayDeque<>();
+        queue.add(DotName.createSimple(type.getName()));
+        while (!queue.isEmpty()) {
+            DotName name = queue.poll();
+            if (!visited.add(name)) {
+                continue;
+            }
+            Stream.concat(index.getKnownDirectSubclasses(name).stream(),
+                    index.getKnownDirectImplementors(name).stream())
+                    .map(ClassInfo::name).forEach(subType -> {
+                        classNames.add(subType.toString());
+                        queue.add(subType);
+                    });
+        }
+
+        Set<Class<? extends T>> classes = new LinkedHashSet<>();
+        for (Class<?> clazz : loadClasses(classNames)) {
+            @SuppressWarnings("unchecked")
+            Class<? extends T> subType = (Class<? extends T>) clazz;
+            classes.add(subType);
+        }
+        return classes;
+    }
+
+    private Set<Class<?>> loadClasses(Set<String> classNames) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String className : classNames) {
+            if (ReflectionsClassFinder.isRejectedPackage(
+                    ReflectionsClassFinder.extractPackageName(className))) {
+                continue;
+            }
+            try {
+                classes.add(classLoader.loadClass(className));
+            } catch (Throwable e) {
+                LOGGER.debug("Can't load class {}", className, e);
+            }
+        }
+        return classes;
+    }
+
+    @Override
+    public URL getResource(String name) {
+        return ReflectionsClassFinder
+                .disableJarCaching(classLoader.getResource(name));
+    }
+
+    @Override
+    public boolean shouldInspectClass(String className) {
+        if (scannedPackages.contains(
+                ReflectionsClassFinder.extractPackageName(className))) {
+            return classLoader.getResource(
+                    className.replace('.', '/') + CLASS_EXTENSION) != null;
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Class<T> loadClass(String name) throws ClassNotFoundException {
+        return (Class<T>) classLoader.loadClass(name);
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (classLoader instanceof URLClassLoader) {
+            LOGGER.debug("Closing URLClassLoader to release file handles");
+            ((URLClassLoader) classLoader).close();
+        }
+    }
+
+    private static IndexView getIndex(URL url, File indexCacheFolder) {
+        File file;
+        try {
+            file = new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            LOGGER.debug("Ignoring {} which is not a local file", url, e);
+            return null;
+        }
+        try {
+            if (file.isDirectory()) {
+                return indexDirectory(file.toPath());
+            } else if (file.isFile()) {
+                return getJarIndex(file, indexCacheFolder);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to index classes in {}", file, e);
+        }
+        return null;
+    }
+
+    private static Index getJarIndex(File jar, File indexCacheFolder)
+            throws IOException {
+        try (JarFile jarFile = new JarFile(jar)) {
+            JarEntry indexEntry = jarFile.getJarEntry(JAR_INDEX);
+            if (indexEntry != null) {
+                try (InputStream stream = jarFile.getInputStream(indexEntry)) {
+                    return new IndexReader(stream).read();
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.debug("Unable to read the index of {}", jar, e);
+                }
+            }
+
+            File cachedIndex = new File(indexCacheFolder,
+                    getCachedIndexName(jar));
+            if (cachedIndex.isFile()) {
+                try (InputStream stream = Files
+                        .newInputStream(cachedIndex.toPath())) {
+                    Index jarIndex = new IndexReader(stream).read();
+                    // Mark the index as used so that it is not pruned
+                    cachedIndex.setLastModified(System.currentTimeMillis());
+                    return jarIndex;
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.debug("Unable to read the cached index of {}", jar,
+                            e);
+                }
+            }
+
+            Indexer indexer = new Indexer();
+            for (JarEntry entry : Collections.list(jarFile.entries())) {
+                if (isIndexedClass(entry.getName())) {
+                    try (InputStream stream = jarFile.getInputStream(entry)) {
+                        indexClass(indexer, stream, entry.getName());
+                    }
+                }
+            }
+            Index jarIndex = indexer.complete();
+            writeIndex(jarIndex, cachedIndex);
+            return jarIndex;
+        }
+    }
+
+    /**
+     * Gets the file name of the cached index of the given jar.
+     * <p>
+     * The name is derived from the path, size and modification time of the
+     * jar instead of its content, so that the jar does not need to be read
+     * when its index is cached.
+     *
+     * @param jar
+     *            the jar file, not {@code null}
+     * @return the file name of the cached index
+     */
+    static String getCachedIndexName(File jar) {
+        String key = jar.getAbsolutePath() + "|" + jar.length() + "|"
+                + jar.lastModified();
+        return MessageDigestUtil
+                .sha256Hex(key.getBytes(StandardCharsets.UTF_8))
+                + INDEX_EXTENSION;
+    }
+
+    private static void pruneIndexCache(File indexCacheFolder) {
+        File[] cachedIndexes = indexCacheFolder
+                .listFiles(file -> file.getName().endsWith(INDEX_EXTENSION));
+        if (cachedIndexes == null) {
+            return;
+        }
+        long expiryTime = System.currentTimeMillis()
+                - TimeUnit.DAYS.toMillis(CACHE_EXPIRY_DAYS);
+        for (File cachedIndex : cachedIndexes) {
+            if (cachedIndex.lastModified() < expiryTime
+                    && !cachedIndex.delete()) {
+                LOGGER.debug("Unable to remove the expired cached index {}",
+                        cachedIndex);
+            }
+        }
+    }
+
+    private static Index indexDirectory(Path directory) throws IOException {
+        Indexer indexer = new Indexer();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files
+                    .filter(Files::isRegularFile)::iterator) {
+                String name = directory.relativize(file).toString()
+                        .replace(File.separatorChar, '/');
+                if (isIndexedClass(name)) {
+                    try (InputStream stream = Files.newInputStream(file)) {
+                        indexClass(indexer, stream, name);
+                    }
+                }
+            }
+        }
+        return indexer.complete();
+    }
+
+    private static boolean isIndexedClass(String name) {
+        return name.endsWith(CLASS_EXTENSION)
+                && !name.endsWith("module-info" + CLASS_EXTENSION)
+                && !name.startsWith("META-INF/");
+    }
+
+    private static void indexClass(Indexer indexer, InputStream stream,
+            String name) {
+        try {
+            indexer.index(stream);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Can't index class {}", name, e);
+        }
+    }
+
+    private static void writeIndex(Index index, File file) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(file.getParentFile().toPath());
+            // Write to a temporary file first so that concurrent builds never
+            // see a partially written index
+            tempFile = Files.createTempFile(file.getParentFile().toPath(),
+                    file.getName(), ".tmp");
+            try (OutputStream stream = Files.newOutputStream(tempFile)) {
+                new IndexWriter(stream).write(index);
+            }
+            Files.move(tempFile, file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.debug("Unable to cache the index in {}", file, e);
+            if (tempFile != null) {
+                tempFile.toFile().delete();
+            }
+        }
+    }
+}
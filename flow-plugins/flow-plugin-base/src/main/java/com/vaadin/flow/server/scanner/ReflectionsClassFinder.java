@@ -267,7 +267,7 @@ public class ReflectionsClassFinder implements ClassFinder, AutoCloseable {
         return false;
     }
 
-    private static String extractPackageName(String className) {
+    static String extractPackageName(String className) {
         int dot = className.lastIndexOf('.');
         if (dot != -1) {
             return className.substring(0, dot);
@@ -376,4 +376,29 @@ public class ReflectionsClassFinder implements ClassFinder, AutoCloseable {
             classGraph.rejectPackages(DEFAULT_REJECTED_PACKAGES);
         }
     }
+
+    /**
+     * Checks whether the given package is rejected by the default package
+     * filter, unless it has been disabled with the
+     * {@value #DISABLE_DEFAULT_PACKAGE_FILTER} system property.
+     *
+     * @param packageName
+     *            the package name to check
+     * @return {@code true} if classes in the package should not be scanned
+     */
+    static boolean isRejectedPackage(String packageName) {
+        if (Boolean.getBoolean(DISABLE_DEFAULT_PACKAGE_FILTER)) {
+            return false;
+        }
+        for (String rejected : DEFAULT_REJECTED_PACKAGES) {
+            String prefix = rejected.endsWith(".*")
+                    ? rejected.substring(0, rejected.length() - 2)
+                    : rejected;
+            if (packageName.equals(prefix)
+                    || packageName.startsWith(prefix + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
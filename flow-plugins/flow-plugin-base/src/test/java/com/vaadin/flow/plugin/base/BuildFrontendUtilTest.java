@@ -18,6 +18,10 @@ package com.vaadin.flow.plugin.base;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -51,10 +55,14 @@ import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ObjectNode;
 
 import com.vaadin.experimental.FeatureFlags;
+import com.vaadin.flow.component.Component;
 import com.vaadin.flow.di.Lookup;
 import com.vaadin.flow.internal.FileIOUtils;
 import com.vaadin.flow.internal.FrontendUtils;
 import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.router.HasErrorParameter;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.router.RouteNotFoundError;
 import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.InitParameters;
 import com.vaadin.flow.server.PwaConfiguration;
@@ -69,6 +77,7 @@ import com.vaadin.flow.server.frontend.installer.NodeInstaller;
 import com.vaadin.flow.server.frontend.scanner.ChunkInfo;
 import com.vaadin.flow.server.frontend.scanner.ClassFinder;
 import com.vaadin.flow.server.frontend.scanner.FrontendDependenciesScanner;
+import com.vaadin.flow.server.startup.StartupClassIndex;
 import com.vaadin.flow.utils.LookupImpl;
 import com.vaadin.pro.licensechecker.BuildType;
 import com.vaadin.pro.licensechecker.LicenseChecker;
@@ -805,6 +814,43 @@ class BuildFrontendUtilTest {
                 "Example feature should not be set at build time");
     }
 
+    @Test
+    void writeStartupClassIndex_annotatedClassesAndSubTypesIndexed()
+            throws Exception {
+        Mockito.when(adapter.getClassFinder())
+                .thenReturn(new ClassFinder.DefaultClassFinder(
+                        Set.of(IndexedView.class, IndexedErrorView.class,
+                                BuildFrontendUtilTest.class)));
+
+        BuildFrontendUtil.writeStartupClassIndex(adapter);
+
+        File indexFile = new File(resourceOutput,
+                StartupClassIndex.INDEX_FILE);
+        StartupClassIndex index = StartupClassIndex
+                .fromJson(Files.readString(indexFile.toPath()));
+        assertTrue(index.covers(List.of(Route.class, HasErrorParameter.class)));
+        assertEquals(Set.of(IndexedView.class.getName(),
+                IndexedErrorView.class.getName()), index.getClassNames());
+    }
+
+    @Test
+    void writeStartupClassIndex_nestedMetaAnnotations_annotatedClassesAndSubclassesIndexed()
+            throws Exception {
+        Mockito.when(adapter.getClassFinder())
+                .thenReturn(new ClassFinder.DefaultClassFinder(Set.of(
+                        MetaRoute.class, MetaMetaRoute.class,
+                        MetaMetaView.class, MetaMetaViewSubclass.class)));
+
+        BuildFrontendUtil.writeStartupClassIndex(adapter);
+
+        File indexFile = new File(resourceOutput,
+                StartupClassIndex.INDEX_FILE);
+        StartupClassIndex index = StartupClassIndex
+                .fromJson(Files.readString(indexFile.toPath()));
+        assertEquals(Set.of(MetaMetaView.class.getName(),
+                MetaMetaViewSubclass.class.getName()), index.getClassNames());
+    }
+
     private void fillAdapter() throws URISyntaxException {
         Mockito.when(adapter.nodeDownloadRoot())
                 .thenReturn(URI.create("http://something/node/"));
@@ -935,4 +981,30 @@ class BuildFrontendUtilTest {
                     }
                 """;
     }
+
+    @Route("indexed")
+    public static class IndexedView extends Component {
+    }
+
+    public static class IndexedErrorView extends RouteNotFoundError {
+    }
+
+    @Route("meta")
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    public @interface MetaRoute {
+    }
+
+    @MetaRoute
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    public @interface MetaMetaRoute {
+    }
+
+    @MetaMetaRoute
+    public static class MetaMetaView extends Component {
+    }
+
+    public static class MetaMetaViewSubclass extends MetaMetaView {
+    }
 }
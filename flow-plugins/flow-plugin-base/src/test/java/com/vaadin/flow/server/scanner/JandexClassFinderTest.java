@@ -0,0 +1,273 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.scanner;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.dependency.NpmPackage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JandexClassFinderTest {
+
+    private static final String CLASS_TEMPLATE = "package %s;\n" + "\n"
+            + "import com.vaadin.flow.component.dependency.NpmPackage;\n" + "\n"
+            + "import com.vaadin.flow.component.Component;\n" + "\n"
+            + "@NpmPackage(value = \"@vaadin/something\", version = \"1.0.0\")\n"
+            + "@NpmPackage(value = \"@vaadin/other\", version = \"1.0.0\")\n"
+            + "public class %s extends %s {\n" + "}\n";
+
+    private static final String PLAIN_CLASS_TEMPLATE = "package %s;\n" + "\n"
+            + "public class %s extends %s {\n" + "}\n";
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void jarsAndDirectories_sameClassesFoundAsWithReflectionsClassFinder()
+            throws Exception {
+        URL[] urls = new URL[] {
+                createJar("module-1", "com.vaadin.flow.test.jar", "JarView",
+                        "Component"),
+                createModule("module-2", "com.vaadin.flow.test.dir",
+                        "DirView", "com.vaadin.flow.test.jar.JarView"),
+                createJar("module-3", "org.springframework.feature.ui",
+                        "SpringView", "Component") };
+
+        try (JandexClassFinder finder = new JandexClassFinder(
+                createClassLoader(urls), temp.resolve("cache").toFile(), urls);
+                ReflectionsClassFinder reflectionsFinder = new ReflectionsClassFinder(
+                        createClassLoader(urls), urls)) {
+            List<String> subTypes = toList(
+                    finder.getSubTypesOf(Component.class));
+            assertEquals(List.of("com.vaadin.flow.test.dir.DirView",
+                    "com.vaadin.flow.test.jar.JarView"), subTypes);
+            assertEquals(
+                    toList(reflectionsFinder.getSubTypesOf(Component.class)),
+                    subTypes);
+            assertEquals(
+                    toList(reflectionsFinder
+                            .getAnnotatedClasses(NpmPackage.class)),
+                    toList(finder.getAnnotatedClasses(NpmPackage.class)));
+
+            assertTrue(finder
+                    .shouldInspectClass("com.vaadin.flow.test.dir.DirView"));
+            assertFalse(finder.shouldInspectClass(
+                    "org.springframework.feature.ui.SpringView"));
+        }
+    }
+
+    @Test
+    void inheritedAnnotation_unannotatedSubclassFound() throws Exception {
+        URL[] urls = new URL[] {
+                createJar("module-1", "com.vaadin.flow.test.jar", "JarView",
+                        "Component"),
+                createModuleFromSource("module-2", "com.vaadin.flow.test.dir",
+                        "PlainView",
+                        String.format(PLAIN_CLASS_TEMPLATE,
+                                "com.vaadin.flow.test.dir", "PlainView",
+                                "com.vaadin.flow.test.jar.JarView")) };
+
+        try (JandexClassFinder finder = new JandexClassFinder(
+                createClassLoader(urls), temp.resolve("cache").toFile(), urls);
+                ReflectionsClassFinder reflectionsFinder = new ReflectionsClassFinder(
+                        createClassLoader(urls), urls)) {
+            List<String> annotated = toList(
+                    finder.getAnnotatedClasses(NpmPackage.class));
+            assertEquals(List.of("com.vaadin.flow.test.dir.PlainView",
+                    "com.vaadin.flow.test.jar.JarView"), annotated);
+            assertEquals(
+                    toList(reflectionsFinder
+                            .getAnnotatedClasses(NpmPackage.class)),
+                    annotated);
+        }
+    }
+
+    @Test
+    void jar_indexCachedByPathSizeAndModificationTime() throws Exception {
+        URL jar = createJar("module-1", "com.vaadin.flow.test.jar", "JarView",
+                "Component");
+        File cache = temp.resolve("cache").toFile();
+        new JandexClassFinder(createClassLoader(jar), cache, jar).close();
+
+        File cachedIndex = new File(cache, JandexClassFinder
+                .getCachedIndexName(new File(jar.toURI())));
+        assertTrue(cachedIndex.isFile());
+
+        // An empty cached index proves that the jar is not indexed again
+        try (OutputStream stream = new FileOutputStream(cachedIndex)) {
+            new IndexWriter(stream).write(new Indexer().complete());
+        }
+        try (JandexClassFinder finder = new JandexClassFinder(
+                createClassLoader(jar), cache, jar)) {
+            assertTrue(finder.getSubTypesOf(Component.class).isEmpty());
+        }
+    }
+
+    @Test
+    void jar_modified_indexedAgain() throws Exception {
+        URL jar = createJar("module-1", "com.vaadin.flow.test.jar", "JarView",
+                "Component");
+        File jarFile = new File(jar.toURI());
+        File cache = temp.resolve("cache").toFile();
+        new JandexClassFinder(createClassLoader(jar), cache, jar).close();
+        String cachedIndexName = JandexClassFinder
+                .getCachedIndexName(jarFile);
+
+        assertTrue(jarFile.setLastModified(jarFile.lastModified() - 60000));
+        assertNotEquals(cachedIndexName,
+                JandexClassFinder.getCachedIndexName(jarFile));
+        new JandexClassFinder(createClassLoader(jar), cache, jar).close();
+        assertTrue(new File(cache,
+                JandexClassFinder.getCachedIndexName(jarFile)).isFile());
+    }
+
+    @Test
+    void cachedIndexes_unusedIndexesPruned() throws Exception {
+        URL jar = createJar("module-1", "com.vaadin.flow.test.jar", "JarView",
+                "Component");
+        File cache = temp.resolve("cache").toFile();
+        new JandexClassFinder(createClassLoader(jar), cache, jar).close();
+        File cachedIndex = new File(cache, JandexClassFinder
+                .getCachedIndexName(new File(jar.toURI())));
+
+        long expired = System.currentTimeMillis() - TimeUnit.DAYS
+                .toMillis(JandexClassFinder.CACHE_EXPIRY_DAYS + 1);
+        File unusedIndex = new File(cache, "unused.idx");
+        assertTrue(unusedIndex.createNewFile());
+        assertTrue(unusedIndex.setLastModified(expired));
+        // An index that is still in use is kept even if it is old
+        assertTrue(cachedIndex.setLastModified(expired));
+
+        new JandexClassFinder(createClassLoader(jar), cache, jar).close();
+
+        assertFalse(unusedIndex.exists());
+        assertTrue(cachedIndex.isFile());
+    }
+
+    @Test
+    void jarWithIndex_indexOfJarUsed() throws Exception {
+        URL jar = createJar("module-1", "com.vaadin.flow.test.jar", "JarView",
+                "Component");
+        File jarWithIndex = temp.resolve("with-index.jar").toFile();
+        try (JarOutputStream jos = new JarOutputStream(
+                new FileOutputStream(jarWithIndex))) {
+            jos.putNextEntry(new JarEntry(JandexClassFinder.JAR_INDEX));
+            new IndexWriter(jos).write(new Indexer().complete());
+            jos.closeEntry();
+        }
+        URL[] urls = new URL[] { jar, jarWithIndex.toURI().toURL() };
+        File cache = temp.resolve("cache").toFile();
+
+        try (JandexClassFinder finder = new JandexClassFinder(
+                createClassLoader(urls), cache, urls)) {
+            assertEquals(List.of("com.vaadin.flow.test.jar.JarView"),
+                    toList(finder.getSubTypesOf(Component.class)));
+        }
+        try (Stream<Path> cached = Files.list(cache.toPath())) {
+            assertEquals(1, cached.count(),
+                    "Only the jar without an index should be cached");
+        }
+    }
+
+    private static URLClassLoader createClassLoader(URL... urls) {
+        return new URLClassLoader(urls,
+                Thread.currentThread().getContextClassLoader());
+    }
+
+    private static <X extends Class<?>> List<String> toList(Set<X> classes) {
+        return classes.stream().map(Class::getName).toList();
+    }
+
+    private URL createModule(String moduleName, String pkg, String className,
+            String superClass) throws IOException {
+        return createModuleFromSource(moduleName, pkg, className,
+                String.format(CLASS_TEMPLATE, pkg, className, superClass));
+    }
+
+    private URL createModuleFromSource(String moduleName, String pkg,
+            String className, String source) throws IOException {
+        File sources = Files
+                .createDirectories(temp.resolve(moduleName + "/src"))
+                .toFile();
+        Path sourcePkg = Files.createDirectories(
+                temp.resolve(moduleName + "/src/" + pkg.replace('.', '/')));
+        File buildDir = Files
+                .createDirectories(temp.resolve(moduleName + "/target"))
+                .toFile();
+
+        Path sourceFile = sourcePkg.resolve(className + ".java");
+        Files.writeString(sourceFile, source, StandardCharsets.UTF_8);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null, "-d", buildDir.getPath(),
+                "-cp", System.getProperty("java.class.path")
+                        + File.pathSeparator + temp.resolve("classes"),
+                "-sourcepath", sources.getPath(), sourceFile.toString());
+        assertEquals(0, result, "Failed to compile " + sourceFile);
+        return buildDir.toURI().toURL();
+    }
+
+    private URL createJar(String moduleName, String pkg, String className,
+            String superClass) throws Exception {
+        Path classesRoot = Path.of(
+                createModule(moduleName, pkg, className, superClass).toURI());
+        File jarFile = temp.resolve(moduleName + ".jar").toFile();
+        try (JarOutputStream jos = new JarOutputStream(
+                new FileOutputStream(jarFile));
+                Stream<Path> walker = Files.walk(classesRoot)) {
+            for (Path classFile : (Iterable<Path>) walker
+                    .filter(Files::isRegularFile)::iterator) {
+                String entryName = classesRoot.relativize(classFile).toString()
+                        .replace(File.separatorChar, '/');
+                jos.putNextEntry(new JarEntry(entryName));
+                jos.write(Files.readAllBytes(classFile));
+                jos.closeEntry();
+                // Make the classes available for compiling modules that
+                // depend on them
+                Path copy = temp.resolve("classes").resolve(entryName);
+                Files.createDirectories(copy.getParent());
+                Files.copy(classFile, copy);
+            }
+        }
+        return jarFile.toURI().toURL();
+    }
+}
@@ -64,6 +64,7 @@ import com.vaadin.flow.dom.ElementUtil;
 import com.vaadin.flow.dom.impl.BasicElementStateProvider;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.internal.ActiveStyleSheetTracker;
 import com.vaadin.flow.internal.BundleUtils;
 import com.vaadin.flow.internal.ConstantPool;
@@ -198,6 +199,8 @@ public class UIInternals implements Serializable {
 
     private final HashMap<StateNode, PendingJavaScriptInvocationDetachListener> pendingJsInvocationDetachListeners = new HashMap<>();
 
+    private final HashMap<SerializableSupplier<Integer>, StateNode> dataKeyCounters = new HashMap<>();
+
     /**
      * The related UI.
      */
@@ -816,6 +819,52 @@ public class UIInternals implements Serializable {
                 .filter(invocation -> !invocation.isCanceled());
     }
 
+    /**
+     * Gets the number of pending javascript invocations that have not been
+     * canceled.
+     *
+     * @return the number of pending javascript invocations
+     * @since 25.3
+     */
+    public int getPendingJavaScriptInvocationCount() {
+        return (int) getPendingJavaScriptInvocations().count();
+    }
+
+    /**
+     * Registers a counter for the number of data keys that are kept in memory
+     * for the given node, e.g. by a data communicator. The counts are included
+     * in the memory usage of the UI.
+     *
+     * @param node
+     *            the node that the keys are kept for, not <code>null</code>
+     * @param counter
+     *            the counter of the keys, not <code>null</code>
+     * @return a handle that can be used for removing the counter
+     * @since 25.3
+     */
+    public Registration addDataKeyCounter(StateNode node,
+            SerializableSupplier<Integer> counter) {
+        assert node != null;
+        assert counter != null;
+        dataKeyCounters.put(counter, node);
+        return () -> dataKeyCounters.remove(counter);
+    }
+
+    /**
+     * Gets the number of data keys kept in memory for each node that has a
+     * registered data key counter.
+     *
+     * @return the number of data keys by node, never <code>null</code>
+     * @see #addDataKeyCounter(StateNode, SerializableSupplier)
+     * @since 25.3
+     */
+    public Map<StateNode, Integer> getDataKeyCounts() {
+        Map<StateNode, Integer> counts = new HashMap<>();
+        dataKeyCounters.forEach((counter, node) -> counts.merge(node,
+                Math.max(0, counter.get()), Integer::sum));
+        return counts;
+    }
+
     /**
      * Filter pendingJsInvocations to see if an invocation expression is set
      * with given filter string.
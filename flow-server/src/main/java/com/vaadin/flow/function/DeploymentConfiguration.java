@@ -88,6 +88,147 @@ public interface DeploymentConfiguration
                 Long::parseLong);
     }
 
+    /**
+     * Checks whether UIDL responses should be serialized as a stream instead
+     * of first being built as a complete JSON tree and string.
+     * <p>
+     * When streaming, state changes are serialized into a byte buffer as they
+     * are collected, without a JSON tree or string of the whole response.
+     * Responses larger than 1 MiB are buffered in a temporary file. The
+     * buffer is filled while the session is locked and written to the client
+     * after the session has been unlocked. Only responses smaller than 64 KiB
+     * are kept for resending; if the client resends a message whose response
+     * was larger, the client is resynchronized instead, which sends the full
+     * state of the UI again. Push messages are still built as strings, since
+     * they are sent as such, but without a JSON tree of the state changes.
+     *
+     * @return {@code true} if UIDL responses should be streamed, default is
+     *         {@code false}
+     * @since 25.3
+     */
+    default boolean isStreamingUidl() {
+        return getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_STREAMING_UIDL, false);
+    }
+
+    /**
+     * Returns the number of seconds between runs of the background task that
+     * closes UIs whose heartbeat has expired, or a non-positive number if the
+     * task is disabled.
+     * <p>
+     * Without the background task, inactive UIs are only closed when a request
+     * for the same session is handled.
+     *
+     * @return the interval between runs in seconds, default is {@code -1}
+     * @since 25.3
+     */
+    default int getInactiveUIReaperInterval() {
+        return getApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_INACTIVE_UI_REAPER_INTERVAL,
+                -1, Integer::parseInt);
+    }
+
+    /**
+     * Returns the number of seconds between runs of the background task that
+     * computes and reports the memory usage of the UIs of all sessions, or a
+     * non-positive number if the task is disabled.
+     *
+     * @return the interval between runs in seconds, default is {@code -1}
+     * @since 25.3
+     */
+    default int getMemoryUsageReportInterval() {
+        return getApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_MEMORY_USAGE_REPORT_INTERVAL,
+                -1, Integer::parseInt);
+    }
+
+    /**
+     * Checks whether <code>index.html</code> is served in production mode from
+     * a page compiled once into static segments, with the request specific
+     * content inserted for each request.
+     *
+     * @return {@code true} if the precompiled page is used, default is
+     *         {@code false}
+     * @since 25.3
+     */
+    default boolean isPrecompiledIndexHtml() {
+        return getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_PRECOMPILED_INDEX_HTML,
+                false);
+    }
+
+    /**
+     * Checks whether session lock wait and hold times should be recorded.
+     *
+     * @return {@code true} if session lock metrics are collected, default is
+     *         {@code false}
+     * @since 25.3
+     */
+    default boolean isSessionLockMetricsEnabled() {
+        return getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_SESSION_LOCK_METRICS, false);
+    }
+
+    /**
+     * Checks whether session lock metrics should also be grouped by the route
+     * target of the UI that is current when the lock is released.
+     *
+     * @return {@code true} if session lock metrics are grouped by route,
+     *         default is {@code false}
+     * @since 25.3
+     */
+    default boolean isSessionLockMetricsPerRoute() {
+        return getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_SESSION_LOCK_METRICS_PER_ROUTE,
+                false);
+    }
+
+    /**
+     * Returns the time window, in milliseconds, during which access tasks
+     * enqueued from threads that do not hold the session lock are collected
+     * before they are run in one batch, or a non-positive number if every
+     * access task is run as soon as possible.
+     * <p>
+     * With automatic push, each batch results in at most one push message per
+     * UI, regardless of how many tasks it contains.
+     *
+     * @return the coalescing window in milliseconds, default is {@code 0}
+     * @since 25.3
+     */
+    default int getAccessCoalescingWindow() {
+        return getApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_ACCESS_COALESCING_WINDOW, 0,
+                Integer::parseInt);
+    }
+
+    /**
+     * Checks whether UIDL messages should use the compact encoding, where the
+     * keys and type names of state changes and RPC invocations are replaced
+     * with short aliases.
+     *
+     * @return {@code true} if the compact encoding is used, default is
+     *         {@code false}
+     * @since 25.3
+     */
+    default boolean isCompactUidl() {
+        return getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_COMPACT_UIDL, false);
+    }
+
+    /**
+     * Gets the size in bytes from which UIDL responses are gzip compressed
+     * when the browser accepts it.
+     *
+     * @return the compression threshold in bytes, or a negative value if
+     *         responses are never compressed, default is {@code -1}
+     * @since 25.3
+     */
+    default int getUidlCompressionThreshold() {
+        return getApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_UIDL_COMPRESSION_THRESHOLD,
+                -1, Integer::parseInt);
+    }
+
     /**
      * In certain cases, such as when combining XmlHttpRequests and push over
      * low bandwidth connections, messages may be received out of order by the
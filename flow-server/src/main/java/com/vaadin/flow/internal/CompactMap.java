@@ -0,0 +1,262 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map that stores its keys and values in flat arrays in insertion order.
+ * <p>
+ * Lookups are linear, which makes this map suitable only for a small number of
+ * entries. In return, no entry objects or hash table are allocated, which
+ * makes the footprint of a map with a handful of entries a fraction of the
+ * footprint of a {@link HashMap}. Keys are compared by identity before falling
+ * back to {@link Object#equals(Object)}, so using canonical key instances makes
+ * lookups cheap.
+ * <p>
+ * A map created with a maximum compact size switches to a {@link HashMap} once
+ * it grows beyond that size, so that lookups do not degrade for maps that turn
+ * out to be large. Insertion order is not retained after the switch.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @param <K>
+ *            the key type
+ * @param <V>
+ *            the value type
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class CompactMap<K, V> extends AbstractMap<K, V>
+        implements Serializable {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] keys = EMPTY;
+
+    private Object[] values = EMPTY;
+
+    private int size;
+
+    private transient int modCount;
+
+    private final int maxCompactSize;
+
+    // Used instead of the arrays once the map has grown beyond maxCompactSize
+    private HashMap<K, V> hashMap;
+
+    /**
+     * Creates a map that always stores its entries in flat arrays.
+     */
+    public CompactMap() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a map that switches to a {@link HashMap} once it has more than
+     * the given number of entries.
+     *
+     * @param maxCompactSize
+     *            the maximum number of entries to store in flat arrays
+     */
+    public CompactMap(int maxCompactSize) {
+        this.maxCompactSize = maxCompactSize;
+    }
+
+    @Override
+    public int size() {
+        return hashMap != null ? hashMap.size() : size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (hashMap != null) {
+            return hashMap.containsKey(key);
+        }
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (hashMap != null) {
+            return hashMap.get(key);
+        }
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (hashMap != null) {
+            return hashMap.put(key, value);
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+        if (size >= maxCompactSize) {
+            switchToHashMap();
+            return hashMap.put(key, value);
+        }
+        if (size == keys.length) {
+            int capacity = Math.max(2, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (hashMap != null) {
+            return hashMap.remove(key);
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        hashMap = null;
+        keys = EMPTY;
+        values = EMPTY;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return hashMap != null ? hashMap.entrySet() : new EntrySet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void switchToHashMap() {
+        hashMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            hashMap.put((K) keys[i], (V) values[i]);
+        }
+        keys = EMPTY;
+        values = EMPTY;
+        size = 0;
+        modCount++;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(keys[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            int index = last;
+            return new SimpleEntry<>((K) keys[index], (V) values[index]) {
+                @Override
+                public V setValue(V value) {
+                    values[index] = value;
+                    return super.setValue(value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
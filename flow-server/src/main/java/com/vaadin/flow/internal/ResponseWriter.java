@@ -529,7 +529,25 @@ public class ResponseWriter implements Serializable {
 
     private static boolean acceptsEncoding(HttpServletRequest request,
             String encodingName) {
-        String accept = request.getHeader("Accept-Encoding");
+        return acceptsEncoding(request.getHeader("Accept-Encoding"),
+                encodingName);
+    }
+
+    /**
+     * Checks whether the given {@code Accept-Encoding} header value accepts
+     * the given encoding, either explicitly or through a wildcard, with a
+     * non-zero quality value.
+     *
+     * @param accept
+     *            the value of the {@code Accept-Encoding} header, or
+     *            <code>null</code> if the header is missing
+     * @param encodingName
+     *            the encoding to check, e.g. {@code gzip}
+     * @return <code>true</code> if the encoding is accepted,
+     *         <code>false</code> otherwise
+     * @since 25.3
+     */
+    public static boolean acceptsEncoding(String accept, String encodingName) {
         if (accept == null) {
             return false;
         }
@@ -142,6 +142,9 @@ public class StateNode implements Serializable {
 
     private static final ReplacedViaPreserveOnRefresh REPLACED_MARKER = new ReplacedViaPreserveOnRefresh();
 
+    // Change trackers of more features than this are kept in a hash map
+    private static final int MAX_COMPACT_CHANGES = 8;
+
     /**
      * Cache of immutable node feature type set instances.
      */
@@ -380,6 +383,29 @@ public class StateNode implements Serializable {
         getInitializedFeatures().forEach(action::accept);
     }
 
+    /**
+     * Gets the number of features of this node that have been initialized.
+     *
+     * @return the number of initialized features
+     * @since 25.3
+     */
+    public int getInitializedFeatureCount() {
+        return (int) getInitializedFeatures().count();
+    }
+
+    /**
+     * Estimates the heap size of the initialized features of this node,
+     * excluding child nodes.
+     *
+     * @return the estimated number of bytes
+     * @see NodeFeature#estimateMemoryUsage()
+     * @since 25.3
+     */
+    public long estimateFeatureMemoryUsage() {
+        return getInitializedFeatures()
+                .mapToLong(NodeFeature::estimateMemoryUsage).sum();
+    }
+
     private Stream<NodeFeature> getInitializedFeatures() {
         if (features == null) {
             return Stream.empty();
@@ -994,7 +1020,7 @@ public class StateNode implements Serializable {
     public <T extends Serializable> T getChangeTracker(NodeFeature feature,
             Supplier<T> factory) {
         if (changes == null) {
-            changes = new HashMap<>();
+            changes = new CompactMap<>(MAX_COMPACT_CHANGES);
         }
 
         return (T) changes.computeIfAbsent(feature.getClass(),
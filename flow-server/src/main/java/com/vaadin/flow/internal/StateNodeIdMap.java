@@ -0,0 +1,189 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.Serializable;
+
+/**
+ * A map from positive node ids to state nodes using open addressing with
+ * linear probing.
+ * <p>
+ * Compared to a {@code HashMap<Integer, StateNode>}, the ids are not boxed and
+ * no entry object is allocated per node, which makes a big difference for
+ * trees with tens of thousands of nodes.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+final class StateNodeIdMap implements Serializable {
+
+    private static final int FREE = 0;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+
+    private StateNode[] values = new StateNode[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * Gets the node with the given id.
+     *
+     * @param id
+     *            the node id
+     * @return the node with the given id, or <code>null</code> if there is no
+     *         such node
+     */
+    StateNode get(int id) {
+        int index = indexOf(id);
+        return index < 0 ? null : values[index];
+    }
+
+    /**
+     * Checks whether there is a node with the given id.
+     *
+     * @param id
+     *            the node id
+     * @return <code>true</code> if there is a node with the given id,
+     *         <code>false</code> otherwise
+     */
+    boolean containsKey(int id) {
+        return indexOf(id) >= 0;
+    }
+
+    /**
+     * Associates the given node with the given id.
+     *
+     * @param id
+     *            the node id, must be positive
+     * @param node
+     *            the node, not <code>null</code>
+     * @return the node previously associated with the id, or <code>null</code>
+     *         if there was no such node
+     */
+    StateNode put(int id, StateNode node) {
+        assert id > 0 : "Node id must be positive";
+        assert node != null;
+
+        int mask = keys.length - 1;
+        int index = mix(id) & mask;
+        while (keys[index] != FREE) {
+            if (keys[index] == id) {
+                StateNode previous = values[index];
+                values[index] = node;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+            return put(id, node);
+        }
+
+        keys[index] = id;
+        values[index] = node;
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the node with the given id.
+     *
+     * @param id
+     *            the node id
+     * @return the removed node, or <code>null</code> if there was no node
+     *         with the given id
+     */
+    StateNode remove(int id) {
+        int gap = indexOf(id);
+        if (gap < 0) {
+            return null;
+        }
+        StateNode removed = values[gap];
+
+        // Shift subsequent entries of the same probe sequence back so that
+        // lookups never stop at the freed slot too early
+        int mask = keys.length - 1;
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            int key = keys[index];
+            if (key == FREE) {
+                break;
+            }
+            int ideal = mix(key) & mask;
+            if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = FREE;
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Gets the number of nodes in this map.
+     *
+     * @return the number of nodes
+     */
+    int size() {
+        return size;
+    }
+
+    private int indexOf(int id) {
+        if (id <= 0) {
+            return -1;
+        }
+        int mask = keys.length - 1;
+        int index = mix(id) & mask;
+        while (true) {
+            int key = keys[index];
+            if (key == id) {
+                return index;
+            }
+            if (key == FREE) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        StateNode[] oldValues = values;
+        keys = new int[capacity];
+        values = new StateNode[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int mix(int id) {
+        // Node ids are sequential, spread them to avoid long probe sequences
+        int hash = id * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -16,13 +16,13 @@
 package com.vaadin.flow.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -156,9 +156,14 @@ public class StateTree implements NodeOwner {
         void remove();
     }
 
-    private Set<StateNode> dirtyNodes = new LinkedHashSet<>();
+    // Nodes in the order they were marked dirty. Duplicates are avoided by
+    // the identity set, which unlike a LinkedHashSet needs no entry objects.
+    private ArrayList<StateNode> dirtyNodes = new ArrayList<>();
 
-    private final Map<Integer, StateNode> idToNode = new HashMap<>();
+    private final Set<StateNode> queuedDirtyNodes = Collections
+            .newSetFromMap(new IdentityHashMap<>());
+
+    private final StateNodeIdMap idToNode = new StateNodeIdMap();
 
     private int nextId = 1;
 
@@ -234,7 +239,7 @@ public class StateTree implements NodeOwner {
     public void unregister(StateNode node) {
         assert node.getOwner() == this;
 
-        Integer id = node.getId();
+        int id = node.getId();
 
         StateNode removedNode = idToNode.remove(id);
 
@@ -257,6 +262,16 @@ public class StateTree implements NodeOwner {
         return idToNode.containsKey(node.getId());
     }
 
+    /**
+     * Gets the number of nodes currently registered with this tree.
+     *
+     * @return the number of registered nodes
+     * @since 25.3
+     */
+    public int getNodeCount() {
+        return idToNode.size();
+    }
+
     /**
      * Finds a node with the given id.
      *
@@ -290,9 +305,9 @@ public class StateTree implements NodeOwner {
         // The updateActiveState method can create new dirty nodes, so they need
         // to be collected as well
         while (evaluateNewDirtyNodes) {
-            Set<StateNode> dirtyNodesSet = doCollectDirtyNodes(true);
-            dirtyNodesSet.forEach(StateNode::updateActiveState);
-            evaluateNewDirtyNodes = allDirtyNodes.addAll(dirtyNodesSet);
+            List<StateNode> dirtyNodesList = doCollectDirtyNodes(true);
+            dirtyNodesList.forEach(StateNode::updateActiveState);
+            evaluateNewDirtyNodes = allDirtyNodes.addAll(dirtyNodesList);
         }
 
         // TODO fire preCollect events
@@ -305,7 +320,9 @@ public class StateTree implements NodeOwner {
         assert node.getOwner() == this;
         checkHasLock();
 
-        dirtyNodes.add(node);
+        if (queuedDirtyNodes.add(node)) {
+            dirtyNodes.add(node);
+        }
     }
 
     /**
@@ -314,7 +331,8 @@ public class StateTree implements NodeOwner {
      * @return a set of dirty nodes, in the order they were marked dirty
      */
     public Set<StateNode> collectDirtyNodes() {
-        return doCollectDirtyNodes(false);
+        return Collections.unmodifiableSet(
+                new LinkedHashSet<>(doCollectDirtyNodes(false)));
     }
 
     /**
@@ -461,17 +479,17 @@ public class StateTree implements NodeOwner {
      * <p>
      * If {@code reset} is {@code true} then dirty nodes collection is reset.
      *
-     * @return a set of dirty nodes, in the order they were marked dirty
+     * @return a list of dirty nodes, in the order they were marked dirty
      */
-    private Set<StateNode> doCollectDirtyNodes(boolean reset) {
+    private List<StateNode> doCollectDirtyNodes(boolean reset) {
         if (reset) {
-            Set<StateNode> collectedNodes = dirtyNodes;
-            dirtyNodes = new LinkedHashSet<>();
+            List<StateNode> collectedNodes = dirtyNodes;
+            queuedDirtyNodes.clear();
+            dirtyNodes = new ArrayList<>();
             return collectedNodes;
         } else {
-            return Collections.unmodifiableSet(dirtyNodes);
+            return Collections.unmodifiableList(dirtyNodes);
         }
-
     }
 
     /**
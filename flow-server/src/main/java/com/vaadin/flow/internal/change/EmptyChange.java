@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.internal.change;
 
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.node.ObjectNode;
 
 import com.vaadin.flow.internal.ConstantPool;
@@ -55,4 +56,14 @@ public class EmptyChange extends NodeFeatureChange {
         super.populateJson(json, constantPool);
     }
 
+    @Override
+    protected void writeProperties(JsonGenerator generator,
+            ConstantPool constantPool, boolean compact) {
+        writeType(generator, JsonConstants.CHANGE_TYPE_NOOP, compact);
+        writeName(generator, JsonConstants.CHANGE_FEATURE_TYPE, compact);
+        generator.writeBoolean(
+                NodeList.class.isAssignableFrom(getFeature()));
+        super.writeProperties(generator, constantPool, compact);
+    }
+
 }
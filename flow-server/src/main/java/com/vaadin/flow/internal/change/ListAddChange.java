@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
@@ -129,6 +130,34 @@ public class ListAddChange<T extends Serializable>
         json.set(addKey, newItemsJson);
     }
 
+    @Override
+    protected void writeProperties(JsonGenerator generator,
+            ConstantPool constantPool, boolean compact) {
+        writeType(generator, JsonConstants.CHANGE_TYPE_SPLICE, compact);
+
+        super.writeProperties(generator, constantPool, compact);
+
+        writeName(generator, JsonConstants.CHANGE_SPLICE_INDEX, compact);
+        generator.writeNumber(getIndex());
+
+        if (nodeValues) {
+            writeName(generator, JsonConstants.CHANGE_SPLICE_ADD_NODES,
+                    compact);
+            generator.writeStartArray();
+            for (T item : newItems) {
+                generator.writeNumber(((StateNode) item).getId());
+            }
+        } else {
+            writeName(generator, JsonConstants.CHANGE_SPLICE_ADD, compact);
+            generator.writeStartArray();
+            for (T item : newItems) {
+                generator.writeTree(JacksonCodec.encodeWithConstantPool(item,
+                        constantPool));
+            }
+        }
+        generator.writeEndArray();
+    }
+
     /**
      * Removes item from the change list.
      * <p>
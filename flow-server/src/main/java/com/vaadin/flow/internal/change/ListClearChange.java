@@ -17,6 +17,7 @@ package com.vaadin.flow.internal.change;
 
 import java.io.Serializable;
 
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.node.ObjectNode;
 
 import com.vaadin.flow.internal.ConstantPool;
@@ -59,4 +60,11 @@ public class ListClearChange<T extends Serializable>
         super.populateJson(json, constantPool);
     }
 
+    @Override
+    protected void writeProperties(JsonGenerator generator,
+            ConstantPool constantPool, boolean compact) {
+        writeType(generator, JsonConstants.CHANGE_TYPE_CLEAR, compact);
+        super.writeProperties(generator, constantPool, compact);
+    }
+
 }
@@ -17,6 +17,7 @@ package com.vaadin.flow.internal.change;
 
 import java.io.Serializable;
 
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.node.ObjectNode;
 
 import com.vaadin.flow.internal.ConstantPool;
@@ -80,4 +81,17 @@ public class ListRemoveChange<T extends Serializable>
         json.put(JsonConstants.CHANGE_SPLICE_INDEX, getIndex());
         json.put(JsonConstants.CHANGE_SPLICE_REMOVE, 1);
     }
+
+    @Override
+    protected void writeProperties(JsonGenerator generator,
+            ConstantPool constantPool, boolean compact) {
+        writeType(generator, JsonConstants.CHANGE_TYPE_SPLICE, compact);
+
+        super.writeProperties(generator, constantPool, compact);
+
+        writeName(generator, JsonConstants.CHANGE_SPLICE_INDEX, compact);
+        generator.writeNumber(getIndex());
+        writeName(generator, JsonConstants.CHANGE_SPLICE_REMOVE, compact);
+        generator.writeNumber(1);
+    }
 }
@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.internal.change;
 
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.BooleanNode;
 import tools.jackson.databind.node.NullNode;
@@ -117,4 +118,28 @@ public class MapPutChange extends NodeFeatureChange {
                     JacksonCodec.encodeWithConstantPool(value, constantPool));
         }
     }
+
+    @Override
+    protected void writeProperties(JsonGenerator generator,
+            ConstantPool constantPool, boolean compact) {
+        writeType(generator, JsonConstants.CHANGE_TYPE_PUT, compact);
+        writeName(generator, JsonConstants.CHANGE_MAP_KEY, compact);
+        generator.writeString(key);
+
+        super.writeProperties(generator, constantPool, compact);
+
+        if (value instanceof StateNode node) {
+            writeName(generator, JsonConstants.CHANGE_PUT_NODE_VALUE,
+                    compact);
+            generator.writeNumber(node.getId());
+        } else if (value instanceof NullNode) {
+            writeName(generator, JsonConstants.CHANGE_PUT_VALUE, compact);
+            generator.writeNull();
+        } else {
+            // The value nodes are encoded the same way as any other value
+            writeName(generator, JsonConstants.CHANGE_PUT_VALUE, compact);
+            generator.writeTree(
+                    JacksonCodec.encodeWithConstantPool(value, constantPool));
+        }
+    }
 }
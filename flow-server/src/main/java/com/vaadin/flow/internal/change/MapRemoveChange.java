@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.internal.change;
 
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.node.ObjectNode;
 
 import com.vaadin.flow.internal.ConstantPool;
@@ -66,4 +67,15 @@ public class MapRemoveChange extends NodeFeatureChange {
 
         json.put(JsonConstants.CHANGE_MAP_KEY, key);
     }
+
+    @Override
+    protected void writeProperties(JsonGenerator generator,
+            ConstantPool constantPool, boolean compact) {
+        writeType(generator, JsonConstants.CHANGE_TYPE_REMOVE, compact);
+
+        super.writeProperties(generator, constantPool, compact);
+
+        writeName(generator, JsonConstants.CHANGE_MAP_KEY, compact);
+        generator.writeString(key);
+    }
 }
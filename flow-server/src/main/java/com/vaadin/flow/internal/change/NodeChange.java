@@ -17,11 +17,14 @@ package com.vaadin.flow.internal.change;
 
 import java.io.Serializable;
 
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ObjectNode;
 
 import com.vaadin.flow.internal.ConstantPool;
 import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.shared.CompactUidlKeys;
 import com.vaadin.flow.shared.JsonConstants;
 
 /**
@@ -73,6 +76,104 @@ public abstract class NodeChange implements Serializable {
         return json;
     }
 
+    /**
+     * Writes this change as a JSON object to the given generator.
+     * <p>
+     * The written object contains the same data as the object returned by
+     * {@link #toJson(ConstantPool)}, but the built-in changes write their
+     * properties directly to the generator without building a JSON tree.
+     *
+     * @param generator
+     *            the generator to write to, not <code>null</code>
+     * @param constantPool
+     *            the constant pool to use for serializing constant pool
+     *            references
+     * @param compact
+     *            <code>true</code> to write the keys and the type of the change
+     *            using the aliases defined in {@link CompactUidlKeys},
+     *            <code>false</code> to write them as is
+     * @since 25.3
+     */
+    public void writeJson(JsonGenerator generator, ConstantPool constantPool,
+            boolean compact) {
+        generator.writeStartObject();
+        writeName(generator, JsonConstants.CHANGE_NODE, compact);
+        generator.writeNumber(node.getId());
+        writeProperties(generator, constantPool, compact);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the properties of this change, except for the node id, to the
+     * given generator. Overridden by subclasses to write the same properties
+     * as {@link #populateJson(ObjectNode, ConstantPool)} without building a
+     * JSON tree.
+     * <p>
+     * The default implementation writes the properties populated by
+     * {@link #populateJson(ObjectNode, ConstantPool)}.
+     *
+     * @param generator
+     *            the generator to write to, not <code>null</code>
+     * @param constantPool
+     *            the constant pool to use for serializing constant pool
+     *            references
+     * @param compact
+     *            <code>true</code> to write the keys and the type of the change
+     *            using the aliases defined in {@link CompactUidlKeys}
+     * @since 25.3
+     */
+    protected void writeProperties(JsonGenerator generator,
+            ConstantPool constantPool, boolean compact) {
+        ObjectNode json = JacksonUtils.createObjectNode();
+        populateJson(json, constantPool);
+        json.properties().forEach(property -> {
+            JsonNode value = property.getValue();
+            if (JsonConstants.CHANGE_TYPE.equals(property.getKey())
+                    && value.isString()) {
+                writeType(generator, value.asString(), compact);
+            } else {
+                writeName(generator, property.getKey(), compact);
+                generator.writeTree(value);
+            }
+        });
+    }
+
+    /**
+     * Writes the name of a property of a change to the given generator.
+     *
+     * @param generator
+     *            the generator to write to, not <code>null</code>
+     * @param key
+     *            the key of the property, not <code>null</code>
+     * @param compact
+     *            <code>true</code> to write the alias of the key
+     * @since 25.3
+     */
+    protected static void writeName(JsonGenerator generator, String key,
+            boolean compact) {
+        generator.writeName(
+                compact ? CompactUidlKeys.compactChangeKey(key) : key);
+    }
+
+    /**
+     * Writes the type property of a change to the given generator.
+     *
+     * @param generator
+     *            the generator to write to, not <code>null</code>
+     * @param type
+     *            the type of the change, not <code>null</code>
+     * @param compact
+     *            <code>true</code> to write the aliases of the key and the
+     *            type
+     * @since 25.3
+     */
+    protected static void writeType(JsonGenerator generator, String type,
+            boolean compact) {
+        writeName(generator, JsonConstants.CHANGE_TYPE, compact);
+        generator.writeString(
+                compact ? CompactUidlKeys.compactChangeType(type) : type);
+    }
+
     /**
      * Overridden by subclasses to populate a JSON object when serializing.
      *
@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.internal.change;
 
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.node.ObjectNode;
 
 import com.vaadin.flow.internal.ConstantPool;
@@ -61,4 +62,11 @@ public abstract class NodeFeatureChange extends NodeChange {
         json.set(JsonConstants.CHANGE_FEATURE,
                 JacksonUtils.createNode(NodeFeatureRegistry.getId(feature)));
     }
+
+    @Override
+    protected void writeProperties(JsonGenerator generator,
+            ConstantPool constantPool, boolean compact) {
+        writeName(generator, JsonConstants.CHANGE_FEATURE, compact);
+        generator.writeNumber(NodeFeatureRegistry.getId(feature));
+    }
 }
@@ -32,6 +32,21 @@ import com.vaadin.flow.internal.change.NodeChange;
  * @since 1.0
  */
 public abstract class NodeFeature implements Serializable {
+
+    /**
+     * Rough heap size of a feature instance and its bookkeeping.
+     */
+    private static final int FEATURE_BYTES = 48;
+
+    /**
+     * Rough heap size of a string, excluding its characters.
+     */
+    private static final int STRING_BYTES = 40;
+
+    private static final int BOXED_BYTES = 16;
+
+    private static final int OBJECT_BYTES = 64;
+
     private final StateNode node;
 
     /**
@@ -142,4 +157,41 @@ public abstract class NodeFeature implements Serializable {
     public boolean allowsChanges() {
         return true;
     }
+
+    /**
+     * Estimates the number of heap bytes retained by this feature, excluding
+     * any child state nodes.
+     * <p>
+     * The estimate is based on the number and types of the stored values. It
+     * is meant for finding the features and nodes that use the most memory,
+     * not for exact measurements.
+     *
+     * @return the estimated number of bytes
+     * @since 25.3
+     */
+    public long estimateMemoryUsage() {
+        return FEATURE_BYTES;
+    }
+
+    /**
+     * Estimates the number of heap bytes retained by a value stored in a
+     * feature. State nodes are not included since they are estimated
+     * separately.
+     *
+     * @param value
+     *            the value to estimate, may be <code>null</code>
+     * @return the estimated number of bytes
+     * @since 25.3
+     */
+    protected static long estimateValueMemoryUsage(Object value) {
+        if (value == null || value instanceof StateNode) {
+            return 0;
+        } else if (value instanceof String string) {
+            return STRING_BYTES + string.length();
+        } else if (value instanceof Number || value instanceof Boolean) {
+            return BOXED_BYTES;
+        } else {
+            return OBJECT_BYTES;
+        }
+    }
 }
@@ -49,6 +49,11 @@ import com.vaadin.flow.internal.change.NodeChange;
  */
 public abstract class NodeList<T extends Serializable> extends NodeFeature {
 
+    /**
+     * Rough heap size of a list slot, excluding the item.
+     */
+    private static final int ITEM_BYTES = 8;
+
     private final class NodeListIterator implements Iterator<T> {
         private int index = -1;
         private T current;
@@ -351,6 +356,18 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
         return indexToCorrect;
     }
 
+    @Override
+    public long estimateMemoryUsage() {
+        long bytes = super.estimateMemoryUsage();
+        if (values != null) {
+            bytes += (long) values.size() * ITEM_BYTES;
+            for (T value : values) {
+                bytes += estimateValueMemoryUsage(value);
+            }
+        }
+        return bytes;
+    }
+
     private void setAccessed() {
         // TODO Set up listener if we're in a computation
     }
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -33,6 +34,7 @@ import com.vaadin.flow.dom.ElementEffect;
 import com.vaadin.flow.dom.SignalBinding;
 import com.vaadin.flow.function.SerializableBiConsumer;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.internal.CompactMap;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.change.EmptyChange;
 import com.vaadin.flow.internal.change.MapPutChange;
@@ -54,6 +56,27 @@ public abstract class NodeMap extends NodeFeature {
     private static final Serializable REMOVED_MARKER = new UniqueSerializable() {
     };
 
+    /**
+     * The maximum number of values to store in flat arrays before switching
+     * to a hash map.
+     */
+    private static final int MAX_COMPACT_VALUES = 8;
+
+    /**
+     * Rough heap size of a map entry, excluding the value.
+     */
+    private static final int ENTRY_BYTES = 32;
+
+    /**
+     * The maximum number of keys to keep in the shared key table. Keys are
+     * typically attribute and property names, so the table stays small in
+     * practice, but the limit protects against unbounded growth when keys are
+     * generated dynamically.
+     */
+    private static final int MAX_SHARED_KEYS = 4096;
+
+    private static final Map<String, String> SHARED_KEYS = new ConcurrentHashMap<>();
+
     private interface Values extends Serializable {
         int size();
 
@@ -122,6 +145,35 @@ public abstract class NodeMap extends NodeFeature {
         }
     }
 
+    private static class CompactMapValues
+            extends CompactMap<String, Serializable> implements Values {
+
+        public CompactMapValues(Values previousValues) {
+            previousValues.keySet().forEach(
+                    key -> super.put(key, previousValues.get(key)));
+        }
+
+        @Override
+        public Serializable get(String key) {
+            return super.get(key);
+        }
+
+        @Override
+        public void set(String key, Serializable value) {
+            super.put(key, value);
+        }
+
+        @Override
+        public boolean containsKey(String key) {
+            return super.containsKey(key);
+        }
+
+        @Override
+        public Stream<Serializable> streamValues() {
+            return super.values().stream();
+        }
+    }
+
     private static class HashMapValues extends HashMap<String, Serializable>
             implements Values {
 
@@ -209,6 +261,7 @@ public abstract class NodeMap extends NodeFeature {
 
     private Serializable putInternal(String key, Serializable value,
             boolean emitChange) {
+        key = sharedKey(key);
         Serializable oldValue = get(key);
         if (!producePutChange(key, contains(key), value)) {
             return oldValue;
@@ -219,12 +272,17 @@ public abstract class NodeMap extends NodeFeature {
             setUnChanged(key);
         }
 
-        // Optimize memory use when there's only one key
+        // Optimize memory use when there's only one key or a few keys
         if (values == null) {
             values = new SingleValue(key, value);
         } else {
-            if (values instanceof SingleValue && !values.containsKey(key)) {
-                values = new HashMapValues(values);
+            if (!values.containsKey(key)) {
+                if (values instanceof SingleValue) {
+                    values = new CompactMapValues(values);
+                } else if (values instanceof CompactMapValues
+                        && values.size() >= MAX_COMPACT_VALUES) {
+                    values = new HashMapValues(values);
+                }
             }
             values.set(key, value);
         }
@@ -364,6 +422,7 @@ public abstract class NodeMap extends NodeFeature {
      * @return the removed value, <code>null</code> if no value was removed
      */
     protected Serializable remove(String key) {
+        key = sharedKey(key);
         setChanged(key);
         Serializable oldValue;
 
@@ -375,11 +434,11 @@ public abstract class NodeMap extends NodeFeature {
                 values = null;
             }
         } else {
-            assert values instanceof HashMapValues;
-            HashMapValues hashMapValues = (HashMapValues) values;
-            oldValue = hashMapValues.remove(key);
+            assert values instanceof Map;
+            Map<?, ?> mapValues = (Map<?, ?>) values;
+            oldValue = (Serializable) mapValues.remove(key);
 
-            if (hashMapValues.isEmpty()) {
+            if (mapValues.isEmpty()) {
                 values = null;
             }
         }
@@ -424,7 +483,22 @@ public abstract class NodeMap extends NodeFeature {
     }
 
     private Map<String, Serializable> getChangeTracker() {
-        return getNode().getChangeTracker(this, HashMap::new);
+        return getNode().getChangeTracker(this,
+                () -> new CompactMap<>(MAX_COMPACT_VALUES));
+    }
+
+    /**
+     * Gets a shared instance of the given key so that all maps using the same
+     * key refer to the same string instance.
+     */
+    private static String sharedKey(String key) {
+        assert key != null;
+
+        String shared = SHARED_KEYS.get(key);
+        if (shared == null && SHARED_KEYS.size() < MAX_SHARED_KEYS) {
+            shared = SHARED_KEYS.putIfAbsent(key, key);
+        }
+        return shared == null ? key : shared;
     }
 
     private void setAccessed(String key) {
@@ -547,11 +621,27 @@ public abstract class NodeMap extends NodeFeature {
         return !hadValueEarlier || !Objects.equals(newValue, values.get(key));
     }
 
+    @Override
+    public long estimateMemoryUsage() {
+        long bytes = super.estimateMemoryUsage();
+        if (values != null) {
+            bytes += (long) values.size() * ENTRY_BYTES;
+            bytes += values.streamValues()
+                    .mapToLong(NodeFeature::estimateValueMemoryUsage).sum();
+        }
+        return bytes;
+    }
+
     // Exposed for testing purposes
     boolean usesSingleMap() {
         return values instanceof SingleValue;
     }
 
+    // Exposed for testing purposes
+    boolean usesCompactMap() {
+        return values instanceof CompactMapValues;
+    }
+
     /**
      * Binds a signal to a given key using a setter function and stores the
      * writeCallback in SignalBindingFeature.
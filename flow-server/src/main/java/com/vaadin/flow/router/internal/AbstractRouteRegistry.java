@@ -143,7 +143,9 @@ public abstract class AbstractRouteRegistry implements RouteRegistry {
             try {
                 ConfiguredRoutes oldConfiguration = configuredRoutes;
 
-                configuredRoutes = new ConfiguredRoutes(editing);
+                // Editing is discarded below, so its route models can be
+                // taken over instead of copying them
+                configuredRoutes = ConfiguredRoutes.freeze(editing);
 
                 if (!routesChangedListeners.isEmpty()) {
                     List<RouteBaseData<?>> oldRoutes = flattenRoutes(
@@ -37,8 +37,9 @@ import com.vaadin.flow.router.RouterLayout;
  */
 public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
 
-    // Stores targets accessed by urls with parameters.
-    private final RouteModel routeModel;
+    // Stores targets accessed by urls with parameters. May be shared with the
+    // original configuration until modified.
+    private RouteModel routeModel;
 
     private final Map<String, RouteTarget> routeMap;
     private final Map<Class<? extends Component>, String> targetRouteMap;
@@ -75,10 +76,13 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
         originalTargetRouteMap.putAll(original.getTargetRoutes());
         originalExceptionTargetsMap.putAll(original.getExceptionHandlers());
 
-        Map<Class<? extends Component>, RouteModel> originalTargetRouteModelMap = original
-                .copyTargetRouteModels(true);
+        // Immutable route models are shared and only copied when modified
+        Map<Class<? extends Component>, RouteModel> originalTargetRouteModelMap = new HashMap<>();
+        original.getTargetRouteModelMap()
+                .forEach((target, model) -> originalTargetRouteModelMap
+                        .put(target, shareOrCopy(model)));
 
-        this.routeModel = RouteModel.copy(original.getRouteModel(), true);
+        this.routeModel = shareOrCopy(original.getRouteModel());
 
         this.routeMap = originalRouteMap;
         this.targetRouteMap = originalTargetRouteMap;
@@ -96,6 +100,21 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
         return routeMap;
     }
 
+    /**
+     * Override so that navigation urls are always resolved against the current
+     * routes, as they may still change.
+     *
+     * @param url
+     *            the navigation url used to search a route target.
+     * @return a {@link NavigationRouteTarget} instance containing the
+     *         {@link RouteTarget} and route parameters extracted from the
+     *         <code>url</code> argument according with the route configuration.
+     */
+    @Override
+    public NavigationRouteTarget getNavigationRouteTarget(String url) {
+        return getRouteModel().getNavigationRouteTarget(url);
+    }
+
     @Override
     RouteModel getRouteModel() {
         return routeModel;
@@ -130,7 +149,7 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
      * Clear all maps from this configuration.
      */
     public void clear() {
-        getRouteModel().clear();
+        getMutableRouteModel().clear();
         getRoutesMap().clear();
         getTargetRoutes().clear();
         getTargetRouteModelMap().clear();
@@ -173,15 +192,13 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
         final RouteTarget target = new RouteTarget(navigationTarget,
                 parentChain);
 
-        getRouteModel().addRoute(template, target);
+        getMutableRouteModel().addRoute(template, target);
 
         if (!hasRouteTarget(navigationTarget)) {
             setTargetRoute(navigationTarget, template);
         }
 
-        getTargetRouteModelMap().computeIfAbsent(navigationTarget,
-                aClass -> RouteModel.create(true));
-        getTargetRouteModelMap().get(navigationTarget).addRoute(template,
+        getMutableTargetRouteModel(navigationTarget).addRoute(template,
                 target);
 
         getRoutesMap().put(template, target);
@@ -235,7 +252,7 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
 
         getTargetRouteModelMap().remove(target).getRoutes().keySet()
                 .forEach(template -> {
-                    getRouteModel().removeRoute(template);
+                    getMutableRouteModel().removeRoute(template);
                     getRoutesMap().remove(template);
                 });
     }
@@ -260,8 +277,8 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
         if (removedRoute != null) {
             final Class<? extends Component> target = removedRoute.getTarget();
 
-            final RouteModel targetRouteModel = getTargetRouteModelMap()
-                    .get(target);
+            final RouteModel targetRouteModel = getMutableTargetRouteModel(
+                    target);
             targetRouteModel.removeRoute(template);
 
             if (targetRouteModel.isEmpty()) {
@@ -279,7 +296,7 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
             }
         }
 
-        getRouteModel().removeRoute(template);
+        getMutableRouteModel().removeRoute(template);
     }
 
     /**
@@ -305,4 +322,25 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
         return targetRouteModelMap;
     }
 
+    private RouteModel getMutableRouteModel() {
+        if (!routeModel.isMutable()) {
+            routeModel = RouteModel.copy(routeModel, true);
+        }
+        return routeModel;
+    }
+
+    private RouteModel getMutableTargetRouteModel(
+            Class<? extends Component> target) {
+        return getTargetRouteModelMap().compute(target, (key, model) -> {
+            if (model == null) {
+                return RouteModel.create(true);
+            }
+            return model.isMutable() ? model : RouteModel.copy(model, true);
+        });
+    }
+
+    private static RouteModel shareOrCopy(RouteModel model) {
+        return model.isMutable() ? RouteModel.copy(model, true) : model;
+    }
+
 }
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -55,6 +56,14 @@ public class ConfiguredRoutes implements Serializable {
 
     private final Map<Class<? extends Exception>, Class<? extends Component>> exceptionTargetMap;
 
+    // Resolving urls against fewer routes than this is cheap enough not to
+    // cache, which keeps e.g. session scoped configurations small.
+    private static final int NAVIGATION_TARGET_CACHE_MIN_ROUTES = 100;
+
+    // Recently resolved navigation urls. The resolution of an url never
+    // changes as the configuration is immutable.
+    private transient volatile NavigationTargetCache navigationTargetCache;
+
     /**
      * Create an immutable RouteConfiguration.
      */
@@ -74,6 +83,11 @@ public class ConfiguredRoutes implements Serializable {
      *            original configuration to get data from
      */
     public ConfiguredRoutes(ConfigureRoutes original) {
+        this(original, model -> RouteModel.copy(model, false));
+    }
+
+    private ConfiguredRoutes(ConfigureRoutes original,
+            Function<RouteModel, RouteModel> toImmutable) {
         Map<String, RouteTarget> originalRouteMap = new HashMap<>();
         Map<Class<? extends Component>, String> originalTargetRouteMap = new HashMap<>();
         Map<Class<? extends Exception>, Class<? extends Component>> originalExceptionTargetMap = new HashMap<>();
@@ -85,10 +99,12 @@ public class ConfiguredRoutes implements Serializable {
         originalTargetRouteMap.putAll(original.getTargetRoutes());
         originalExceptionTargetMap.putAll(original.getExceptionHandlers());
 
-        Map<Class<? extends Component>, RouteModel> originalTargetRouteModelMap = original
-                .copyTargetRouteModels(false);
+        Map<Class<? extends Component>, RouteModel> originalTargetRouteModelMap = new HashMap<>();
+        original.getTargetRouteModelMap()
+                .forEach((target, model) -> originalTargetRouteModelMap
+                        .put(target, toImmutable.apply(model)));
 
-        this.routeModel = RouteModel.copy(original.getRouteModel(), false);
+        this.routeModel = toImmutable.apply(original.getRouteModel());
         this.routeMap = originalRouteMap.isEmpty() ? Collections.emptyMap()
                 : Collections.unmodifiableMap(originalRouteMap);
         this.targetRouteMap = originalTargetRouteMap.isEmpty()
@@ -102,6 +118,21 @@ public class ConfiguredRoutes implements Serializable {
                 : Collections.unmodifiableMap(originalExceptionTargetMap);
     }
 
+    /**
+     * Create an immutable configuration that takes over the route models of
+     * the given configuration instead of copying them. Route models that have
+     * not been modified are thereby shared between consecutive configurations.
+     * <p>
+     * The given configuration must be discarded afterwards.
+     *
+     * @param original
+     *            configuration to take the data from, not <code>null</code>
+     * @return an immutable configuration
+     */
+    static ConfiguredRoutes freeze(ConfigureRoutes original) {
+        return new ConfiguredRoutes(original, RouteModel::freeze);
+    }
+
     protected Map<String, RouteTarget> getRoutesMap() {
         return routeMap;
     }
@@ -193,7 +224,26 @@ public class ConfiguredRoutes implements Serializable {
      * @since 4.0
      */
     public NavigationRouteTarget getNavigationRouteTarget(String url) {
-        return getRouteModel().getNavigationRouteTarget(url);
+        if (url == null
+                || routeMap.size() < NAVIGATION_TARGET_CACHE_MIN_ROUTES) {
+            return getRouteModel().getNavigationRouteTarget(url);
+        }
+        NavigationTargetCache cache = getNavigationTargetCache();
+        NavigationRouteTarget result = cache.get(url);
+        if (result == null) {
+            result = getRouteModel().getNavigationRouteTarget(url);
+            cache.put(url, result);
+        }
+        return result;
+    }
+
+    private NavigationTargetCache getNavigationTargetCache() {
+        NavigationTargetCache cache = navigationTargetCache;
+        if (cache == null) {
+            cache = new NavigationTargetCache();
+            navigationTargetCache = cache;
+        }
+        return cache;
     }
 
     /**
@@ -488,4 +538,26 @@ public class ConfiguredRoutes implements Serializable {
         return templates;
     }
 
+    /**
+     * Keeps recently resolved navigation urls. Lookups don't take a lock, so
+     * instead of tracking the least recently used url, all urls are evicted
+     * at once when the cache is full.
+     */
+    private static class NavigationTargetCache {
+
+        private static final int MAX_SIZE = 1000;
+
+        private final Map<String, NavigationRouteTarget> targets = new ConcurrentHashMap<>();
+
+        private NavigationRouteTarget get(String url) {
+            return targets.get(url);
+        }
+
+        private void put(String url, NavigationRouteTarget target) {
+            if (targets.size() >= MAX_SIZE) {
+                targets.clear();
+            }
+            targets.put(url, target);
+        }
+    }
 }
@@ -70,6 +70,28 @@ class RouteModel implements Serializable {
         return new RouteModel(new RouteSegment(original.root), mutable);
     }
 
+    /**
+     * Makes the given model immutable without copying it. The model must not
+     * be modified through any other reference afterwards.
+     *
+     * @param model
+     *            the model to make immutable.
+     * @return the same model instance.
+     */
+    static RouteModel freeze(RouteModel model) {
+        model.mutable = false;
+        return model;
+    }
+
+    /**
+     * Gets whether this model can be modified.
+     *
+     * @return true if this model is mutable, otherwise false.
+     */
+    boolean isMutable() {
+        return mutable;
+    }
+
     /**
      * Collects all routes mapping the template with the {@link RouteTarget}.
      *
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects access tasks that are enqueued from background threads during a
+ * short time window and runs them in one batch.
+ * <p>
+ * Without coalescing, each {@link VaadinSession#access(Command)} call from a
+ * thread that does not hold the session lock acquires the lock, runs the task
+ * and pushes the changes right away. A thread that updates the UI many times
+ * per second thus causes as many lock acquisitions and push messages. With
+ * coalescing, the first task enqueued for a session schedules the queue to be
+ * purged after the window has passed, and all tasks enqueued in the meantime
+ * are run under the same lock hold and pushed in one message per UI. Tasks
+ * that are enqueued while the session is locked are still run when the lock
+ * is released.
+ * <p>
+ * Coalescing is enabled with
+ * {@link InitParameters#SERVLET_PARAMETER_ACCESS_COALESCING_WINDOW} and the
+ * coalescer is available through {@link VaadinService#getAccessTaskCoalescer()}.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class AccessTaskCoalescer implements Serializable {
+
+    /**
+     * Set while the current thread purges a session on behalf of the
+     * coalescer.
+     */
+    private static final ThreadLocal<Boolean> PURGING = new ThreadLocal<>();
+
+    private final VaadinService service;
+
+    private final int windowMillis;
+
+    private final Set<VaadinSession> scheduled = ConcurrentHashMap
+            .newKeySet();
+
+    private final AtomicLong batchCount = new AtomicLong();
+
+    private final AtomicLong taskCount = new AtomicLong();
+
+    private final AtomicLong maxBatchSize = new AtomicLong();
+
+    private transient volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a new coalescer for the given service.
+     *
+     * @param service
+     *            the service whose sessions to purge, not <code>null</code>
+     * @param windowMillis
+     *            the time to collect tasks before running them, in
+     *            milliseconds, must be positive
+     */
+    AccessTaskCoalescer(VaadinService service, int windowMillis) {
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException(
+                    "Coalescing window must be positive");
+        }
+        this.service = service;
+        this.windowMillis = windowMillis;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "VaadinAccessTaskCoalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Makes sure the access queue of the given session is purged once the
+     * coalescing window has passed.
+     *
+     * @param session
+     *            the session with pending access tasks, not <code>null</code>
+     */
+    void schedule(VaadinSession session) {
+        if (!scheduled.add(session)) {
+            // Already scheduled, the task will run with the others
+            return;
+        }
+        ScheduledExecutorService executor = scheduler;
+        try {
+            if (executor != null) {
+                executor.schedule(() -> purgeLater(session), windowMillis,
+                        TimeUnit.MILLISECONDS);
+                return;
+            }
+        } catch (RejectedExecutionException e) {
+            // Stopped concurrently, purge right away below
+        }
+        scheduled.remove(session);
+        service.ensureAccessQueuePurged(session);
+    }
+
+    /**
+     * Stops scheduling purges. Sessions with scheduled purges are purged
+     * right away.
+     */
+    synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        for (VaadinSession session : scheduled) {
+            purge(session);
+        }
+    }
+
+    /**
+     * Records a batch of access tasks that has been run for a session. Only
+     * batches run by a purge that the coalescer has scheduled are recorded, so
+     * that tasks run when a request releases the lock do not count as merged.
+     *
+     * @param tasks
+     *            the number of tasks in the batch
+     */
+    void batchRun(int tasks) {
+        if (tasks == 0 || PURGING.get() == null) {
+            return;
+        }
+        batchCount.incrementAndGet();
+        taskCount.addAndGet(tasks);
+        maxBatchSize.accumulateAndGet(tasks, Math::max);
+    }
+
+    private void purgeLater(VaadinSession session) {
+        try {
+            // Run the tasks outside of the timer thread so that purging
+            // sessions with slow tasks does not delay the other sessions
+            service.getExecutor().execute(() -> purge(session));
+        } catch (RuntimeException e) {
+            purge(session);
+        }
+    }
+
+    private void purge(VaadinSession session) {
+        // Remove before purging so that tasks enqueued while the queue is
+        // being purged schedule a new purge
+        scheduled.remove(session);
+        PURGING.set(Boolean.TRUE);
+        try {
+            service.ensureAccessQueuePurged(session);
+        } catch (RuntimeException e) {
+            getLogger().debug("Unable to run the access tasks of a session",
+                    e);
+        } finally {
+            PURGING.remove();
+        }
+    }
+
+    /**
+     * Gets the coalescing window.
+     *
+     * @return the time to collect tasks before running them, in milliseconds
+     */
+    public int getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * Gets the number of batches of access tasks that the coalescer has run.
+     *
+     * @return the number of batches
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Gets the total number of access tasks that have been run in batches.
+     *
+     * @return the number of tasks
+     */
+    public long getTaskCount() {
+        return taskCount.get();
+    }
+
+    /**
+     * Gets the largest number of access tasks that have been run in one
+     * batch.
+     *
+     * @return the size of the largest batch
+     */
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /**
+     * Gets the average number of access tasks run in one batch. With
+     * automatic push, this is the average number of tasks merged into one
+     * push message.
+     *
+     * @return the average batch size, or 0 if no batches have been run
+     */
+    public double getAverageBatchSize() {
+        long batches = batchCount.get();
+        return batches == 0 ? 0 : (double) taskCount.get() / batches;
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(AccessTaskCoalescer.class.getName());
+    }
+}
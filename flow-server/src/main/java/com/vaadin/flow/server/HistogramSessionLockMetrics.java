@@ -0,0 +1,102 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default {@link SessionLockMetrics} implementation that keeps
+ * {@link SessionLockStatistics} in memory for all lock holds of a service, per
+ * lock owner and, if enabled, per route.
+ * <p>
+ * To keep the memory use bounded, at most {@value #MAX_KEYS} different owners
+ * and routes are tracked. Further owners or routes are aggregated under
+ * {@link SessionLockSample#OWNER_OTHER}.
+ *
+ * @see VaadinService#getSessionLockMetrics()
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class HistogramSessionLockMetrics implements SessionLockMetrics {
+
+    /**
+     * The maximum number of owners and routes that are tracked separately.
+     */
+    public static final int MAX_KEYS = 256;
+
+    private final SessionLockStatistics total = new SessionLockStatistics();
+
+    private final Map<String, SessionLockStatistics> byOwner = new ConcurrentHashMap<>();
+
+    private final Map<String, SessionLockStatistics> byRoute = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(SessionLockSample sample) {
+        total.add(sample);
+        statistics(byOwner, sample.getOwner()).add(sample);
+        if (sample.getRoute() != null) {
+            statistics(byRoute, sample.getRoute()).add(sample);
+        }
+    }
+
+    /**
+     * Gets the statistics of all lock holds.
+     *
+     * @return the statistics of all lock holds, not {@code null}
+     */
+    public SessionLockStatistics getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the statistics of lock holds grouped by the owner of the hold.
+     *
+     * @return an unmodifiable view of the statistics per owner, not
+     *         {@code null}
+     * @see SessionLockSample#getOwner()
+     */
+    public Map<String, SessionLockStatistics> getStatisticsByOwner() {
+        return Collections.unmodifiableMap(byOwner);
+    }
+
+    /**
+     * Gets the statistics of lock holds grouped by the route target of the
+     * current UI. Empty unless
+     * {@link InitParameters#SERVLET_PARAMETER_SESSION_LOCK_METRICS_PER_ROUTE}
+     * is enabled.
+     *
+     * @return an unmodifiable view of the statistics per route target class
+     *         name, not {@code null}
+     * @see SessionLockSample#getRoute()
+     */
+    public Map<String, SessionLockStatistics> getStatisticsByRoute() {
+        return Collections.unmodifiableMap(byRoute);
+    }
+
+    private static SessionLockStatistics statistics(
+            Map<String, SessionLockStatistics> map, String key) {
+        SessionLockStatistics statistics = map.get(key);
+        if (statistics != null) {
+            return statistics;
+        }
+        if (map.size() >= MAX_KEYS) {
+            key = SessionLockSample.OWNER_OTHER;
+        }
+        return map.computeIfAbsent(key, k -> new SessionLockStatistics());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.UI;
+
+/**
+ * Periodically closes UIs whose heartbeat has expired in all open sessions of
+ * a service.
+ * <p>
+ * Inactive UIs are normally closed at the end of a request to the same
+ * session, which means that a UI of a session that receives no more requests
+ * stays in memory until the HTTP session itself expires. The reaper closes
+ * and removes such UIs without waiting for a request. Sessions that are locked
+ * by another thread are skipped and checked again on the next run.
+ * <p>
+ * The reaper is enabled with
+ * {@link com.vaadin.flow.server.InitParameters#SERVLET_PARAMETER_INACTIVE_UI_REAPER_INTERVAL}
+ * and is available through {@link VaadinService#getInactiveUIReaper()}.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class InactiveUIReaper implements Serializable {
+
+    private final VaadinService service;
+
+    private final SessionTracker sessions;
+
+    private final AtomicLong runCount = new AtomicLong();
+
+    private final AtomicLong reapedUICount = new AtomicLong();
+
+    private final AtomicLong releasedNodeCount = new AtomicLong();
+
+    private final AtomicLong skippedSessionCount = new AtomicLong();
+
+    /**
+     * Creates a new reaper for the given service and starts tracking the
+     * sessions of the service.
+     *
+     * @param service
+     *            the service whose sessions to check, not <code>null</code>
+     */
+    InactiveUIReaper(VaadinService service) {
+        this.service = service;
+        sessions = new SessionTracker(service, "VaadinInactiveUIReaper");
+    }
+
+    /**
+     * Starts tracking the given session.
+     *
+     * @param session
+     *            the session to check on subsequent runs, not
+     *            <code>null</code>
+     */
+    void track(VaadinSession session) {
+        sessions.track(session);
+    }
+
+    /**
+     * Starts running the reaper periodically in a background thread.
+     *
+     * @param intervalSeconds
+     *            the interval between runs in seconds, must be positive
+     */
+    void start(int intervalSeconds) {
+        sessions.start(intervalSeconds, this::reap);
+    }
+
+    /**
+     * Stops the background thread and stops tracking sessions.
+     */
+    void stop() {
+        sessions.stop();
+    }
+
+    /**
+     * Checks all tracked sessions once and closes their inactive UIs.
+     */
+    void reap() {
+        long reapedBefore = reapedUICount.get();
+        long nodesBefore = releasedNodeCount.get();
+        // Locked sessions are cleaned up at the end of the request using
+        // them or on the next run
+        skippedSessionCount.addAndGet(
+                sessions.forEachLockedSession(this::reapSession,
+                        "Unable to close inactive UIs of a Vaadin session"));
+        runCount.incrementAndGet();
+        long reaped = reapedUICount.get() - reapedBefore;
+        if (reaped > 0) {
+            getLogger().debug(
+                    "Closed {} inactive UIs holding {} state nodes in {} sessions",
+                    reaped, releasedNodeCount.get() - nodesBefore,
+                    sessions.size());
+        }
+    }
+
+    private void reapSession(VaadinSession session) {
+        int nodes = 0;
+        int uis = 0;
+        for (UI ui : session.getUIs()) {
+            if (!ui.isClosing() && !service.isUIActive(ui)) {
+                nodes += ui.getInternals().getStateTree().getNodeCount();
+                uis++;
+            }
+        }
+        if (uis == 0) {
+            return;
+        }
+        service.cleanupInactiveUIs(session);
+        reapedUICount.addAndGet(uis);
+        releasedNodeCount.addAndGet(nodes);
+    }
+
+    /**
+     * Gets the number of times the reaper has checked the sessions.
+     *
+     * @return the number of completed runs
+     */
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    /**
+     * Gets the total number of inactive UIs that the reaper has closed.
+     *
+     * @return the number of closed UIs
+     */
+    public long getReapedUICount() {
+        return reapedUICount.get();
+    }
+
+    /**
+     * Gets the total number of state nodes that were attached to the UIs that
+     * the reaper has closed. This gives an estimate of the amount of memory
+     * that has been released.
+     *
+     * @return the number of released state nodes
+     */
+    public long getReleasedNodeCount() {
+        return releasedNodeCount.get();
+    }
+
+    /**
+     * Gets the number of times a session was skipped because it was locked by
+     * another thread.
+     *
+     * @return the number of skipped session checks
+     */
+    public long getSkippedSessionCount() {
+        return skippedSessionCount.get();
+    }
+
+    /**
+     * Gets the number of sessions currently tracked by the reaper.
+     *
+     * @return the number of tracked sessions
+     */
+    public int getTrackedSessionCount() {
+        return sessions.size();
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(InactiveUIReaper.class.getName());
+    }
+}
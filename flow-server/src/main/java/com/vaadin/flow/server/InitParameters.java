@@ -446,4 +446,95 @@ public class InitParameters implements Serializable {
     @Deprecated
     public static final String URL_SAFE_SCHEMES_LEGACY = "com.vaadin.safeUrlSchemes";
 
+    /**
+     * Configuration name for enabling streaming serialization of UIDL
+     * responses. When enabled, state changes are serialized into a buffer one
+     * change at a time instead of first building the complete response as a
+     * JSON tree and string.
+     *
+     * @since 25.3
+     */
+    public static final String SERVLET_PARAMETER_STREAMING_UIDL = "streamingUidl";
+
+    /**
+     * Configuration name for the interval, in seconds, at which a background
+     * task closes UIs whose heartbeat has expired, also in sessions that
+     * receive no requests. The task is disabled when the value is not
+     * positive, which is the default.
+     *
+     * @since 25.3
+     */
+    public static final String SERVLET_PARAMETER_INACTIVE_UI_REAPER_INTERVAL = "inactiveUIReaperInterval";
+
+    /**
+     * Configuration name for the interval, in seconds, at which a background
+     * task computes and reports the memory usage of the UIs of all sessions.
+     * The task is disabled when the value is not positive, which is the
+     * default.
+     *
+     * @since 25.3
+     */
+    public static final String SERVLET_PARAMETER_MEMORY_USAGE_REPORT_INTERVAL = "memoryUsageReportInterval";
+
+    /**
+     * Configuration name for enabling collection of session lock wait and hold
+     * time metrics, see {@link VaadinService#getSessionLockMetrics()}.
+     *
+     * @since 25.3
+     */
+    public static final String SERVLET_PARAMETER_SESSION_LOCK_METRICS = "sessionLockMetrics";
+
+    /**
+     * Configuration name for additionally grouping session lock metrics by the
+     * route target of the current UI. Has no effect unless
+     * {@link #SERVLET_PARAMETER_SESSION_LOCK_METRICS} is enabled.
+     *
+     * @since 25.3
+     */
+    public static final String SERVLET_PARAMETER_SESSION_LOCK_METRICS_PER_ROUTE = "sessionLockMetricsPerRoute";
+
+    /**
+     * Configuration name for the time window, in milliseconds, during which
+     * access tasks enqueued from background threads are collected before they
+     * are run together and the resulting changes are pushed in one message.
+     * Coalescing is disabled when the value is not positive, which is the
+     * default.
+     *
+     * @since 25.3
+     */
+    public static final String SERVLET_PARAMETER_ACCESS_COALESCING_WINDOW = "accessCoalescingWindow";
+
+    /**
+     * Configuration name for enabling the compact UIDL encoding, which replaces
+     * the keys and type names repeated in every state change with short
+     * aliases. Once the client has received a compact message, it also sends
+     * its RPC invocations in the compact encoding.
+     *
+     * @since 25.3
+     */
+    public static final String SERVLET_PARAMETER_COMPACT_UIDL = "compactUidl";
+
+    /**
+     * Configuration name for the size in bytes from which UIDL responses are
+     * gzip compressed when the browser accepts it. A negative value disables
+     * compression.
+     *
+     * @since 25.3
+     */
+    public static final String SERVLET_PARAMETER_UIDL_COMPRESSION_THRESHOLD = "uidlCompressionThreshold";
+
+    /**
+     * Configuration name for serving <code>index.html</code> in production
+     * mode from a page that is compiled once into static segments, instead of
+     * modifying and serializing a copy of the page document for each request.
+     * The page settings of the
+     * {@link com.vaadin.flow.component.page.AppShellConfigurator} are then
+     * applied only once. The page document is still built for each request if
+     * there are
+     * {@link com.vaadin.flow.server.communication.IndexHtmlRequestListener}s.
+     *
+     * @since 25.3
+     */
+    public static final String SERVLET_PARAMETER_PRECOMPILED_INDEX_HTML = "precompiledIndexHtml";
+
 }
@@ -36,17 +36,23 @@ import java.util.concurrent.locks.ReentrantLock;
  * passivation/activation it behaves as a plain {@link ReentrantLock} until a
  * fresh instance is created.
  * <p>
- * Every acquisition path is instrumented so events stay balanced regardless of
- * how the lock was taken: {@link #lock()} and {@link #lockInterruptibly()}
- * block and so report {@code lockRequested} before the attempt to capture the
- * real wait time, while the non-blocking {@link #tryLock()} /
- * {@link #tryLock(long, TimeUnit)} report {@code lockRequested} and
- * {@code lockAcquired} together only on a successful outermost acquisition
- * (their wait time is effectively zero). This matters because
+ * Every acquisition path is instrumented so that every release is preceded by
+ * an acquisition, regardless of how the lock was taken. The blocking
+ * {@link #lock()}, {@link #lockInterruptibly()} and
+ * {@link #tryLock(long, TimeUnit)} with a positive timeout report
+ * {@code lockRequested} before the attempt to capture the real wait time. An
+ * interrupted or timed out attempt is not followed by {@code lockAcquired}.
+ * The non-blocking {@link #tryLock()} and {@code tryLock} without a timeout
+ * report {@code lockRequested} and {@code lockAcquired} together only on a
+ * successful outermost acquisition (their wait time is effectively zero). This
+ * matters because
  * {@link VaadinService#ensureAccessQueuePurged(VaadinSession)} acquires the
  * lock with {@code tryLock} and then {@link #unlock() unlocks}; instrumenting
  * only {@code lock()} would leave that path firing {@code lockReleased} with no
  * matching acquire.
+ * <p>
+ * {@link SessionLockAcquiredEvent#isContended()} tells whether the lock was
+ * held by another thread when a blocking acquisition started.
  */
 class InstrumentedReentrantLock extends ReentrantLock {
 
@@ -59,24 +65,29 @@ class InstrumentedReentrantLock extends ReentrantLock {
     @Override
     public void lock() {
         boolean outermost = getHoldCount() == 0;
+        boolean contended = false;
         if (outermost) {
             fireLockRequested();
+            contended = isLocked();
         }
         super.lock();
         if (outermost) {
-            fireLockAcquired();
+            fireLockAcquired(contended);
         }
     }
 
     @Override
     public void lockInterruptibly() throws InterruptedException {
         boolean outermost = getHoldCount() == 0;
-        // Report after a confirmed acquisition: lockInterruptibly may abort
-        // with InterruptedException without taking the lock.
-        super.lockInterruptibly();
+        boolean contended = false;
         if (outermost) {
             fireLockRequested();
-            fireLockAcquired();
+            contended = isLocked();
+        }
+        // Nothing more is reported if interrupted before taking the lock
+        super.lockInterruptibly();
+        if (outermost) {
+            fireLockAcquired(contended);
         }
     }
 
@@ -86,7 +97,7 @@ class InstrumentedReentrantLock extends ReentrantLock {
         boolean acquired = super.tryLock();
         if (outermost && acquired) {
             fireLockRequested();
-            fireLockAcquired();
+            fireLockAcquired(false);
         }
         return acquired;
     }
@@ -95,10 +106,18 @@ class InstrumentedReentrantLock extends ReentrantLock {
     public boolean tryLock(long timeout, TimeUnit unit)
             throws InterruptedException {
         boolean outermost = getHoldCount() == 0;
+        boolean blocking = outermost && timeout > 0;
+        boolean contended = false;
+        if (blocking) {
+            fireLockRequested();
+            contended = isLocked();
+        }
         boolean acquired = super.tryLock(timeout, unit);
         if (outermost && acquired) {
-            fireLockRequested();
-            fireLockAcquired();
+            if (!blocking) {
+                fireLockRequested();
+            }
+            fireLockAcquired(contended);
         }
         return acquired;
     }
@@ -126,11 +145,12 @@ class InstrumentedReentrantLock extends ReentrantLock {
         }
     }
 
-    private void fireLockAcquired() {
+    private void fireLockAcquired(boolean contended) {
         VaadinServiceEventBus eventBus = eventBus();
         if (eventBus != null
                 && eventBus.hasListener(SessionLockAcquiredEvent.class)) {
-            eventBus.fireEvent(new SessionLockAcquiredEvent(service));
+            eventBus.fireEvent(
+                    new SessionLockAcquiredEvent(service, contended));
         }
     }
 
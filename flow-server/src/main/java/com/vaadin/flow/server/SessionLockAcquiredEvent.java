@@ -24,6 +24,8 @@ package com.vaadin.flow.server;
  */
 public class SessionLockAcquiredEvent extends AbstractSessionLockEvent {
 
+    private final boolean contended;
+
     /**
      * Creates a new event.
      *
@@ -32,6 +34,34 @@ public class SessionLockAcquiredEvent extends AbstractSessionLockEvent {
      *            released, not {@code null}
      */
     public SessionLockAcquiredEvent(VaadinService service) {
+        this(service, false);
+    }
+
+    /**
+     * Creates a new event.
+     *
+     * @param service
+     *            the Vaadin service whose session lock is being acquired or
+     *            released, not {@code null}
+     * @param contended
+     *            {@code true} if the lock was held by another thread when the
+     *            acquisition was requested
+     * @since 25.3
+     */
+    public SessionLockAcquiredEvent(VaadinService service, boolean contended) {
         super(service);
+        this.contended = contended;
+    }
+
+    /**
+     * Checks whether the lock was held by another thread when the acquisition
+     * was requested, so that the acquiring thread had to wait for it.
+     *
+     * @return {@code true} if the acquisition was contended, {@code false}
+     *         otherwise
+     * @since 25.3
+     */
+    public boolean isContended() {
+        return contended;
     }
 }
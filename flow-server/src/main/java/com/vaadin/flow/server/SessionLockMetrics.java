@@ -0,0 +1,49 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+
+/**
+ * Receives the wait and hold times of Vaadin session locks when session lock
+ * metrics are enabled with
+ * {@link InitParameters#SERVLET_PARAMETER_SESSION_LOCK_METRICS}.
+ * <p>
+ * An implementation can be provided through
+ * {@link com.vaadin.flow.di.Lookup}, for example to publish the samples to a
+ * monitoring system. If no implementation is available,
+ * {@link HistogramSessionLockMetrics} is used.
+ * <p>
+ * {@link #record(SessionLockSample)} is called on the thread that released the
+ * lock, right after it was released. Implementations must be thread safe, fast
+ * and non-blocking. Exceptions thrown from an implementation are logged and
+ * otherwise ignored.
+ *
+ * @see VaadinService#getSessionLockMetrics()
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+@FunctionalInterface
+public interface SessionLockMetrics extends Serializable {
+
+    /**
+     * Records one outermost hold of a session lock.
+     *
+     * @param sample
+     *            the timing of the lock hold, not {@code null}
+     */
+    void record(SessionLockSample sample);
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import com.vaadin.flow.component.HasElement;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Turns the session lock events of a service into {@link SessionLockSample}s
+ * for a {@link SessionLockMetrics} instance.
+ * <p>
+ * The events of an outermost lock hold are fired on the same thread, so the
+ * timing of the holds in progress is kept in a thread local stack. A stack is
+ * needed since a thread may hold the locks of several sessions at the same
+ * time.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+final class SessionLockMetricsCollector implements Serializable {
+
+    private static final ThreadLocal<String> OWNER = new ThreadLocal<>();
+
+    private static final ThreadLocal<Deque<Hold>> HOLDS = ThreadLocal
+            .withInitial(ArrayDeque::new);
+
+    private final SessionLockMetrics metrics;
+
+    private final boolean perRoute;
+
+    private final Registration registration;
+
+    private static final class Hold {
+        private final String owner;
+        private final long requested;
+        private boolean held;
+        private long acquired;
+        private boolean contended;
+        private long accessTaskNanos;
+
+        private Hold(String owner, long requested) {
+            this.owner = owner;
+            this.requested = requested;
+        }
+    }
+
+    /**
+     * Creates a new collector and starts listening to the session lock events
+     * of the given service.
+     *
+     * @param service
+     *            the service whose session locks to observe, not
+     *            {@code null}
+     * @param metrics
+     *            the metrics to record the lock holds to, not {@code null}
+     * @param perRoute
+     *            whether the route target of the current UI should be included
+     *            in the samples
+     */
+    SessionLockMetricsCollector(VaadinService service,
+            SessionLockMetrics metrics, boolean perRoute) {
+        this.metrics = metrics;
+        this.perRoute = perRoute;
+        VaadinServiceEventBus eventBus = service.getEventBus();
+        registration = Registration.combine(
+                eventBus.addListener(SessionLockRequestedEvent.class,
+                        event -> lockRequested()),
+                eventBus.addListener(SessionLockAcquiredEvent.class,
+                        this::lockAcquired),
+                eventBus.addListener(SessionLockReleasedEvent.class,
+                        event -> lockReleased()));
+    }
+
+    /**
+     * Gets the metrics that lock holds are recorded to.
+     *
+     * @return the metrics, not {@code null}
+     */
+    SessionLockMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Stops listening to session lock events.
+     */
+    void stop() {
+        registration.remove();
+    }
+
+    /**
+     * Sets the owner reported for session locks acquired by the current thread
+     * from now on.
+     *
+     * @param owner
+     *            the owner, or {@code null} to determine the owner
+     *            automatically
+     * @return the previous owner of the current thread, to be restored with
+     *         this method afterwards
+     */
+    static String setOwner(String owner) {
+        String previous = OWNER.get();
+        if (owner == null) {
+            OWNER.remove();
+        } else {
+            OWNER.set(owner);
+        }
+        return previous;
+    }
+
+    /**
+     * Adds time spent running pending access tasks to the innermost lock hold
+     * of the current thread.
+     *
+     * @param nanos
+     *            the time spent running access tasks in nanoseconds
+     */
+    void accessTasksRun(long nanos) {
+        Deque<Hold> holds = HOLDS.get();
+        dropAbortedRequests(holds);
+        Hold hold = holds.peek();
+        if (hold != null) {
+            hold.accessTaskNanos += nanos;
+        }
+    }
+
+    private void lockRequested() {
+        Deque<Hold> holds = HOLDS.get();
+        dropAbortedRequests(holds);
+        holds.push(new Hold(getOwner(), System.nanoTime()));
+    }
+
+    private void lockAcquired(SessionLockAcquiredEvent event) {
+        Hold hold = HOLDS.get().peek();
+        if (hold != null) {
+            hold.held = true;
+            hold.acquired = System.nanoTime();
+            hold.contended = event.isContended();
+        }
+    }
+
+    private void lockReleased() {
+        Deque<Hold> holds = HOLDS.get();
+        dropAbortedRequests(holds);
+        Hold hold = holds.poll();
+        if (holds.isEmpty()) {
+            HOLDS.remove();
+        }
+        if (hold == null || !hold.held) {
+            // Listening started while the lock was being held
+            return;
+        }
+        long now = System.nanoTime();
+        metrics.record(new SessionLockSample(hold.owner,
+                perRoute ? getRoute() : null, hold.acquired - hold.requested,
+                now - hold.acquired, hold.accessTaskNanos, hold.contended));
+    }
+
+    /*
+     * A request that was interrupted or timed out is never acquired. A thread
+     * waits for one lock at a time, so such a hold is always the innermost.
+     */
+    private static void dropAbortedRequests(Deque<Hold> holds) {
+        while (!holds.isEmpty() && !holds.peek().held) {
+            holds.pop();
+        }
+    }
+
+    private static String getOwner() {
+        String owner = OWNER.get();
+        if (owner != null) {
+            return owner;
+        }
+        return VaadinRequest.getCurrent() != null
+                ? SessionLockSample.OWNER_REQUEST
+                : SessionLockSample.OWNER_OTHER;
+    }
+
+    private static String getRoute() {
+        UI ui = UI.getCurrent();
+        if (ui == null) {
+            return null;
+        }
+        List<HasElement> chain = ui.getInternals()
+                .getActiveRouterTargetsChain();
+        return chain.isEmpty() ? null : chain.get(0).getClass().getName();
+    }
+}
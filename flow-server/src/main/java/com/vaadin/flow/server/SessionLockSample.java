@@ -0,0 +1,164 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+
+/**
+ * The timing of one outermost hold of a Vaadin session lock.
+ * <p>
+ * The owner tells which part of the framework acquired the lock: the class
+ * name of the {@link RequestHandler} handling the request,
+ * {@link #OWNER_ACCESS} for a lock taken to run pending
+ * {@link com.vaadin.flow.component.UI#access(Command)} tasks,
+ * {@link #OWNER_ACCESS_SYNCHRONOUSLY} for
+ * {@link VaadinSession#accessSynchronously(Command)}, {@link #OWNER_REQUEST}
+ * for other locking during a request and {@link #OWNER_OTHER} for anything
+ * else.
+ *
+ * @see SessionLockMetrics
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public final class SessionLockSample implements Serializable {
+
+    /**
+     * Owner of a lock acquired to run pending access tasks.
+     */
+    public static final String OWNER_ACCESS = "UI.access";
+
+    /**
+     * Owner of a lock acquired by
+     * {@link VaadinSession#accessSynchronously(Command)}.
+     */
+    public static final String OWNER_ACCESS_SYNCHRONOUSLY = "UI.accessSynchronously";
+
+    /**
+     * Owner of a lock acquired during a request outside of any request
+     * handler.
+     */
+    public static final String OWNER_REQUEST = "request";
+
+    /**
+     * Owner of a lock acquired outside of a request by application code.
+     */
+    public static final String OWNER_OTHER = "other";
+
+    private final String owner;
+    private final String route;
+    private final long waitNanos;
+    private final long holdNanos;
+    private final long accessTaskNanos;
+    private final boolean contended;
+
+    /**
+     * Creates a new sample.
+     *
+     * @param owner
+     *            the part of the framework that acquired the lock, not
+     *            {@code null}
+     * @param route
+     *            the class name of the route target of the current UI, or
+     *            {@code null} if not known
+     * @param waitNanos
+     *            the time spent waiting for the lock in nanoseconds
+     * @param holdNanos
+     *            the time the lock was held in nanoseconds
+     * @param accessTaskNanos
+     *            the part of the hold time spent running pending access tasks
+     *            in nanoseconds
+     * @param contended
+     *            {@code true} if another thread held the lock when the
+     *            acquisition was requested
+     */
+    public SessionLockSample(String owner, String route, long waitNanos,
+            long holdNanos, long accessTaskNanos, boolean contended) {
+        this.owner = owner;
+        this.route = route;
+        this.waitNanos = waitNanos;
+        this.holdNanos = holdNanos;
+        this.accessTaskNanos = accessTaskNanos;
+        this.contended = contended;
+    }
+
+    /**
+     * Gets the part of the framework that acquired the lock.
+     *
+     * @return the owner of the lock hold, not {@code null}
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Gets the class name of the route target shown in the UI that was
+     * current when the lock was released. Only available when
+     * {@link InitParameters#SERVLET_PARAMETER_SESSION_LOCK_METRICS_PER_ROUTE}
+     * is enabled.
+     *
+     * @return the route target class name, or {@code null} if not known
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * Gets the time the acquiring thread waited for the lock.
+     *
+     * @return the wait time in nanoseconds
+     */
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    /**
+     * Gets the time the lock was held.
+     *
+     * @return the hold time in nanoseconds
+     */
+    public long getHoldNanos() {
+        return holdNanos;
+    }
+
+    /**
+     * Gets the part of the hold time that was spent running
+     * {@link com.vaadin.flow.component.UI#access(Command)} tasks that other
+     * threads had enqueued while the lock was held.
+     *
+     * @return the time spent in access tasks in nanoseconds
+     */
+    public long getAccessTaskNanos() {
+        return accessTaskNanos;
+    }
+
+    /**
+     * Checks whether another thread held the lock when the acquisition was
+     * requested.
+     *
+     * @return {@code true} if the acquisition was contended
+     */
+    public boolean isContended() {
+        return contended;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionLockSample[owner=" + owner + ", route=" + route
+                + ", waitNanos=" + waitNanos + ", holdNanos=" + holdNanos
+                + ", accessTaskNanos=" + accessTaskNanos + ", contended="
+                + contended + "]";
+    }
+}
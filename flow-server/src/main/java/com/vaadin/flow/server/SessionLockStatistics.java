@@ -0,0 +1,239 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated session lock wait and hold times with histograms.
+ * <p>
+ * The histograms use exponential buckets: bucket {@code i} counts durations
+ * that are less than {@code 2^i} nanoseconds but at least {@code 2^(i-1)}
+ * nanoseconds. The last bucket also counts all longer durations. Percentiles
+ * are reported as the upper bound of the bucket they fall into, so they are
+ * accurate to within a factor of two.
+ *
+ * @see HistogramSessionLockMetrics
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class SessionLockStatistics implements Serializable {
+
+    /**
+     * The number of buckets in the histograms. The last bucket starts at
+     * roughly 275 seconds.
+     */
+    public static final int BUCKET_COUNT = 40;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder contendedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalHoldNanos = new LongAdder();
+    private final LongAdder totalAccessTaskNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong maxHoldNanos = new AtomicLong();
+    private final AtomicLongArray waitHistogram = new AtomicLongArray(
+            BUCKET_COUNT);
+    private final AtomicLongArray holdHistogram = new AtomicLongArray(
+            BUCKET_COUNT);
+
+    /**
+     * Adds a lock hold to these statistics.
+     *
+     * @param sample
+     *            the lock hold to add, not {@code null}
+     */
+    void add(SessionLockSample sample) {
+        long wait = Math.max(0, sample.getWaitNanos());
+        long hold = Math.max(0, sample.getHoldNanos());
+        count.increment();
+        if (sample.isContended()) {
+            contendedCount.increment();
+        }
+        totalWaitNanos.add(wait);
+        totalHoldNanos.add(hold);
+        totalAccessTaskNanos.add(sample.getAccessTaskNanos());
+        maxWaitNanos.accumulateAndGet(wait, Math::max);
+        maxHoldNanos.accumulateAndGet(hold, Math::max);
+        waitHistogram.incrementAndGet(bucketOf(wait));
+        holdHistogram.incrementAndGet(bucketOf(hold));
+    }
+
+    /**
+     * Gets the number of recorded lock holds.
+     *
+     * @return the number of lock holds
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the number of lock acquisitions that had to wait for another
+     * thread to release the lock.
+     *
+     * @return the number of contended acquisitions
+     */
+    public long getContendedCount() {
+        return contendedCount.sum();
+    }
+
+    /**
+     * Gets the total time spent waiting for the lock.
+     *
+     * @return the total wait time in nanoseconds
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    /**
+     * Gets the total time the lock was held.
+     *
+     * @return the total hold time in nanoseconds
+     */
+    public long getTotalHoldNanos() {
+        return totalHoldNanos.sum();
+    }
+
+    /**
+     * Gets the part of the total hold time that was spent running access
+     * tasks enqueued by other threads.
+     *
+     * @return the total access task time in nanoseconds
+     */
+    public long getTotalAccessTaskNanos() {
+        return totalAccessTaskNanos.sum();
+    }
+
+    /**
+     * Gets the longest time spent waiting for the lock.
+     *
+     * @return the maximum wait time in nanoseconds
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    /**
+     * Gets the longest time the lock was held.
+     *
+     * @return the maximum hold time in nanoseconds
+     */
+    public long getMaxHoldNanos() {
+        return maxHoldNanos.get();
+    }
+
+    /**
+     * Gets a snapshot of the wait time histogram.
+     *
+     * @return the number of wait times per bucket, see
+     *         {@link #getBucketUpperBoundNanos(int)}
+     */
+    public long[] getWaitHistogram() {
+        return snapshot(waitHistogram);
+    }
+
+    /**
+     * Gets a snapshot of the hold time histogram.
+     *
+     * @return the number of hold times per bucket, see
+     *         {@link #getBucketUpperBoundNanos(int)}
+     */
+    public long[] getHoldHistogram() {
+        return snapshot(holdHistogram);
+    }
+
+    /**
+     * Gets an estimate of the given percentile of the wait times.
+     *
+     * @param percentile
+     *            the percentile, between 0 and 100
+     * @return the upper bound in nanoseconds of the bucket containing the
+     *         percentile, or 0 if nothing has been recorded
+     */
+    public long getWaitPercentileNanos(double percentile) {
+        return percentile(getWaitHistogram(), percentile);
+    }
+
+    /**
+     * Gets an estimate of the given percentile of the hold times.
+     *
+     * @param percentile
+     *            the percentile, between 0 and 100
+     * @return the upper bound in nanoseconds of the bucket containing the
+     *         percentile, or 0 if nothing has been recorded
+     */
+    public long getHoldPercentileNanos(double percentile) {
+        return percentile(getHoldHistogram(), percentile);
+    }
+
+    /**
+     * Gets the exclusive upper bound of the durations counted in the given
+     * histogram bucket.
+     *
+     * @param bucket
+     *            the bucket index
+     * @return the upper bound in nanoseconds, or {@link Long#MAX_VALUE} for
+     *         the last bucket
+     */
+    public static long getBucketUpperBoundNanos(int bucket) {
+        if (bucket < 0 || bucket >= BUCKET_COUNT) {
+            throw new IllegalArgumentException(
+                    "Bucket must be between 0 and " + (BUCKET_COUNT - 1));
+        }
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    static int bucketOf(long nanos) {
+        int bucket = 64 - Long.numberOfLeadingZeros(nanos);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    private static long percentile(long[] histogram, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException(
+                    "Percentile must be between 0 and 100");
+        }
+        long total = 0;
+        for (long bucketCount : histogram) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return getBucketUpperBoundNanos(i);
+            }
+        }
+        return getBucketUpperBoundNanos(BUCKET_COUNT - 1);
+    }
+
+    private static long[] snapshot(AtomicLongArray histogram) {
+        long[] result = new long[histogram.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = histogram.get(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Keeps track of the open sessions of a service and periodically runs a task
+ * for them in a background thread.
+ * <p>
+ * The task visits the sessions with
+ * {@link #forEachLockedSession(SerializableConsumer, String)}, which only
+ * runs the given action for sessions that are not locked by another thread, so
+ * that the background thread never waits for a request to finish. Pending
+ * access tasks and automatic push are never run in the background thread.
+ * <p>
+ * Sessions are tracked when they are created and when they are first used in
+ * a request, so that sessions restored from a serialized HTTP session are
+ * tracked as soon as they receive a request.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+class SessionTracker implements Serializable {
+
+    private final VaadinService service;
+
+    private final String threadName;
+
+    private final Set<VaadinSession> sessions = ConcurrentHashMap.newKeySet();
+
+    private final List<Registration> registrations = new ArrayList<>();
+
+    private transient ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a new tracker for the given service and starts tracking the
+     * sessions of the service.
+     *
+     * @param service
+     *            the service whose sessions to track, not <code>null</code>
+     * @param threadName
+     *            the name of the background thread, not <code>null</code>
+     */
+    SessionTracker(VaadinService service, String threadName) {
+        this.service = service;
+        this.threadName = threadName;
+        registrations.add(service.addSessionInitListener(
+                event -> track(event.getSession())));
+        registrations.add(service.addSessionDestroyListener(
+                event -> sessions.remove(event.getSession())));
+    }
+
+    /**
+     * Starts tracking the given session. Does nothing if the session is
+     * already tracked.
+     *
+     * @param session
+     *            the session to track, not <code>null</code>
+     */
+    void track(VaadinSession session) {
+        sessions.add(session);
+    }
+
+    /**
+     * Starts running the given task periodically in a background thread.
+     *
+     * @param intervalSeconds
+     *            the interval between runs in seconds, must be positive
+     * @param task
+     *            the task to run, not <code>null</code>
+     */
+    synchronized void start(int intervalSeconds, Runnable task) {
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        if (scheduler != null) {
+            throw new IllegalStateException(
+                    threadName + " is already running");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(task, intervalSeconds,
+                intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the background thread and stops tracking sessions.
+     */
+    synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        registrations.forEach(Registration::remove);
+        registrations.clear();
+        sessions.clear();
+    }
+
+    /**
+     * Runs the given action for each tracked session while holding the lock
+     * of the session. Sessions that are no longer open are no longer tracked,
+     * and sessions that are locked by another thread are skipped.
+     * <p>
+     * The lock is released without running the pending access tasks of the
+     * session. If there are any, they are run by the executor of the service
+     * instead of the calling thread.
+     *
+     * @param action
+     *            the action to run for each session, not <code>null</code>
+     * @param failureMessage
+     *            the message to log if the action fails for a session, not
+     *            <code>null</code>
+     * @return the number of sessions that were skipped because they were
+     *         locked
+     */
+    int forEachLockedSession(SerializableConsumer<VaadinSession> action,
+            String failureMessage) {
+        int skipped = 0;
+        for (VaadinSession session : sessions) {
+            try {
+                if (!runLocked(session, action)) {
+                    skipped++;
+                }
+            } catch (RuntimeException e) {
+                getLogger().debug(failureMessage, e);
+            }
+        }
+        return skipped;
+    }
+
+    private boolean runLocked(VaadinSession session,
+            SerializableConsumer<VaadinSession> action) {
+        if (!session.getLockInstance().tryLock()) {
+            return false;
+        }
+        try {
+            if (session.getState() != VaadinSessionState.OPEN) {
+                sessions.remove(session);
+            } else if (session.getSession() != null) {
+                action.accept(session);
+            }
+        } finally {
+            // Bypass VaadinSession.unlock() to not run access tasks and push
+            session.getLockInstance().unlock();
+        }
+        /*
+         * Tasks enqueued while the lock was held expect to be run when it is
+         * released
+         */
+        if (!session.getPendingAccessQueue().isEmpty()) {
+            service.getExecutor()
+                    .execute(() -> service.ensureAccessQueuePurged(session));
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of sessions currently tracked.
+     *
+     * @return the number of tracked sessions
+     */
+    int size() {
+        return sessions.size();
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(SessionTracker.class.getName());
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.internal.UIInternals;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.dom.ElementUtil;
+import com.vaadin.flow.internal.StateNode;
+
+/**
+ * A snapshot of the memory used by the state of a UI, broken down by component
+ * type.
+ * <p>
+ * The snapshot is computed by walking the state tree of the UI. Each state node
+ * is attributed to the closest component that it belongs to, which makes it
+ * possible to find out which views and components use the most memory. The
+ * byte counts are estimates based on the number and types of the values stored
+ * in the state nodes, and are meant for comparing UIs and component types with
+ * each other rather than as exact measurements.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class UIMemoryUsage implements Serializable {
+
+    /**
+     * Rough heap size of a state node and its bookkeeping in the state tree,
+     * excluding its features.
+     */
+    private static final int NODE_BYTES = 120;
+
+    /**
+     * The memory used by the state of the components of one type in a UI.
+     */
+    public static class ComponentTypeUsage implements Serializable {
+        private final Class<? extends Component> componentType;
+        private int instanceCount;
+        private int nodeCount;
+        private int featureCount;
+        private long estimatedBytes;
+        private int dataKeyCount;
+
+        private ComponentTypeUsage(
+                Class<? extends Component> componentType) {
+            this.componentType = componentType;
+        }
+
+        /**
+         * Gets the component type.
+         *
+         * @return the component type, not <code>null</code>
+         */
+        public Class<? extends Component> getComponentType() {
+            return componentType;
+        }
+
+        /**
+         * Gets the number of components of this type.
+         *
+         * @return the number of component instances
+         */
+        public int getInstanceCount() {
+            return instanceCount;
+        }
+
+        /**
+         * Gets the number of state nodes that belong to components of this
+         * type, excluding the nodes of any child components.
+         *
+         * @return the number of state nodes
+         */
+        public int getNodeCount() {
+            return nodeCount;
+        }
+
+        /**
+         * Gets the number of initialized node features in the state nodes of
+         * components of this type.
+         *
+         * @return the number of node features
+         */
+        public int getFeatureCount() {
+            return featureCount;
+        }
+
+        /**
+         * Gets the estimated number of bytes used by the state nodes of
+         * components of this type.
+         *
+         * @return the estimated number of bytes
+         */
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+
+        /**
+         * Gets the number of data keys kept in memory for components of this
+         * type, e.g. by data communicators.
+         *
+         * @return the number of data keys
+         */
+        public int getDataKeyCount() {
+            return dataKeyCount;
+        }
+
+        @Override
+        public String toString() {
+            return componentType.getName() + "[instances=" + instanceCount
+                    + ", nodes=" + nodeCount + ", features=" + featureCount
+                    + ", bytes=" + estimatedBytes + ", dataKeys="
+                    + dataKeyCount + "]";
+        }
+    }
+
+    private final int uiId;
+    private final String location;
+    private final int nodeCount;
+    private final int featureCount;
+    private final long estimatedBytes;
+    private final int pendingJavaScriptInvocationCount;
+    private final int dataKeyCount;
+    private final Map<Class<? extends Component>, ComponentTypeUsage> componentTypes;
+
+    private UIMemoryUsage(int uiId, String location, int nodeCount,
+            int featureCount, long estimatedBytes,
+            int pendingJavaScriptInvocationCount, int dataKeyCount,
+            Map<Class<? extends Component>, ComponentTypeUsage> componentTypes) {
+        this.uiId = uiId;
+        this.location = location;
+        this.nodeCount = nodeCount;
+        this.featureCount = featureCount;
+        this.estimatedBytes = estimatedBytes;
+        this.pendingJavaScriptInvocationCount = pendingJavaScriptInvocationCount;
+        this.dataKeyCount = dataKeyCount;
+        this.componentTypes = componentTypes;
+    }
+
+    /**
+     * Computes the memory usage of the given UI.
+     * <p>
+     * The session of the UI must be locked when calling this method.
+     *
+     * @param ui
+     *            the UI to compute the memory usage for, not <code>null</code>
+     * @return the memory usage of the UI, not <code>null</code>
+     */
+    public static UIMemoryUsage compute(UI ui) {
+        ui.getSession().checkHasLock();
+        UIInternals internals = ui.getInternals();
+
+        Map<StateNode, Integer> dataKeyCounts = internals.getDataKeyCounts();
+        Map<Class<? extends Component>, ComponentTypeUsage> usages = new HashMap<>();
+        int nodes = 0;
+        int features = 0;
+        long bytes = 0;
+        int dataKeys = 0;
+
+        Deque<StateNode> stack = new ArrayDeque<>();
+        Deque<ComponentTypeUsage> owners = new ArrayDeque<>();
+        stack.push(internals.getStateTree().getRootNode());
+        owners.push(getUsage(usages, ui.getClass()));
+        while (!stack.isEmpty()) {
+            StateNode node = stack.pop();
+            ComponentTypeUsage owner = owners.pop();
+
+            Component component = ElementUtil.from(node)
+                    .flatMap(Element::getComponent).orElse(null);
+            if (component != null) {
+                owner = getUsage(usages, component.getClass());
+                owner.instanceCount++;
+            }
+
+            int nodeFeatures = node.getInitializedFeatureCount();
+            long nodeBytes = NODE_BYTES + node.estimateFeatureMemoryUsage();
+            owner.nodeCount++;
+            owner.featureCount += nodeFeatures;
+            owner.estimatedBytes += nodeBytes;
+            Integer keys = dataKeyCounts.get(node);
+            if (keys != null) {
+                owner.dataKeyCount += keys;
+                dataKeys += keys;
+            }
+            nodes++;
+            features += nodeFeatures;
+            bytes += nodeBytes;
+
+            ComponentTypeUsage childOwner = owner;
+            node.forEachChild(child -> {
+                stack.push(child);
+                owners.push(childOwner);
+            });
+        }
+
+        List<ComponentTypeUsage> sorted = new ArrayList<>(usages.values());
+        sorted.sort(Comparator
+                .comparingLong(ComponentTypeUsage::getEstimatedBytes)
+                .reversed());
+        Map<Class<? extends Component>, ComponentTypeUsage> componentTypes = new LinkedHashMap<>();
+        sorted.forEach(
+                usage -> componentTypes.put(usage.getComponentType(), usage));
+
+        return new UIMemoryUsage(ui.getUIId(),
+                internals.getActiveViewLocation().getPathWithQueryParameters(),
+                nodes, features, bytes,
+                internals.getPendingJavaScriptInvocationCount(), dataKeys,
+                Collections.unmodifiableMap(componentTypes));
+    }
+
+    /**
+     * Computes the memory usage of all UIs of the given session.
+     * <p>
+     * The session must be locked when calling this method.
+     *
+     * @param session
+     *            the session to compute the memory usage for, not
+     *            <code>null</code>
+     * @return the memory usage of each UI of the session, not
+     *         <code>null</code>
+     */
+    public static List<UIMemoryUsage> compute(VaadinSession session) {
+        session.checkHasLock();
+        List<UIMemoryUsage> usages = new ArrayList<>();
+        for (UI ui : session.getUIs()) {
+            usages.add(compute(ui));
+        }
+        return usages;
+    }
+
+    private static ComponentTypeUsage getUsage(
+            Map<Class<? extends Component>, ComponentTypeUsage> usages,
+            Class<? extends Component> componentType) {
+        return usages.computeIfAbsent(componentType, ComponentTypeUsage::new);
+    }
+
+    /**
+     * Gets the id of the UI.
+     *
+     * @return the UI id
+     */
+    public int getUIId() {
+        return uiId;
+    }
+
+    /**
+     * Gets the location of the view that was active in the UI when the memory
+     * usage was computed.
+     *
+     * @return the location of the active view, not <code>null</code>
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Gets the number of state nodes in the UI.
+     *
+     * @return the number of state nodes
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Gets the number of initialized node features in the state nodes of the
+     * UI.
+     *
+     * @return the number of node features
+     */
+    public int getFeatureCount() {
+        return featureCount;
+    }
+
+    /**
+     * Gets the estimated number of bytes used by the state nodes of the UI.
+     *
+     * @return the estimated number of bytes
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Gets the number of javascript invocations waiting to be sent to the
+     * client.
+     *
+     * @return the number of pending javascript invocations
+     */
+    public int getPendingJavaScriptInvocationCount() {
+        return pendingJavaScriptInvocationCount;
+    }
+
+    /**
+     * Gets the number of data keys kept in memory for the components of the
+     * UI, e.g. by data communicators.
+     *
+     * @return the number of data keys
+     */
+    public int getDataKeyCount() {
+        return dataKeyCount;
+    }
+
+    /**
+     * Gets the memory usage by component type, ordered by the estimated number
+     * of bytes in descending order.
+     *
+     * @return an unmodifiable map of memory usage by component type, not
+     *         <code>null</code>
+     */
+    public Map<Class<? extends Component>, ComponentTypeUsage> getComponentTypes() {
+        return componentTypes;
+    }
+
+    @Override
+    public String toString() {
+        return "UIMemoryUsage[ui=" + uiId + ", location=" + location
+                + ", nodes=" + nodeCount + ", features=" + featureCount
+                + ", bytes=" + estimatedBytes + ", pendingJs="
+                + pendingJavaScriptInvocationCount + ", dataKeys="
+                + dataKeyCount + "]";
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Periodically computes the {@link UIMemoryUsage memory usage} of the UIs in
+ * all open sessions of a service and reports it to the registered listeners.
+ * <p>
+ * The usage of each session is also logged on the debug level, listing the
+ * component types that use the most memory. Sessions that are locked by
+ * another thread are skipped and checked again on the next run.
+ * <p>
+ * The reporter is enabled with
+ * {@link com.vaadin.flow.server.InitParameters#SERVLET_PARAMETER_MEMORY_USAGE_REPORT_INTERVAL}
+ * and is available through {@link VaadinService#getUIMemoryUsageReporter()}.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class UIMemoryUsageReporter implements Serializable {
+
+    /**
+     * Listener for the memory usage of a session, computed by a
+     * {@link UIMemoryUsageReporter}.
+     */
+    @FunctionalInterface
+    public interface Listener extends Serializable {
+        /**
+         * Called with the memory usage of the UIs of a session. The session is
+         * locked while the listener is called.
+         *
+         * @param session
+         *            the session, not <code>null</code>
+         * @param usages
+         *            the memory usage of each UI of the session, not
+         *            <code>null</code>
+         */
+        void memoryUsageComputed(VaadinSession session,
+                List<UIMemoryUsage> usages);
+    }
+
+    private static final int LOGGED_COMPONENT_TYPES = 5;
+
+    private final SessionTracker sessions;
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new reporter for the given service and starts tracking the
+     * sessions of the service.
+     *
+     * @param service
+     *            the service whose sessions to report, not <code>null</code>
+     */
+    UIMemoryUsageReporter(VaadinService service) {
+        sessions = new SessionTracker(service, "VaadinUIMemoryUsageReporter");
+    }
+
+    /**
+     * Starts tracking the given session.
+     *
+     * @param session
+     *            the session to report on subsequent runs, not
+     *            <code>null</code>
+     */
+    void track(VaadinSession session) {
+        sessions.track(session);
+    }
+
+    /**
+     * Adds a listener that is called with the memory usage of each session on
+     * every run.
+     *
+     * @param listener
+     *            the listener to add, not <code>null</code>
+     * @return a handle that can be used for removing the listener
+     */
+    public Registration addListener(Listener listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Starts running the reporter periodically in a background thread.
+     *
+     * @param intervalSeconds
+     *            the interval between runs in seconds, must be positive
+     */
+    void start(int intervalSeconds) {
+        sessions.start(intervalSeconds, this::report);
+    }
+
+    /**
+     * Stops the background thread and stops tracking sessions.
+     */
+    void stop() {
+        sessions.stop();
+    }
+
+    /**
+     * Computes and reports the memory usage of all tracked sessions once.
+     * Locked sessions are reported on the next run.
+     */
+    void report() {
+        sessions.forEachLockedSession(this::reportSession,
+                "Unable to compute the memory usage of a Vaadin session");
+    }
+
+    private void reportSession(VaadinSession session) {
+        List<UIMemoryUsage> usages = UIMemoryUsage.compute(session);
+        if (getLogger().isDebugEnabled()) {
+            log(usages);
+        }
+        listeners.forEach(
+                listener -> listener.memoryUsageComputed(session, usages));
+    }
+
+    private static void log(List<UIMemoryUsage> usages) {
+        long bytes = usages.stream().mapToLong(UIMemoryUsage::getEstimatedBytes)
+                .sum();
+        StringBuilder message = new StringBuilder();
+        for (UIMemoryUsage usage : usages) {
+            message.append("\n  ").append(usage);
+            usage.getComponentTypes().values().stream()
+                    .limit(LOGGED_COMPONENT_TYPES).forEach(type -> message
+                            .append("\n    ").append(type));
+        }
+        getLogger().debug("Session with {} UIs uses an estimated {} bytes:{}",
+                usages.size(), bytes, message);
+    }
+
+    /**
+     * Gets the number of sessions currently tracked by the reporter.
+     *
+     * @return the number of tracked sessions
+     */
+    public int getTrackedSessionCount() {
+        return sessions.size();
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(UIMemoryUsageReporter.class.getName());
+    }
+}
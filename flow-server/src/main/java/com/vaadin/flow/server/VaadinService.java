@@ -203,6 +203,14 @@ public abstract class VaadinService implements Serializable {
 
     private Iterable<VaadinRequestInterceptor> vaadinRequestInterceptors;
 
+    private transient InactiveUIReaper inactiveUIReaper;
+
+    private transient UIMemoryUsageReporter uiMemoryUsageReporter;
+
+    private transient SessionLockMetricsCollector sessionLockMetricsCollector;
+
+    private transient AccessTaskCoalescer accessTaskCoalescer;
+
     /**
      * Creates a new vaadin service based on a deployment configuration.
      *
@@ -353,6 +361,31 @@ public abstract class VaadinService implements Serializable {
                     getRouteRegistry().getRegisteredRoutes());
         }
 
+        if (configuration.isSessionLockMetricsEnabled()) {
+            sessionLockMetricsCollector = new SessionLockMetricsCollector(this,
+                    loadSessionLockMetrics(),
+                    configuration.isSessionLockMetricsPerRoute());
+        }
+
+        int coalescingWindow = configuration.getAccessCoalescingWindow();
+        if (coalescingWindow > 0) {
+            accessTaskCoalescer = new AccessTaskCoalescer(this,
+                    coalescingWindow);
+        }
+
+        int reaperInterval = configuration.getInactiveUIReaperInterval();
+        if (reaperInterval > 0) {
+            inactiveUIReaper = new InactiveUIReaper(this);
+            inactiveUIReaper.start(reaperInterval);
+        }
+
+        int memoryUsageInterval = configuration
+                .getMemoryUsageReportInterval();
+        if (memoryUsageInterval > 0) {
+            uiMemoryUsageReporter = new UIMemoryUsageReporter(this);
+            uiMemoryUsageReporter.start(memoryUsageInterval);
+        }
+
         initialized = true;
     }
 
@@ -979,6 +1012,19 @@ public abstract class VaadinService implements Serializable {
                 listener -> listener.modifyIndexHtmlResponse(response));
     }
 
+    /**
+     * Checks whether there are any {@link IndexHtmlRequestListener}s
+     * registered.
+     *
+     * @return <code>true</code> if there are listeners that modify the Index
+     *         HTML response, <code>false</code> otherwise
+     * @since 25.3
+     */
+    public boolean hasIndexHtmlRequestListeners() {
+        return indexHtmlRequestListeners != null
+                && indexHtmlRequestListeners.iterator().hasNext();
+    }
+
     /**
      * Handles destruction of the given session. Internally ensures proper
      * locking is done.
@@ -1055,10 +1101,28 @@ public abstract class VaadinService implements Serializable {
 
         VaadinSession.setCurrent(vaadinSession);
         request.setAttribute(VaadinSession.class.getName(), vaadinSession);
+        trackSession(vaadinSession);
 
         return vaadinSession;
     }
 
+    /**
+     * Lets the background tasks check the given session. Sessions restored
+     * from a serialized HTTP session fire no init event, so they are tracked
+     * here when they are first used in a request.
+     *
+     * @param session
+     *            the session to track
+     */
+    private void trackSession(VaadinSession session) {
+        if (inactiveUIReaper != null) {
+            inactiveUIReaper.track(session);
+        }
+        if (uiMemoryUsageReporter != null) {
+            uiMemoryUsageReporter.track(session);
+        }
+    }
+
     /**
      * Associates the given lock with this service and the given wrapped
      * session. This method should not be called more than once when the lock is
@@ -1646,8 +1710,7 @@ public abstract class VaadinService implements Serializable {
      */
     void cleanupSession(VaadinSession session) {
         if (isSessionActive(session)) {
-            closeInactiveUIs(session);
-            removeClosedUIs(session);
+            cleanupInactiveUIs(session);
         } else {
             if (session.getState() == VaadinSessionState.OPEN) {
                 closeSession(session);
@@ -1674,6 +1737,18 @@ public abstract class VaadinService implements Serializable {
         }
     }
 
+    /**
+     * Closes inactive UIs in the given session and removes closed UIs from the
+     * session. The session must be locked.
+     *
+     * @param session
+     *            the session to clean up
+     */
+    void cleanupInactiveUIs(VaadinSession session) {
+        closeInactiveUIs(session);
+        removeClosedUIs(session);
+    }
+
     /**
      * Removes those UIs from the given session for which {@link UI#isClosing()
      * isClosing} yields true.
@@ -1712,6 +1787,95 @@ public abstract class VaadinService implements Serializable {
 
     }
 
+    /**
+     * Gets the session lock metrics of this service, if enabled with
+     * {@link InitParameters#SERVLET_PARAMETER_SESSION_LOCK_METRICS}.
+     * <p>
+     * The metrics are the {@link SessionLockMetrics} implementation found
+     * through {@link Lookup}, or a {@link HistogramSessionLockMetrics} instance
+     * if there is none.
+     *
+     * @return the session lock metrics, or an empty optional if session lock
+     *         metrics are not enabled
+     * @since 25.3
+     */
+    public Optional<SessionLockMetrics> getSessionLockMetrics() {
+        SessionLockMetricsCollector collector = sessionLockMetricsCollector;
+        return collector == null ? Optional.empty()
+                : Optional.of(collector.getMetrics());
+    }
+
+    /**
+     * Gets the coalescer that runs access tasks enqueued from background
+     * threads in batches, if enabled with
+     * {@link InitParameters#SERVLET_PARAMETER_ACCESS_COALESCING_WINDOW}.
+     *
+     * @return the access task coalescer, or an empty optional if coalescing
+     *         is not enabled
+     * @since 25.3
+     */
+    public Optional<AccessTaskCoalescer> getAccessTaskCoalescer() {
+        return Optional.ofNullable(accessTaskCoalescer);
+    }
+
+    /**
+     * Gets the collector that records session lock metrics.
+     *
+     * @return the collector, or {@code null} if session lock metrics are not
+     *         enabled
+     */
+    SessionLockMetricsCollector getSessionLockMetricsCollector() {
+        return sessionLockMetricsCollector;
+    }
+
+    private SessionLockMetrics loadSessionLockMetrics() {
+        Lookup lookup = getContext().getAttribute(Lookup.class);
+        // lookup may be null in tests
+        SessionLockMetrics metrics = lookup == null ? null
+                : lookup.lookup(SessionLockMetrics.class);
+        return metrics == null ? new HistogramSessionLockMetrics() : metrics;
+    }
+
+    private boolean invokeRequestHandler(RequestHandler handler,
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        if (sessionLockMetricsCollector == null) {
+            return handler.handleRequest(session, request, response);
+        }
+        String previousOwner = SessionLockMetricsCollector
+                .setOwner(handler.getClass().getName());
+        try {
+            return handler.handleRequest(session, request, response);
+        } finally {
+            SessionLockMetricsCollector.setOwner(previousOwner);
+        }
+    }
+
+    /**
+     * Gets the background task that closes inactive UIs in sessions that
+     * receive no requests, if it has been enabled with
+     * {@link InitParameters#SERVLET_PARAMETER_INACTIVE_UI_REAPER_INTERVAL}.
+     *
+     * @return the inactive UI reaper, or an empty optional if it is not enabled
+     * @since 25.3
+     */
+    public Optional<InactiveUIReaper> getInactiveUIReaper() {
+        return Optional.ofNullable(inactiveUIReaper);
+    }
+
+    /**
+     * Gets the background task that periodically reports the memory usage of
+     * the UIs of all sessions, if it has been enabled with
+     * {@link InitParameters#SERVLET_PARAMETER_MEMORY_USAGE_REPORT_INTERVAL}.
+     *
+     * @return the memory usage reporter, or an empty optional if it is not
+     *         enabled
+     * @since 25.3
+     */
+    public Optional<UIMemoryUsageReporter> getUIMemoryUsageReporter() {
+        return Optional.ofNullable(uiMemoryUsageReporter);
+    }
+
     /**
      * Returns the number of seconds that must pass without a valid heartbeat or
      * UIDL request being received from a UI before that UI is removed from its
@@ -1946,7 +2110,8 @@ public abstract class VaadinService implements Serializable {
             }
 
             for (RequestHandler handler : getRequestHandlers()) {
-                if (handler.handleRequest(vaadinSession, request, response)) {
+                if (invokeRequestHandler(handler, vaadinSession, request,
+                        response)) {
                     return;
                 }
             }
@@ -2386,7 +2551,12 @@ public abstract class VaadinService implements Serializable {
         FutureAccess future = new FutureAccess(session, command);
         session.getPendingAccessQueue().add(future);
 
-        ensureAccessQueuePurged(session);
+        AccessTaskCoalescer coalescer = accessTaskCoalescer;
+        if (coalescer != null && !session.hasLock()) {
+            coalescer.schedule(session);
+        } else {
+            ensureAccessQueuePurged(session);
+        }
 
         return future;
     }
@@ -2415,6 +2585,9 @@ public abstract class VaadinService implements Serializable {
          * thread and we acquire it, we just release it again to purge the queue
          * right away.
          */
+        String previousOwner = sessionLockMetricsCollector == null ? null
+                : SessionLockMetricsCollector
+                        .setOwner(SessionLockSample.OWNER_ACCESS);
         try {
             // tryLock() would be shorter, but it does not guarantee fairness
             if (session.getLockInstance().tryLock(0, TimeUnit.SECONDS)) {
@@ -2424,6 +2597,10 @@ public abstract class VaadinService implements Serializable {
         } catch (InterruptedException e) {
             // Restore the interrupted flag
             Thread.currentThread().interrupt();
+        } finally {
+            if (sessionLockMetricsCollector != null) {
+                SessionLockMetricsCollector.setOwner(previousOwner);
+            }
         }
     }
 
@@ -2446,6 +2623,10 @@ public abstract class VaadinService implements Serializable {
 
         FutureAccess pendingAccess;
 
+        SessionLockMetricsCollector collector = sessionLockMetricsCollector;
+        long start = collector == null ? 0 : System.nanoTime();
+        int tasks = 0;
+
         // Dump all current instances, not only the ones dumped by setCurrent
         Map<Class<?>, CurrentInstance> oldInstances = CurrentInstance
                 .getInstances();
@@ -2459,6 +2640,7 @@ public abstract class VaadinService implements Serializable {
                     // reads from shared signals instead of stale cached values
                     session.clearSessionScopedTransaction();
                     pendingAccess.run();
+                    tasks++;
 
                     try {
                         pendingAccess.get();
@@ -2475,6 +2657,13 @@ public abstract class VaadinService implements Serializable {
         } finally {
             CurrentInstance.clearAll();
             CurrentInstance.restoreInstances(oldInstances);
+            if (collector != null) {
+                collector.accessTasksRun(System.nanoTime() - start);
+            }
+            AccessTaskCoalescer coalescer = accessTaskCoalescer;
+            if (coalescer != null) {
+                coalescer.batchRun(tasks);
+            }
         }
     }
 
@@ -2508,6 +2697,22 @@ public abstract class VaadinService implements Serializable {
      */
     public void destroy() {
         ServiceDestroyEvent event = new ServiceDestroyEvent(this);
+        if (inactiveUIReaper != null) {
+            inactiveUIReaper.stop();
+            inactiveUIReaper = null;
+        }
+        if (uiMemoryUsageReporter != null) {
+            uiMemoryUsageReporter.stop();
+            uiMemoryUsageReporter = null;
+        }
+        if (sessionLockMetricsCollector != null) {
+            sessionLockMetricsCollector.stop();
+            sessionLockMetricsCollector = null;
+        }
+        if (accessTaskCoalescer != null) {
+            accessTaskCoalescer.stop();
+            accessTaskCoalescer = null;
+        }
         if (defaultExecutorInUse && executor instanceof ExecutorService cast) {
             cast.shutdownNow();
             this.executor = null;
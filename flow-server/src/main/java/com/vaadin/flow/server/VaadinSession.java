@@ -1057,7 +1057,19 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         VaadinService.verifyNoOtherSessionLocked(this);
 
         Map<Class<?>, CurrentInstance> old = null;
-        lock();
+        boolean collectMetrics = getService() != null
+                && getService().getSessionLockMetricsCollector() != null;
+        String previousOwner = collectMetrics
+                ? SessionLockMetricsCollector
+                        .setOwner(SessionLockSample.OWNER_ACCESS_SYNCHRONOUSLY)
+                : null;
+        try {
+            lock();
+        } finally {
+            if (collectMetrics) {
+                SessionLockMetricsCollector.setOwner(previousOwner);
+            }
+        }
         try {
             old = CurrentInstance.setCurrent(this);
             command.execute();
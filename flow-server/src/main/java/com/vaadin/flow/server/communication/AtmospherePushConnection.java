@@ -20,6 +20,7 @@ import java.io.ObjectInputStream;
 import java.io.Reader;
 import java.io.Serializable;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -31,9 +32,10 @@ import org.atmosphere.cpr.BroadcastFilterAdapter;
 import org.atmosphere.util.Version;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import tools.jackson.databind.JsonNode;
+import tools.jackson.core.JsonGenerator;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.internal.UsageStatistics;
 import com.vaadin.flow.shared.communication.PushConstants;
 
@@ -220,9 +222,7 @@ public class AtmospherePushConnection
                     return;
                 }
                 try {
-                    JsonNode response = new UidlWriter().createUidl(getUI(),
-                            async);
-                    sendMessage(response.toString());
+                    sendMessage(createMessage(async));
                 } catch (Exception e) {
                     throw new RuntimeException("Push failed", e);
                 }
@@ -230,6 +230,20 @@ public class AtmospherePushConnection
         }
     }
 
+    private String createMessage(boolean async) {
+        UI pushUI = getUI();
+        if (!pushUI.getSession().getService().getDeploymentConfiguration()
+                .isStreamingUidl()) {
+            return new UidlWriter().createUidl(pushUI, async).toString();
+        }
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JacksonUtils.getMapper()
+                .createGenerator(writer)) {
+            new UidlWriter().writeUidl(pushUI, async, false, generator);
+        }
+        return writer.toString();
+    }
+
     /**
      * Sends the given message to the current client. Cannot be called if
      * {@link #isConnected()} returns false.
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.util.function.UnaryOperator;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.shared.CompactUidlKeys;
+import com.vaadin.flow.shared.JsonConstants;
+
+/**
+ * Converts state changes and RPC invocations between the regular and the
+ * compact UIDL encoding.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @see CompactUidlKeys
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+final class CompactUidl {
+
+    private CompactUidl() {
+        // Only static helpers
+    }
+
+    /**
+     * Creates a compact copy of a state change.
+     *
+     * @param change
+     *            the state change in the regular encoding, not
+     *            <code>null</code>
+     * @return the state change in the compact encoding
+     */
+    static ObjectNode compactChange(ObjectNode change) {
+        return translate(change, CompactUidlKeys::compactChangeKey,
+                JsonConstants.CHANGE_TYPE, CompactUidlKeys::compactChangeType);
+    }
+
+    /**
+     * Creates a copy of compact RPC invocations in the regular encoding.
+     *
+     * @param invocations
+     *            the RPC invocations in the compact encoding, or
+     *            <code>null</code>
+     * @return the RPC invocations in the regular encoding, or
+     *         <code>null</code> if the input was <code>null</code>
+     */
+    static ArrayNode expandInvocations(ArrayNode invocations) {
+        if (invocations == null) {
+            return null;
+        }
+        ArrayNode expanded = JacksonUtils.createArrayNode();
+        for (JsonNode invocation : invocations) {
+            if (invocation instanceof ObjectNode object) {
+                expanded.add(translate(object, CompactUidlKeys::expandRpcKey,
+                        JsonConstants.RPC_TYPE,
+                        CompactUidlKeys::expandRpcType));
+            } else {
+                expanded.add(invocation);
+            }
+        }
+        return expanded;
+    }
+
+    private static ObjectNode translate(ObjectNode source,
+            UnaryOperator<String> keys, String typeKey,
+            UnaryOperator<String> types) {
+        ObjectNode target = JacksonUtils.createObjectNode();
+        source.properties().forEach(property -> {
+            String key = keys.apply(property.getKey());
+            JsonNode value = property.getValue();
+            // The type key is the original key when compacting and the
+            // translated key when expanding
+            boolean isType = typeKey.equals(property.getKey())
+                    || typeKey.equals(key);
+            if (isType && value.isString()) {
+                target.put(key, types.apply(value.asString()));
+            } else {
+                target.set(key, value);
+            }
+        });
+        return target;
+    }
+}
@@ -21,10 +21,12 @@ import java.io.UncheckedIOException;
 import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Enumeration;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,6 +35,8 @@ import org.jsoup.nodes.Comment;
 import org.jsoup.nodes.DataNode;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Entities;
+import org.jsoup.nodes.Node;
 import org.jsoup.select.Elements;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,6 +73,7 @@ import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinServletContext;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.PrecompiledIndexHtml.Slot;
 import com.vaadin.flow.server.startup.ApplicationConfiguration;
 import com.vaadin.flow.shared.ApplicationConstants;
 
@@ -100,75 +105,102 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         }
 
         DeploymentConfiguration config = session.getConfiguration();
-        IndexHtmlResponse indexHtmlResponse;
-
         VaadinService service = request.getService();
+        if (isPrecompiledIndexHtmlUsed(config, service)) {
+            return writePrecompiledIndexHtml(session, request, response);
+        }
+
         Document indexDocument = config.isProductionMode()
                 ? getCachedIndexHtmlDocument(service)
                 : getIndexHtmlDocument(service);
 
-        prependBaseHref(request, indexDocument);
+        UI ui = populateIndexHtmlDocument(indexDocument, session, request,
+                response, false);
+
+        setResponseHeaders(config, response);
+
+        IndexHtmlResponse indexHtmlResponse = ui == null
+                ? new IndexHtmlResponse(request, response, indexDocument)
+                : new IndexHtmlResponse(request, response, indexDocument, ui);
+
+        // this invokes any custom listeners and should be run when the whole
+        // page is constructed
+        service.modifyIndexHtmlResponse(indexHtmlResponse);
+
+        addCommercialBanner(service.getDeploymentConfiguration(),
+                indexDocument);
+
+        try {
+            response.getOutputStream()
+                    .write(indexDocument.html().getBytes(UTF_8));
+        } catch (IOException e) {
+            getLogger().error("Error writing 'index.html' to response", e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adds the content of the page to the index document. When precompiling,
+     * the request specific content is replaced with the slot markers of
+     * {@link PrecompiledIndexHtml}.
+     *
+     * @return the UI created for the initial UIDL, or <code>null</code> if
+     *         the initial UIDL is not included or when precompiling
+     */
+    private UI populateIndexHtmlDocument(Document indexDocument,
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response, boolean precompile) {
+        DeploymentConfiguration config = session.getConfiguration();
+        VaadinService service = request.getService();
+
+        prependBaseHref(indexDocument,
+                precompile ? Slot.BASE_HREF.marker() : getServiceUrl(request));
 
         Element htmlElement = indexDocument.getElementsByTag("html").get(0);
         if (!htmlElement.hasAttr("lang")) {
-            Locale locale = LocaleUtil.getLocale(LocaleUtil::getI18NProvider);
-            htmlElement.attr("lang", locale.getLanguage());
+            htmlElement.attr("lang",
+                    precompile ? Slot.LANG.marker() : getLanguage());
         }
 
-        initializeFeatureFlags(indexDocument, request);
+        if (precompile) {
+            indexDocument.head()
+                    .prependChild(new DataNode(Slot.FEATURE_FLAGS.marker()));
+        } else {
+            initializeFeatureFlags(indexDocument, request);
+        }
 
         ObjectNode initialJson = JacksonUtils.createObjectNode();
 
-        if (service.getBootstrapInitialPredicate()
+        UI ui = null;
+        if (precompile) {
+            appendToOutlet(indexDocument,
+                    new DataNode(Slot.FLOW_CONTAINER.marker()));
+        } else if (service.getBootstrapInitialPredicate()
                 .includeInitialUidl(request)) {
             includeInitialUidl(initialJson, session, request, response);
-            UI ui = UI.getCurrent();
-            var flowContainerElement = new Element(
-                    ui.getInternals().getContainerTag());
-            flowContainerElement.attr("id", ui.getInternals().getAppId());
-            Elements outlet = indexDocument.body().select("#outlet");
-            if (!outlet.isEmpty()) {
-                outlet.first().appendChild(flowContainerElement);
-            } else {
-                indexDocument.body().appendChild(flowContainerElement);
-            }
-            indexHtmlResponse = new IndexHtmlResponse(request, response,
-                    indexDocument, ui);
+            ui = UI.getCurrent();
+            appendToOutlet(indexDocument, createFlowContainerElement(ui));
+        }
+
+        if (precompile) {
+            // Same positions as addInitialFlow uses: the CSRF tags and then
+            // the initial flow script are inserted first in the head, so the
+            // slots are at index 0 and 1 and not appended
+            indexDocument.head().insertChildren(0,
+                    new DataNode(Slot.CSRF.marker()));
+            indexDocument.head().insertChildren(0,
+                    new DataNode(Slot.INITIAL_FLOW.marker()));
         } else {
-            indexHtmlResponse = new IndexHtmlResponse(request, response,
-                    indexDocument);
+            addInitialFlow(initialJson, indexDocument, request);
         }
 
-        addInitialFlow(initialJson, indexDocument, request);
-
         configureErrorDialogStyles(indexDocument);
 
         configureHiddenElementStyles(indexDocument);
 
         addStyleTagReferences(indexDocument, config.isProductionMode());
 
-        response.setContentType(CONTENT_TYPE_TEXT_HTML_UTF_8);
-
-        String frameOptions = config.getFrameOptions();
-        if (frameOptions != null && !frameOptions.isEmpty()) {
-            if (response.containsHeader("X-Frame-Options")) {
-                // Don't override a header set elsewhere (e.g. by a servlet
-                // filter), but warn if an explicitly configured value is
-                // being ignored because of it.
-                if (config.getStringProperty(
-                        InitParameters.SERVLET_PARAMETER_FRAME_OPTIONS,
-                        null) != null) {
-                    getLogger().warn(
-                            "The configured '{}' value '{}' is ignored because "
-                                    + "the response already has an X-Frame-Options header.",
-                            InitParameters.SERVLET_PARAMETER_FRAME_OPTIONS,
-                            frameOptions);
-                }
-            } else {
-                response.setHeader("X-Frame-Options", frameOptions);
-            }
-        }
-
         VaadinContext context = session.getService().getContext();
         AppShellRegistry registry = AppShellRegistry.getInstance(context);
 
@@ -221,17 +253,82 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
                             };
                             """);
         }
+        return ui;
+    }
 
-        // this invokes any custom listeners and should be run when the whole
-        // page is constructed
-        service.modifyIndexHtmlResponse(indexHtmlResponse);
+    private void setResponseHeaders(DeploymentConfiguration config,
+            VaadinResponse response) {
+        response.setContentType(CONTENT_TYPE_TEXT_HTML_UTF_8);
 
-        addCommercialBanner(service.getDeploymentConfiguration(),
-                indexDocument);
+        String frameOptions = config.getFrameOptions();
+        if (frameOptions != null && !frameOptions.isEmpty()) {
+            if (response.containsHeader("X-Frame-Options")) {
+                // Don't override a header set elsewhere (e.g. by a servlet
+                // filter), but warn if an explicitly configured value is
+                // being ignored because of it.
+                if (config.getStringProperty(
+                        InitParameters.SERVLET_PARAMETER_FRAME_OPTIONS,
+                        null) != null) {
+                    getLogger().warn(
+                            "The configured '{}' value '{}' is ignored because "
+                                    + "the response already has an X-Frame-Options header.",
+                            InitParameters.SERVLET_PARAMETER_FRAME_OPTIONS,
+                            frameOptions);
+                }
+            } else {
+                response.setHeader("X-Frame-Options", frameOptions);
+            }
+        }
+    }
+
+    private static boolean isPrecompiledIndexHtmlUsed(
+            DeploymentConfiguration config, VaadinService service) {
+        // Listeners get the document of each request, so they can only be
+        // supported by building the document for each request
+        return config.isProductionMode() && config.isPrecompiledIndexHtml()
+                && !config.isDevToolsEnabled()
+                && !service.hasIndexHtmlRequestListeners();
+    }
+
+    private boolean writePrecompiledIndexHtml(VaadinSession session,
+            VaadinRequest request, VaadinResponse response) {
+        PrecompiledIndexHtml indexHtml = getPrecompiledIndexHtml(session,
+                request, response);
+        VaadinService service = request.getService();
+
+        Map<Slot, String> values = new EnumMap<>(Slot.class);
+        values.put(Slot.BASE_HREF, Entities.escape(getServiceUrl(request)));
+        if (indexHtml.hasSlot(Slot.LANG)) {
+            values.put(Slot.LANG, Entities.escape(getLanguage()));
+        }
+        String featureFlags = featureFlagsInitializer(request);
+        if (!featureFlags.isEmpty()) {
+            values.put(Slot.FEATURE_FLAGS, toHtml(
+                    head -> head.appendChild(createScript(featureFlags))));
+        }
+
+        ObjectNode initialJson = JacksonUtils.createObjectNode();
+        if (service.getBootstrapInitialPredicate()
+                .includeInitialUidl(request)) {
+            includeInitialUidl(initialJson, session, request, response);
+            UI ui = UI.getCurrent();
+            values.put(Slot.FLOW_CONTAINER, toHtml(
+                    head -> head.appendChild(createFlowContainerElement(ui))));
+            if (indexHtml.getTitle() != null) {
+                ui.getInternals().setAppShellTitle(indexHtml.getTitle());
+            }
+        }
+        values.put(Slot.CSRF,
+                toHtml(head -> SpringCsrfTokenUtil
+                        .addTokenAsMetaTagsToHeadIfPresentInRequest(head,
+                                request)));
+        values.put(Slot.INITIAL_FLOW, toHtml(head -> head
+                .appendChild(createInitialFlowScript(initialJson))));
+
+        setResponseHeaders(session.getConfiguration(), response);
 
         try {
-            response.getOutputStream()
-                    .write(indexDocument.html().getBytes(UTF_8));
+            indexHtml.write(response.getOutputStream(), values);
         } catch (IOException e) {
             getLogger().error("Error writing 'index.html' to response", e);
             return false;
@@ -239,15 +336,59 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         return true;
     }
 
+    private PrecompiledIndexHtml getPrecompiledIndexHtml(VaadinSession session,
+            VaadinRequest request, VaadinResponse response) {
+        VaadinService service = request.getService();
+        return service.getContext().getAttribute(PrecompiledIndexHtml.class,
+                () -> {
+                    Document indexDocument = getCachedIndexHtmlDocument(
+                            service);
+                    populateIndexHtmlDocument(indexDocument, session, request,
+                            response, true);
+                    addCommercialBanner(service.getDeploymentConfiguration(),
+                            indexDocument);
+                    Element title = indexDocument.head().selectFirst("title");
+                    return PrecompiledIndexHtml.compile(indexDocument.html(),
+                            title == null ? null
+                                    : getAppShellTitle(title));
+                });
+    }
+
+    private static String toHtml(Consumer<Element> content) {
+        Document document = Document.createShell("");
+        document.outputSettings().prettyPrint(false);
+        content.accept(document.head());
+        return document.head().html();
+    }
+
+    private static String getLanguage() {
+        return LocaleUtil.getLocale(LocaleUtil::getI18NProvider)
+                .getLanguage();
+    }
+
+    private static Element createFlowContainerElement(UI ui) {
+        Element flowContainerElement = new Element(
+                ui.getInternals().getContainerTag());
+        flowContainerElement.attr("id", ui.getInternals().getAppId());
+        return flowContainerElement;
+    }
+
+    private static void appendToOutlet(Document indexDocument, Node node) {
+        Elements outlet = indexDocument.body().select("#outlet");
+        if (!outlet.isEmpty()) {
+            outlet.first().appendChild(node);
+        } else {
+            indexDocument.body().appendChild(node);
+        }
+    }
+
     private void initializeFeatureFlags(Document indexDocument,
             VaadinRequest request) {
         String script = featureFlagsInitializer(request);
         if (script.isEmpty()) {
             return;
         }
-        Element scriptElement = indexDocument.head().prependElement("script");
-        scriptElement.attr(SCRIPT_INITIAL, "");
-        scriptElement.appendChild(new DataNode(script));
+        indexDocument.head().prependChild(createScript(script));
     }
 
     static String featureFlagsInitializer(VaadinRequest request) {
@@ -423,10 +564,14 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
     }
 
     private static void addScript(Document indexDocument, String script) {
+        indexDocument.head().insertChildren(0, createScript(script));
+    }
+
+    private static Element createScript(String script) {
         Element elm = new Element(SCRIPT);
         elm.attr(SCRIPT_INITIAL, "");
         elm.appendChild(new DataNode(script));
-        indexDocument.head().insertChildren(0, elm);
+        return elm;
     }
 
     private static void addScriptSrc(Document indexDocument, String scriptUrl) {
@@ -440,13 +585,16 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         if (UI.getCurrent() != null) {
             Element elm = indexDocument.head().selectFirst("title");
             if (elm != null) {
-                String appShellTitle = elm.text().isEmpty() ? elm.data()
-                        : elm.text();
-                UI.getCurrent().getInternals().setAppShellTitle(appShellTitle);
+                UI.getCurrent().getInternals()
+                        .setAppShellTitle(getAppShellTitle(elm));
             }
         }
     }
 
+    private static String getAppShellTitle(Element title) {
+        return title.text().isEmpty() ? title.data() : title.text();
+    }
+
     private void addDevTools(Document indexDocument,
             DeploymentConfiguration config, VaadinSession session,
             VaadinRequest request) {
@@ -613,11 +761,13 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
             VaadinRequest request) {
         SpringCsrfTokenUtil.addTokenAsMetaTagsToHeadIfPresentInRequest(
                 indexDocument.head(), request);
-        Element elm = new Element(SCRIPT);
-        elm.attr(SCRIPT_INITIAL, "");
-        elm.appendChild(new DataNode("window.Vaadin = window.Vaadin || {};" + //
-                "window.Vaadin.TypeScript= " + initialJson.toString() + ";"));
-        indexDocument.head().insertChildren(0, elm);
+        indexDocument.head().insertChildren(0,
+                createInitialFlowScript(initialJson));
+    }
+
+    private static Element createInitialFlowScript(ObjectNode initialJson) {
+        return createScript("window.Vaadin = window.Vaadin || {};" + //
+                "window.Vaadin.TypeScript= " + initialJson.toString() + ";");
     }
 
     private void includeInitialUidl(ObjectNode initialJson,
@@ -656,10 +806,9 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         setupHiddenElement(styles);
     }
 
-    private static void prependBaseHref(VaadinRequest request,
-            Document indexDocument) {
+    private static void prependBaseHref(Document indexDocument,
+            String baseHref) {
         Elements base = indexDocument.head().getElementsByTag("base");
-        String baseHref = getServiceUrl(request);
         if (base.isEmpty()) {
             indexDocument.head().prependElement("base").attr("href", baseHref);
         } else {
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The <code>index.html</code> page serialized once into static byte segments
+ * separated by typed insertion points for the request specific content.
+ * <p>
+ * The page is compiled from HTML where each insertion point is represented by
+ * the {@link Slot#marker() marker} of the slot. Writing the page for a request
+ * then only writes the segments and the values given for the slots.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+final class PrecompiledIndexHtml implements Serializable {
+
+    /**
+     * The request specific parts of the page.
+     */
+    enum Slot {
+        /**
+         * The value of the <code>href</code> attribute of the
+         * <code>base</code> element, HTML escaped.
+         */
+        BASE_HREF,
+        /**
+         * The value of the <code>lang</code> attribute of the
+         * <code>html</code> element, HTML escaped.
+         */
+        LANG,
+        /**
+         * The script element enabling feature flags, if any.
+         */
+        FEATURE_FLAGS,
+        /**
+         * The elements with the Spring CSRF token, if any.
+         */
+        CSRF,
+        /**
+         * The script element with the initial UIDL and configuration.
+         */
+        INITIAL_FLOW,
+        /**
+         * The container element of the UI, if the initial UIDL is included.
+         */
+        FLOW_CONTAINER;
+
+        private static final char DELIMITER = '\uE000';
+
+        /**
+         * Gets the text that represents this slot in the HTML to compile. The
+         * marker uses characters from the Unicode private use area, so it
+         * can't clash with the content of the page.
+         *
+         * @return the marker of this slot
+         */
+        String marker() {
+            return DELIMITER + name() + DELIMITER;
+        }
+    }
+
+    private final byte[][] segments;
+
+    private final Slot[] slots;
+
+    private final String title;
+
+    private PrecompiledIndexHtml(byte[][] segments, Slot[] slots,
+            String title) {
+        this.segments = segments;
+        this.slots = slots;
+        this.title = title;
+    }
+
+    /**
+     * Compiles the given HTML.
+     *
+     * @param html
+     *            the serialized page with slot markers, not <code>null</code>
+     * @param title
+     *            the title of the page, or <code>null</code> if the page has no
+     *            title
+     * @return the compiled page
+     */
+    static PrecompiledIndexHtml compile(String html, String title) {
+        List<byte[]> segments = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int next = -1;
+            Slot nextSlot = null;
+            for (Slot slot : Slot.values()) {
+                int index = html.indexOf(slot.marker(), start);
+                if (index >= 0 && (next < 0 || index < next)) {
+                    next = index;
+                    nextSlot = slot;
+                }
+            }
+            if (nextSlot == null) {
+                segments.add(html.substring(start).getBytes(UTF_8));
+                break;
+            }
+            segments.add(html.substring(start, next).getBytes(UTF_8));
+            slots.add(nextSlot);
+            start = next + nextSlot.marker().length();
+        }
+        return new PrecompiledIndexHtml(segments.toArray(new byte[0][]),
+                slots.toArray(new Slot[0]), title);
+    }
+
+    /**
+     * Writes the page with the given slot values.
+     *
+     * @param outputStream
+     *            the stream to write to, not <code>null</code>
+     * @param values
+     *            the values of the slots, slots without a value are left
+     *            empty
+     * @throws IOException
+     *             if writing fails
+     */
+    void write(OutputStream outputStream, Map<Slot, String> values)
+            throws IOException {
+        for (int i = 0; i < slots.length; i++) {
+            outputStream.write(segments[i]);
+            String value = values.get(slots[i]);
+            if (value != null && !value.isEmpty()) {
+                outputStream.write(value.getBytes(UTF_8));
+            }
+        }
+        outputStream.write(segments[slots.length]);
+    }
+
+    /**
+     * Checks whether the page has the given slot.
+     *
+     * @param slot
+     *            the slot to check
+     * @return <code>true</code> if the page has the slot, <code>false</code>
+     *         otherwise
+     */
+    boolean hasSlot(Slot slot) {
+        for (Slot s : slots) {
+            if (s == slot) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the title of the page, used as the app shell title of the UI.
+     *
+     * @return the title, or <code>null</code> if the page has no title
+     */
+    String getTitle() {
+        return title;
+    }
+}
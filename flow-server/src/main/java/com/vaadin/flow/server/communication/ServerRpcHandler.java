@@ -137,8 +137,12 @@ public class ServerRpcHandler implements Serializable {
                 }
                 clientToServerMessageId = -1;
             }
-            invocations = (ArrayNode) json
+            ArrayNode rpc = (ArrayNode) json
                     .get(ApplicationConstants.RPC_INVOCATIONS);
+            if (json.has(ApplicationConstants.COMPACT_UIDL)) {
+                rpc = CompactUidl.expandInvocations(rpc);
+            }
+            invocations = rpc;
         }
 
         /**
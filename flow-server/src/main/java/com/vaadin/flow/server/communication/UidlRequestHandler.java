@@ -15,22 +15,30 @@
  */
 package com.vaadin.flow.server.communication;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.JsonNodeType;
 import tools.jackson.databind.node.ObjectNode;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.internal.JsonDecodingException;
 import com.vaadin.flow.server.HandlerHelper;
@@ -52,6 +60,7 @@ import com.vaadin.flow.server.dau.DAUUtils;
 import com.vaadin.flow.server.dau.DauEnforcementException;
 import com.vaadin.flow.shared.JsonConstants;
 
+import static com.vaadin.flow.internal.ResponseWriter.acceptsEncoding;
 import static com.vaadin.flow.shared.ApplicationConstants.RPC_INVOCATIONS;
 import static com.vaadin.flow.shared.ApplicationConstants.SERVER_SYNC_ID;
 import static com.vaadin.flow.shared.JsonConstants.RPC_NAVIGATION_LOCATION;
@@ -87,6 +96,18 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
     private static final String CHANGES = "changes";
     private static final String EXECUTE = UIDL_KEY_EXECUTE;
 
+    /**
+     * The maximum size of a streamed response in bytes that is kept for
+     * resending it if the client resends its message.
+     */
+    static final int MAX_RESEND_COPY_SIZE = 64 * 1024;
+
+    /**
+     * The maximum size of a streamed response in bytes that is buffered in
+     * memory. The rest of a larger response is buffered in a temporary file.
+     */
+    static final int MAX_IN_MEMORY_RESPONSE_SIZE = 1024 * 1024;
+
     @Override
     protected boolean canHandleRequest(VaadinRequest request) {
         return HandlerHelper.isRequestType(request, RequestType.UIDL);
@@ -141,13 +162,12 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
                     VaadinService.createUINotFoundJSON(false)));
         }
 
-        StringWriter stringWriter = new StringWriter();
-
+        boolean resent = false;
+        boolean resync = false;
         try {
             getRpcHandler().handleRpc(uI, requestBody, request);
-            writeUidl(uI, stringWriter, false);
         } catch (ClientResentPayloadException e) {
-            stringWriter.write(uI.getInternals().getLastRequestResponse());
+            resent = true;
         } catch (JsonDecodingException e) {
             getLogger().error("Error writing JSON to response", e);
             // Refresh on client side
@@ -174,13 +194,110 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
             return Optional.of(() -> commitJsonResponse(response, json));
         } catch (ResynchronizationRequiredException e) { // NOSONAR
             // Resync on the client side
-            writeUidl(uI, stringWriter, true);
-        } finally {
-            stringWriter.close();
+            resync = true;
+        }
+
+        if (isStreamingUidl(uI)) {
+            return Optional.of(streamUidl(uI, request, response, resent,
+                    resync));
         }
 
-        return Optional.of(
-                () -> commitJsonResponse(response, stringWriter.toString()));
+        String json;
+        if (resent) {
+            json = uI.getInternals().getLastRequestResponse();
+        } else {
+            StringWriter stringWriter = new StringWriter();
+            writeUidl(uI, stringWriter, resync);
+            json = stringWriter.toString();
+        }
+        uI.getInternals().setLastRequestResponse(json);
+        return Optional.of(() -> commitJsonResponse(request, response, json));
+    }
+
+    private static boolean isStreamingUidl(UI ui) {
+        return ui.getSession().getService().getDeploymentConfiguration()
+                .isStreamingUidl();
+    }
+
+    /**
+     * Serializes the UIDL response into a buffer without building it as a
+     * JSON tree and string first. This happens while the session is locked,
+     * since generating the response needs the state of the UI, but the
+     * buffered response is only written to the client by the returned writer
+     * after the session has been unlocked. If generating the response fails,
+     * nothing has been written, so that only a critical notification is sent
+     * to the client.
+     * <p>
+     * A copy of the response is kept for resending only if it is smaller than
+     * {@value #MAX_RESEND_COPY_SIZE} bytes. If the client resends a message
+     * whose response was not kept, the client is resynchronized instead.
+     */
+    private ResponseWriter streamUidl(UI ui, VaadinRequest request,
+            VaadinResponse response, boolean resent, boolean resync)
+            throws IOException {
+        UIInternals uiInternals = ui.getInternals();
+        if (resent && uiInternals.getLastRequestResponse() != null) {
+            String json = uiInternals.getLastRequestResponse();
+            return () -> commitJsonResponse(request, response, json);
+        }
+        if (resent) {
+            // Send the full state, since the previous response is not known
+            uiInternals.getStateTree().prepareForResync();
+            uiInternals.getDependencyList().clearPendingSendToClient();
+        }
+
+        // A failed response must not be resent
+        uiInternals.setLastRequestResponse(null);
+        UidlResponseBuffer buffer = new UidlResponseBuffer();
+        try (JsonGenerator generator = JacksonUtils.getMapper()
+                .createGenerator(buffer)) {
+            new UidlWriter().writeUidl(ui, false, resync || resent, generator,
+                    this::removeOffendingMprHashFragment);
+        } catch (IOException | RuntimeException | Error e) {
+            buffer.discard();
+            throw e;
+        }
+        buffer.close();
+        uiInternals.setLastRequestResponse(buffer.getResendCopy());
+        return () -> commitBufferedJsonResponse(request, response, buffer);
+    }
+
+    private static void commitBufferedJsonResponse(VaadinRequest request,
+            VaadinResponse response, UidlResponseBuffer buffer)
+            throws IOException {
+        try {
+            response.setContentType(JsonConstants.JSON_CONTENT_TYPE);
+            response.setHeader("Cache-Control", "no-cache");
+            int threshold = getCompressionThreshold(request);
+            if (threshold >= 0) {
+                // The response depends on the header even when it is not
+                // compressed
+                response.setHeader("Vary", "Accept-Encoding");
+            }
+            OutputStream outputStream = response.getOutputStream();
+            if (threshold >= 0 && buffer.size() >= threshold
+                    && acceptsEncoding(request.getHeader("Accept-Encoding"),
+                            "gzip")) {
+                response.setHeader("Content-Encoding", "gzip");
+                // The response output stream is left open, as for other UIDL
+                // responses
+                FastGZIPOutputStream gzip = new FastGZIPOutputStream(
+                        outputStream);
+                try {
+                    buffer.writeTo(gzip);
+                    gzip.finish();
+                } finally {
+                    gzip.releaseDeflater();
+                }
+            } else {
+                response.setContentLength((int) buffer.size());
+                buffer.writeTo(outputStream);
+            }
+            // NOTE GateIn requires the buffers to be flushed to work
+            outputStream.flush();
+        } finally {
+            buffer.discard();
+        }
     }
 
     private void writeRefresh(VaadinResponse response) throws IOException {
@@ -199,13 +316,19 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
     }
 
     void writeUidl(UI ui, Writer writer, boolean resync) throws IOException {
+        if (isStreamingUidl(ui)) {
+            try (JsonGenerator generator = JacksonUtils.getMapper()
+                    .createGenerator(writer)) {
+                new UidlWriter().writeUidl(ui, false, resync, generator,
+                        this::removeOffendingMprHashFragment);
+            }
+            return;
+        }
         ObjectNode uidl = createUidl(ui, resync);
 
         removeOffendingMprHashFragment(uidl);
 
-        String responseString = uidl.toString();
-        ui.getInternals().setLastRequestResponse(responseString);
-        writer.write(responseString);
+        writer.write(uidl.toString());
     }
 
     ObjectNode createUidl(UI ui, boolean resync) {
@@ -267,6 +390,163 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         response.setHeader("Cache-Control", "no-cache");
 
         byte[] b = json.getBytes(UTF_8);
+        writeJsonBytes(response, b);
+    }
+
+    /**
+     * Commit the JSON response, gzip compressing it if it is at least as large
+     * as the configured
+     * {@link com.vaadin.flow.server.InitParameters#SERVLET_PARAMETER_UIDL_COMPRESSION_THRESHOLD
+     * threshold} and the browser accepts gzip encoded responses.
+     *
+     * @param request
+     *            The request the response is for
+     * @param response
+     *            The response to write to
+     * @param json
+     *            The JSON to write
+     * @throws IOException
+     *             If there was an exception while writing to the output
+     * @since 25.3
+     */
+    public static void commitJsonResponse(VaadinRequest request,
+            VaadinResponse response, String json) throws IOException {
+        int threshold = getCompressionThreshold(request);
+        if (threshold < 0) {
+            commitJsonResponse(response, json);
+            return;
+        }
+        response.setContentType(JsonConstants.JSON_CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-cache");
+        // The response depends on the header even when it is not compressed
+        response.setHeader("Vary", "Accept-Encoding");
+
+        byte[] b = json.getBytes(UTF_8);
+        if (b.length >= threshold
+                && acceptsEncoding(request.getHeader("Accept-Encoding"),
+                        "gzip")) {
+            b = gzip(b);
+            response.setHeader("Content-Encoding", "gzip");
+        }
+        writeJsonBytes(response, b);
+    }
+
+    private static int getCompressionThreshold(VaadinRequest request) {
+        VaadinService service = request.getService();
+        if (service == null
+                || service.getDeploymentConfiguration() == null) {
+            return -1;
+        }
+        return service.getDeploymentConfiguration()
+                .getUidlCompressionThreshold();
+    }
+
+    static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(
+                bytes.length / 4 + 32);
+        try (GZIPOutputStream gzip = new FastGZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Gzip stream using the fastest compression level. UIDL responses are
+     * latency sensitive, and the fastest level already gets most of the
+     * savings for JSON.
+     */
+    private static class FastGZIPOutputStream extends GZIPOutputStream {
+
+        private FastGZIPOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+
+        /**
+         * Releases the native resources of the deflater without closing the
+         * underlying stream.
+         */
+        private void releaseDeflater() {
+            def.end();
+        }
+    }
+
+    /**
+     * Buffer for a streamed UIDL response. Up to
+     * {@value #MAX_IN_MEMORY_RESPONSE_SIZE} bytes are kept in memory, and the
+     * rest of a larger response is written to a temporary file, which is
+     * deleted when the buffer is discarded.
+     */
+    private static class UidlResponseBuffer extends OutputStream {
+
+        private final ByteArrayOutputStream memory = new ByteArrayOutputStream();
+
+        private Path file;
+
+        private OutputStream fileOutput;
+
+        private long size;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (fileOutput == null
+                    && memory.size() + len > MAX_IN_MEMORY_RESPONSE_SIZE) {
+                file = Files.createTempFile("vaadin-uidl", ".json");
+                fileOutput = new BufferedOutputStream(
+                        Files.newOutputStream(file));
+            }
+            if (fileOutput != null) {
+                fileOutput.write(b, off, len);
+            } else {
+                memory.write(b, off, len);
+            }
+            size += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (fileOutput != null) {
+                fileOutput.close();
+            }
+        }
+
+        private long size() {
+            return size;
+        }
+
+        private String getResendCopy() {
+            // The resend copy limit is below the in-memory limit
+            return size <= MAX_RESEND_COPY_SIZE ? memory.toString(UTF_8)
+                    : null;
+        }
+
+        private void writeTo(OutputStream out) throws IOException {
+            memory.writeTo(out);
+            if (file != null) {
+                Files.copy(file, out);
+            }
+        }
+
+        private void discard() {
+            try {
+                close();
+                if (file != null) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException e) {
+                getLogger().warn("Unable to delete buffered UIDL response {}",
+                        file, e);
+            }
+        }
+    }
+
+    private static void writeJsonBytes(VaadinResponse response, byte[] b)
+            throws IOException {
         response.setContentLength(b.length);
 
         OutputStream outputStream = response.getOutputStream();
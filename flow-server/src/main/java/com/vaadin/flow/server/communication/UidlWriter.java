@@ -33,6 +33,7 @@ import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
@@ -43,7 +44,9 @@ import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.DependencyList;
 import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
 import com.vaadin.flow.component.internal.UIInternals;
+import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.internal.ConstantPool;
 import com.vaadin.flow.internal.JacksonCodec;
 import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.internal.ResourceContentHash;
@@ -77,6 +80,7 @@ import com.vaadin.flow.shared.ui.LoadMode;
  */
 public class UidlWriter implements Serializable {
     private static final String COULD_NOT_READ_URL_CONTENTS_ERROR_MESSAGE = "Could not read url %s contents";
+    private static final String CHANGES = "changes";
 
     /**
      * Provides context information for the resolve operations.
@@ -124,6 +128,133 @@ public class UidlWriter implements Serializable {
 
         UIInternals uiInternals = ui.getInternals();
 
+        // Paints components
+        getLogger().debug("* Creating response to client");
+
+        populateHead(ui, async, resync, response);
+
+        ArrayNode stateChanges = JacksonUtils.createArrayNode();
+
+        boolean compact = isCompact(ui);
+        encodeChanges(ui, change -> stateChanges.add(
+                encodeChange(change, uiInternals.getConstantPool(), compact)));
+
+        populateTail(ui, response, stateChanges);
+        return response;
+    }
+
+    /**
+     * Writes all pending changes to the given UI as a JSON object to the given
+     * generator.
+     * <p>
+     * The produced JSON contains the same data as
+     * {@link #createUidl(UI, boolean, boolean)}, but state changes are written
+     * to the generator one at a time as they are collected instead of first
+     * being added to a JSON tree for the whole response, and the built-in
+     * state changes are written without building a JSON tree at all. How much
+     * of the serialized response is kept in memory depends on where the
+     * generator writes to.
+     *
+     * @param ui
+     *            The {@link UI} whose changes to write
+     * @param async
+     *            True if this message is sent by the server asynchronously,
+     *            false if it is a response to a client message
+     * @param resync
+     *            True iff the client should be asked to resynchronize
+     * @param generator
+     *            the generator to write the UIDL response to, not
+     *            <code>null</code>
+     * @since 25.3
+     */
+    public void writeUidl(UI ui, boolean async, boolean resync,
+            JsonGenerator generator) {
+        writeUidl(ui, async, resync, generator, tail -> {
+        });
+    }
+
+    /**
+     * Writes all pending changes to the given UI as a JSON object to the given
+     * generator, allowing the part of the response that is written after the
+     * state changes to be modified before it is written.
+     *
+     * @param ui
+     *            The {@link UI} whose changes to write
+     * @param async
+     *            True if this message is sent by the server asynchronously,
+     *            false if it is a response to a client message
+     * @param resync
+     *            True iff the client should be asked to resynchronize
+     * @param generator
+     *            the generator to write the UIDL response to
+     * @param tailProcessor
+     *            a callback for processing the JSON object containing the
+     *            data that is written after the state changes
+     */
+    void writeUidl(UI ui, boolean async, boolean resync,
+            JsonGenerator generator, Consumer<ObjectNode> tailProcessor) {
+        UIInternals uiInternals = ui.getInternals();
+
+        getLogger().debug("* Streaming response to client");
+
+        ObjectNode head = JacksonUtils.createObjectNode();
+        populateHead(ui, async, resync, head);
+
+        generator.writeStartObject();
+        writeProperties(generator, head);
+
+        boolean compact = isCompact(ui);
+        boolean[] changesStarted = new boolean[1];
+        encodeChanges(ui, change -> {
+            if (!changesStarted[0]) {
+                generator.writeArrayPropertyStart(CHANGES);
+                changesStarted[0] = true;
+            }
+            change.writeJson(generator, uiInternals.getConstantPool(),
+                    compact);
+        });
+        if (changesStarted[0]) {
+            generator.writeEndArray();
+        }
+
+        ObjectNode tail = JacksonUtils.createObjectNode();
+        populateTail(ui, tail, null);
+        tailProcessor.accept(tail);
+        writeProperties(generator, tail);
+
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private static boolean isCompact(UI ui) {
+        DeploymentConfiguration configuration = ui.getSession().getService()
+                .getDeploymentConfiguration();
+        // configuration may be null in tests
+        return configuration != null && configuration.isCompactUidl();
+    }
+
+    private static ObjectNode encodeChange(NodeChange change,
+            ConstantPool constantPool, boolean compact) {
+        ObjectNode json = change.toJson(constantPool);
+        return compact ? CompactUidl.compactChange(json) : json;
+    }
+
+    private static void writeProperties(JsonGenerator generator,
+            ObjectNode json) {
+        json.properties().forEach(property -> {
+            generator.writeName(property.getKey());
+            generator.writeTree(property.getValue());
+        });
+    }
+
+    /**
+     * Runs pending access tasks and populates the part of the response that
+     * precedes the state changes.
+     */
+    private void populateHead(UI ui, boolean async, boolean resync,
+            ObjectNode response) {
+        UIInternals uiInternals = ui.getInternals();
+
         VaadinSession session = ui.getSession();
         VaadinService service = session.getService();
 
@@ -131,12 +262,12 @@ public class UidlWriter implements Serializable {
         // to write out
         service.runPendingAccessTasks(session);
 
-        // Paints components
-        getLogger().debug("* Creating response to client");
-
         if (resync) {
             response.put(ApplicationConstants.RESYNCHRONIZE_ID, true);
         }
+        if (isCompact(ui)) {
+            response.put(ApplicationConstants.COMPACT_UIDL, true);
+        }
         int nextClientToServerMessageId = uiInternals
                 .getLastProcessedClientToServerId() + 1;
         response.put(ApplicationConstants.CLIENT_TO_SERVER_ID,
@@ -150,10 +281,17 @@ public class UidlWriter implements Serializable {
         if (!JacksonUtils.getKeys(meta).isEmpty()) {
             response.set("meta", meta);
         }
+    }
 
-        ArrayNode stateChanges = JacksonUtils.createArrayNode();
-
-        encodeChanges(ui, stateChanges);
+    /**
+     * Populates the part of the response that depends on the state changes
+     * having been encoded. The state changes are included only if
+     * {@code stateChanges} is not {@code null}.
+     */
+    private void populateTail(UI ui, ObjectNode response,
+            ArrayNode stateChanges) {
+        UIInternals uiInternals = ui.getInternals();
+        VaadinService service = ui.getSession().getService();
 
         populateDependencies(response, uiInternals.getDependencyList(),
                 new ResolveContext(service));
@@ -172,8 +310,8 @@ public class UidlWriter implements Serializable {
             response.set("constants",
                     uiInternals.getConstantPool().dumpConstants());
         }
-        if (!stateChanges.isEmpty()) {
-            response.set("changes", stateChanges);
+        if (stateChanges != null && !stateChanges.isEmpty()) {
+            response.set(CHANGES, stateChanges);
         }
 
         List<PendingJavaScriptInvocation> executeJavaScriptList = uiInternals
@@ -194,7 +332,6 @@ public class UidlWriter implements Serializable {
                 : -1;
         response.put(ApplicationConstants.SERVER_SYNC_ID, syncId);
         uiInternals.incrementServerId();
-        return response;
     }
 
     /**
@@ -386,11 +523,11 @@ public class UidlWriter implements Serializable {
      *
      * @param ui
      *            the UI
-     * @param stateChanges
-     *            a JSON array to put state changes into
+     * @param changeEncoder
+     *            a consumer that encodes each collected change
      * @see StateTree#runExecutionsBeforeClientResponse()
      */
-    private void encodeChanges(UI ui, ArrayNode stateChanges) {
+    private void encodeChanges(UI ui, Consumer<NodeChange> changeEncoder) {
         UIInternals uiInternals = ui.getInternals();
         StateTree stateTree = uiInternals.getStateTree();
 
@@ -405,7 +542,7 @@ public class UidlWriter implements Serializable {
             }
 
             // Encode the actual change
-            stateChanges.add(change.toJson(uiInternals.getConstantPool()));
+            changeEncoder.accept(change);
         };
         // A collectChanges round may add additional changes that needs to be
         // collected.
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.startup;
+
+import jakarta.servlet.annotation.HandlesTypes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import com.vaadin.flow.internal.FrontendUtils;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.server.Constants;
+
+/**
+ * Index of the classes that the startup initializers look for, generated at
+ * build time so that they can be found without scanning the class path.
+ * <p>
+ * The index contains the names of the annotations and super types it covers
+ * and the names of all classes annotated with or extending any of them. The
+ * listed classes are candidates only: they still need to be checked against
+ * the annotations and types actually looked for.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public final class StartupClassIndex implements Serializable {
+
+    /**
+     * Location of the index file, relative to the
+     * {@value Constants#VAADIN_SERVLET_RESOURCES} folder.
+     */
+    public static final String INDEX_FILE = Constants.VAADIN_CONFIGURATION
+            + "startup-class-index.json";
+
+    private static final String TYPES = "types";
+
+    private static final String CLASSES = "classes";
+
+    private static final List<Class<?>> INITIALIZERS = List.of(
+            LookupServletContainerInitializer.class,
+            VaadinAppShellInitializer.class, RouteRegistryInitializer.class,
+            ErrorNavigationTargetInitializer.class, AnnotationValidator.class,
+            WebComponentExporterAwareValidator.class,
+            WebComponentConfigurationRegistryInitializer.class);
+
+    private final Set<String> types;
+
+    private final NavigableSet<String> classNames;
+
+    /**
+     * Creates a new index.
+     *
+     * @param types
+     *            names of the annotations and super types covered by the
+     *            index, not {@code null}
+     * @param classNames
+     *            names of the classes annotated with or extending any of the
+     *            covered types, not {@code null}
+     */
+    public StartupClassIndex(Collection<String> types,
+            Collection<String> classNames) {
+        this.types = Collections.unmodifiableSet(new TreeSet<>(types));
+        this.classNames = Collections
+                .unmodifiableNavigableSet(new TreeSet<>(classNames));
+    }
+
+    /**
+     * Gets the annotations and super types that the index should cover. These
+     * are the types handled by the startup initializers.
+     *
+     * @return the types to index
+     */
+    public static List<Class<?>> getIndexedTypes() {
+        return INITIALIZERS.stream()
+                .map(initializer -> initializer
+                        .getAnnotation(HandlesTypes.class))
+                .flatMap(handlesTypes -> Stream.of(handlesTypes.value()))
+                .distinct().toList();
+    }
+
+    /**
+     * Checks whether all the given annotations or super types are covered by
+     * the index, i.e. whether all classes annotated with or extending them are
+     * listed.
+     *
+     * @param types
+     *            the annotations or super types to check
+     * @return {@code true} if all types are covered, {@code false} otherwise
+     */
+    public boolean covers(Collection<? extends Class<?>> types) {
+        return types.stream().map(Class::getName)
+                .allMatch(this.types::contains);
+    }
+
+    /**
+     * Gets the names of the indexed classes.
+     *
+     * @return the class names in alphabetical order
+     */
+    public Set<String> getClassNames() {
+        return classNames;
+    }
+
+    /**
+     * Checks whether any of the indexed classes is in the given package or in
+     * its sub packages.
+     *
+     * @param basePackage
+     *            the package name, or an empty string for all packages
+     * @return {@code true} if the package contains indexed classes,
+     *         {@code false} otherwise
+     */
+    public boolean containsPackage(String basePackage) {
+        if (basePackage.isEmpty()) {
+            return !classNames.isEmpty();
+        }
+        String prefix = basePackage + ".";
+        String first = classNames.ceiling(prefix);
+        return first != null && first.startsWith(prefix);
+    }
+
+    /**
+     * Serializes the index to JSON.
+     *
+     * @return the index as JSON
+     */
+    public String toJson() {
+        ObjectNode json = JacksonUtils.createObjectNode();
+        ArrayNode typesJson = json.putArray(TYPES);
+        types.forEach(typesJson::add);
+        ArrayNode classesJson = json.putArray(CLASSES);
+        classNames.forEach(classesJson::add);
+        return json.toPrettyString() + "\n";
+    }
+
+    /**
+     * Reads an index from JSON.
+     *
+     * @param json
+     *            the index as JSON, not {@code null}
+     * @return the index
+     */
+    public static StartupClassIndex fromJson(String json) {
+        ObjectNode node = JacksonUtils.readTree(json);
+        return new StartupClassIndex(getStrings(node, TYPES),
+                getStrings(node, CLASSES));
+    }
+
+    /**
+     * Loads the index from the given class loader.
+     * <p>
+     * If several indexes are found, they are merged so that only the types
+     * covered by all of them are considered covered.
+     *
+     * @param classLoader
+     *            the class loader to load the index from
+     * @return the index, or {@code null} if there is none
+     * @throws IOException
+     *             if reading the index fails
+     */
+    public static StartupClassIndex load(ClassLoader classLoader)
+            throws IOException {
+        Enumeration<URL> resources = classLoader.getResources(
+                Constants.VAADIN_SERVLET_RESOURCES + INDEX_FILE);
+        StartupClassIndex result = null;
+        while (resources.hasMoreElements()) {
+            StartupClassIndex index;
+            try (InputStream stream = resources.nextElement().openStream()) {
+                index = fromJson(FrontendUtils.streamToString(stream));
+            }
+            result = result == null ? index : result.merge(index);
+        }
+        return result;
+    }
+
+    private StartupClassIndex merge(StartupClassIndex other) {
+        Set<String> mergedTypes = new TreeSet<>(types);
+        mergedTypes.retainAll(other.types);
+        Set<String> mergedClassNames = new TreeSet<>(classNames);
+        mergedClassNames.addAll(other.classNames);
+        return new StartupClassIndex(mergedTypes, mergedClassNames);
+    }
+
+    private static List<String> getStrings(ObjectNode node, String key) {
+        if (!node.has(key)) {
+            return Collections.emptyList();
+        }
+        return JacksonUtils.<JsonNode> stream((ArrayNode) node.get(key))
+                .map(JsonNode::asString).toList();
+    }
+}
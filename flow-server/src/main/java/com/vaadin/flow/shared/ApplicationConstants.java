@@ -267,4 +267,12 @@ public class ApplicationConstants implements Serializable {
      */
     public static final String UNLOAD_BEACON = "UNLOAD";
 
+    /**
+     * The name of the parameter marking a message whose state changes or RPC
+     * invocations use the short keys of {@link CompactUidlKeys}.
+     *
+     * @since 25.3
+     */
+    public static final String COMPACT_UIDL = "compact";
+
 }
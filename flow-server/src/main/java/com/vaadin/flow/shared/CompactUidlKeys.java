@@ -0,0 +1,183 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.shared;
+
+import java.io.Serializable;
+
+/**
+ * Dictionary of short aliases for the keys and type names that are repeated in
+ * every state change and RPC invocation of a UIDL message.
+ * <p>
+ * Only the keys of the change and invocation objects themselves and the values
+ * of their type keys are replaced. Nested values may contain application data
+ * and are never touched. Keys that have no alias are kept as is, and none of
+ * the aliases is used as a regular key, so encoding can always be reversed.
+ * <p>
+ * Also available for the client side part of the framework.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @see ApplicationConstants#COMPACT_UIDL
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public final class CompactUidlKeys implements Serializable {
+
+    private static final String[] CHANGE_KEYS = { JsonConstants.CHANGE_NODE,
+            JsonConstants.CHANGE_TYPE, JsonConstants.CHANGE_FEATURE,
+            JsonConstants.CHANGE_FEATURE_TYPE, JsonConstants.CHANGE_MAP_KEY,
+            JsonConstants.CHANGE_SPLICE_ADD_NODES,
+            JsonConstants.CHANGE_SPLICE_ADD,
+            JsonConstants.CHANGE_SPLICE_REMOVE,
+            JsonConstants.CHANGE_SPLICE_INDEX, JsonConstants.CHANGE_PUT_VALUE,
+            JsonConstants.CHANGE_PUT_NODE_VALUE };
+
+    private static final String[] CHANGE_KEY_ALIASES = { "n", "t", "f", "ft",
+            "k", "an", "a", "r", "i", "v", "nv" };
+
+    private static final String[] CHANGE_TYPES = {
+            JsonConstants.CHANGE_TYPE_NOOP, JsonConstants.CHANGE_TYPE_ATTACH,
+            JsonConstants.CHANGE_TYPE_DETACH, JsonConstants.CHANGE_TYPE_SPLICE,
+            JsonConstants.CHANGE_TYPE_PUT, JsonConstants.CHANGE_TYPE_REMOVE,
+            JsonConstants.CHANGE_TYPE_CLEAR };
+
+    private static final String[] CHANGE_TYPE_ALIASES = { "E", "A", "D", "S",
+            "P", "R", "C" };
+
+    private static final String[] RPC_KEYS = { JsonConstants.RPC_TYPE,
+            JsonConstants.RPC_NODE, JsonConstants.RPC_EVENT_TYPE,
+            JsonConstants.RPC_EVENT_DATA, JsonConstants.RPC_FEATURE,
+            JsonConstants.RPC_PROPERTY, JsonConstants.RPC_PROPERTY_VALUE,
+            JsonConstants.RPC_TEMPLATE_EVENT_METHOD_NAME,
+            JsonConstants.RPC_TEMPLATE_EVENT_ARGS,
+            JsonConstants.RPC_TEMPLATE_EVENT_PROMISE,
+            JsonConstants.RPC_CHANNEL, JsonConstants.RPC_CHANNEL_ARGUMENTS };
+
+    private static final String[] RPC_KEY_ALIASES = { "t", "n", "e", "d", "f",
+            "p", "v", "tm", "ta", "pr", "c", "ar" };
+
+    private static final String[] RPC_TYPES = { JsonConstants.RPC_TYPE_EVENT,
+            JsonConstants.RPC_TYPE_MAP_SYNC, JsonConstants.RPC_TYPE_NAVIGATION,
+            JsonConstants.RPC_PUBLISHED_SERVER_EVENT_HANDLER,
+            JsonConstants.RPC_TYPE_CHANNEL };
+
+    private static final String[] RPC_TYPE_ALIASES = { "E", "M", "N", "H",
+            "C" };
+
+    private CompactUidlKeys() {
+        // Only static helpers
+    }
+
+    /**
+     * Gets the alias of a key of a state change object.
+     *
+     * @param key
+     *            the key to get an alias for
+     * @return the alias, or the key itself if it has no alias
+     */
+    public static String compactChangeKey(String key) {
+        return translate(CHANGE_KEYS, CHANGE_KEY_ALIASES, key);
+    }
+
+    /**
+     * Gets the key of a state change object for an alias.
+     *
+     * @param alias
+     *            the alias to resolve
+     * @return the key, or the alias itself if it is not an alias
+     */
+    public static String expandChangeKey(String alias) {
+        return translate(CHANGE_KEY_ALIASES, CHANGE_KEYS, alias);
+    }
+
+    /**
+     * Gets the alias of a state change type.
+     *
+     * @param type
+     *            the change type to get an alias for
+     * @return the alias, or the type itself if it has no alias
+     */
+    public static String compactChangeType(String type) {
+        return translate(CHANGE_TYPES, CHANGE_TYPE_ALIASES, type);
+    }
+
+    /**
+     * Gets the state change type for an alias.
+     *
+     * @param alias
+     *            the alias to resolve
+     * @return the change type, or the alias itself if it is not an alias
+     */
+    public static String expandChangeType(String alias) {
+        return translate(CHANGE_TYPE_ALIASES, CHANGE_TYPES, alias);
+    }
+
+    /**
+     * Gets the alias of a key of an RPC invocation object.
+     *
+     * @param key
+     *            the key to get an alias for
+     * @return the alias, or the key itself if it has no alias
+     */
+    public static String compactRpcKey(String key) {
+        return translate(RPC_KEYS, RPC_KEY_ALIASES, key);
+    }
+
+    /**
+     * Gets the key of an RPC invocation object for an alias.
+     *
+     * @param alias
+     *            the alias to resolve
+     * @return the key, or the alias itself if it is not an alias
+     */
+    public static String expandRpcKey(String alias) {
+        return translate(RPC_KEY_ALIASES, RPC_KEYS, alias);
+    }
+
+    /**
+     * Gets the alias of an RPC invocation type.
+     *
+     * @param type
+     *            the invocation type to get an alias for
+     * @return the alias, or the type itself if it has no alias
+     */
+    public static String compactRpcType(String type) {
+        return translate(RPC_TYPES, RPC_TYPE_ALIASES, type);
+    }
+
+    /**
+     * Gets the RPC invocation type for an alias.
+     *
+     * @param alias
+     *            the alias to resolve
+     * @return the invocation type, or the alias itself if it is not an alias
+     */
+    public static String expandRpcType(String alias) {
+        return translate(RPC_TYPE_ALIASES, RPC_TYPES, alias);
+    }
+
+    private static String translate(String[] from, String[] to,
+            String value) {
+        // The dictionaries are tiny, a linear scan beats hashing here and
+        // works the same way on the client side
+        for (int i = 0; i < from.length; i++) {
+            if (from[i].equals(value)) {
+                return to[i];
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactMapTest {
+
+    private final CompactMap<String, Integer> map = new CompactMap<>();
+
+    @Test
+    void put_get_insertionOrderRetained() {
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", 3);
+        map.put("a", 4);
+
+        assertEquals(List.of("c", "a", "b"), new ArrayList<>(map.keySet()));
+        assertEquals(List.of(1, 4, 3), new ArrayList<>(map.values()));
+        assertEquals(4, map.get("a"));
+        assertNull(map.get("d"));
+    }
+
+    @Test
+    void remove_remainingEntriesShifted() {
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        assertEquals(2, map.remove("b"));
+        assertNull(map.remove("b"));
+
+        assertEquals(List.of("a", "c"), new ArrayList<>(map.keySet()));
+        assertFalse(map.containsKey("b"));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void iteratorRemove_entryRemoved() {
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        Iterator<Entry<String, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue() % 2 == 1) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(Map.of("b", 2), map);
+    }
+
+    @Test
+    void nullKeyAndValue_supported() {
+        map.put(null, null);
+
+        assertTrue(map.containsKey(null));
+        assertNull(map.get(null));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void randomOperations_behavesLikeLinkedHashMap() {
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            String key = "key" + random.nextInt(20);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected, map);
+        }
+        assertEquals(new ArrayList<>(expected.keySet()),
+                new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    void maxCompactSizeExceeded_entriesRetained() {
+        CompactMap<String, Integer> limited = new CompactMap<>(2);
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            String key = "key" + random.nextInt(20);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), limited.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), limited.put(key, i));
+            }
+            assertEquals(expected, limited);
+        }
+
+        limited.clear();
+        limited.put("a", 1);
+        assertEquals(Map.of("a", 1), limited);
+    }
+}
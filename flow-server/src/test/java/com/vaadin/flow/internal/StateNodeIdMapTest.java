@@ -0,0 +1,107 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.internal.nodefeature.ElementData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StateNodeIdMapTest {
+
+    private final StateNodeIdMap map = new StateNodeIdMap();
+
+    @Test
+    void put_get_nodeFound() {
+        StateNode node = new StateNode(ElementData.class);
+
+        assertNull(map.put(1, node));
+
+        assertSame(node, map.get(1));
+        assertTrue(map.containsKey(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void put_existingId_previousNodeReplaced() {
+        StateNode first = new StateNode(ElementData.class);
+        StateNode second = new StateNode(ElementData.class);
+        map.put(5, first);
+
+        assertSame(first, map.put(5, second));
+
+        assertSame(second, map.get(5));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void get_unknownOrInvalidId_returnsNull() {
+        map.put(1, new StateNode(ElementData.class));
+
+        assertNull(map.get(2));
+        assertNull(map.get(0));
+        assertNull(map.get(-1));
+        assertFalse(map.containsKey(-1));
+    }
+
+    @Test
+    void remove_nodeRemovedOthersRetained() {
+        StateNode[] nodes = new StateNode[100];
+        for (int id = 1; id < nodes.length; id++) {
+            nodes[id] = new StateNode(ElementData.class);
+            map.put(id, nodes[id]);
+        }
+
+        assertSame(nodes[50], map.remove(50));
+        assertNull(map.remove(50));
+
+        assertFalse(map.containsKey(50));
+        assertEquals(98, map.size());
+        for (int id = 1; id < nodes.length; id++) {
+            if (id != 50) {
+                assertSame(nodes[id], map.get(id));
+            }
+        }
+    }
+
+    @Test
+    void randomOperations_behavesLikeHashMap() {
+        Map<Integer, StateNode> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50000; i++) {
+            int id = 1 + random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                assertSame(expected.remove(id), map.remove(id));
+            } else {
+                StateNode node = new StateNode();
+                assertSame(expected.put(id, node), map.put(id, node));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (int id = 1; id <= 5000; id++) {
+            assertSame(expected.get(id), map.get(id));
+        }
+    }
+}
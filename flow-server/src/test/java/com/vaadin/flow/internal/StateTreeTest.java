@@ -18,6 +18,7 @@ package com.vaadin.flow.internal;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -289,6 +290,25 @@ class StateTreeTest {
                 tree.collectDirtyNodes().toArray());
     }
 
+    @Test
+    void markAsDirty_sameNodeMultipleTimes_collectedOnce() {
+        StateNode node = StateNodeTest.createEmptyNode("node");
+        StateNodeTest.setParent(node, tree.getRootNode());
+        tree.collectChanges(change -> {
+        });
+
+        node.markAsDirty();
+        node.markAsDirty();
+        assertEquals(Collections.singleton(node), tree.collectDirtyNodes());
+
+        tree.collectChanges(change -> {
+        });
+        assertFalse(tree.hasDirtyNodes());
+
+        node.markAsDirty();
+        assertEquals(Collections.singleton(node), tree.collectDirtyNodes());
+    }
+
     @Test
     void testDetachInChanges() {
         StateNode node1 = tree.getRootNode();
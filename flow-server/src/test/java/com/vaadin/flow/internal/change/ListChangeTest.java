@@ -25,6 +25,7 @@ import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateNodeTest;
 import com.vaadin.flow.internal.nodefeature.AbstractNodeFeatureTest;
 import com.vaadin.flow.internal.nodefeature.ElementChildrenList;
+import com.vaadin.flow.internal.nodefeature.ElementClassList;
 import com.vaadin.flow.internal.nodefeature.NodeFeatureRegistry;
 import com.vaadin.flow.internal.nodefeature.NodeList;
 import com.vaadin.flow.shared.JsonConstants;
@@ -80,4 +81,24 @@ class ListChangeTest {
 
         assertFalse(json.has(JsonConstants.CHANGE_SPLICE_ADD_NODES));
     }
+
+    @Test
+    void writeJson_sameAsToJson() {
+        StateNode child1 = StateNodeTest.createEmptyNode("child1");
+        StateNode child2 = StateNodeTest.createEmptyNode("child2");
+        ListAddChange<StateNode> nodeAdd = new ListAddChange<>(feature, true,
+                0, Arrays.asList(child1, child2));
+        ListAddChange<String> valueAdd = new ListAddChange<>(
+                AbstractNodeFeatureTest.createFeature(ElementClassList.class),
+                false, 1, Arrays.asList("foo", "bar"));
+        ListAddChange<StateNode> emptyAdd = new ListAddChange<>(feature,
+                false, 1, Arrays.asList());
+
+        for (NodeChange change : Arrays.asList(nodeAdd, valueAdd, emptyAdd,
+                new ListRemoveChange<>(feature, 2, child1),
+                new ListClearChange<>(feature))) {
+            assertEquals(change.toJson(null),
+                    MapPutChangeTest.writeJson(change));
+        }
+    }
 }
@@ -15,7 +15,10 @@
  */
 package com.vaadin.flow.internal.change;
 
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.JsonNodeType;
 import tools.jackson.databind.node.ObjectNode;
@@ -90,6 +93,28 @@ class MapPutChangeTest {
         assertEquals(value.getId(), nodeValue.intValue());
     }
 
+    @Test
+    void writeJson_sameAsToJson() {
+        ObjectNode jsonValue = JacksonUtils.createObjectNode();
+        jsonValue.put("foo", "bar");
+        for (Object value : new Object[] { "string", Integer.valueOf(1),
+                Boolean.TRUE, null, jsonValue,
+                StateNodeTest.createEmptyNode("value") }) {
+            MapPutChange change = new MapPutChange(feature, "myKey", value);
+
+            assertEquals(change.toJson(null), writeJson(change));
+        }
+    }
+
+    static ObjectNode writeJson(NodeChange change) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JacksonUtils.getMapper()
+                .createGenerator(writer)) {
+            change.writeJson(generator, null, false);
+        }
+        return JacksonUtils.readTree(writer.toString());
+    }
+
     private JsonNode getValue(Object input) {
         MapPutChange change = new MapPutChange(feature, "myKey", input);
         ObjectNode json = change.toJson(null);
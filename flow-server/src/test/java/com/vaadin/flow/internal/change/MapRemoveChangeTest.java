@@ -46,4 +46,11 @@ class MapRemoveChangeTest {
                 json.get(JsonConstants.CHANGE_MAP_KEY).textValue());
     }
 
+    @Test
+    void writeJson_sameAsToJson() {
+        MapRemoveChange change = new MapRemoveChange(feature, "some");
+
+        assertEquals(change.toJson(null), MapPutChangeTest.writeJson(change));
+    }
+
 }
@@ -407,6 +407,39 @@ class NodeMapTest extends AbstractNodeFeatureTest<ElementStylePropertyMap> {
         assertTrue(nodeMap.usesSingleMap());
     }
 
+    @Test
+    void put_fewValues_useCompactMap_manyValues_useHashMap() {
+        for (int i = 0; i < 8; i++) {
+            nodeMap.put("key" + i, "value" + i);
+        }
+        assertTrue(nodeMap.usesCompactMap());
+
+        nodeMap.put("key8", "value8");
+        assertFalse(nodeMap.usesCompactMap());
+
+        for (int i = 0; i < 9; i++) {
+            assertEquals("value" + i, nodeMap.get("key" + i));
+        }
+    }
+
+    @Test
+    void remove_fromCompactMap_otherValuesRetained() {
+        nodeMap.put("foo", "bar");
+        nodeMap.put("baz", "qux");
+        nodeMap.put("abc", "def");
+
+        assertEquals("qux", nodeMap.remove("baz"));
+
+        assertTrue(nodeMap.usesCompactMap());
+        assertFalse(nodeMap.contains("baz"));
+        assertEquals("bar", nodeMap.get("foo"));
+        assertEquals("def", nodeMap.get("abc"));
+
+        nodeMap.remove("foo");
+        nodeMap.remove("abc");
+        assertEquals(0, nodeMap.keySet().size());
+    }
+
     @Test
     void streamSingleNullValue() {
         nodeMap.put("foo", null);
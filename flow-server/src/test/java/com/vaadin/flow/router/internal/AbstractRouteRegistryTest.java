@@ -43,6 +43,7 @@ import com.vaadin.flow.shared.Registration;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -255,6 +256,34 @@ class AbstractRouteRegistryTest {
         assertEquals(1, events.size(), "No new event should have fired");
     }
 
+    @Test
+    void updateRoutes_unchangedRouteModelsShared() {
+        registry.setRoute("home", MyRoute.class, Collections.emptyList());
+        registry.setRoute("alias", MyRoute.class, Collections.emptyList());
+        ConfiguredRoutes previous = registry.getConfiguration();
+
+        registry.setRoute("other", Secondary.class, Collections.emptyList());
+        ConfiguredRoutes current = registry.getConfiguration();
+
+        assertSame(previous.getTargetRouteModelMap().get(MyRoute.class),
+                current.getTargetRouteModelMap().get(MyRoute.class),
+                "Route model of unchanged target should be shared");
+        assertFalse(previous.getNavigationRouteTarget("other").hasTarget(),
+                "Previous configuration should not see the added route");
+        assertTrue(current.getNavigationRouteTarget("other").hasTarget());
+
+        registry.removeRoute("alias");
+
+        assertTrue(previous.getNavigationRouteTarget("alias").hasTarget(),
+                "Previous configuration should not see the removed route");
+        assertEquals(2, previous.getTargetRouteModelMap().get(MyRoute.class)
+                .getRoutes().size());
+        assertFalse(registry.getConfiguration()
+                .getNavigationRouteTarget("alias").hasTarget());
+        assertEquals(1, registry.getConfiguration().getTargetRouteModelMap()
+                .get(MyRoute.class).getRoutes().size());
+    }
+
     @Test
     void routeChangedEvent_testRouteAddedAndRemoved() {
         registry.setRoute("MyRoute1", MyRoute.class, Collections.emptyList());
@@ -31,7 +31,9 @@ import com.vaadin.flow.router.RouterLayout;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfiguredRoutesTest {
@@ -207,6 +209,53 @@ class ConfiguredRoutesTest {
                 "Route should be matched and not RouteAlias");
     }
 
+    @Test
+    void manyRoutes_navigationTargetsResolvedAndCached() {
+        ConfigureRoutes mutable = new ConfigureRoutes();
+        for (int i = 0; i < 1500; i++) {
+            mutable.setRoute("page-" + i, FooTarget.class);
+            mutable.setRoute("page-" + i + "/:id(" + RouteParameterRegex.INTEGER
+                    + ")", BarTarget.class);
+        }
+        ConfiguredRoutes immutable = new ConfiguredRoutes(mutable);
+
+        NavigationRouteTarget target = immutable
+                .getNavigationRouteTarget("page-1234/42");
+        assertEquals(BarTarget.class, target.getRouteTarget().getTarget());
+        assertEquals("42",
+                target.getRouteParameters().get("id").orElse(null));
+        assertSame(target, immutable.getNavigationRouteTarget("page-1234/42"),
+                "Resolution should be reused for the same url");
+
+        assertEquals(FooTarget.class, immutable
+                .getNavigationRouteTarget("page-7").getRouteTarget()
+                .getTarget());
+        assertFalse(immutable.getNavigationRouteTarget("page-7/foo")
+                .hasTarget());
+        for (int i = 0; i < 2000; i++) {
+            assertTrue(immutable.getNavigationRouteTarget("page-1/" + i)
+                    .hasTarget());
+        }
+        NavigationRouteTarget evicted = immutable
+                .getNavigationRouteTarget("page-1234/42");
+        assertNotSame(target, evicted,
+                "Resolution should have been evicted when the cache was full");
+        assertEquals(BarTarget.class, evicted.getRouteTarget().getTarget());
+    }
+
+    @Test
+    void mutableConfiguration_navigationTargetReflectsChanges() {
+        ConfigureRoutes mutable = new ConfigureRoutes();
+        mutable.setRoute("foo", FooTarget.class);
+
+        assertFalse(mutable.getNavigationRouteTarget("bar").hasTarget());
+
+        mutable.setRoute("bar", BarTarget.class);
+
+        assertEquals(BarTarget.class, mutable.getNavigationRouteTarget("bar")
+                .getRouteTarget().getTarget());
+    }
+
     @Tag("div")
     @Route("/home/:message?")
     public static class RouteTarget extends Component {
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessTaskCoalescerTest {
+
+    private MockVaadinServletService service;
+    private MockVaadinSession session;
+    private AccessTaskCoalescer coalescer;
+
+    @BeforeEach
+    void setup() {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_ACCESS_COALESCING_WINDOW,
+                "200");
+        service = new MockVaadinServletService(configuration);
+        session = new MockVaadinSession(service);
+        coalescer = service.getAccessTaskCoalescer().orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    void coalescingNotEnabled_noCoalescer() {
+        assertFalse(new MockVaadinServletService().getAccessTaskCoalescer()
+                .isPresent());
+    }
+
+    @Test
+    void accessFromBackgroundThread_tasksRunInOneBatch() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(session.access(runs::incrementAndGet));
+        }
+        assertEquals(0, runs.get());
+
+        for (Future<Void> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(10, runs.get());
+        assertEquals(1, coalescer.getBatchCount());
+        assertEquals(10, coalescer.getTaskCount());
+        assertEquals(10, coalescer.getMaxBatchSize());
+        assertEquals(10.0, coalescer.getAverageBatchSize());
+    }
+
+    @Test
+    void accessWhileHoldingLock_runOnUnlock() {
+        AtomicInteger runs = new AtomicInteger();
+        session.lock();
+        Future<Void> future;
+        try {
+            future = session.access(runs::incrementAndGet);
+            assertEquals(0, runs.get());
+        } finally {
+            session.unlock();
+        }
+
+        assertTrue(future.isDone());
+        assertEquals(1, runs.get());
+        // Not merged by the coalescer
+        assertEquals(0, coalescer.getBatchCount());
+    }
+
+    @Test
+    void stop_scheduledTasksRunImmediately() {
+        AtomicInteger runs = new AtomicInteger();
+        Future<Void> future = session.access(runs::incrementAndGet);
+
+        service.destroy();
+
+        assertTrue(future.isDone());
+        assertEquals(1, runs.get());
+
+        // Further access is not coalesced anymore
+        session.access(runs::incrementAndGet);
+        assertEquals(2, runs.get());
+    }
+}
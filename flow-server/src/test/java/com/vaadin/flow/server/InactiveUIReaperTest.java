@@ -0,0 +1,196 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
+import com.vaadin.tests.util.MockUI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InactiveUIReaperTest {
+
+    private MockVaadinServletService service;
+    private MockVaadinSession session;
+    private InactiveUIReaper reaper;
+
+    @BeforeEach
+    void setup() {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setHeartbeatInterval(1);
+        service = new MockVaadinServletService(configuration);
+        session = new MockVaadinSession(service);
+        session.lock();
+        try {
+            session.refreshTransients(mockWrappedSession(), service);
+        } finally {
+            session.unlock();
+        }
+        reaper = new InactiveUIReaper(service);
+        reaper.track(session);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reaper.stop();
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    void reap_expiredHeartbeat_uiClosedAndRemoved() {
+        UI inactive = addUI(System.currentTimeMillis() - 60_000);
+        UI active = addUI(System.currentTimeMillis());
+
+        reaper.reap();
+
+        assertTrue(inactive.isClosing());
+        assertFalse(active.isClosing());
+        session.lock();
+        try {
+            assertEquals(1, session.getUIs().size());
+            assertTrue(session.getUIs().contains(active));
+        } finally {
+            session.unlock();
+        }
+        assertEquals(1, reaper.getRunCount());
+        assertEquals(1, reaper.getReapedUICount());
+        assertTrue(reaper.getReleasedNodeCount() > 0);
+    }
+
+    @Test
+    void reap_sessionLockedByOtherThread_sessionSkipped() throws Exception {
+        UI inactive = addUI(System.currentTimeMillis() - 60_000);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            session.getLockInstance().lock();
+            try {
+                locked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                session.getLockInstance().unlock();
+            }
+        });
+        holder.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        reaper.reap();
+
+        release.countDown();
+        holder.join();
+
+        assertFalse(inactive.isClosing());
+        assertEquals(1, reaper.getSkippedSessionCount());
+        assertEquals(0, reaper.getReapedUICount());
+
+        reaper.reap();
+
+        assertTrue(inactive.isClosing());
+        assertEquals(1, reaper.getReapedUICount());
+    }
+
+    @Test
+    void reap_pendingAccessTask_taskNotRunInReapingThread() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            session.getLockInstance().lock();
+            try {
+                locked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                session.getLockInstance().unlock();
+            }
+        });
+        holder.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        AtomicReference<Thread> taskThread = new AtomicReference<>();
+        Future<Void> future = session
+                .access(() -> taskThread.set(Thread.currentThread()));
+        release.countDown();
+        holder.join();
+        assertFalse(session.getPendingAccessQueue().isEmpty());
+
+        reaper.reap();
+
+        future.get(5, TimeUnit.SECONDS);
+        assertNotSame(Thread.currentThread(), taskThread.get());
+    }
+
+    @Test
+    void reap_closedSession_stopsTracking() {
+        assertEquals(1, reaper.getTrackedSessionCount());
+
+        session.lock();
+        try {
+            session.setState(VaadinSessionState.CLOSING);
+        } finally {
+            session.unlock();
+        }
+        reaper.reap();
+
+        assertEquals(0, reaper.getTrackedSessionCount());
+    }
+
+    @Test
+    void stop_serviceSessionsNoLongerTracked() {
+        reaper.stop();
+
+        assertEquals(0, reaper.getTrackedSessionCount());
+    }
+
+    private WrappedSession mockWrappedSession() {
+        WrappedSession wrappedSession = Mockito.mock(WrappedSession.class);
+        Mockito.when(wrappedSession
+                .getAttribute(service.getServiceName() + ".lock"))
+                .thenReturn(session.getLockInstance());
+        return wrappedSession;
+    }
+
+    private UI addUI(long lastHeartbeat) {
+        session.lock();
+        try {
+            MockUI ui = new MockUI(session);
+            ui.doInit(Mockito.mock(VaadinRequest.class),
+                    session.getNextUIid(), "foo");
+            ui.getInternals().setLastHeartbeatTimestamp(lastHeartbeat);
+            session.addUI(ui);
+            return ui;
+        } finally {
+            session.unlock();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.tests.util.MockDeploymentConfiguration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionLockMetricsTest {
+
+    private MockVaadinServletService service;
+    private HistogramSessionLockMetrics metrics;
+    private InstrumentedReentrantLock lock;
+
+    @BeforeEach
+    void setup() {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_SESSION_LOCK_METRICS, "true");
+        service = new MockVaadinServletService(configuration);
+        metrics = assertInstanceOf(HistogramSessionLockMetrics.class,
+                service.getSessionLockMetrics().orElseThrow());
+        lock = new InstrumentedReentrantLock(service);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void metricsNotEnabled_noMetrics() {
+        assertFalse(new MockVaadinServletService().getSessionLockMetrics()
+                .isPresent());
+    }
+
+    @Test
+    void lockAndUnlock_holdRecorded() throws Exception {
+        lock.lock();
+        lock.lock();
+        Thread.sleep(2);
+        lock.unlock();
+        lock.unlock();
+
+        SessionLockStatistics total = metrics.getTotal();
+        assertEquals(1, total.getCount());
+        assertEquals(0, total.getContendedCount());
+        assertTrue(total.getMaxHoldNanos() >= TimeUnit.MILLISECONDS
+                .toNanos(2));
+        assertEquals(1, metrics.getStatisticsByOwner()
+                .get(SessionLockSample.OWNER_OTHER).getCount());
+        assertTrue(metrics.getStatisticsByRoute().isEmpty());
+    }
+
+    @Test
+    void ownerSet_holdRecordedForOwner() {
+        String previous = SessionLockMetricsCollector.setOwner("handler");
+        try {
+            lock.lock();
+            lock.unlock();
+        } finally {
+            SessionLockMetricsCollector.setOwner(previous);
+        }
+        assertTrue(lock.tryLock());
+        lock.unlock();
+
+        assertEquals(1,
+                metrics.getStatisticsByOwner().get("handler").getCount());
+        assertEquals(1, metrics.getStatisticsByOwner()
+                .get(SessionLockSample.OWNER_OTHER).getCount());
+    }
+
+    @Test
+    void lockHeldByOtherThread_contendedWaitRecorded() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            lock.lock();
+            try {
+                locked.countDown();
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        holder.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        lock.lock();
+        lock.unlock();
+        holder.join();
+
+        SessionLockStatistics total = metrics.getTotal();
+        assertEquals(2, total.getCount());
+        assertEquals(1, total.getContendedCount());
+        assertTrue(total.getMaxWaitNanos() > 0);
+    }
+
+    @Test
+    void tryLockWithTimeoutWhileHeld_waitRecordedAndTimeoutIgnored()
+            throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            lock.lock();
+            try {
+                locked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        holder.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        assertFalse(lock.tryLock(10, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(lock.tryLock(5, TimeUnit.SECONDS));
+        lock.unlock();
+        holder.join();
+
+        SessionLockStatistics total = metrics.getTotal();
+        assertEquals(2, total.getCount());
+        assertEquals(1, total.getContendedCount());
+        assertTrue(total.getMaxWaitNanos() >= TimeUnit.MILLISECONDS
+                .toNanos(10));
+    }
+
+    @Test
+    void customMetrics_receivesSamples() {
+        List<SessionLockSample> samples = new ArrayList<>();
+        SessionLockMetricsCollector collector = new SessionLockMetricsCollector(
+                service, samples::add, false);
+        try {
+            lock.lock();
+            collector.accessTasksRun(42);
+            lock.unlock();
+        } finally {
+            collector.stop();
+        }
+
+        assertEquals(1, samples.size());
+        SessionLockSample sample = samples.get(0);
+        assertEquals(SessionLockSample.OWNER_OTHER, sample.getOwner());
+        assertEquals(42, sample.getAccessTaskNanos());
+        assertNull(sample.getRoute());
+        assertFalse(sample.isContended());
+    }
+
+    @Test
+    void destroy_holdsNoLongerRecorded() {
+        service.destroy();
+
+        lock.lock();
+        lock.unlock();
+
+        assertEquals(0, metrics.getTotal().getCount());
+    }
+
+    @Test
+    void statistics_percentilesFromHistogram() {
+        SessionLockStatistics statistics = new SessionLockStatistics();
+        for (int i = 0; i < 99; i++) {
+            statistics.add(new SessionLockSample("owner", null, 0, 1000, 0,
+                    false));
+        }
+        statistics.add(
+                new SessionLockSample("owner", null, 5000, 1_000_000, 0, true));
+
+        assertEquals(100, statistics.getCount());
+        assertEquals(1, statistics.getContendedCount());
+        assertEquals(1024, statistics.getHoldPercentileNanos(50));
+        assertEquals(1024, statistics.getHoldPercentileNanos(99));
+        assertEquals(1 << 20, statistics.getHoldPercentileNanos(100));
+        assertEquals(1, statistics.getWaitPercentileNanos(99));
+        assertEquals(8192, statistics.getWaitPercentileNanos(100));
+        assertEquals(1_000_000, statistics.getMaxHoldNanos());
+        assertEquals(0, new SessionLockStatistics().getHoldPercentileNanos(50));
+        assertThrows(IllegalArgumentException.class,
+                () -> statistics.getHoldPercentileNanos(101));
+    }
+
+    @Test
+    void statistics_bucketBounds() {
+        assertEquals(0, SessionLockStatistics.bucketOf(0));
+        assertEquals(1, SessionLockStatistics.bucketOf(1));
+        assertEquals(10, SessionLockStatistics.bucketOf(1023));
+        assertEquals(11, SessionLockStatistics.bucketOf(1024));
+        assertEquals(SessionLockStatistics.BUCKET_COUNT - 1,
+                SessionLockStatistics.bucketOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, SessionLockStatistics
+                .getBucketUpperBoundNanos(SessionLockStatistics.BUCKET_COUNT - 1));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasComponents;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.Text;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.UIMemoryUsage.ComponentTypeUsage;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
+import com.vaadin.tests.util.MockUI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UIMemoryUsageTest {
+
+    @Tag("div")
+    private static class TestLayout extends Component
+            implements HasComponents {
+    }
+
+    private MockVaadinServletService service;
+    private MockVaadinSession session;
+    private UI ui;
+
+    @BeforeEach
+    void setup() {
+        service = new MockVaadinServletService(
+                new MockDeploymentConfiguration());
+        session = new MockVaadinSession(service);
+        WrappedSession wrappedSession = Mockito.mock(WrappedSession.class);
+        Mockito.when(wrappedSession
+                .getAttribute(service.getServiceName() + ".lock"))
+                .thenReturn(session.getLockInstance());
+        session.lock();
+        session.refreshTransients(wrappedSession, service);
+        MockUI mockUI = new MockUI(session);
+        mockUI.doInit(Mockito.mock(VaadinRequest.class),
+                session.getNextUIid(), "foo");
+        session.addUI(mockUI);
+        ui = mockUI;
+    }
+
+    @AfterEach
+    void tearDown() {
+        session.unlock();
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    void compute_nodesAttributedToClosestComponent() {
+        for (int i = 0; i < 3; i++) {
+            TestLayout layout = new TestLayout();
+            layout.add(new Text("Text " + i));
+            ui.add(layout);
+        }
+
+        UIMemoryUsage usage = UIMemoryUsage.compute(ui);
+
+        assertEquals(ui.getInternals().getStateTree().getNodeCount(),
+                usage.getNodeCount());
+        assertTrue(usage.getFeatureCount() >= usage.getNodeCount());
+        assertTrue(usage.getEstimatedBytes() > 0);
+
+        ComponentTypeUsage layouts = usage.getComponentTypes()
+                .get(TestLayout.class);
+        assertEquals(3, layouts.getInstanceCount());
+        assertEquals(3, layouts.getNodeCount());
+        ComponentTypeUsage texts = usage.getComponentTypes().get(Text.class);
+        assertEquals(3, texts.getInstanceCount());
+        assertEquals(1, usage.getComponentTypes().get(ui.getClass())
+                .getInstanceCount());
+
+        long typeBytes = usage.getComponentTypes().values().stream()
+                .mapToLong(ComponentTypeUsage::getEstimatedBytes).sum();
+        assertEquals(usage.getEstimatedBytes(), typeBytes);
+    }
+
+    @Test
+    void compute_componentTypesOrderedByEstimatedBytes() {
+        TestLayout layout = new TestLayout();
+        for (int i = 0; i < 50; i++) {
+            layout.add(new TestLayout());
+        }
+        ui.add(layout, new Text("Text"));
+
+        UIMemoryUsage usage = UIMemoryUsage.compute(ui);
+
+        List<ComponentTypeUsage> types = new ArrayList<>(
+                usage.getComponentTypes().values());
+        assertSame(TestLayout.class, types.get(0).getComponentType());
+        for (int i = 1; i < types.size(); i++) {
+            assertTrue(types.get(i - 1).getEstimatedBytes() >= types.get(i)
+                    .getEstimatedBytes());
+        }
+    }
+
+    @Test
+    void compute_dataKeyCounter_countedForOwningComponent() {
+        TestLayout layout = new TestLayout();
+        ui.add(layout);
+        ui.getInternals().addDataKeyCounter(layout.getElement().getNode(),
+                () -> 42);
+
+        UIMemoryUsage usage = UIMemoryUsage.compute(ui);
+
+        assertEquals(42, usage.getDataKeyCount());
+        assertEquals(42, usage.getComponentTypes().get(TestLayout.class)
+                .getDataKeyCount());
+    }
+
+    @Test
+    void compute_removedDataKeyCounter_notCounted() {
+        TestLayout layout = new TestLayout();
+        ui.add(layout);
+        ui.getInternals()
+                .addDataKeyCounter(layout.getElement().getNode(), () -> 42)
+                .remove();
+
+        assertEquals(0, UIMemoryUsage.compute(ui).getDataKeyCount());
+    }
+
+    @Test
+    void compute_pendingJavaScriptInvocationsCounted() {
+        ui.getPage().executeJs("console.log('foo')");
+        ui.getPage().executeJs("console.log('bar')");
+
+        assertEquals(2, UIMemoryUsage.compute(ui)
+                .getPendingJavaScriptInvocationCount());
+    }
+
+    @Test
+    void report_listenerCalledWithUsageOfEachUI() {
+        UIMemoryUsageReporter reporter = new UIMemoryUsageReporter(service);
+        try {
+            reporter.track(session);
+            List<UIMemoryUsage> reported = new ArrayList<>();
+            reporter.addListener((reportedSession, usages) -> {
+                assertSame(session, reportedSession);
+                reported.addAll(usages);
+            });
+
+            reporter.report();
+
+            assertEquals(1, reported.size());
+            assertEquals(ui.getUIId(), reported.get(0).getUIId());
+        } finally {
+            reporter.stop();
+        }
+    }
+
+    @Test
+    void report_closedSession_stopsTracking() {
+        UIMemoryUsageReporter reporter = new UIMemoryUsageReporter(service);
+        try {
+            reporter.track(session);
+            session.setState(VaadinSessionState.CLOSING);
+
+            reporter.report();
+
+            assertEquals(0, reporter.getTrackedSessionCount());
+        } finally {
+            reporter.stop();
+        }
+    }
+}
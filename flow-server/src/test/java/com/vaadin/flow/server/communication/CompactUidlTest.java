@@ -0,0 +1,185 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.StateNodeTest;
+import com.vaadin.flow.internal.change.EmptyChange;
+import com.vaadin.flow.internal.change.ListRemoveChange;
+import com.vaadin.flow.internal.change.MapPutChange;
+import com.vaadin.flow.internal.change.NodeAttachChange;
+import com.vaadin.flow.internal.change.NodeChange;
+import com.vaadin.flow.internal.change.NodeDetachChange;
+import com.vaadin.flow.internal.nodefeature.AbstractNodeFeatureTest;
+import com.vaadin.flow.internal.nodefeature.ElementChildrenList;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+import com.vaadin.flow.internal.nodefeature.NodeList;
+import com.vaadin.flow.internal.nodefeature.NodeMap;
+import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.CompactUidlKeys;
+import com.vaadin.flow.shared.JsonConstants;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CompactUidlTest {
+
+    @Test
+    void compactChange_keysAndTypeReplaced_valueUntouched() {
+        ObjectNode change = JacksonUtils.createObjectNode();
+        change.put(JsonConstants.CHANGE_NODE, 3);
+        change.put(JsonConstants.CHANGE_TYPE, JsonConstants.CHANGE_TYPE_PUT);
+        change.put(JsonConstants.CHANGE_FEATURE, 1);
+        change.put(JsonConstants.CHANGE_MAP_KEY, "type");
+        ObjectNode value = JacksonUtils.createObjectNode();
+        value.put(JsonConstants.CHANGE_NODE, "application data");
+        change.set(JsonConstants.CHANGE_PUT_VALUE, value);
+
+        ObjectNode compact = CompactUidl.compactChange(change);
+
+        assertEquals(5, compact.size());
+        assertEquals(3, compact.get("n").intValue());
+        assertEquals("P", compact.get("t").asString());
+        assertEquals(1, compact.get("f").intValue());
+        assertEquals("type", compact.get("k").asString());
+        assertSame(value, compact.get("v"));
+        assertFalse(compact.has(JsonConstants.CHANGE_NODE));
+    }
+
+    @Test
+    void compactChange_unknownKeyAndType_kept() {
+        ObjectNode change = JacksonUtils.createObjectNode();
+        change.put(JsonConstants.CHANGE_TYPE, "custom");
+        change.put("extra", true);
+
+        ObjectNode compact = CompactUidl.compactChange(change);
+
+        assertEquals("custom", compact.get("t").asString());
+        assertEquals(true, compact.get("extra").booleanValue());
+    }
+
+    @Test
+    void writeJson_compact_sameAsCompactChange() {
+        StateNode node = StateNodeTest.createEmptyNode("node");
+        NodeMap properties = AbstractNodeFeatureTest
+                .createFeature(ElementPropertyMap.class);
+        NodeList<StateNode> children = AbstractNodeFeatureTest
+                .createFeature(ElementChildrenList.class);
+
+        for (NodeChange change : Arrays.asList(new NodeAttachChange(node),
+                new NodeDetachChange(node), new EmptyChange(children),
+                new MapPutChange(properties, "type", "text"),
+                new ListRemoveChange<>(children, 0, node))) {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = JacksonUtils.getMapper()
+                    .createGenerator(writer)) {
+                change.writeJson(generator, null, true);
+            }
+
+            assertEquals(CompactUidl.compactChange(change.toJson(null)),
+                    JacksonUtils.readTree(writer.toString()));
+        }
+    }
+
+    @Test
+    void expandInvocations_compactRpc_regularKeysRestored() {
+        ArrayNode invocations = JacksonUtils.createArrayNode();
+        ObjectNode invocation = JacksonUtils.createObjectNode();
+        invocation.put("t", "E");
+        invocation.put("n", 5);
+        invocation.put("e", "click");
+        invocation.set("d", JacksonUtils.createObjectNode().put("t", 1));
+        invocations.add(invocation);
+
+        ArrayNode expanded = CompactUidl.expandInvocations(invocations);
+
+        ObjectNode result = (ObjectNode) expanded.get(0);
+        assertEquals(JsonConstants.RPC_TYPE_EVENT,
+                result.get(JsonConstants.RPC_TYPE).asString());
+        assertEquals(5, result.get(JsonConstants.RPC_NODE).intValue());
+        assertEquals("click",
+                result.get(JsonConstants.RPC_EVENT_TYPE).asString());
+        assertEquals(1, result.get(JsonConstants.RPC_EVENT_DATA).get("t")
+                .intValue());
+    }
+
+    @Test
+    void rpcRequest_compactFlag_invocationsExpanded() {
+        String json = "{\"" + ApplicationConstants.COMPACT_UIDL + "\":true,"
+                + "\"" + ApplicationConstants.CLIENT_TO_SERVER_ID + "\":0,"
+                + "\"" + ApplicationConstants.RPC_INVOCATIONS + "\":"
+                + "[{\"t\":\"N\",\"location\":\"foo\"}]}";
+
+        ServerRpcHandler.RpcRequest request = new ServerRpcHandler.RpcRequest(
+                json, false);
+
+        ObjectNode invocation = (ObjectNode) request.getRpcInvocationsData()
+                .get(0);
+        assertEquals(JsonConstants.RPC_TYPE_NAVIGATION,
+                invocation.get(JsonConstants.RPC_TYPE).asString());
+        assertEquals("foo", invocation
+                .get(JsonConstants.RPC_NAVIGATION_LOCATION).asString());
+    }
+
+    @Test
+    void rpcRequest_noCompactFlag_invocationsKept() {
+        String json = "{\"" + ApplicationConstants.CLIENT_TO_SERVER_ID
+                + "\":0,\"" + ApplicationConstants.RPC_INVOCATIONS + "\":"
+                + "[{\"t\":\"N\"}]}";
+
+        ServerRpcHandler.RpcRequest request = new ServerRpcHandler.RpcRequest(
+                json, false);
+
+        assertEquals("N",
+                request.getRpcInvocationsData().get(0).get("t").asString());
+    }
+
+    @Test
+    void aliases_roundTripAndNoAliasIsARegularKey() {
+        String[] changeKeys = { JsonConstants.CHANGE_NODE,
+                JsonConstants.CHANGE_TYPE, JsonConstants.CHANGE_FEATURE,
+                JsonConstants.CHANGE_FEATURE_TYPE, JsonConstants.CHANGE_MAP_KEY,
+                JsonConstants.CHANGE_SPLICE_ADD_NODES,
+                JsonConstants.CHANGE_SPLICE_ADD,
+                JsonConstants.CHANGE_SPLICE_REMOVE,
+                JsonConstants.CHANGE_SPLICE_INDEX,
+                JsonConstants.CHANGE_PUT_VALUE,
+                JsonConstants.CHANGE_PUT_NODE_VALUE };
+        Set<String> aliases = new HashSet<>();
+        for (String key : changeKeys) {
+            String alias = CompactUidlKeys.compactChangeKey(key);
+            assertEquals(key, CompactUidlKeys.expandChangeKey(alias));
+            assertFalse(alias.equals(key));
+            aliases.add(alias);
+        }
+        assertEquals(changeKeys.length, aliases.size());
+        for (String key : changeKeys) {
+            assertFalse(aliases.contains(key));
+        }
+    }
+}
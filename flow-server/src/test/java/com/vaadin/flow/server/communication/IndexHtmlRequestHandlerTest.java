@@ -65,6 +65,7 @@ import com.vaadin.flow.server.AppShellRegistry;
 import com.vaadin.flow.server.BootstrapHandler;
 import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.HandlerHelper;
+import com.vaadin.flow.server.InitParameters;
 import com.vaadin.flow.server.MockServletServiceSessionSetup;
 import com.vaadin.flow.server.VaadinContext;
 import com.vaadin.flow.server.VaadinRequest;
@@ -587,6 +588,72 @@ public class IndexHtmlRequestHandlerTest {
         assertEquals(Optional.empty(), captor.getValue().getUI());
     }
 
+    @Test
+    public void precompiledIndexHtml_sameContentAsModifiedDocument()
+            throws IOException {
+        deploymentConfiguration.setDevToolsEnabled(false);
+        indexHtmlRequestHandler.synchronizedHandleRequest(session,
+                createVaadinRequestWithSpringCsrfToken(), response);
+        String expected = responseOutput.toString(StandardCharsets.UTF_8);
+
+        deploymentConfiguration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_PRECOMPILED_INDEX_HTML,
+                "true");
+        responseOutput.reset();
+        indexHtmlRequestHandler.synchronizedHandleRequest(session,
+                createVaadinRequestWithSpringCsrfToken(), response);
+
+        assertEquals(expected,
+                responseOutput.toString(StandardCharsets.UTF_8));
+        assertSpringCsrfTokenIsAvailableAsMetaTagsInDom();
+    }
+
+    @Test
+    public void precompiledIndexHtml_initialUidl_UIInitializedAndContainerAdded()
+            throws IOException {
+        deploymentConfiguration.setDevToolsEnabled(false);
+        deploymentConfiguration.setEagerServerLoad(true);
+        deploymentConfiguration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_PRECOMPILED_INDEX_HTML,
+                "true");
+        service.setBootstrapInitialPredicate(
+                request -> request.getPathInfo().equals("/"));
+
+        indexHtmlRequestHandler.synchronizedHandleRequest(session,
+                createVaadinRequest("/"), response);
+        Document document = Jsoup.parse(
+                responseOutput.toString(StandardCharsets.UTF_8));
+
+        UI ui = UI.getCurrent();
+        assertNotNull(ui);
+        Element initialUidlScript = findScript(
+                document.head().getElementsByTag("script"),
+                INITIAL_UIDL_SEARCH_STRING);
+        assertTrue(initialUidlScript.toString().contains("Could not navigate"));
+        assertEquals(1, document.body()
+                .getElementsByTag(ui.getInternals().getContainerTag()).size());
+    }
+
+    @Test
+    public void precompiledIndexHtml_indexHtmlRequestListener_listenerInvoked()
+            throws IOException {
+        deploymentConfiguration.setDevToolsEnabled(false);
+        deploymentConfiguration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_PRECOMPILED_INDEX_HTML,
+                "true");
+        service.addIndexHtmlRequestListener(evt -> evt.getDocument().head()
+                .appendElement("script").attr("src", "testing.1"));
+
+        indexHtmlRequestHandler.synchronizedHandleRequest(session,
+                createVaadinRequest("/"), response);
+        Document document = Jsoup.parse(
+                responseOutput.toString(StandardCharsets.UTF_8));
+
+        assertEquals(1,
+                document.head().getElementsByAttributeValue("src", "testing.1")
+                        .size());
+    }
+
     @Test
     public void should_include_spring_csrf_token_in_meta_tags_when_return_not_null_spring_csrf_in_request()
             throws IOException {
@@ -15,12 +15,16 @@
  */
 package com.vaadin.flow.server.communication;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +38,7 @@ import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.server.CustomizedSystemMessages;
 import com.vaadin.flow.server.DefaultDeploymentConfiguration;
 import com.vaadin.flow.server.HandlerHelper.RequestType;
+import com.vaadin.flow.server.InitParameters;
 import com.vaadin.flow.server.MockVaadinContext;
 import com.vaadin.flow.server.SynchronizedRequestHandler;
 import com.vaadin.flow.server.SystemMessages;
@@ -49,10 +54,13 @@ import com.vaadin.flow.server.dau.DauEnforcementException;
 import com.vaadin.flow.server.startup.ApplicationConfiguration;
 import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.pro.licensechecker.dau.EnforcementException;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
 import com.vaadin.tests.util.MockUI;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -61,6 +69,15 @@ import static org.mockito.Mockito.when;
 
 class UidlRequestHandlerTest {
 
+    private static final String STREAMING_REQUEST_BODY = """
+            {
+               "csrfToken": "d1f44a6f-bbe5-4493-a8a9-3f5f234a2a93",
+               "rpc": [],
+               "syncId": 0,
+               "clientId": 0
+             }
+            """;
+
     private VaadinRequest request;
     private VaadinResponse response;
     private OutputStream outputStream;
@@ -188,6 +205,143 @@ class UidlRequestHandlerTest {
                 "Server should send same content again");
     }
 
+    @Test
+    void streamingUidl_responseWrittenByResponseWriterAndResent()
+            throws IOException {
+        UI ui = getUi();
+        VaadinSession session = ui.getSession();
+        ByteArrayOutputStream out = mockStreaming(session);
+
+        Optional<SynchronizedRequestHandler.ResponseWriter> result = handler
+                .synchronizedHandleRequest(session, request, response,
+                        STREAMING_REQUEST_BODY);
+        assertEquals(0, out.size(),
+                "Nothing should be written while the session is locked");
+        assertTrue(result.isPresent(), "ResponseWriter should be present");
+        result.get().writeResponse();
+        String responseContent = out.toString(StandardCharsets.UTF_8);
+        assertTrue(JacksonUtils.readTree(responseContent)
+                .has(ApplicationConstants.SERVER_SYNC_ID));
+
+        out.reset();
+        handler.synchronizedHandleRequest(session, request, response,
+                STREAMING_REQUEST_BODY).get().writeResponse();
+
+        assertEquals(responseContent, out.toString(StandardCharsets.UTF_8),
+                "Server should send same content again");
+    }
+
+    @Test
+    void streamingUidl_generatingResponseFails_nothingWritten()
+            throws IOException {
+        UI ui = getUi();
+        VaadinSession session = ui.getSession();
+        ByteArrayOutputStream out = mockStreaming(session);
+        ui.getElement().setProperty("foo", "bar");
+        ui.beforeClientResponse(ui, context -> {
+            throw new IllegalStateException("failed");
+        });
+
+        assertThrows(IllegalStateException.class,
+                () -> handler.synchronizedHandleRequest(session, request,
+                        response, STREAMING_REQUEST_BODY));
+
+        assertEquals(0, out.size());
+        assertNull(ui.getInternals().getLastRequestResponse());
+    }
+
+    @Test
+    void streamingUidl_largerThanMemoryBuffer_completeResponseWritten()
+            throws IOException {
+        UI ui = getUi();
+        VaadinSession session = ui.getSession();
+        ByteArrayOutputStream out = mockStreaming(session);
+        String large = "a".repeat(
+                UidlRequestHandler.MAX_IN_MEMORY_RESPONSE_SIZE * 2);
+        ui.getElement().setProperty("large", large);
+
+        handler.synchronizedHandleRequest(session, request, response,
+                STREAMING_REQUEST_BODY).get().writeResponse();
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json.contains(large));
+        assertTrue(JacksonUtils.readTree(json)
+                .has(ApplicationConstants.SERVER_SYNC_ID));
+        Mockito.verify(response).setContentLength(out.size());
+    }
+
+    @Test
+    void streamingUidl_largeResponseResent_clientResynchronized()
+            throws IOException {
+        UI ui = getUi();
+        VaadinSession session = ui.getSession();
+        ByteArrayOutputStream out = mockStreaming(session);
+        ui.getElement().setProperty("large",
+                "a".repeat(UidlRequestHandler.MAX_RESEND_COPY_SIZE));
+
+        handler.synchronizedHandleRequest(session, request, response,
+                STREAMING_REQUEST_BODY).get().writeResponse();
+        ObjectNode firstResponse = JacksonUtils
+                .readTree(out.toString(StandardCharsets.UTF_8));
+        assertFalse(firstResponse.has(ApplicationConstants.RESYNCHRONIZE_ID));
+        assertEquals(null, ui.getInternals().getLastRequestResponse(),
+                "A large response should not be kept for resending");
+
+        out.reset();
+        handler.synchronizedHandleRequest(session, request, response,
+                STREAMING_REQUEST_BODY).get().writeResponse();
+
+        ObjectNode resentResponse = JacksonUtils
+                .readTree(out.toString(StandardCharsets.UTF_8));
+        assertTrue(resentResponse.get(ApplicationConstants.RESYNCHRONIZE_ID)
+                .asBoolean());
+        assertTrue(resentResponse.get("changes").size() > 0,
+                "The full state should be sent again");
+    }
+
+    @Test
+    void streamingUidl_aboveCompressionThreshold_responseCompressed()
+            throws IOException {
+        UI ui = getUi();
+        VaadinSession session = ui.getSession();
+        ByteArrayOutputStream out = mockStreaming(session);
+        ((MockDeploymentConfiguration) session.getService()
+                .getDeploymentConfiguration()).setApplicationOrSystemProperty(
+                        InitParameters.SERVLET_PARAMETER_UIDL_COMPRESSION_THRESHOLD,
+                        "1024");
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip, deflate");
+        ui.getElement().setProperty("large", "a".repeat(4096));
+
+        handler.synchronizedHandleRequest(session, request, response,
+                STREAMING_REQUEST_BODY).get().writeResponse();
+
+        Mockito.verify(response).setHeader("Content-Encoding", "gzip");
+        String json;
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(out.toByteArray()))) {
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertTrue(JacksonUtils.readTree(json)
+                .has(ApplicationConstants.SERVER_SYNC_ID));
+        assertEquals(json, ui.getInternals().getLastRequestResponse(),
+                "The uncompressed response should be kept for resending");
+    }
+
+    private ByteArrayOutputStream mockStreaming(VaadinSession session)
+            throws IOException {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_STREAMING_UIDL, "true");
+        configuration.setXsrfProtectionEnabled(false);
+        VaadinService service = session.getService();
+        when(service.getDeploymentConfiguration()).thenReturn(configuration);
+        when(request.getService()).thenReturn(service);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(response.getOutputStream()).thenReturn(out);
+        return out;
+    }
+
     @Test
     void should_modifyUidl_when_MPR() throws Exception {
         UI ui = getUi();
@@ -524,6 +678,100 @@ class UidlRequestHandlerTest {
         return uidl;
     }
 
+    @Test
+    void commitJsonResponse_compressionDisabled_responseNotCompressed()
+            throws IOException {
+        ByteArrayOutputStream out = mockCompression(-1, "gzip, deflate");
+        String json = createLargeJson();
+
+        UidlRequestHandler.commitJsonResponse(request, response, json);
+
+        Mockito.verify(response, Mockito.never())
+                .setHeader("Content-Encoding", "gzip");
+        assertEquals(json, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void commitJsonResponse_belowThreshold_responseNotCompressed()
+            throws IOException {
+        ByteArrayOutputStream out = mockCompression(1024, "gzip, deflate");
+
+        UidlRequestHandler.commitJsonResponse(request, response,
+                "{\"syncId\":1}");
+
+        Mockito.verify(response, Mockito.never())
+                .setHeader("Content-Encoding", "gzip");
+        Mockito.verify(response).setHeader("Vary", "Accept-Encoding");
+        assertEquals("{\"syncId\":1}", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void commitJsonResponse_gzipNotAccepted_responseNotCompressed()
+            throws IOException {
+        ByteArrayOutputStream out = mockCompression(0, "gzip;q=0, br");
+        String json = createLargeJson();
+
+        UidlRequestHandler.commitJsonResponse(request, response, json);
+
+        Mockito.verify(response, Mockito.never())
+                .setHeader("Content-Encoding", "gzip");
+        assertEquals(json, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void commitJsonResponse_aboveThreshold_responseCompressed()
+            throws IOException {
+        ByteArrayOutputStream out = mockCompression(1024, "gzip, deflate");
+        String json = createLargeJson();
+
+        UidlRequestHandler.commitJsonResponse(request, response, json);
+
+        Mockito.verify(response).setHeader("Content-Encoding", "gzip");
+        Mockito.verify(response).setContentLength(out.size());
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        assertTrue(out.size() * 4 < bytes.length,
+                "Expected a quarter of the size or less, was " + out.size()
+                        + " of " + bytes.length + " bytes");
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(json,
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private ByteArrayOutputStream mockCompression(int threshold,
+            String acceptEncoding) throws IOException {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_UIDL_COMPRESSION_THRESHOLD,
+                String.valueOf(threshold));
+        VaadinService service = mock(VaadinService.class);
+        when(service.getDeploymentConfiguration()).thenReturn(configuration);
+        when(request.getService()).thenReturn(service);
+        when(request.getHeader("Accept-Encoding")).thenReturn(acceptEncoding);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(response.getOutputStream()).thenReturn(out);
+        return out;
+    }
+
+    private static String createLargeJson() {
+        ArrayNode changes = JacksonUtils.createArrayNode();
+        for (int i = 0; i < 500; i++) {
+            ObjectNode change = JacksonUtils.createObjectNode();
+            change.put("node", i);
+            change.put("type", "put");
+            change.put("key", "innerHTML");
+            change.put("feat", 3);
+            change.put("value", "Row " + i);
+            changes.add(change);
+        }
+        ObjectNode uidl = JacksonUtils.createObjectNode();
+        uidl.put("syncId", 1);
+        uidl.set("changes", changes);
+        return uidl.toString();
+    }
+
     private ObjectNode getUidlWithNoHashInLocation() {
         // @formatter:off
         return JacksonUtils.readTree(
@@ -559,6 +807,8 @@ class UidlRequestHandlerTest {
         VaadinService service = mock(VaadinService.class);
         when(service.getEventBus())
                 .thenReturn(new VaadinServiceEventBus(service));
+        when(service.getDeploymentConfiguration())
+                .thenReturn(new MockDeploymentConfiguration());
         VaadinSession session = new VaadinSession(service) {
             @Override
             public boolean hasLock() {
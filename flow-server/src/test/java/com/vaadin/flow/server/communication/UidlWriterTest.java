@@ -17,6 +17,7 @@ package com.vaadin.flow.server.communication;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -30,6 +31,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Isolated;
 import org.mockito.Mockito;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
 
@@ -55,12 +58,15 @@ import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteConfiguration;
 import com.vaadin.flow.router.RoutePathProvider;
 import com.vaadin.flow.router.RouterLayout;
+import com.vaadin.flow.server.InitParameters;
 import com.vaadin.flow.server.MockServletServiceSessionSetup;
 import com.vaadin.flow.server.MockVaadinContext.RoutePathProviderImpl;
 import com.vaadin.flow.server.VaadinServletContext;
 import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.CompactUidlKeys;
+import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.ui.Dependency;
 import com.vaadin.flow.shared.ui.LoadMode;
 
@@ -461,6 +467,55 @@ class UidlWriterTest {
                 "Simulating collectChanges bug and expecting UI to be still dirty after creating UIDL");
     }
 
+    @Test
+    void writeUidl_streamedResponse_containsChangesAndDependencies()
+            throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        ui.add(new ActualComponent());
+
+        UidlWriter uidlWriter = new UidlWriter();
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JacksonUtils.getMapper()
+                .createGenerator(writer)) {
+            uidlWriter.writeUidl(ui, false, false, generator);
+        }
+        ObjectNode response = JacksonUtils.readTree(writer.toString());
+
+        assertTrue(response.get("changes").size() > 0,
+                "Streamed response should contain state changes");
+        assertTrue(response.has(ApplicationConstants.SERVER_SYNC_ID));
+        assertTrue(response.has(ApplicationConstants.CLIENT_TO_SERVER_ID));
+
+        Map<String, ObjectNode> dependenciesMap = ComponentTest
+                .filterLazyLoading(getDependenciesMap(response));
+        assertDependency("context://" + CSS_STYLE_NAME, CSS_STYLE_NAME,
+                dependenciesMap);
+
+        assertFalse(ui.getInternals().isDirty(),
+                "UI is still dirty after streaming UIDL");
+        assertFalse(uidlWriter.createUidl(ui, false).has("changes"),
+                "No changes should be left after streaming UIDL");
+    }
+
+    @Test
+    void createUidl_compactUidl_changesUseAliases() throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        mocks.getDeploymentConfiguration().setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_COMPACT_UIDL, "true");
+        ui.add(new ActualComponent());
+
+        ObjectNode response = new UidlWriter().createUidl(ui, false);
+
+        assertTrue(response.has(ApplicationConstants.COMPACT_UIDL));
+        ArrayNode changes = (ArrayNode) response.get("changes");
+        assertTrue(changes.size() > 0);
+        for (JsonNode change : changes) {
+            assertFalse(change.has(JsonConstants.CHANGE_NODE));
+            assertTrue(change.has(
+                    CompactUidlKeys.compactChangeKey(JsonConstants.CHANGE_NODE)));
+        }
+    }
+
     private void assertInlineDependencies(List<ObjectNode> inlineDependencies) {
         assertThat("Should have an inline dependency", inlineDependencies,
                 hasSize(1));
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.startup;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.vaadin.flow.component.WebComponentExporter;
+import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.router.HasErrorParameter;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.router.RouteAlias;
+import com.vaadin.flow.server.Constants;
+import com.vaadin.flow.server.PWA;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupClassIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void indexedTypes_containTypesHandledByInitializers() {
+        List<Class<?>> types = StartupClassIndex.getIndexedTypes();
+
+        assertTrue(types.containsAll(List.of(Route.class, RouteAlias.class,
+                HasErrorParameter.class, WebComponentExporter.class,
+                PWA.class, AppShellConfigurator.class)));
+    }
+
+    @Test
+    void covers_onlyIndexedTypesCovered() {
+        StartupClassIndex index = new StartupClassIndex(
+                List.of(Route.class.getName(), RouteAlias.class.getName()),
+                List.of());
+
+        assertTrue(index.covers(List.of(Route.class, RouteAlias.class)));
+        assertFalse(index.covers(List.of(Route.class, PWA.class)));
+    }
+
+    @Test
+    void containsPackage_classesInPackageOrSubPackage() {
+        StartupClassIndex index = new StartupClassIndex(
+                List.of(Route.class.getName()),
+                List.of("com.example.views.MainView", "com.other.Foo"));
+
+        assertTrue(index.containsPackage("com.example"));
+        assertTrue(index.containsPackage("com.example.views"));
+        assertTrue(index.containsPackage(""));
+        assertFalse(index.containsPackage("com.ex"));
+        assertFalse(index.containsPackage("com.example.views.MainView"));
+        assertFalse(index.containsPackage("org.example"));
+    }
+
+    @Test
+    void toJson_fromJson_sameIndex() {
+        StartupClassIndex index = new StartupClassIndex(
+                List.of(Route.class.getName()),
+                List.of("com.example.B", "com.example.A"));
+
+        StartupClassIndex read = StartupClassIndex.fromJson(index.toJson());
+
+        assertTrue(read.covers(List.of(Route.class)));
+        assertEquals(List.of("com.example.A", "com.example.B"),
+                List.copyOf(read.getClassNames()));
+    }
+
+    @Test
+    void load_noIndex_nullReturned() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { tempDir.toUri().toURL() }, null)) {
+            assertNull(StartupClassIndex.load(classLoader));
+        }
+    }
+
+    @Test
+    void load_severalIndexes_merged() throws Exception {
+        Path first = writeIndex("first",
+                new StartupClassIndex(
+                        List.of(Route.class.getName(), PWA.class.getName()),
+                        List.of("com.example.A")));
+        Path second = writeIndex("second",
+                new StartupClassIndex(List.of(Route.class.getName()),
+                        List.of("com.example.B")));
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { first.toUri().toURL(), second.toUri().toURL() },
+                null)) {
+            StartupClassIndex index = StartupClassIndex.load(classLoader);
+
+            assertTrue(index.covers(List.of(Route.class)));
+            assertFalse(index.covers(List.of(PWA.class)),
+                    "Type not covered by all indexes should not be covered");
+            assertEquals(Set.of("com.example.A", "com.example.B"),
+                    index.getClassNames());
+        }
+    }
+
+    private Path writeIndex(String folder, StartupClassIndex index)
+            throws Exception {
+        Path root = tempDir.resolve(folder);
+        Path file = root.resolve(Constants.VAADIN_SERVLET_RESOURCES
+                + StartupClassIndex.INDEX_FILE);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, index.toJson());
+        return root;
+    }
+}
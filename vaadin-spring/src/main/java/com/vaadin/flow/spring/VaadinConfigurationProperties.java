@@ -166,6 +166,13 @@ public class VaadinConfigurationProperties {
      */
     private boolean devmodeCaching = true;
 
+    /**
+     * Whether routes and other classes handled at startup are looked up from
+     * the index generated by the production build instead of scanning the
+     * class path.
+     */
+    private boolean startupClassIndex = true;
+
     /**
      * @since 24.0.5
      */
@@ -526,6 +533,34 @@ public class VaadinConfigurationProperties {
         this.devmodeCaching = devmodeCaching;
     }
 
+    /**
+     * Returns whether routes and other classes handled at startup are looked
+     * up from the index generated by the production build instead of scanning
+     * the class path.
+     *
+     * @return if the startup class index should be used
+     * @since 25.3
+     */
+    public boolean isStartupClassIndex() {
+        return startupClassIndex;
+    }
+
+    /**
+     * Sets whether routes and other classes handled at startup are looked up
+     * from the index generated by the production build instead of scanning
+     * the class path. The index should be disabled if classes handled at
+     * startup are added to the runtime class path after the build, e.g. with
+     * the {@code loader.path} property of Spring Boot.
+     *
+     * @param startupClassIndex
+     *            {@code true} to use the startup class index in production
+     *            mode, {@code false} to always scan the class path
+     * @since 25.3
+     */
+    public void setStartupClassIndex(boolean startupClassIndex) {
+        this.startupClassIndex = startupClassIndex;
+    }
+
     /**
      * Get a list of packages that are blocked for class scanning.
      *
@@ -33,6 +33,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -54,10 +55,12 @@ import org.springframework.boot.web.servlet.ServletContextInitializer;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.ScannedGenericBeanDefinition;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
@@ -86,6 +89,7 @@ import com.vaadin.flow.server.startup.ApplicationRouteRegistry;
 import com.vaadin.flow.server.startup.ClassLoaderAwareServletContainerInitializer;
 import com.vaadin.flow.server.startup.LookupServletContainerInitializer;
 import com.vaadin.flow.server.startup.RouteRegistryInitializer;
+import com.vaadin.flow.server.startup.StartupClassIndex;
 import com.vaadin.flow.server.startup.VaadinAppShellInitializer;
 import com.vaadin.flow.server.startup.VaadinInitializerException;
 import com.vaadin.flow.server.startup.WebComponentConfigurationRegistryInitializer;
@@ -115,6 +119,7 @@ public class VaadinServletContextInitializer
     private ApplicationContext appContext;
     private ResourceLoader customLoader;
     private MetadataReaderFactory metadataReaderFactory;
+    private StartupClassIndex startupClassIndex;
 
     /**
      * Packages that should be excluded when scanning all packages.
@@ -193,6 +198,59 @@ public class VaadinServletContextInitializer
             return super.isCandidateComponent(beanDefinition)
                     || beanDefinition.getMetadata().isAbstract();
         }
+
+        /**
+         * Finds the candidate components of the given package among the given
+         * classes instead of scanning the package.
+         * <p>
+         * Each indexed class is looked up directly from the class path, using
+         * the same filters as for scanning when the resource loader is a
+         * {@link CustomResourceLoader}, e.g. the allowed packages of a jar
+         * defined in its {@code META-INF/VAADIN/package.properties}.
+         */
+        private Set<BeanDefinition> findIndexedCandidateComponents(
+                String basePackage, Collection<String> classNames) {
+            Set<BeanDefinition> candidates = new LinkedHashSet<>();
+            for (String className : classNames) {
+                if (!basePackage.isEmpty()
+                        && !className.startsWith(basePackage + ".")) {
+                    continue;
+                }
+                try {
+                    Resource resource = findClassResource(
+                            className.replace('.', '/') + ".class");
+                    if (resource == null) {
+                        continue;
+                    }
+                    MetadataReader metadataReader = getMetadataReaderFactory()
+                            .getMetadataReader(resource);
+                    if (isCandidateComponent(metadataReader)) {
+                        ScannedGenericBeanDefinition definition = new ScannedGenericBeanDefinition(
+                                metadataReader);
+                        definition.setSource(resource);
+                        if (isCandidateComponent(definition)) {
+                            candidates.add(definition);
+                        }
+                    }
+                } catch (IOException e) {
+                    getLogger().debug(
+                            "Skipping indexed class {} that can't be read",
+                            className, e);
+                }
+            }
+            return candidates;
+        }
+
+        private Resource findClassResource(String classPath)
+                throws IOException {
+            ResourceLoader loader = getResourceLoader();
+            if (loader instanceof CustomResourceLoader customResourceLoader) {
+                return customResourceLoader.findClassResource(classPath);
+            }
+            Resource resource = loader.getResource(
+                    ResourceLoader.CLASSPATH_URL_PREFIX + classPath);
+            return resource.exists() ? resource : null;
+        }
     }
 
     /*
@@ -704,6 +762,8 @@ public class VaadinServletContextInitializer
 
             if (!config.isProductionMode()) {
                 initializeDevModeClassCache();
+            } else {
+                loadStartupClassIndex();
             }
 
             Set<Class<?>> classes = findByAnnotationOrSuperType(
@@ -821,6 +881,29 @@ public class VaadinServletContextInitializer
         }
     }
 
+    void loadStartupClassIndex() {
+        String indexProperty = appContext.getEnvironment()
+                .getProperty("vaadin.startup-class-index");
+        if (indexProperty != null && !"true".equals(indexProperty)) {
+            getLogger().debug(
+                    "Scanning the class path since vaadin.startup-class-index is set to a non-true value.");
+            return;
+        }
+        try {
+            startupClassIndex = StartupClassIndex
+                    .load(appContext.getClassLoader());
+        } catch (IOException | RuntimeException e) {
+            getLogger().warn(
+                    "Unable to read the startup class index, scanning the class path instead",
+                    e);
+        }
+        if (startupClassIndex != null) {
+            getLogger().debug(
+                    "Using startup class index with {} classes instead of scanning the class path",
+                    startupClassIndex.getClassNames().size());
+        }
+    }
+
     private CompositeServletContextListener createCompositeListener(
             VaadinServletContext context) {
         CompositeServletContextListener compositeListener = new CompositeServletContextListener();
@@ -895,6 +978,21 @@ public class VaadinServletContextInitializer
         ClassPathScanner scanner = new ClassPathScanner(
                 appContext.getEnvironment(), loader, getMetadataReaderFactory(),
                 annotations, types);
+        if (startupClassIndex != null && startupClassIndex.covers(annotations)
+                && startupClassIndex.covers(types)) {
+            return packages.stream().map(basePackage -> {
+                if (startupClassIndex.containsPackage(basePackage)) {
+                    return scanner.findIndexedCandidateComponents(basePackage,
+                            startupClassIndex.getClassNames());
+                }
+                // The package may only be on the runtime class path, e.g. in
+                // a jar added with loader.path
+                getLogger().debug(
+                        "Package '{}' is not in the startup class index, scanning it instead",
+                        basePackage);
+                return scanner.findCandidateComponents(basePackage);
+            }).flatMap(Collection::stream).map(this::getBeanClass);
+        }
         return packages.stream().map(scanner::findCandidateComponents)
                 .flatMap(Collection::stream).map(this::getBeanClass);
     }
@@ -1070,6 +1168,29 @@ public class VaadinServletContextInitializer
             }
         }
 
+        /**
+         * Finds the first resource of the given class on the class path that
+         * is not filtered out.
+         *
+         * @param classPath
+         *            the path of the class file, not {@code null}
+         * @return the class file resource, or {@code null} if it is not found
+         *         or filtered out
+         * @throws IOException
+         *             in case of I/O errors
+         */
+        Resource findClassResource(String classPath) throws IOException {
+            if (!shouldPathBeScanned(classPath)) {
+                return null;
+            }
+            lock.lock();
+            try {
+                return findAllowedClassPathResource(classPath);
+            } finally {
+                lock.unlock();
+            }
+        }
+
         private Resource[] collectResources(String locationPattern)
                 throws IOException {
             Set<Resource> resources = new HashSet<>();
@@ -247,6 +247,56 @@ public class FilterableResourceResolver
         return result;
     }
 
+    /**
+     * Finds the first resource with the given path on the class path that is
+     * not filtered out. Unlike {@link #getResources(String)} with a pattern,
+     * this only looks up the given path in each class path root, but the same
+     * filtering applies: resources in blocked jars and resources outside of
+     * the packages allowed by the package.properties of their jar or directory
+     * are skipped.
+     *
+     * @param path
+     *            the path of the resource relative to the class path root,
+     *            without a leading slash, not {@code null}
+     * @return the first allowed resource with the given path, or {@code null}
+     *         if there is none
+     * @throws IOException
+     *             in case of I/O errors
+     */
+    protected Resource findAllowedClassPathResource(String path)
+            throws IOException {
+        ClassLoader classLoader = getClassLoader();
+        Enumeration<URL> urls = classLoader != null
+                ? classLoader.getResources(path)
+                : ClassLoader.getSystemResources(path);
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            Resource resource = convertClassLoaderURL(url);
+            String location = url.toString();
+            String key;
+            if (isJar(location)) {
+                String jarName = resolveJarName(resource.getURI());
+                if (jarName != null && blockedJarsList.stream().anyMatch(
+                        pattern -> jarNamePatternMatch(jarName, pattern))) {
+                    continue;
+                }
+                key = cachePackageProperties(location, resource, url);
+            } else if (location.endsWith(path)) {
+                String rootLocation = location.substring(0,
+                        location.length() - path.length());
+                key = cachePackageProperties(rootLocation,
+                        new UrlResource(rootLocation), null);
+            } else {
+                key = null;
+            }
+            if (!isBlockedJar(resource, key)
+                    && isAllowedByPackageProperties(key, path, true)) {
+                return resource;
+            }
+        }
+        return null;
+    }
+
     /**
      * Matches given jarName with the pattern. if pattern doesn't contain '*',
      * then match is based on startsWith(pattern). If pattern has one or more
@@ -19,17 +19,23 @@ import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 
+import javax.tools.ToolProvider;
+
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
@@ -44,6 +50,7 @@ import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.type.classreading.MetadataReader;
@@ -56,13 +63,16 @@ import com.vaadin.flow.internal.DevModeHandlerManager;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.ErrorParameter;
 import com.vaadin.flow.router.HasErrorParameter;
+import com.vaadin.flow.router.InternalServerError;
 import com.vaadin.flow.router.NotFoundException;
 import com.vaadin.flow.router.RouteNotFoundError;
+import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.VaadinContext;
 import com.vaadin.flow.server.VaadinServletContext;
 import com.vaadin.flow.server.startup.ApplicationConfiguration;
 import com.vaadin.flow.server.startup.ApplicationRouteRegistry;
 import com.vaadin.flow.server.startup.ServletDeployer;
+import com.vaadin.flow.server.startup.StartupClassIndex;
 import com.vaadin.flow.spring.io.FilterableResourceResolver;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -275,6 +285,176 @@ class VaadinServletContextInitializerTest {
         assertThat(context.getResourceCache(MetadataReader.class)).isNotEmpty();
     }
 
+    @Test
+    void startupClassIndexPresent_coveredTypesFoundFromIndex(
+            @TempDir Path tempDir) throws Exception {
+        writeRouteNotFoundErrorIndex(tempDir);
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { tempDir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            GenericApplicationContext context = new GenericApplicationContext();
+            context.setClassLoader(classLoader);
+            VaadinServletContextInitializer initializer = new VaadinServletContextInitializer(
+                    context);
+            initializer.loadStartupClassIndex();
+
+            // Only the indexed error view is found, without scanning
+            assertThat(initializer.findBySuperType(
+                    List.of(RouteNotFoundError.class.getPackageName()),
+                    HasErrorParameter.class))
+                    .containsExactly(RouteNotFoundError.class);
+            // Types not covered by the index are still scanned for
+            assertThat(initializer.findBySuperType(
+                    List.of(FilterableResourceResolver.class.getPackageName()),
+                    FilterableResourceResolver.class))
+                    .contains(FilterableResourceResolver.class);
+        }
+    }
+
+    @Test
+    void startupClassIndexDisabled_classPathScanned(@TempDir Path tempDir)
+            throws Exception {
+        writeRouteNotFoundErrorIndex(tempDir);
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { tempDir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            GenericApplicationContext context = new GenericApplicationContext();
+            context.setClassLoader(classLoader);
+            context.getEnvironment().getPropertySources()
+                    .addFirst(new MapPropertySource("test",
+                            Map.of("vaadin.startup-class-index", "false")));
+            VaadinServletContextInitializer initializer = new VaadinServletContextInitializer(
+                    context);
+            initializer.loadStartupClassIndex();
+
+            assertThat(initializer.findBySuperType(
+                    List.of(RouteNotFoundError.class.getPackageName()),
+                    HasErrorParameter.class)).contains(
+                            RouteNotFoundError.class,
+                            InternalServerError.class);
+        }
+    }
+
+    @Test
+    void startupClassIndexPresent_packageNotIndexed_packageScanned(
+            @TempDir Path tempDir) throws Exception {
+        Path indexFile = tempDir.resolve(Constants.VAADIN_SERVLET_RESOURCES
+                + StartupClassIndex.INDEX_FILE);
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile,
+                new StartupClassIndex(
+                        List.of(HasErrorParameter.class.getName()),
+                        List.of("com.example.ErrorView")).toJson());
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { tempDir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            GenericApplicationContext context = new GenericApplicationContext();
+            context.setClassLoader(classLoader);
+            VaadinServletContextInitializer initializer = new VaadinServletContextInitializer(
+                    context);
+            initializer.loadStartupClassIndex();
+
+            // Classes of packages that are only on the runtime class path are
+            // still found
+            assertThat(initializer.findBySuperType(
+                    List.of(RouteNotFoundError.class.getPackageName()),
+                    HasErrorParameter.class)).contains(
+                            RouteNotFoundError.class,
+                            InternalServerError.class);
+        }
+    }
+
+    @Test
+    void startupClassIndexPresent_jarWithAllowedPackages_onlyAllowedIndexedClassesFound(
+            @TempDir Path tempDir) throws Exception {
+        Path sources = tempDir.resolve("src");
+        Path allowedSource = writeErrorViewSource(sources,
+                "com.example.allowed", "AllowedErrorView");
+        Path otherSource = writeErrorViewSource(sources, "com.example.other",
+                "OtherErrorView");
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        assertEquals(0,
+                ToolProvider.getSystemJavaCompiler().run(null, null, null,
+                        "-d", classes.toString(), "-cp",
+                        System.getProperty("java.class.path"),
+                        allowedSource.toString(), otherSource.toString()));
+
+        Path jar = tempDir.resolve("restricted.jar");
+        try (JarOutputStream stream = new JarOutputStream(
+                Files.newOutputStream(jar))) {
+            stream.putNextEntry(
+                    new JarEntry("META-INF/VAADIN/package.properties"));
+            stream.write((FilterableResourceResolver.ALLOWED_PACKAGES_PROPERTY
+                    + "=com.example.allowed")
+                    .getBytes(StandardCharsets.UTF_8));
+            stream.closeEntry();
+            for (String className : List.of(
+                    "com/example/allowed/AllowedErrorView.class",
+                    "com/example/other/OtherErrorView.class")) {
+                stream.putNextEntry(new JarEntry(className));
+                stream.write(Files.readAllBytes(classes.resolve(className)));
+                stream.closeEntry();
+            }
+        }
+
+        Path indexDir = tempDir.resolve("index");
+        Path indexFile = indexDir.resolve(Constants.VAADIN_SERVLET_RESOURCES
+                + StartupClassIndex.INDEX_FILE);
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile,
+                new StartupClassIndex(
+                        List.of(HasErrorParameter.class.getName()),
+                        List.of("com.example.allowed.AllowedErrorView",
+                                "com.example.other.OtherErrorView"))
+                        .toJson());
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { jar.toUri().toURL(), indexDir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            GenericApplicationContext context = new GenericApplicationContext();
+            context.setClassLoader(classLoader);
+            VaadinServletContextInitializer initializer = new VaadinServletContextInitializer(
+                    context);
+            initializer.loadStartupClassIndex();
+
+            // The indexed class outside of the allowed packages of the jar is
+            // skipped, as it would be when scanning
+            assertThat(initializer.findByAnnotationOrSuperType(
+                    List.of("com.example"),
+                    new VaadinServletContextInitializer.CustomResourceLoader(
+                            new DefaultResourceLoader(classLoader)),
+                    Collections.emptySet(), List.of(HasErrorParameter.class))
+                    .map(Class::getName))
+                    .containsExactly("com.example.allowed.AllowedErrorView");
+        }
+    }
+
+    private static void writeRouteNotFoundErrorIndex(Path folder)
+            throws IOException {
+        Path indexFile = folder.resolve(Constants.VAADIN_SERVLET_RESOURCES
+                + StartupClassIndex.INDEX_FILE);
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile,
+                new StartupClassIndex(
+                        List.of(HasErrorParameter.class.getName()),
+                        List.of(RouteNotFoundError.class.getName()))
+                        .toJson());
+    }
+
+    private static Path writeErrorViewSource(Path sources, String pkg,
+            String className) throws IOException {
+        Path source = sources.resolve(pkg.replace('.', '/'))
+                .resolve(className + ".java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, "package " + pkg + ";\n\npublic class "
+                + className + " extends "
+                + RouteNotFoundError.class.getName() + " {\n}\n");
+        return source;
+    }
+
     private static String getResourcePath(Resource resource) {
         try {
             return resource.getURI().getPath();